@@ -0,0 +1,412 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Parses UTF-8 encoded JSON directly from the bytes of a {@link ByteBuffer} without decoding them to a String first.
+ * The parser reports the same events to a {@link DittoJsonHandler} as the parser of minimal-json does, hence the
+ * handlers of this package can be used for both.
+ * <p>
+ * Strings which consist of ASCII characters only are created from the underlying bytes at once; all other strings are
+ * decoded character by character.
+ * Like minimal-json, the parser accepts exactly one JSON value with optional surrounding whitespace and rejects a
+ * nesting deeper than {@value #MAX_NESTING_LEVEL} levels.
+ * </p>
+ *
+ * @param <A> the type to be used for parsing JSON arrays.
+ * @param <O> the type to be used for parsing JSON objects.
+ */
+@NotThreadSafe
+final class ByteBufferJsonParser<A, O> {
+
+    private static final int MAX_NESTING_LEVEL = 1000;
+
+    private final ByteBuffer buffer;
+    private final DittoJsonHandler<A, O, ?> handler;
+    private final int start;
+    private final int limit;
+    private int index;
+    private int nestingLevel;
+
+    private ByteBufferJsonParser(final ByteBuffer buffer, final DittoJsonHandler<A, O, ?> handler) {
+        this.buffer = buffer;
+        this.handler = handler;
+        start = buffer.position();
+        limit = buffer.limit();
+        index = start;
+        nestingLevel = 0;
+    }
+
+    /**
+     * Parses the remaining bytes of the given buffer and reports the parser events to the given handler.
+     * On success the position of the buffer is set to its limit.
+     *
+     * @param buffer the buffer which contains the UTF-8 encoded JSON between its position and its limit.
+     * @param handler receives the parser events.
+     * @param <A> the type to be used for parsing JSON arrays.
+     * @param <O> the type to be used for parsing JSON objects.
+     * @throws JsonParseException if the bytes are no valid UTF-8 encoded JSON.
+     */
+    static <A, O> void parse(final ByteBuffer buffer, final DittoJsonHandler<A, O, ?> handler) {
+        final ByteBufferJsonParser<A, O> parser = new ByteBufferJsonParser<>(buffer, handler);
+        parser.skipWhitespace();
+        parser.readValue();
+        parser.skipWhitespace();
+        if (parser.index < parser.limit) {
+            throw parser.unexpected("end of input");
+        }
+        // cast for Java 8 compatibility: ByteBuffer overrides position(int) with a covariant return type since Java 9
+        ((Buffer) buffer).position(parser.limit);
+    }
+
+    private void readValue() {
+        switch (current()) {
+            case 'n':
+                handler.startNull();
+                readLiteral("null");
+                handler.endNull();
+                break;
+            case 't':
+                handler.startBoolean();
+                readLiteral("true");
+                handler.endBoolean(true);
+                break;
+            case 'f':
+                handler.startBoolean();
+                readLiteral("false");
+                handler.endBoolean(false);
+                break;
+            case '"':
+                handler.startString();
+                handler.endString(readString());
+                break;
+            case '[':
+                readArray();
+                break;
+            case '{':
+                readObject();
+                break;
+            case '-':
+            case '0':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                readNumber();
+                break;
+            default:
+                throw unexpected("value");
+        }
+    }
+
+    private void readLiteral(final String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            if (current() != literal.charAt(i)) {
+                throw unexpected("'" + literal.charAt(i) + "'");
+            }
+            index++;
+        }
+    }
+
+    private void readArray() {
+        final A array = handler.startArray();
+        index++;
+        enterNestingLevel();
+        skipWhitespace();
+        if (!readChar(']')) {
+            do {
+                skipWhitespace();
+                handler.startArrayValue(array);
+                readValue();
+                handler.endArrayValue(array);
+                skipWhitespace();
+            } while (readChar(','));
+            expectChar(']');
+        }
+        nestingLevel--;
+        handler.endArray(array);
+    }
+
+    private void readObject() {
+        final O object = handler.startObject();
+        index++;
+        enterNestingLevel();
+        skipWhitespace();
+        if (!readChar('}')) {
+            do {
+                skipWhitespace();
+                handler.startObjectName(object);
+                if ('"' != current()) {
+                    throw unexpected("name");
+                }
+                final String name = readString();
+                handler.endObjectName(object, name);
+                skipWhitespace();
+                expectChar(':');
+                skipWhitespace();
+                handler.startObjectValue(object, name);
+                readValue();
+                handler.endObjectValue(object, name);
+                skipWhitespace();
+            } while (readChar(','));
+            expectChar('}');
+        }
+        nestingLevel--;
+        handler.endObject(object);
+    }
+
+    private void enterNestingLevel() {
+        if (++nestingLevel > MAX_NESTING_LEVEL) {
+            throw error("Nesting too deep");
+        }
+    }
+
+    private String readString() {
+        index++;
+        final int stringStart = index;
+        while (index < limit) {
+            final byte b = buffer.get(index);
+            if ('"' == b) {
+                final String result = asciiString(stringStart, index);
+                index++;
+                return result;
+            }
+            if ('\\' == b || b < 0x20) {
+                // escape sequence, control character or first byte of a multi-byte character
+                break;
+            }
+            index++;
+        }
+        return readStringSlowly(stringStart);
+    }
+
+    private String readStringSlowly(final int stringStart) {
+        final StringBuilder stringBuilder = new StringBuilder(index - stringStart + 16);
+        for (int i = stringStart; i < index; i++) {
+            stringBuilder.append((char) buffer.get(i));
+        }
+        while (true) {
+            final int b = current();
+            if ('"' == b) {
+                index++;
+                return stringBuilder.toString();
+            } else if ('\\' == b) {
+                index++;
+                readEscapeSequence(stringBuilder);
+            } else if (b < 0x20) {
+                throw unexpected("valid string character");
+            } else if (b < 0x80) {
+                stringBuilder.append((char) b);
+                index++;
+            } else {
+                readMultiByteCharacter(stringBuilder, b);
+            }
+        }
+    }
+
+    private void readEscapeSequence(final StringBuilder stringBuilder) {
+        final int b = current();
+        switch (b) {
+            case '"':
+            case '/':
+            case '\\':
+                stringBuilder.append((char) b);
+                break;
+            case 'b':
+                stringBuilder.append('\b');
+                break;
+            case 'f':
+                stringBuilder.append('\f');
+                break;
+            case 'n':
+                stringBuilder.append('\n');
+                break;
+            case 'r':
+                stringBuilder.append('\r');
+                break;
+            case 't':
+                stringBuilder.append('\t');
+                break;
+            case 'u':
+                int codeUnit = 0;
+                for (int i = 0; i < 4; i++) {
+                    index++;
+                    final int digit = Character.digit(current(), 16);
+                    if (0 > digit) {
+                        throw unexpected("hexadecimal digit");
+                    }
+                    codeUnit = (codeUnit << 4) | digit;
+                }
+                stringBuilder.append((char) codeUnit);
+                break;
+            default:
+                throw unexpected("valid escape sequence");
+        }
+        index++;
+    }
+
+    private void readMultiByteCharacter(final StringBuilder stringBuilder, final int firstByte) {
+        final int continuationBytes;
+        final int minimumCodePoint;
+        int codePoint;
+        if (0xC0 == (firstByte & 0xE0)) {
+            continuationBytes = 1;
+            minimumCodePoint = 0x80;
+            codePoint = firstByte & 0x1F;
+        } else if (0xE0 == (firstByte & 0xF0)) {
+            continuationBytes = 2;
+            minimumCodePoint = 0x800;
+            codePoint = firstByte & 0x0F;
+        } else if (0xF0 == (firstByte & 0xF8)) {
+            continuationBytes = 3;
+            minimumCodePoint = 0x10000;
+            codePoint = firstByte & 0x07;
+        } else {
+            throw error("Malformed UTF-8");
+        }
+        index++;
+        for (int i = 0; i < continuationBytes; i++) {
+            final int b = current();
+            if (0x80 != (b & 0xC0)) {
+                throw error("Malformed UTF-8");
+            }
+            codePoint = (codePoint << 6) | (b & 0x3F);
+            index++;
+        }
+        if (codePoint < minimumCodePoint || Character.MAX_CODE_POINT < codePoint ||
+                (Character.MIN_SURROGATE <= codePoint && codePoint <= Character.MAX_SURROGATE)) {
+            index -= continuationBytes + 1;
+            throw error("Malformed UTF-8");
+        }
+        stringBuilder.appendCodePoint(codePoint);
+    }
+
+    private void readNumber() {
+        handler.startNumber();
+        final int numberStart = index;
+        readChar('-');
+        final int firstDigit = current();
+        if (!readDigit()) {
+            throw unexpected("digit");
+        }
+        if ('0' != firstDigit) {
+            while (readDigit()) {
+                // consume all digits of the integer part
+            }
+        }
+        if (readChar('.')) {
+            readDigits();
+        }
+        if (readChar('e') || readChar('E')) {
+            if (!readChar('+')) {
+                readChar('-');
+            }
+            readDigits();
+        }
+        handler.endNumber(asciiString(numberStart, index));
+    }
+
+    private void readDigits() {
+        if (!readDigit()) {
+            throw unexpected("digit");
+        }
+        while (readDigit()) {
+            // consume all following digits
+        }
+    }
+
+    private boolean readDigit() {
+        if (index < limit) {
+            final byte b = buffer.get(index);
+            if ('0' <= b && b <= '9') {
+                index++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean readChar(final char c) {
+        if (index < limit && c == buffer.get(index)) {
+            index++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expectChar(final char c) {
+        if (!readChar(c)) {
+            throw unexpected("'" + c + "'");
+        }
+    }
+
+    private void skipWhitespace() {
+        while (index < limit) {
+            final byte b = buffer.get(index);
+            if (' ' != b && '\t' != b && '\n' != b && '\r' != b) {
+                return;
+            }
+            index++;
+        }
+    }
+
+    /**
+     * Returns the unsigned byte at the current index.
+     *
+     * @throws JsonParseException if the end of input is reached.
+     */
+    private int current() {
+        if (index >= limit) {
+            throw error("Unexpected end of input");
+        }
+        return buffer.get(index) & 0xFF;
+    }
+
+    private String asciiString(final int from, final int to) {
+        final int length = to - from;
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + from, length, StandardCharsets.ISO_8859_1);
+        }
+        final byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(from + i);
+        }
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    private JsonParseException unexpected(final String expected) {
+        if (index >= limit) {
+            return error("Unexpected end of input");
+        }
+        return error("Expected " + expected);
+    }
+
+    private JsonParseException error(final String message) {
+        return JsonParseException.newBuilder()
+                .message(MessageFormat.format("{0} at byte offset <{1}>!", message, String.valueOf(index - start)))
+                .build();
+    }
+
+}
@@ -48,9 +48,9 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
 
     @Nullable private static ImmutableJsonObject emptyInstance = null;
 
-    private final SoftReferencedFieldMap fieldMap;
+    private final FieldMap fieldMap;
 
-    private ImmutableJsonObject(final SoftReferencedFieldMap theFieldMap) {
+    private ImmutableJsonObject(final FieldMap theFieldMap) {
         fieldMap = theFieldMap;
     }
 
@@ -62,7 +62,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
     public static ImmutableJsonObject empty() {
         ImmutableJsonObject result = emptyInstance;
         if (null == result) {
-            result = new ImmutableJsonObject(SoftReferencedFieldMap.empty());
+            result = new ImmutableJsonObject(SharedFieldMap.of(PersistentFieldMap.empty(), "{}"));
             emptyInstance = result;
         }
         return result;
@@ -91,7 +91,29 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             @Nullable final String stringRepresentation) {
 
         requireNonNull(fields, "The fields of JSON object must not be null!");
-        return new ImmutableJsonObject(SoftReferencedFieldMap.of(fields, stringRepresentation));
+        return new ImmutableJsonObject(SharedFieldMap.of(PersistentFieldMap.of(fields), stringRepresentation));
+    }
+
+    /**
+     * Returns a new {@code ImmutableJsonObject} instance which contains the fields of the given JSON object but keeps
+     * only its string representation strongly reachable.
+     * The fields are parsed again from the string representation after the garbage collector reclaimed them.
+     *
+     * @param jsonObject the JSON object which provides the fields.
+     * @return a new JSON object containing the fields of {@code jsonObject}.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     */
+    static ImmutableJsonObject softReferenced(final JsonObject jsonObject) {
+        requireNonNull(jsonObject, "The JSON object must not be null!");
+
+        final FieldMap softReferencedFieldMap;
+        if (jsonObject instanceof ImmutableJsonObject) {
+            final FieldMap fieldMap = ((ImmutableJsonObject) jsonObject).fieldMap;
+            softReferencedFieldMap = SoftReferencedFieldMap.of(fieldMap.fields(), fieldMap.asJsonObjectString());
+        } else {
+            softReferencedFieldMap = SoftReferencedFieldMap.of(PersistentFieldMap.empty().putAll(jsonObject), null);
+        }
+        return new ImmutableJsonObject(softReferencedFieldMap);
     }
 
     @Override
@@ -173,7 +195,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
 
         final JsonField existingField = fieldMap.getOrNull(field.getKeyName());
         if (!field.equals(existingField)) {
-            result = new ImmutableJsonObject(fieldMap.put(field.getKeyName(), field));
+            result = new ImmutableJsonObject(fieldMap.put(field));
         }
 
         return result;
@@ -509,41 +531,91 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         return fieldMap.asJsonObjectString();
     }
 
+    /**
+     * Holds the fields of a JSON object together with its string representation.
+     * Equality and hash code are based on the fields only, regardless of their order and of how they are held.
+     */
     @Immutable
-    static final class SoftReferencedFieldMap {
+    abstract static class FieldMap {
 
-        private final String jsonObjectStringRepresentation;
         private int hashCode;
-        private SoftReference<Map<String, JsonField>> fieldsReference;
 
-        private SoftReferencedFieldMap(final Map<String, JsonField> jsonFieldMap, final String stringRepresentation) {
-            jsonObjectStringRepresentation = stringRepresentation;
-            fieldsReference = new SoftReference<>(Collections.unmodifiableMap(new LinkedHashMap<>(jsonFieldMap)));
+        FieldMap() {
             hashCode = 0;
         }
 
-        static SoftReferencedFieldMap empty() {
-            return of(Collections.emptyMap(), "{}");
+        /**
+         * Returns the fields.
+         *
+         * @return the fields.
+         */
+        abstract PersistentFieldMap fields();
+
+        /**
+         * Returns a field map of the same kind as this one for the given fields.
+         *
+         * @param newFields the fields of the returned field map.
+         * @return the field map.
+         */
+        abstract FieldMap withFields(PersistentFieldMap newFields);
+
+        /**
+         * Returns the string representation of the JSON object.
+         *
+         * @return the string representation.
+         */
+        abstract String asJsonObjectString();
+
+        /**
+         * Returns the string representation of the JSON object if it is known without rendering it.
+         *
+         * @return the string representation or {@code null}.
+         */
+        @Nullable
+        abstract String getKnownJsonObjectString();
+
+        int getSize() {
+            return fields().getSize();
         }
 
-        static SoftReferencedFieldMap of(final Map<String, JsonField> fieldMap) {
-            return of(fieldMap, null);
+        boolean isEmpty() {
+            return fields().isEmpty();
         }
 
-        static SoftReferencedFieldMap of(final Map<String, JsonField> jsonFieldMap,
-                @Nullable final String stringRepresentation) {
+        boolean containsKey(final String key) {
+            return fields().containsKey(key);
+        }
 
-            if (null != stringRepresentation) {
-                return new SoftReferencedFieldMap(jsonFieldMap, stringRepresentation);
-            }
-            return new SoftReferencedFieldMap(jsonFieldMap, createStringRepresentation(jsonFieldMap));
+        @Nullable
+        JsonField getOrNull(final String key) {
+            return fields().getOrNull(key);
+        }
+
+        FieldMap put(final JsonField field) {
+            return withFields(fields().put(field));
+        }
+
+        FieldMap putAll(final Iterable<JsonField> jsonFields) {
+            return withFields(fields().putAll(jsonFields));
+        }
+
+        FieldMap remove(final String key) {
+            return withFields(fields().remove(key));
+        }
+
+        Stream<JsonField> getStream() {
+            return fields().stream();
+        }
+
+        Iterator<JsonField> getIterator() {
+            return fields().iterator();
         }
 
-        private static String createStringRepresentation(final Map<String, JsonField> jsonFieldMap) {
+        static String createStringRepresentation(final Iterable<JsonField> jsonFields) {
             final StringBuilder stringBuilder = new StringBuilder(512);
             stringBuilder.append('{');
             String delimiter = "";
-            for (final JsonField jsonField : jsonFieldMap.values()) {
+            for (final JsonField jsonField : jsonFields) {
                 stringBuilder.append(delimiter);
                 stringBuilder.append(jsonField);
                 delimiter = ",";
@@ -553,57 +625,112 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return stringBuilder.toString();
         }
 
-        int getSize() {
-            return fields().size();
+        @Override
+        public final boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof FieldMap)) {
+                return false;
+            }
+            final FieldMap that = (FieldMap) o;
+            final String knownJsonObjectString = getKnownJsonObjectString();
+            if (null != knownJsonObjectString && knownJsonObjectString.equals(that.getKnownJsonObjectString())) {
+                return true;
+            }
+            return fields().equals(that.fields());
         }
 
-        boolean isEmpty() {
-            return fields().isEmpty();
+        @Override
+        public final int hashCode() {
+            int result = hashCode;
+            if (0 == result) {
+                result = fields().hashCode();
+                hashCode = result;
+            }
+            return result;
         }
 
-        boolean containsKey(final String key) {
-            return fields().containsKey(key);
+    }
+
+    /**
+     * Default field map which holds its fields strongly and renders its string representation on first demand.
+     * The fields of derived field maps share structure with the fields of this one.
+     */
+    @Immutable
+    static final class SharedFieldMap extends FieldMap {
+
+        private final PersistentFieldMap fields;
+        @Nullable private String jsonObjectStringRepresentation;
+
+        private SharedFieldMap(final PersistentFieldMap fields, @Nullable final String stringRepresentation) {
+            this.fields = fields;
+            jsonObjectStringRepresentation = stringRepresentation;
         }
 
-        @Nullable
-        JsonField getOrNull(final String key) {
-            return fields().get(key);
+        static SharedFieldMap of(final PersistentFieldMap fields, @Nullable final String stringRepresentation) {
+            return new SharedFieldMap(fields, stringRepresentation);
         }
 
-        SoftReferencedFieldMap put(final String key, final JsonField value) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            fieldsCopy.put(key, value);
-            return of(fieldsCopy);
+        @Override
+        PersistentFieldMap fields() {
+            return fields;
         }
 
-        private Map<String, JsonField> copyFields() {
-            return new LinkedHashMap<>(fields());
+        @Override
+        FieldMap withFields(final PersistentFieldMap newFields) {
+            return new SharedFieldMap(newFields, null);
         }
 
-        SoftReferencedFieldMap putAll(final Iterable<JsonField> jsonFields) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            jsonFields.forEach(jsonField -> fieldsCopy.put(jsonField.getKeyName(), jsonField));
-            return of(fieldsCopy);
+        @Override
+        String asJsonObjectString() {
+            String result = jsonObjectStringRepresentation;
+            if (null == result) {
+                result = createStringRepresentation(fields);
+                jsonObjectStringRepresentation = result;
+            }
+            return result;
         }
 
-        SoftReferencedFieldMap remove(final String key) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            fieldsCopy.remove(key);
-            return of(fieldsCopy);
+        @Nullable
+        @Override
+        String getKnownJsonObjectString() {
+            return jsonObjectStringRepresentation;
         }
 
-        Stream<JsonField> getStream() {
-            return fields().values().stream();
+    }
+
+    /**
+     * Memory saving field map which holds only its string representation strongly.
+     * The fields are held by a soft reference and are parsed again from the string representation after the garbage
+     * collector reclaimed them.
+     * As the string representation is required to restore the fields, derived field maps render it eagerly.
+     */
+    @Immutable
+    static final class SoftReferencedFieldMap extends FieldMap {
+
+        private final String jsonObjectStringRepresentation;
+        private SoftReference<PersistentFieldMap> fieldsReference;
+
+        private SoftReferencedFieldMap(final PersistentFieldMap fields, final String stringRepresentation) {
+            jsonObjectStringRepresentation = stringRepresentation;
+            fieldsReference = new SoftReference<>(fields);
         }
 
-        Iterator<JsonField> getIterator() {
-            return fields().values().iterator();
+        static SoftReferencedFieldMap of(final PersistentFieldMap fields,
+                @Nullable final String stringRepresentation) {
+
+            if (null != stringRepresentation) {
+                return new SoftReferencedFieldMap(fields, stringRepresentation);
+            }
+            return new SoftReferencedFieldMap(fields, createStringRepresentation(fields));
         }
 
-        private Map<String, JsonField> fields() {
-            Map<String, JsonField> result = fieldsReference.get();
+        @Override
+        PersistentFieldMap fields() {
+            PersistentFieldMap result = fieldsReference.get();
             if (null == result) {
-                result = parseToMap(jsonObjectStringRepresentation);
+                result = PersistentFieldMap.of(parseToMap(jsonObjectStringRepresentation));
                 fieldsReference = new SoftReference<>(result);
             }
             return result;
@@ -616,33 +743,17 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         @Override
-        public boolean equals(final Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o == null || getClass() != o.getClass()) {
-                return false;
-            }
-            final SoftReferencedFieldMap that = (SoftReferencedFieldMap) o;
-            if (jsonObjectStringRepresentation.equals(that.jsonObjectStringRepresentation)) {
-                return true;
-            } else if (jsonObjectStringRepresentation.length() == that.jsonObjectStringRepresentation.length()) {
-                return Objects.equals(fields(), that.fields());
-            }
-            return false;
+        FieldMap withFields(final PersistentFieldMap newFields) {
+            return of(newFields, null);
         }
 
         @Override
-        public int hashCode() {
-            int result = hashCode;
-            if (0 == result) {
-                result = fields().hashCode();
-                hashCode = result;
-            }
-            return result;
+        String asJsonObjectString() {
+            return jsonObjectStringRepresentation;
         }
 
-        String asJsonObjectString() {
+        @Override
+        String getKnownJsonObjectString() {
             return jsonObjectStringRepresentation;
         }
 
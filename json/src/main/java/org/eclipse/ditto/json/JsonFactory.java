@@ -15,6 +15,7 @@ package org.eclipse.ditto.json;
 import static java.util.Objects.requireNonNull;
 
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.text.MessageFormat;
 import java.util.Collection;
 import java.util.Collections;
@@ -193,6 +194,24 @@ public final class JsonFactory {
         return JsonValueParser.fromReader().apply(reader);
     }
 
+    /**
+     * Parses the remaining bytes of the given buffer as UTF-8 encoded JSON value. The bytes are expected to contain a
+     * valid JSON value with optional whitespace padding.
+     * <p>
+     * The bytes are parsed directly, i. e. they are not decoded to a String first.
+     * After the JSON value was parsed, the position of the buffer is set to its limit.
+     * </p>
+     *
+     * @param byteBuffer the buffer to read the JSON value from.
+     * @return a JSON value which represents the read bytes.
+     * @throws NullPointerException if {@code byteBuffer} is {@code null}.
+     * @throws JsonParseException if the bytes are no valid UTF-8 encoded JSON.
+     */
+    public static JsonValue readFrom(final ByteBuffer byteBuffer) {
+        requireNonNull(byteBuffer, "The ByteBuffer to read from must not be null!");
+        return JsonValueParser.fromByteBuffer().apply(byteBuffer);
+    }
+
     /**
      * Returns a new mutable builder for a {@code JsonObject}.
      *
@@ -282,6 +301,28 @@ public final class JsonFactory {
         return newObjectBuilder(jsonFields).build();
     }
 
+    /**
+     * Returns a JSON object with the fields of the given JSON object which keeps only its string representation
+     * strongly reachable.
+     * The fields are held by a soft reference and are parsed again from the string representation after the garbage
+     * collector reclaimed them.
+     * This trades CPU time for memory and suits large JSON objects which are held for a long time but accessed rarely.
+     * JSON objects derived from the returned object by setting or removing fields keep this mode; in contrast to
+     * other JSON objects they render their string representation eagerly.
+     *
+     * @param jsonObject the JSON object which provides the fields.
+     * @return a null object if {@code jsonObject} is a null JSON object. Else this returns a new memory saving object
+     * containing the fields of {@code jsonObject}.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     */
+    public static JsonObject newSoftReferencedObject(final JsonObject jsonObject) {
+        requireNonNull(jsonObject, "The JSON object to create a soft referenced JSON object from must not be null!");
+        if (jsonObject.isNull()) {
+            return nullObject();
+        }
+        return ImmutableJsonObject.softReferenced(jsonObject);
+    }
+
     /**
      * Returns a JSON NULL literal which is typed as JSON object.
      *
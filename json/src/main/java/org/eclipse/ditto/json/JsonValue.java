@@ -12,6 +12,10 @@
  */
 package org.eclipse.ditto.json;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
 import javax.annotation.Nullable;
 
 /**
@@ -274,4 +278,30 @@ public interface JsonValue {
         return isString() ? asString() : toString();
     }
 
+    /**
+     * Writes this value as UTF-8 encoded JSON to the given output stream without creating the JSON string of the whole
+     * value. The written JSON represents the same value as {@link #toString()}.
+     * The output stream is neither flushed nor closed.
+     *
+     * @param outputStream the stream to write to.
+     * @throws NullPointerException if {@code outputStream} is {@code null}.
+     * @throws IOException if the output stream throws an IOException.
+     */
+    default void writeTo(final OutputStream outputStream) throws IOException {
+        Utf8JsonWriter.writeTo(this, outputStream);
+    }
+
+    /**
+     * Writes this value as UTF-8 encoded JSON to the given buffer starting at its position without creating the JSON
+     * string of the whole value. The written JSON represents the same value as {@link #toString()}.
+     *
+     * @param byteBuffer the buffer to write to.
+     * @throws NullPointerException if {@code byteBuffer} is {@code null}.
+     * @throws java.nio.BufferOverflowException if the remaining space of {@code byteBuffer} is insufficient.
+     * @throws java.nio.ReadOnlyBufferException if {@code byteBuffer} is read-only.
+     */
+    default void writeTo(final ByteBuffer byteBuffer) {
+        Utf8JsonWriter.writeTo(this, byteBuffer);
+    }
+
 }
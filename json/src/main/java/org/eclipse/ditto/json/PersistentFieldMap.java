@@ -0,0 +1,665 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A persistent map of JSON fields by their key names which preserves the insertion order of the fields.
+ * Each altering method returns a new map which shares all unaffected parts with the original map, thus setting or
+ * removing a field costs {@code O(log n)} instead of copying all fields.
+ * <p>
+ * The fields are kept in insertion order in a 32-ary trie of arrays where removed fields leave a gap until the map is
+ * compacted.
+ * The position of a field within the trie is looked up by the key name in a hash array mapped trie.
+ * Small maps omit the hash trie and look up their fields by scanning them linearly.
+ * </p>
+ */
+@Immutable
+final class PersistentFieldMap implements Iterable<JsonField> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    /**
+     * Up to this number of positions fields are looked up by linear scan rather than by the key index.
+     */
+    private static final int LINEAR_SCAN_LIMIT = 8;
+
+    private static final PersistentFieldMap EMPTY = new PersistentFieldMap(FieldTrie.EMPTY, null, 0);
+
+    private final FieldTrie fields;
+    @Nullable private final Object keyIndex;
+    private final int size;
+
+    private PersistentFieldMap(final FieldTrie fields, @Nullable final Object keyIndex, final int size) {
+        this.fields = fields;
+        this.keyIndex = keyIndex;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     *
+     * @return the empty map.
+     */
+    static PersistentFieldMap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a map which contains the values of the given map in their iteration order.
+     *
+     * @param fieldMap the fields by their key names.
+     * @return the map.
+     */
+    static PersistentFieldMap of(final Map<String, JsonField> fieldMap) {
+        if (fieldMap.isEmpty()) {
+            return EMPTY;
+        }
+        return ofDistinct(fieldMap.values().toArray(new JsonField[0]), fieldMap.size());
+    }
+
+    private static PersistentFieldMap ofDistinct(final JsonField[] distinctFields, final int length) {
+        if (0 == length) {
+            return EMPTY;
+        }
+        final FieldTrie fieldTrie = FieldTrie.of(distinctFields, length);
+        return new PersistentFieldMap(fieldTrie, buildKeyIndex(fieldTrie), length);
+    }
+
+    @Nullable
+    private static Object buildKeyIndex(final FieldTrie fieldTrie) {
+        if (LINEAR_SCAN_LIMIT >= fieldTrie.length) {
+            return null;
+        }
+        final KeyPosition[] keyPositions = new KeyPosition[fieldTrie.length];
+        int count = 0;
+        for (int position = 0; position < fieldTrie.length; position++) {
+            final JsonField field = fieldTrie.get(position);
+            if (null != field) {
+                keyPositions[count++] = new KeyPosition(field.getKeyName(), position);
+            }
+        }
+        Arrays.sort(keyPositions, 0, count, Comparator.comparingLong(keyPosition -> keyPosition.trieOrder));
+        return KeyIndex.build(keyPositions, 0, count, 0);
+    }
+
+    int getSize() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return 0 == size;
+    }
+
+    boolean containsKey(final String key) {
+        return 0 <= positionOf(key);
+    }
+
+    @Nullable
+    JsonField getOrNull(final String key) {
+        final int position = positionOf(key);
+        return 0 <= position ? fields.get(position) : null;
+    }
+
+    private int positionOf(final String key) {
+        if (null != keyIndex) {
+            return KeyIndex.find(keyIndex, spread(key.hashCode()), key);
+        }
+        for (int position = 0; position < fields.length; position++) {
+            final JsonField field = fields.get(position);
+            if (null != field && key.equals(field.getKeyName())) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a map which contains the given field in addition to the fields of this map.
+     * A field with the same key name is replaced at its position; otherwise the field is appended.
+     *
+     * @param field the field to be put.
+     * @return the new map.
+     */
+    PersistentFieldMap put(final JsonField field) {
+        final String key = field.getKeyName();
+        final int existingPosition = positionOf(key);
+        if (0 <= existingPosition) {
+            return new PersistentFieldMap(fields.set(existingPosition, field), keyIndex, size);
+        }
+
+        final int position = fields.length;
+        final FieldTrie extendedFields = fields.append(field);
+        final Object extendedKeyIndex;
+        if (null != keyIndex) {
+            extendedKeyIndex = KeyIndex.put(keyIndex, new KeyPosition(key, position), 0);
+        } else {
+            extendedKeyIndex = buildKeyIndex(extendedFields);
+        }
+        return new PersistentFieldMap(extendedFields, extendedKeyIndex, size + 1);
+    }
+
+    /**
+     * Returns a map which contains the given fields in addition to the fields of this map.
+     *
+     * @param jsonFields the fields to be put in their iteration order.
+     * @return the new map.
+     */
+    PersistentFieldMap putAll(final Iterable<JsonField> jsonFields) {
+        if (isEmpty()) {
+            final Map<String, JsonField> distinctFields = new LinkedHashMap<>();
+            jsonFields.forEach(jsonField -> distinctFields.put(jsonField.getKeyName(), jsonField));
+            return of(distinctFields);
+        }
+        PersistentFieldMap result = this;
+        for (final JsonField jsonField : jsonFields) {
+            result = result.put(jsonField);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a map which contains the fields of this map except the field with the given key name.
+     *
+     * @param key the key name of the field to be removed.
+     * @return the new map or this map if it does not contain a field with {@code key}.
+     */
+    PersistentFieldMap remove(final String key) {
+        final int position = positionOf(key);
+        if (0 > position) {
+            return this;
+        }
+        final int newSize = size - 1;
+        if (newSize * 2 < fields.length) {
+            // the majority of positions would be gaps
+            return compactWithout(position, newSize);
+        }
+        final Object reducedKeyIndex =
+                null != keyIndex ? KeyIndex.remove(keyIndex, spread(key.hashCode()), key, 0) : null;
+        return new PersistentFieldMap(fields.set(position, null), reducedKeyIndex, newSize);
+    }
+
+    private PersistentFieldMap compactWithout(final int removedPosition, final int newSize) {
+        final JsonField[] remainingFields = new JsonField[newSize];
+        int count = 0;
+        for (int position = 0; position < fields.length; position++) {
+            final JsonField field = fields.get(position);
+            if (null != field && position != removedPosition) {
+                remainingFields[count++] = field;
+            }
+        }
+        return ofDistinct(remainingFields, count);
+    }
+
+    /**
+     * Returns an iterator over the fields of this map in insertion order.
+     *
+     * @return the iterator.
+     */
+    @Override
+    public Iterator<JsonField> iterator() {
+        return new FieldIterator(fields);
+    }
+
+    Stream<JsonField> stream() {
+        final int characteristics = Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+        return StreamSupport.stream(Spliterators.spliterator(iterator(), size, characteristics), false);
+    }
+
+    /**
+     * Indicates whether the given object is a map with equal fields regardless of their order.
+     *
+     * @param o the object to compare with.
+     * @return {@code true} if {@code o} is an equal map.
+     */
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final PersistentFieldMap that = (PersistentFieldMap) o;
+        if (size != that.size) {
+            return false;
+        }
+        for (final JsonField field : this) {
+            if (!field.equals(that.getOrNull(field.getKeyName()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the same hash code as {@link java.util.Map#hashCode()} of a map of these fields by their key names.
+     *
+     * @return the hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = 0;
+        for (final JsonField field : this) {
+            result += field.getKeyName().hashCode() ^ field.hashCode();
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "size=" + size +
+                ", positions=" + fields.length +
+                "]";
+    }
+
+    private static int spread(final int hashCode) {
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    /**
+     * Persistent 32-ary trie of arrays which holds JSON fields at consecutive positions.
+     * Inner arrays hold child arrays, the arrays at level 0 hold the fields.
+     * Arrays are only as long as needed; a position may hold {@code null} for a removed field.
+     */
+    @Immutable
+    private static final class FieldTrie {
+
+        private static final FieldTrie EMPTY = new FieldTrie(new Object[0], 0, 0);
+
+        private final Object[] root;
+        private final int shift;
+        private final int length;
+
+        private FieldTrie(final Object[] root, final int shift, final int length) {
+            this.root = root;
+            this.shift = shift;
+            this.length = length;
+        }
+
+        private static FieldTrie of(final JsonField[] jsonFields, final int length) {
+            Object[] level = Arrays.copyOf(jsonFields, length, Object[].class);
+            int shift = 0;
+            while (WIDTH < level.length) {
+                final Object[] parentLevel = new Object[(level.length + MASK) >>> BITS];
+                for (int i = 0; i < parentLevel.length; i++) {
+                    final int from = i << BITS;
+                    parentLevel[i] = Arrays.copyOfRange(level, from, Math.min(from + WIDTH, level.length));
+                }
+                level = parentLevel;
+                shift += BITS;
+            }
+            return new FieldTrie(level, shift, length);
+        }
+
+        @Nullable
+        private JsonField get(final int position) {
+            return (JsonField) leafOf(position)[position & MASK];
+        }
+
+        private Object[] leafOf(final int position) {
+            Object[] node = root;
+            for (int level = shift; level > 0; level -= BITS) {
+                node = (Object[]) node[(position >>> level) & MASK];
+            }
+            return node;
+        }
+
+        private FieldTrie set(final int position, @Nullable final JsonField field) {
+            return new FieldTrie(set(root, shift, position, field), shift, length);
+        }
+
+        private static Object[] set(final Object[] node, final int level, final int position,
+                @Nullable final JsonField field) {
+
+            final Object[] result = node.clone();
+            if (0 == level) {
+                result[position & MASK] = field;
+            } else {
+                final int index = (position >>> level) & MASK;
+                result[index] = set((Object[]) node[index], level - BITS, position, field);
+            }
+            return result;
+        }
+
+        private FieldTrie append(final JsonField field) {
+            final int capacity = 1 << (shift + BITS);
+            if (length == capacity) {
+                final Object[] newRoot = {root, newPath(shift, field)};
+                return new FieldTrie(newRoot, shift + BITS, length + 1);
+            }
+            return new FieldTrie(append(root, shift, length, field), shift, length + 1);
+        }
+
+        private static Object[] append(final Object[] node, final int level, final int position,
+                final JsonField field) {
+
+            final int index = (position >>> level) & MASK;
+            final Object[] result;
+            if (index < node.length) {
+                result = node.clone();
+                result[index] = append((Object[]) node[index], level - BITS, position, field);
+            } else {
+                result = Arrays.copyOf(node, index + 1);
+                result[index] = 0 == level ? field : newPath(level - BITS, field);
+            }
+            return result;
+        }
+
+        private static Object[] newPath(final int level, final JsonField field) {
+            if (0 == level) {
+                return new Object[]{field};
+            }
+            return new Object[]{newPath(level - BITS, field)};
+        }
+
+    }
+
+    /**
+     * Iterates the fields of a FieldTrie leaf by leaf while skipping the positions of removed fields.
+     */
+    private static final class FieldIterator implements Iterator<JsonField> {
+
+        private final FieldTrie fields;
+        private int position;
+        private Object[] leaf;
+        @Nullable private JsonField next;
+
+        private FieldIterator(final FieldTrie fields) {
+            this.fields = fields;
+            position = 0;
+            leaf = new Object[0];
+            next = advance();
+        }
+
+        @Nullable
+        private JsonField advance() {
+            while (position < fields.length) {
+                if (0 == (position & MASK)) {
+                    leaf = fields.leafOf(position);
+                }
+                final JsonField field = (JsonField) leaf[position & MASK];
+                position++;
+                if (null != field) {
+                    return field;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return null != next;
+        }
+
+        @Override
+        public JsonField next() {
+            final JsonField result = next;
+            if (null == result) {
+                throw new NoSuchElementException();
+            }
+            next = advance();
+            return result;
+        }
+
+    }
+
+    /**
+     * Leaf of the key index which maps a key name to the position of its field in the FieldTrie.
+     */
+    @Immutable
+    private static final class KeyPosition {
+
+        private final String key;
+        private final int hash;
+        private final int position;
+
+        /**
+         * The hash with its 5-bit fragments reversed, so that sorting by this value groups key positions the same way
+         * as the levels of the key index do.
+         */
+        private final long trieOrder;
+
+        private KeyPosition(final String key, final int position) {
+            this.key = key;
+            hash = spread(key.hashCode());
+            this.position = position;
+            long order = 0;
+            for (int shift = 0; shift < Integer.SIZE; shift += BITS) {
+                order = (order << BITS) | ((hash >>> shift) & MASK);
+            }
+            trieOrder = order;
+        }
+
+    }
+
+    /**
+     * Key positions whose keys have the same hash.
+     */
+    @Immutable
+    private static final class Collision {
+
+        private final int hash;
+        private final KeyPosition[] keyPositions;
+
+        private Collision(final int hash, final KeyPosition[] keyPositions) {
+            this.hash = hash;
+            this.keyPositions = keyPositions;
+        }
+
+    }
+
+    /**
+     * Node of the hash array mapped trie which maps key names to positions.
+     * A child is either a KeyPosition, a Collision or another KeyIndex node.
+     */
+    @Immutable
+    private static final class KeyIndex {
+
+        private final int bitmap;
+        private final Object[] children;
+
+        private KeyIndex(final int bitmap, final Object[] children) {
+            this.bitmap = bitmap;
+            this.children = children;
+        }
+
+        private static int find(final Object root, final int hash, final String key) {
+            Object node = root;
+            int shift = 0;
+            while (node instanceof KeyIndex) {
+                final KeyIndex keyIndex = (KeyIndex) node;
+                final int bit = bitFor(hash, shift);
+                if (0 == (keyIndex.bitmap & bit)) {
+                    return -1;
+                }
+                node = keyIndex.children[keyIndex.indexOf(bit)];
+                shift += BITS;
+            }
+            if (node instanceof KeyPosition) {
+                final KeyPosition keyPosition = (KeyPosition) node;
+                return hash == keyPosition.hash && key.equals(keyPosition.key) ? keyPosition.position : -1;
+            }
+            final Collision collision = (Collision) node;
+            for (final KeyPosition keyPosition : collision.keyPositions) {
+                if (key.equals(keyPosition.key)) {
+                    return keyPosition.position;
+                }
+            }
+            return -1;
+        }
+
+        private static Object put(final Object node, final KeyPosition keyPosition, final int shift) {
+            if (node instanceof KeyIndex) {
+                final KeyIndex keyIndex = (KeyIndex) node;
+                final int bit = bitFor(keyPosition.hash, shift);
+                final int index = keyIndex.indexOf(bit);
+                final Object[] newChildren;
+                if (0 == (keyIndex.bitmap & bit)) {
+                    newChildren = new Object[keyIndex.children.length + 1];
+                    System.arraycopy(keyIndex.children, 0, newChildren, 0, index);
+                    newChildren[index] = keyPosition;
+                    System.arraycopy(keyIndex.children, index, newChildren, index + 1,
+                            keyIndex.children.length - index);
+                    return new KeyIndex(keyIndex.bitmap | bit, newChildren);
+                }
+                newChildren = keyIndex.children.clone();
+                newChildren[index] = put(keyIndex.children[index], keyPosition, shift + BITS);
+                return new KeyIndex(keyIndex.bitmap, newChildren);
+            }
+            if (node instanceof KeyPosition) {
+                final KeyPosition existing = (KeyPosition) node;
+                if (existing.key.equals(keyPosition.key)) {
+                    return keyPosition;
+                }
+                if (existing.hash == keyPosition.hash) {
+                    return new Collision(existing.hash, new KeyPosition[]{existing, keyPosition});
+                }
+                return split(existing, existing.hash, keyPosition, shift);
+            }
+            final Collision collision = (Collision) node;
+            if (collision.hash == keyPosition.hash) {
+                final KeyPosition[] keyPositions = collision.keyPositions;
+                for (int i = 0; i < keyPositions.length; i++) {
+                    if (keyPositions[i].key.equals(keyPosition.key)) {
+                        final KeyPosition[] replaced = keyPositions.clone();
+                        replaced[i] = keyPosition;
+                        return new Collision(collision.hash, replaced);
+                    }
+                }
+                final KeyPosition[] extended = Arrays.copyOf(keyPositions, keyPositions.length + 1);
+                extended[keyPositions.length] = keyPosition;
+                return new Collision(collision.hash, extended);
+            }
+            return split(collision, collision.hash, keyPosition, shift);
+        }
+
+        private static KeyIndex split(final Object existing, final int existingHash, final KeyPosition keyPosition,
+                final int shift) {
+
+            final int existingBit = bitFor(existingHash, shift);
+            final int bit = bitFor(keyPosition.hash, shift);
+            if (existingBit == bit) {
+                return new KeyIndex(bit, new Object[]{split(existing, existingHash, keyPosition, shift + BITS)});
+            }
+            final Object[] children = Integer.compareUnsigned(existingBit, bit) < 0
+                    ? new Object[]{existing, keyPosition}
+                    : new Object[]{keyPosition, existing};
+            return new KeyIndex(existingBit | bit, children);
+        }
+
+        @Nullable
+        private static Object remove(final Object node, final int hash, final String key, final int shift) {
+            if (node instanceof KeyIndex) {
+                final KeyIndex keyIndex = (KeyIndex) node;
+                final int bit = bitFor(hash, shift);
+                if (0 == (keyIndex.bitmap & bit)) {
+                    return node;
+                }
+                final int index = keyIndex.indexOf(bit);
+                final Object child = keyIndex.children[index];
+                final Object newChild = remove(child, hash, key, shift + BITS);
+                if (newChild == child) {
+                    return node;
+                }
+                if (null == newChild) {
+                    if (1 == keyIndex.children.length) {
+                        return null;
+                    }
+                    final Object[] newChildren = new Object[keyIndex.children.length - 1];
+                    System.arraycopy(keyIndex.children, 0, newChildren, 0, index);
+                    System.arraycopy(keyIndex.children, index + 1, newChildren, index, newChildren.length - index);
+                    return new KeyIndex(keyIndex.bitmap & ~bit, newChildren);
+                }
+                if (1 == keyIndex.children.length && !(newChild instanceof KeyIndex)) {
+                    // a single leaf is found at any level of its path
+                    return newChild;
+                }
+                final Object[] newChildren = keyIndex.children.clone();
+                newChildren[index] = newChild;
+                return new KeyIndex(keyIndex.bitmap, newChildren);
+            }
+            if (node instanceof KeyPosition) {
+                return ((KeyPosition) node).key.equals(key) ? null : node;
+            }
+            final Collision collision = (Collision) node;
+            final KeyPosition[] keyPositions = collision.keyPositions;
+            for (int i = 0; i < keyPositions.length; i++) {
+                if (keyPositions[i].key.equals(key)) {
+                    if (2 == keyPositions.length) {
+                        return keyPositions[1 - i];
+                    }
+                    final KeyPosition[] reduced = new KeyPosition[keyPositions.length - 1];
+                    System.arraycopy(keyPositions, 0, reduced, 0, i);
+                    System.arraycopy(keyPositions, i + 1, reduced, i, reduced.length - i);
+                    return new Collision(collision.hash, reduced);
+                }
+            }
+            return node;
+        }
+
+        /**
+         * Builds the key index for the given range of key positions which are sorted by their trie order.
+         */
+        private static Object build(final KeyPosition[] sorted, final int from, final int to, final int shift) {
+            if (1 == to - from) {
+                return sorted[from];
+            }
+            if (sorted[from].hash == sorted[to - 1].hash) {
+                return new Collision(sorted[from].hash, Arrays.copyOfRange(sorted, from, to));
+            }
+            int bitmap = 0;
+            for (int i = from; i < to; i++) {
+                bitmap |= bitFor(sorted[i].hash, shift);
+            }
+            final Object[] children = new Object[Integer.bitCount(bitmap)];
+            int childFrom = from;
+            for (int childIndex = 0; childIndex < children.length; childIndex++) {
+                final int bit = bitFor(sorted[childFrom].hash, shift);
+                int childTo = childFrom + 1;
+                while (childTo < to && bitFor(sorted[childTo].hash, shift) == bit) {
+                    childTo++;
+                }
+                children[childIndex] = build(sorted, childFrom, childTo, shift + BITS);
+                childFrom = childTo;
+            }
+            return new KeyIndex(bitmap, children);
+        }
+
+        private static int bitFor(final int hash, final int shift) {
+            return 1 << ((hash >>> shift) & MASK);
+        }
+
+        private int indexOf(final int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+    }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Writes the UTF-8 encoded JSON string of a {@link JsonValue} by walking the value tree, i. e. without creating the
+ * JSON string of the whole value.
+ * The output equals the UTF-8 encoded result of {@link JsonValue#toString()} except for numbers which are always written
+ * in their canonical form while a parsed JSON value keeps the number literals of the parsed string.
+ * Bytes are collected in a chunk of fixed size which is passed to the target whenever it is full.
+ */
+@NotThreadSafe
+final class Utf8JsonWriter {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final OutputStream outputStream;
+    private final JsonCharEscaper jsonCharEscaper;
+    private final byte[] chunk;
+    private int count;
+
+    private Utf8JsonWriter(final OutputStream outputStream) {
+        this.outputStream = outputStream;
+        jsonCharEscaper = JsonCharEscaper.getInstance();
+        chunk = new byte[CHUNK_SIZE];
+        count = 0;
+    }
+
+    /**
+     * Writes the given JSON value to the given output stream.
+     * The output stream is neither flushed nor closed.
+     *
+     * @param jsonValue the JSON value to be written.
+     * @param outputStream the stream to write to.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IOException if the output stream throws an IOException.
+     */
+    static void writeTo(final JsonValue jsonValue, final OutputStream outputStream) throws IOException {
+        requireNonNull(jsonValue, "The JSON value to be written must not be null!");
+        requireNonNull(outputStream, "The OutputStream to write to must not be null!");
+
+        final Utf8JsonWriter writer = new Utf8JsonWriter(outputStream);
+        writer.write(jsonValue);
+        writer.flushChunk();
+    }
+
+    /**
+     * Writes the given JSON value to the given buffer starting at its position.
+     *
+     * @param jsonValue the JSON value to be written.
+     * @param byteBuffer the buffer to write to.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws java.nio.BufferOverflowException if the remaining space of the buffer is insufficient.
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only.
+     */
+    static void writeTo(final JsonValue jsonValue, final ByteBuffer byteBuffer) {
+        requireNonNull(byteBuffer, "The ByteBuffer to write to must not be null!");
+        try {
+            writeTo(jsonValue, new ByteBufferOutputStream(byteBuffer));
+        } catch (final IOException e) {
+            // ByteBufferOutputStream does not throw IOExceptions
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void write(final JsonValue jsonValue) throws IOException {
+        if (jsonValue.isNull()) {
+            writeAscii("null");
+        } else if (jsonValue.isObject()) {
+            writeObject(jsonValue.asObject());
+        } else if (jsonValue.isArray()) {
+            writeArray(jsonValue.asArray());
+        } else if (jsonValue.isString()) {
+            writeString(jsonValue.asString());
+        } else {
+            // numbers and booleans
+            writeAscii(jsonValue.toString());
+        }
+    }
+
+    private void writeObject(final JsonObject jsonObject) throws IOException {
+        writeByte('{');
+        boolean first = true;
+        for (final JsonField jsonField : jsonObject) {
+            if (!first) {
+                writeByte(',');
+            }
+            writeString(jsonField.getKeyName());
+            writeByte(':');
+            write(jsonField.getValue());
+            first = false;
+        }
+        writeByte('}');
+    }
+
+    private void writeArray(final JsonArray jsonArray) throws IOException {
+        writeByte('[');
+        boolean first = true;
+        for (final JsonValue jsonValue : jsonArray) {
+            if (!first) {
+                writeByte(',');
+            }
+            write(jsonValue);
+            first = false;
+        }
+        writeByte(']');
+    }
+
+    private void writeString(final String string) throws IOException {
+        writeByte('"');
+        final int length = string.length();
+        for (int i = 0; i < length; i++) {
+            final char c = string.charAt(i);
+            if (c < 0x80) {
+                writeAsciiChar(c);
+            } else if (c < 0x800) {
+                writeByte(0xC0 | (c >> 6));
+                writeByte(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length &&
+                    Character.isLowSurrogate(string.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, string.charAt(++i));
+                writeByte(0xF0 | (codePoint >> 18));
+                writeByte(0x80 | ((codePoint >> 12) & 0x3F));
+                writeByte(0x80 | ((codePoint >> 6) & 0x3F));
+                writeByte(0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogate; replaced like String#getBytes does
+                writeByte('?');
+            } else {
+                writeByte(0xE0 | (c >> 12));
+                writeByte(0x80 | ((c >> 6) & 0x3F));
+                writeByte(0x80 | (c & 0x3F));
+            }
+        }
+        writeByte('"');
+    }
+
+    private void writeAsciiChar(final char c) throws IOException {
+        if (c < 0x20 || '"' == c || '\\' == c) {
+            @Nullable final String replacement = jsonCharEscaper.apply((int) c);
+            if (null != replacement) {
+                writeAscii(replacement);
+                return;
+            }
+        }
+        writeByte(c);
+    }
+
+    private void writeAscii(final String ascii) throws IOException {
+        for (int i = 0; i < ascii.length(); i++) {
+            writeByte(ascii.charAt(i));
+        }
+    }
+
+    private void writeByte(final int b) throws IOException {
+        if (CHUNK_SIZE == count) {
+            flushChunk();
+        }
+        chunk[count++] = (byte) b;
+    }
+
+    private void flushChunk() throws IOException {
+        if (0 < count) {
+            outputStream.write(chunk, 0, count);
+            count = 0;
+        }
+    }
+
+    /**
+     * Adapts a ByteBuffer to the OutputStream interface.
+     */
+    @NotThreadSafe
+    private static final class ByteBufferOutputStream extends OutputStream {
+
+        private final ByteBuffer byteBuffer;
+
+        private ByteBufferOutputStream(final ByteBuffer byteBuffer) {
+            this.byteBuffer = byteBuffer;
+        }
+
+        @Override
+        public void write(final int b) {
+            byteBuffer.put((byte) b);
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) {
+            byteBuffer.put(bytes, offset, length);
+        }
+
+    }
+
+}
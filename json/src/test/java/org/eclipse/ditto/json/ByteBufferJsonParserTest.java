@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ByteBufferJsonParser}.
+ * The results are compared with those of the String based parser.
+ */
+public final class ByteBufferJsonParserTest {
+
+    private static final String KNOWN_JSON_STRING = " {\"foo\" : \"bar\", \"array\":[1, -2.5, 3E+2, 12345678901, true," +
+            " false, null, {}, []],\n\t\"nested\":{\"escaped\":\"a\\\"b\\\\c\\/d\\b\\f\\n\\r\\t\\u00e4\"," +
+            "\"unicode\":\"\u00e4\u20ac\ud83d\ude00\",\"\u00fc\":\"key\"}}\r\n";
+
+    @Test
+    public void parseHeapBufferEqualsParsedString() {
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(KNOWN_JSON_STRING.getBytes(StandardCharsets.UTF_8));
+
+        assertParsedEqualsParsedString(byteBuffer, KNOWN_JSON_STRING);
+    }
+
+    @Test
+    public void parseDirectBufferEqualsParsedString() {
+        final byte[] bytes = KNOWN_JSON_STRING.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(bytes.length);
+        byteBuffer.put(bytes);
+        byteBuffer.flip();
+
+        assertParsedEqualsParsedString(byteBuffer, KNOWN_JSON_STRING);
+    }
+
+    @Test
+    public void parseSliceOfBufferEqualsParsedString() {
+        final String jsonString = "[\"foo\",1]";
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(("xx" + jsonString + "yy").getBytes(StandardCharsets.UTF_8));
+        byteBuffer.position(2);
+        byteBuffer.limit(2 + jsonString.length());
+
+        assertParsedEqualsParsedString(byteBuffer.slice(), jsonString);
+    }
+
+    @Test
+    public void parseLiteralsAndNumbers() {
+        for (final String jsonString : new String[]{"null", "true", "false", "0", "-0.5", "1e3", "\"\""}) {
+            final ByteBuffer byteBuffer = ByteBuffer.wrap(jsonString.getBytes(StandardCharsets.UTF_8));
+
+            assertParsedEqualsParsedString(byteBuffer, jsonString);
+        }
+    }
+
+    @Test
+    public void parsingAdvancesPositionToLimit() {
+        final ByteBuffer byteBuffer = ByteBuffer.wrap("{\"foo\":1}".getBytes(StandardCharsets.UTF_8));
+
+        JsonFactory.readFrom(byteBuffer);
+
+        assertThat(byteBuffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    public void invalidJsonIsRejected() {
+        final String[] invalidJsonStrings = {"", "{", "[1,]", "{\"a\":1,}", "01", "1.", "-", "tru", "\"abc",
+                "{\"a\" 1}", "[1] x", "{a:1}", "\"\\x\"", "\"\\u00g0\"", "\"\t\""};
+        for (final String invalidJsonString : invalidJsonStrings) {
+            final ByteBuffer byteBuffer = ByteBuffer.wrap(invalidJsonString.getBytes(StandardCharsets.UTF_8));
+
+            assertThatExceptionOfType(JsonParseException.class)
+                    .isThrownBy(() -> JsonFactory.readFrom(byteBuffer));
+        }
+    }
+
+    @Test
+    public void malformedUtf8IsRejected() {
+        final byte[][] malformedStrings = {
+                {'"', (byte) 0xC3, '"'}, // truncated sequence
+                {'"', (byte) 0xC0, (byte) 0x80, '"'}, // overlong encoding
+                {'"', (byte) 0xED, (byte) 0xA0, (byte) 0x80, '"'}, // encoded surrogate
+                {'"', (byte) 0xFF, '"'} // invalid first byte
+        };
+        for (final byte[] malformedString : malformedStrings) {
+            assertThatExceptionOfType(JsonParseException.class)
+                    .isThrownBy(() -> JsonFactory.readFrom(ByteBuffer.wrap(malformedString)))
+                    .withMessageStartingWith("Malformed UTF-8");
+        }
+    }
+
+    @Test
+    public void tooDeepNestingIsRejected() {
+        final StringBuilder stringBuilder = new StringBuilder();
+        for (int i = 0; i < 1001; i++) {
+            stringBuilder.append('[');
+        }
+        for (int i = 0; i < 1001; i++) {
+            stringBuilder.append(']');
+        }
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(stringBuilder.toString().getBytes(StandardCharsets.UTF_8));
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> JsonFactory.readFrom(byteBuffer))
+                .withMessageStartingWith("Nesting too deep");
+    }
+
+    private static void assertParsedEqualsParsedString(final ByteBuffer byteBuffer, final String jsonString) {
+        final JsonValue expected = JsonFactory.readFrom(jsonString);
+
+        final JsonValue actual = JsonFactory.readFrom(byteBuffer);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.toString()).isEqualTo(expected.toString());
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures setting, removing and getting fields of {@link ImmutableJsonObject}s of different sizes.
+ * The hierarchy benchmarks set a value in a nested object whose parents have the same number of fields, which
+ * resembles applying an event to a large thing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class ImmutableJsonObjectBenchmark {
+
+    private static final JsonPointer NESTED_POINTER = JsonPointer.of("/field0/field0/field0");
+
+    @Param({"10", "100", "1000", "10000"})
+    public int fieldCount;
+
+    private JsonObject jsonObject;
+    private JsonObject nestedJsonObject;
+    private String existingKey;
+    private String newKey;
+
+    @Setup
+    public void setUp() {
+        jsonObject = createJsonObject(JsonValue.of(0));
+        nestedJsonObject = createJsonObject(createJsonObject(createJsonObject(JsonValue.of(0))));
+        existingKey = "field" + fieldCount / 2;
+        newKey = "field" + fieldCount;
+    }
+
+    private JsonObject createJsonObject(final JsonValue firstValue) {
+        final JsonObjectBuilder builder = JsonObject.newBuilder().set(JsonKey.of("field0"), firstValue);
+        for (int i = 1; i < fieldCount; i++) {
+            builder.set(JsonKey.of("field" + i), JsonValue.of(i));
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public JsonObject setExistingField() {
+        return jsonObject.setValue(existingKey, -1);
+    }
+
+    @Benchmark
+    public JsonObject setNewField() {
+        return jsonObject.setValue(newKey, -1);
+    }
+
+    @Benchmark
+    public JsonObject removeField() {
+        return jsonObject.remove(existingKey);
+    }
+
+    @Benchmark
+    public Optional<JsonValue> getField() {
+        return jsonObject.getValue(existingKey);
+    }
+
+    @Benchmark
+    public JsonObject setValueInHierarchy() {
+        return nestedJsonObject.setValue(NESTED_POINTER, -1);
+    }
+
+    @Benchmark
+    public String setValueInHierarchyAndRender() {
+        return nestedJsonObject.setValue(NESTED_POINTER, -1).toString();
+    }
+
+}
@@ -31,7 +31,8 @@ import java.util.Optional;
 import java.util.function.Function;
 
 import org.assertj.core.api.Assertions;
-import org.eclipse.ditto.json.ImmutableJsonObject.SoftReferencedFieldMap;
+import org.eclipse.ditto.json.ImmutableJsonObject.FieldMap;
+import org.eclipse.ditto.json.ImmutableJsonObject.SharedFieldMap;
 import org.junit.Test;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
@@ -73,20 +74,20 @@ public final class ImmutableJsonObjectTest {
     public void assertImmutability() {
         assertInstancesOf(ImmutableJsonObject.class,
                 areImmutable(),
-                provided(SoftReferencedFieldMap.class).isAlsoImmutable());
+                provided(FieldMap.class).isAlsoImmutable());
     }
 
     @Test
     public void testHashCodeAndEquals() {
         final Map<String, JsonField> jsonFieldsRed = toMap("foo", JsonValue.of(1));
         final Map<String, JsonField> jsonFieldsBlack = toMap("foo", JsonValue.of(2));
-        final SoftReferencedFieldMap redFieldMap = SoftReferencedFieldMap.of(jsonFieldsRed);
-        final SoftReferencedFieldMap blackFieldMap = SoftReferencedFieldMap.of(jsonFieldsBlack);
+        final FieldMap redFieldMap = SharedFieldMap.of(PersistentFieldMap.of(jsonFieldsRed), null);
+        final FieldMap blackFieldMap = SharedFieldMap.of(PersistentFieldMap.of(jsonFieldsBlack), null);
         final ImmutableJsonObject redObject = ImmutableJsonObject.of(jsonFieldsRed);
         final ImmutableJsonObject blackObject = ImmutableJsonObject.of(jsonFieldsBlack);
 
         EqualsVerifier.forClass(ImmutableJsonObject.class)
-                .withPrefabValues(SoftReferencedFieldMap.class, redFieldMap, blackFieldMap)
+                .withPrefabValues(FieldMap.class, redFieldMap, blackFieldMap)
                 .withPrefabValues(ImmutableJsonObject.class, redObject, blackObject)
                 .withNonnullFields("fieldMap")
                 .verify();
@@ -1373,6 +1374,39 @@ public final class ImmutableJsonObjectTest {
         Assertions.assertThat(objectWithoutDefinition).isEqualTo(objectWithDefinition);
     }
 
+    @Test
+    public void setValueInHierarchyRendersChangedStringRepresentation() {
+        final JsonObject underTest = JsonObject.of("{\"a\":{\"b\":{\"c\":1},\"d\":2},\"e\":3}");
+
+        final JsonObject actual = underTest.setValue("/a/b/c", 42);
+
+        assertThat(actual.toString()).isEqualTo("{\"a\":{\"b\":{\"c\":42},\"d\":2},\"e\":3}");
+        assertThat(underTest.toString()).isEqualTo("{\"a\":{\"b\":{\"c\":1},\"d\":2},\"e\":3}");
+    }
+
+    @Test
+    public void softReferencedObjectEqualsObjectWithSameFields() {
+        final JsonObject jsonObject = ImmutableJsonObject.of(KNOWN_FIELDS);
+
+        final JsonObject underTest = ImmutableJsonObject.softReferenced(jsonObject);
+
+        Assertions.assertThat(underTest).isEqualTo(jsonObject);
+        Assertions.assertThat(underTest.hashCode()).isEqualTo(jsonObject.hashCode());
+        assertThat(underTest.toString()).isEqualTo(KNOWN_JSON_STRING);
+    }
+
+    @Test
+    public void removeFromSoftReferencedObjectRendersStringRepresentation() {
+        final JsonObject underTest = ImmutableJsonObject.softReferenced(ImmutableJsonObject.of(KNOWN_FIELDS));
+
+        final JsonObject actual = underTest.remove(KNOWN_KEY_BAZ);
+
+        assertThat(actual.toString()).isEqualTo("{"
+                + "\"" + KNOWN_KEY_FOO + "\":\"" + KNOWN_VALUE_FOO.asString() + "\","
+                + "\"" + KNOWN_KEY_BAR + "\":\"" + KNOWN_VALUE_BAR.asString() + "\""
+                + "}");
+    }
+
     private static Map<String, JsonField> toMap(final CharSequence key, final JsonValue value) {
         final Map<String, JsonField> result = new LinkedHashMap<>();
         result.put(key.toString(), toField(key, value));
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PersistentFieldMap}.
+ * The results are compared with a {@link LinkedHashMap} which was altered in the same way.
+ */
+public final class PersistentFieldMapTest {
+
+    @Test
+    public void emptyMapContainsNoFields() {
+        final PersistentFieldMap underTest = PersistentFieldMap.empty();
+
+        assertThat(underTest.isEmpty()).isTrue();
+        assertThat(underTest.getSize()).isZero();
+        assertThat(underTest.getOrNull("foo")).isNull();
+        assertThat(underTest.iterator()).isExhausted();
+    }
+
+    @Test
+    public void putKeepsInsertionOrderForSmallAndLargeMaps() {
+        for (final int size : new int[]{1, 8, 9, 32, 33, 1025, 2000}) {
+            final Map<String, JsonField> expected = new LinkedHashMap<>();
+            PersistentFieldMap underTest = PersistentFieldMap.empty();
+            for (int i = 0; i < size; i++) {
+                final JsonField field = field("key" + (size - i), i);
+                expected.put(field.getKeyName(), field);
+                underTest = underTest.put(field);
+            }
+
+            assertEqual(underTest, expected);
+            assertEqual(PersistentFieldMap.of(expected), expected);
+        }
+    }
+
+    @Test
+    public void putOfExistingKeyReplacesFieldAtItsPosition() {
+        final Map<String, JsonField> expected = fields(100);
+        final PersistentFieldMap original = PersistentFieldMap.of(expected);
+
+        final JsonField replacement = field("key50", -1);
+        final PersistentFieldMap underTest = original.put(replacement);
+        expected.put(replacement.getKeyName(), replacement);
+
+        assertEqual(underTest, expected);
+        assertThat(original.getOrNull("key50")).isEqualTo(field("key50", 50));
+    }
+
+    @Test
+    public void removeDoesNotAlterOriginal() {
+        final Map<String, JsonField> expected = fields(100);
+        final PersistentFieldMap original = PersistentFieldMap.of(expected);
+
+        PersistentFieldMap underTest = original;
+        for (int i = 0; i < 100; i += 3) {
+            underTest = underTest.remove("key" + i);
+            expected.remove("key" + i);
+        }
+
+        assertEqual(underTest, expected);
+        assertEqual(original, fields(100));
+    }
+
+    @Test
+    public void removeAllFieldsAndPutAgain() {
+        final Map<String, JsonField> expected = fields(50);
+        PersistentFieldMap underTest = PersistentFieldMap.of(expected);
+
+        for (int i = 49; i >= 0; i--) {
+            underTest = underTest.remove("key" + i);
+            expected.remove("key" + i);
+            assertEqual(underTest, expected);
+        }
+        underTest = underTest.put(field("foo", 1));
+        expected.put("foo", field("foo", 1));
+
+        assertEqual(underTest, expected);
+    }
+
+    @Test
+    public void removeOfMissingKeyReturnsSameMap() {
+        final PersistentFieldMap underTest = PersistentFieldMap.of(fields(20));
+
+        assertThat(underTest.remove("missing")).isSameAs(underTest);
+    }
+
+    @Test
+    public void keysWithSameHashCodeAreDistinguished() {
+        // "Aa" and "BB" have the same hash code, so do all combinations of them
+        final List<String> keys = new ArrayList<>();
+        for (final String first : new String[]{"Aa", "BB"}) {
+            for (final String second : new String[]{"Aa", "BB"}) {
+                for (final String third : new String[]{"Aa", "BB"}) {
+                    keys.add(first + second + third);
+                }
+            }
+        }
+        final Map<String, JsonField> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 20; i++) {
+            expected.put("filler" + i, field("filler" + i, i));
+        }
+        PersistentFieldMap underTest = PersistentFieldMap.of(expected);
+        for (final String key : keys) {
+            underTest = underTest.put(field(key, key.length()));
+            expected.put(key, field(key, key.length()));
+        }
+        assertEqual(underTest, expected);
+        assertEqual(PersistentFieldMap.of(expected), expected);
+
+        underTest = underTest.remove(keys.get(3));
+        expected.remove(keys.get(3));
+
+        assertEqual(underTest, expected);
+    }
+
+    @Test
+    public void putAllKeepsLastFieldOfSameKey() {
+        final PersistentFieldMap underTest = PersistentFieldMap.empty()
+                .putAll(Collections.nCopies(3, field("foo", 1)))
+                .putAll(Arrays.asList(field("bar", 2), field("foo", 3)));
+
+        final Map<String, JsonField> expected = new LinkedHashMap<>();
+        expected.put("foo", field("foo", 3));
+        expected.put("bar", field("bar", 2));
+
+        assertEqual(underTest, expected);
+    }
+
+    @Test
+    public void equalityDoesNotDependOnOrderOrHistory() {
+        final Map<String, JsonField> fields = fields(40);
+        final PersistentFieldMap reversed = reversed(fields);
+        final PersistentFieldMap withRemovedField = PersistentFieldMap.of(fields).put(field("foo", 1)).remove("foo");
+
+        assertThat(reversed).isEqualTo(PersistentFieldMap.of(fields));
+        assertThat(withRemovedField).isEqualTo(PersistentFieldMap.of(fields));
+        assertThat(reversed.hashCode()).isEqualTo(fields.hashCode());
+        assertThat(withRemovedField.hashCode()).isEqualTo(fields.hashCode());
+        assertThat(PersistentFieldMap.of(fields).put(field("key1", 2))).isNotEqualTo(PersistentFieldMap.of(fields));
+    }
+
+    private static PersistentFieldMap reversed(final Map<String, JsonField> fields) {
+        final List<JsonField> fieldList = new ArrayList<>(fields.values());
+        Collections.reverse(fieldList);
+        PersistentFieldMap result = PersistentFieldMap.empty();
+        for (final JsonField field : fieldList) {
+            result = result.put(field);
+        }
+        return result;
+    }
+
+    private static void assertEqual(final PersistentFieldMap actual, final Map<String, JsonField> expected) {
+        assertThat(actual.getSize()).isEqualTo(expected.size());
+        assertThat(actual).containsExactlyElementsOf(expected.values());
+        assertThat(actual.stream()).containsExactlyElementsOf(expected.values());
+        expected.forEach((key, field) -> {
+            assertThat(actual.containsKey(key)).isTrue();
+            assertThat(actual.getOrNull(key)).isEqualTo(field);
+        });
+        assertThat(actual.getOrNull("missing")).isNull();
+    }
+
+    private static Map<String, JsonField> fields(final int size) {
+        final Map<String, JsonField> result = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            result.put("key" + i, field("key" + i, i));
+        }
+        return result;
+    }
+
+    private static JsonField field(final String key, final int value) {
+        return JsonField.newInstance(key, JsonValue.of(value));
+    }
+
+}
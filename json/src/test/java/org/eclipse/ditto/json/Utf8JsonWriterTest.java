@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Utf8JsonWriter}.
+ */
+public final class Utf8JsonWriterTest {
+
+    private static final JsonObject KNOWN_JSON_OBJECT = JsonObject.newBuilder()
+            .set("foo", "bar")
+            .set("escaped", "a\"b\\c/d\b\f\n\r\t\u0001")
+            .set("unicode", "ä€😀")
+            .set("ü", JsonArray.newBuilder()
+                    .add(1)
+                    .add(12345678901L)
+                    .add(-2.5)
+                    .add(true, false)
+                    .add(JsonValue.nullLiteral())
+                    .add(JsonObject.empty())
+                    .build())
+            .set("nullObject", JsonFactory.nullObject())
+            .build();
+
+    @Test
+    public void writeToOutputStreamEqualsEncodedString() throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        KNOWN_JSON_OBJECT.writeTo(outputStream);
+
+        assertThat(outputStream.toByteArray())
+                .isEqualTo(KNOWN_JSON_OBJECT.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void writeToByteBufferEqualsEncodedString() {
+        final byte[] expected = KNOWN_JSON_OBJECT.toString().getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(expected.length);
+
+        KNOWN_JSON_OBJECT.writeTo(byteBuffer);
+
+        assertThat(byteBuffer.hasRemaining()).isFalse();
+        byteBuffer.flip();
+        final byte[] actual = new byte[byteBuffer.remaining()];
+        byteBuffer.get(actual);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    public void writeValueLargerThanChunk() throws IOException {
+        JsonObject jsonObject = JsonObject.empty();
+        for (int i = 0; i < 2000; i++) {
+            jsonObject = jsonObject.setValue("käy" + i, "välue€" + i);
+        }
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        jsonObject.writeTo(outputStream);
+
+        assertThat(outputStream.toByteArray()).isEqualTo(jsonObject.toString().getBytes(StandardCharsets.UTF_8));
+        assertThat(JsonFactory.readFrom(ByteBuffer.wrap(outputStream.toByteArray()))).isEqualTo(jsonObject);
+    }
+
+    @Test
+    public void writeToTooSmallByteBufferThrowsBufferOverflowException() {
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(10);
+
+        assertThatExceptionOfType(BufferOverflowException.class)
+                .isThrownBy(() -> KNOWN_JSON_OBJECT.writeTo(byteBuffer));
+    }
+
+}
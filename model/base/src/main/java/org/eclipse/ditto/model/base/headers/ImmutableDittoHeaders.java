@@ -12,17 +12,39 @@
  */
 package org.eclipse.ditto.model.base.headers;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.headers.entitytag.EntityTag;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+
 /**
  * Immutable default implementation of the {@code DittoHeaders} interface.
+ * <p>
+ * Typed views of headers which have to be parsed from JSON are computed lazily and memoized, thus repeated access
+ * does not parse or allocate again. Each view is derived solely from the immutable header map; concurrent first
+ * accesses may compute a view more than once, which is harmless because all computed views are equal and immutable.
+ * </p>
  */
 @Immutable
 final class ImmutableDittoHeaders extends AbstractDittoHeaders implements DittoHeaders {
 
+    @Nullable private List<String> authorizationSubjects;
+    @Nullable private AuthorizationContext authorizationContext;
+    @Nullable private Set<String> readSubjects;
+    @Nullable private Optional<JsonSchemaVersion> schemaVersion;
+    @Nullable private Optional<EntityTag> eTag;
+    @Nullable private Boolean responseRequired;
+    @Nullable private Boolean dryRun;
+
     private ImmutableDittoHeaders(final Map<String, String> headers) {
         super(headers);
     }
@@ -38,6 +60,78 @@ final class ImmutableDittoHeaders extends AbstractDittoHeaders implements DittoH
         return new ImmutableDittoHeaders(headers);
     }
 
+    @Override
+    public List<String> getAuthorizationSubjects() {
+        List<String> result = authorizationSubjects;
+        if (null == result) {
+            result = Collections.unmodifiableList(super.getAuthorizationSubjects());
+            authorizationSubjects = result;
+        }
+        return result;
+    }
+
+    @Override
+    public AuthorizationContext getAuthorizationContext() {
+        AuthorizationContext result = authorizationContext;
+        if (null == result) {
+            result = super.getAuthorizationContext();
+            authorizationContext = result;
+        }
+        return result;
+    }
+
+    @Override
+    public Set<String> getReadSubjects() {
+        Set<String> result = readSubjects;
+        if (null == result) {
+            result = Collections.unmodifiableSet(new LinkedHashSet<>(super.getReadSubjects()));
+            readSubjects = result;
+        }
+        return result;
+    }
+
+    @SuppressWarnings({"OptionalAssignedToNull", "squid:S2789"})
+    @Override
+    public Optional<JsonSchemaVersion> getSchemaVersion() {
+        Optional<JsonSchemaVersion> result = schemaVersion;
+        if (null == result) {
+            result = super.getSchemaVersion();
+            schemaVersion = result;
+        }
+        return result;
+    }
+
+    @SuppressWarnings({"OptionalAssignedToNull", "squid:S2789"})
+    @Override
+    public Optional<EntityTag> getETag() {
+        Optional<EntityTag> result = eTag;
+        if (null == result) {
+            result = super.getETag();
+            eTag = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isResponseRequired() {
+        Boolean result = responseRequired;
+        if (null == result) {
+            result = super.isResponseRequired();
+            responseRequired = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isDryRun() {
+        Boolean result = dryRun;
+        if (null == result) {
+            result = super.isDryRun();
+            dryRun = result;
+        }
+        return result;
+    }
+
     @Override
     protected Optional<HeaderDefinition> getSpecificDefinitionByKey(final CharSequence key) {
         // there is no specific header defined for this class; all headers are already defined
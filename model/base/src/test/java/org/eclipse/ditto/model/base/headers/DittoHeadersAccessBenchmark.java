@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.base.headers;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationModelFactory;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares access to typed views of {@link DittoHeaders} on freshly created headers, i. e. parsing on every access,
+ * with repeated access to the same headers, i. e. the memoized views of {@link ImmutableDittoHeaders}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class DittoHeadersAccessBenchmark {
+
+    private Map<String, String> headerMap;
+    private DittoHeaders dittoHeaders;
+
+    @Setup
+    public void setUp() {
+        final AuthorizationContext authorizationContext = AuthorizationModelFactory.newAuthContext(
+                AuthorizationModelFactory.newAuthSubject("integration:my-solution:my-connection"),
+                AuthorizationModelFactory.newAuthSubject("google:1234567890123456789012"),
+                AuthorizationModelFactory.newAuthSubject("nginx:ditto"));
+        dittoHeaders = DittoHeaders.newBuilder()
+                .correlationId("8c7a5e6b-3b0c-4f5e-a1d9-3c2b1a0f9e8d")
+                .authorizationContext(authorizationContext)
+                .readSubjects(Arrays.asList("integration:my-solution:my-connection", "google:1234567890123456789012",
+                        "nginx:ditto", "nginx:group-admin", "nginx:group-users"))
+                .schemaVersion(JsonSchemaVersion.V_2)
+                .channel("twin")
+                .responseRequired(false)
+                .contentType("application/json")
+                .putHeader("source", "nginx:ditto")
+                .build();
+        headerMap = new HashMap<>(dittoHeaders);
+    }
+
+    @Benchmark
+    public Set<String> readSubjectsOfNewHeaders() {
+        return ImmutableDittoHeaders.of(headerMap).getReadSubjects();
+    }
+
+    @Benchmark
+    public Set<String> readSubjectsOfSameHeaders() {
+        return dittoHeaders.getReadSubjects();
+    }
+
+    @Benchmark
+    public AuthorizationContext authorizationContextOfNewHeaders() {
+        return ImmutableDittoHeaders.of(headerMap).getAuthorizationContext();
+    }
+
+    @Benchmark
+    public AuthorizationContext authorizationContextOfSameHeaders() {
+        return dittoHeaders.getAuthorizationContext();
+    }
+
+    @Benchmark
+    public boolean responseRequiredOfNewHeaders() {
+        return ImmutableDittoHeaders.of(headerMap).isResponseRequired();
+    }
+
+    @Benchmark
+    public boolean responseRequiredOfSameHeaders() {
+        return dittoHeaders.isResponseRequired();
+    }
+
+    @Benchmark
+    public DittoHeaders newHeadersOnly() {
+        // baseline for the cost of creating the headers which is included in the "new headers" measurements
+        return ImmutableDittoHeaders.of(headerMap);
+    }
+
+}
@@ -15,6 +15,8 @@ package org.eclipse.ditto.model.base.headers;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.entry;
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
@@ -24,6 +26,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -65,16 +68,25 @@ public final class ImmutableDittoHeadersTest {
     private static final String KNOWN_ORIGIN = "knownOrigin";
     private static final String KNOWN_REPLY_TARGET = "5";
     private static final String KNOWN_MAPPER = "knownMapper";
+    private static final String[] CACHED_FIELDS = {"authorizationSubjects", "authorizationContext", "readSubjects",
+            "schemaVersion", "eTag", "responseRequired", "dryRun"};
 
     @Test
     public void assertImmutability() {
-        assertInstancesOf(ImmutableDittoHeaders.class, areImmutable());
+        assertInstancesOf(ImmutableDittoHeaders.class,
+                areImmutable(),
+                assumingFields("authorizationSubjects", "readSubjects")
+                        .areSafelyCopiedUnmodifiableCollectionsWithImmutableElements(),
+                assumingFields(CACHED_FIELDS).areModifiedAsPartOfAnUnobservableCachingStrategy(),
+                provided(AuthorizationContext.class, EntityTag.class, JsonSchemaVersion.class, Optional.class)
+                        .areAlsoImmutable());
     }
 
     @Test
     public void testHashCodeAndEquals() {
         EqualsVerifier.forClass(ImmutableDittoHeaders.class)
                 .withNonnullFields("headers")
+                .withIgnoredFields(CACHED_FIELDS)
                 .verify();
     }
 
@@ -171,6 +183,26 @@ public final class ImmutableDittoHeadersTest {
         assertThat(underTest.getReadSubjects()).isEqualTo(KNOWN_READ_SUBJECTS);
     }
 
+    @Test
+    public void typedHeaderViewsAreMemoized() {
+        final DittoHeaders underTest = DittoHeaders.newBuilder()
+                .readSubjects(KNOWN_READ_SUBJECTS)
+                .authorizationSubjects(AUTH_SUBJECTS)
+                .build();
+
+        assertThat(underTest.getReadSubjects()).isSameAs(underTest.getReadSubjects());
+        assertThat(underTest.getAuthorizationSubjects()).isSameAs(underTest.getAuthorizationSubjects());
+        assertThat(underTest.getAuthorizationContext()).isSameAs(underTest.getAuthorizationContext());
+    }
+
+    @Test
+    public void readSubjectsAreUnmodifiable() {
+        final DittoHeaders underTest = DittoHeaders.newBuilder().readSubjects(KNOWN_READ_SUBJECTS).build();
+
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> underTest.getReadSubjects().add("anotherSubject"));
+    }
+
     @Test
     public void isResponseRequiredIsTrueByDefault() {
         final DittoHeaders underTest = DittoHeaders.empty();
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BooleanSupplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.ResourceKey;
+
+/**
+ * An {@link Enforcer} which remembers the decisions of another Enforcer about unrestricted and partial permissions.
+ * As an Enforcer is immutable, its decisions for the same authorization context, resource key and permissions never
+ * change; they are discarded together with the Enforcer.
+ * <p>
+ * The number of remembered decisions is bounded. When the bound is reached, all decisions are discarded at once
+ * instead of tracking how recently each of them was used, which keeps lookups free of locks. This suits the intended
+ * use case of a small number of recurring decisions per Enforcer.
+ * </p>
+ */
+@ThreadSafe
+final class DecisionCachingEnforcer implements Enforcer {
+
+    private final Enforcer delegate;
+    private final int maximumSize;
+    private final ConcurrentMap<Decision, Boolean> decisions;
+
+    private DecisionCachingEnforcer(final Enforcer delegate, final int maximumSize) {
+        this.delegate = delegate;
+        this.maximumSize = maximumSize;
+        decisions = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns a new {@code DecisionCachingEnforcer} for the given Enforcer.
+     *
+     * @param delegate the Enforcer whose decisions are remembered.
+     * @param maximumSize the maximum number of remembered decisions.
+     * @return the instance.
+     * @throws NullPointerException if {@code delegate} is {@code null}.
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive.
+     */
+    static DecisionCachingEnforcer of(final Enforcer delegate, final int maximumSize) {
+        checkNotNull(delegate, "delegate");
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("The maximum size must be positive but it was <" + maximumSize + ">!");
+        }
+        return new DecisionCachingEnforcer(delegate, maximumSize);
+    }
+
+    @Override
+    public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        return decide(new Decision(false, resourceKey, authorizationContext, permissions),
+                () -> delegate.hasUnrestrictedPermissions(resourceKey, authorizationContext, permissions));
+    }
+
+    @Override
+    public boolean hasPartialPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        return decide(new Decision(true, resourceKey, authorizationContext, permissions),
+                () -> delegate.hasPartialPermissions(resourceKey, authorizationContext, permissions));
+    }
+
+    @Override
+    public EffectedSubjectIds getSubjectIdsWithPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        return delegate.getSubjectIdsWithPermission(resourceKey, permissions);
+    }
+
+    @Override
+    public Set<String> getSubjectIdsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        return delegate.getSubjectIdsWithPartialPermission(resourceKey, permissions);
+    }
+
+    @Override
+    public JsonObject buildJsonView(final ResourceKey resourceKey, final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        return delegate.buildJsonView(resourceKey, jsonFields, authorizationContext, permissions);
+    }
+
+    private boolean decide(final Decision decision, final BooleanSupplier evaluation) {
+        final Boolean knownResult = decisions.get(decision);
+        if (null != knownResult) {
+            return knownResult;
+        }
+        final boolean result = evaluation.getAsBoolean();
+        if (decisions.size() >= maximumSize) {
+            decisions.clear();
+        }
+        decisions.put(decision, result);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "delegate=" + delegate +
+                ", maximumSize=" + maximumSize +
+                "]";
+    }
+
+    /**
+     * Key of a remembered decision.
+     */
+    @Immutable
+    private static final class Decision {
+
+        private final boolean partial;
+        private final ResourceKey resourceKey;
+        private final AuthorizationContext authorizationContext;
+        private final Permissions permissions;
+        private final int hashCode;
+
+        private Decision(final boolean partial, final ResourceKey resourceKey,
+                final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+            this.partial = partial;
+            this.resourceKey = resourceKey;
+            this.authorizationContext = authorizationContext;
+            this.permissions = permissions;
+            hashCode = Objects.hash(partial, resourceKey, authorizationContext, permissions);
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Decision that = (Decision) o;
+            return partial == that.partial &&
+                    Objects.equals(resourceKey, that.resourceKey) &&
+                    Objects.equals(authorizationContext, that.authorizationContext) &&
+                    Objects.equals(permissions, that.permissions);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+}
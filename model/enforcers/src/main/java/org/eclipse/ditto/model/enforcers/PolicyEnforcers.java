@@ -66,4 +66,19 @@ public final class PolicyEnforcers {
         return TreeBasedPolicyEnforcer.createInstance(policy);
     }
 
+    /**
+     * Returns an Enforcer which remembers the decisions of the passed in Enforcer about unrestricted and partial
+     * permissions, so that recurring checks for the same authorization context, resource key and permissions do not
+     * evaluate the Policy again. This pays off if many requests with the same shape are enforced by few Policies.
+     *
+     * @param enforcer the Enforcer whose decisions should be remembered.
+     * @param maximumDecisions the maximum number of decisions to remember.
+     * @return the decision caching Enforcer.
+     * @throws NullPointerException if {@code enforcer} is {@code null}.
+     * @throws IllegalArgumentException if {@code maximumDecisions} is not positive.
+     */
+    public static Enforcer withDecisionCache(final Enforcer enforcer, final int maximumDecisions) {
+        return DecisionCachingEnforcer.of(enforcer, maximumDecisions);
+    }
+
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.testbench.algorithms;
+
+import java.util.Set;
+
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.enforcers.EffectedSubjectIds;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.ResourceKey;
+
+/**
+ * Evaluates policies with the default enforcer whose decisions are cached. Every permission check is done twice, so
+ * that the second check is answered from the cache.
+ */
+public final class DecisionCachingPolicyAlgorithm implements PolicyAlgorithm {
+
+    private static final int MAXIMUM_DECISIONS = 100;
+
+    private final Enforcer decisionCachingEnforcer;
+
+    public DecisionCachingPolicyAlgorithm(final Policy policy) {
+        decisionCachingEnforcer =
+                PolicyEnforcers.withDecisionCache(PolicyEnforcers.defaultEvaluator(policy), MAXIMUM_DECISIONS);
+    }
+
+    @Override
+    public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        final boolean result =
+                decisionCachingEnforcer.hasUnrestrictedPermissions(resourceKey, authorizationContext, permissions);
+        final boolean cachedResult =
+                decisionCachingEnforcer.hasUnrestrictedPermissions(resourceKey, authorizationContext, permissions);
+        if (result != cachedResult) {
+            throw new AssertionError("Cached decision differs from evaluated decision!");
+        }
+        return cachedResult;
+    }
+
+    @Override
+    public EffectedSubjectIds getSubjectIdsWithPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        return decisionCachingEnforcer.getSubjectIdsWithPermission(resourceKey, permissions);
+    }
+
+    @Override
+    public Set<String> getSubjectIdsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        return decisionCachingEnforcer.getSubjectIdsWithPartialPermission(resourceKey, permissions);
+    }
+
+    @Override
+    public boolean hasPartialPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        final boolean result =
+                decisionCachingEnforcer.hasPartialPermissions(resourceKey, authorizationContext, permissions);
+        final boolean cachedResult =
+                decisionCachingEnforcer.hasPartialPermissions(resourceKey, authorizationContext, permissions);
+        if (result != cachedResult) {
+            throw new AssertionError("Cached decision differs from evaluated decision!");
+        }
+        return cachedResult;
+    }
+
+    @Override
+    public JsonObject buildJsonView(final ResourceKey resourceKey, final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        return decisionCachingEnforcer.buildJsonView(resourceKey, jsonFields, authorizationContext, permissions);
+    }
+
+}
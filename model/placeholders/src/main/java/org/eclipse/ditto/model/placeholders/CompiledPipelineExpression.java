@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+import static org.eclipse.ditto.model.placeholders.Expression.SEPARATOR;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A pipeline expression, e.g. {@code thing:id | fn:substring-before(':') | fn:default('foo')}, parsed into the
+ * placeholder providing the pipeline input and the functions of the following pipeline stages.
+ * The expression is parsed and its functions are validated once, executing it neither parses strings nor uses regular
+ * expressions.
+ */
+@Immutable
+final class CompiledPipelineExpression {
+
+    private static final int MAX_COUNT_PIPELINE_FUNCTIONS = 10;
+
+    private static final String OR = "|";
+
+    private static final String NO_QUOTE = "[^|'\"]++";
+
+    private static final String SINGLE_QUOTED_STRING =
+            String.format("'%s'", PipelineFunction.SINGLE_QUOTED_STRING_CONTENT);
+
+    private static final String DOUBLE_QUOTED_STRING =
+            String.format("\"%s\"", PipelineFunction.DOUBLE_QUOTED_STRING_CONTENT);
+
+    private static final String PIPE_STAGE =
+            "(?:" + NO_QUOTE + OR + SINGLE_QUOTED_STRING + OR + DOUBLE_QUOTED_STRING + ")++";
+
+    private static final Pattern PIPE_STAGE_PATTERN = Pattern.compile(PIPE_STAGE);
+
+    private static final String PIPE_PATTERN_STR = PIPE_STAGE + "(?:\\|" + PIPE_STAGE + ")*+";
+
+    private static final Pattern PIPE_PATTERN = Pattern.compile(PIPE_PATTERN_STR);
+
+    @Nullable private final String placeholderPrefix;
+    @Nullable private final String placeholderName;
+    private final PipelineFunction.Compiled[] functions;
+
+    private CompiledPipelineExpression(@Nullable final String placeholderPrefix,
+            @Nullable final String placeholderName,
+            final List<PipelineFunction.Compiled> functions) {
+
+        this.placeholderPrefix = placeholderPrefix;
+        this.placeholderName = placeholderName;
+        this.functions = functions.toArray(new PipelineFunction.Compiled[0]);
+    }
+
+    /**
+     * Parses the passed pipeline expression.
+     *
+     * @param pipelineExpression the pipeline expression, i. e. the content of a placeholder in a template.
+     * @return the parsed expression.
+     * @throws UnresolvedPlaceholderException if the expression is no valid pipeline or if its first stage is neither a
+     * placeholder nor a function.
+     * @throws PlaceholderFunctionTooComplexException if the expression contains too many functions.
+     * @throws PlaceholderFunctionUnknownException if the expression calls an unknown function.
+     * @throws PlaceholderFunctionSignatureInvalidException if the parameters of a function do not match its signature.
+     */
+    static CompiledPipelineExpression compile(final String pipelineExpression) {
+        final List<String> pipelineStagesExpressions = getPipelineStagesExpressions(pipelineExpression);
+        final String firstExpressionInPipe = pipelineStagesExpressions.get(0);
+        if (isFunction(firstExpressionInPipe)) {
+            return new CompiledPipelineExpression(null, null, compileFunctions(pipelineStagesExpressions, 0));
+        }
+
+        final int separatorIndex = firstExpressionInPipe.indexOf(SEPARATOR);
+        if (separatorIndex == -1) {
+            throw UnresolvedPlaceholderException.newBuilder(firstExpressionInPipe).build();
+        }
+        final String prefix = firstExpressionInPipe.substring(0, separatorIndex).trim();
+        final String name = firstExpressionInPipe.substring(prefix.length() + 1);
+        return new CompiledPipelineExpression(prefix, name, compileFunctions(pipelineStagesExpressions, 1));
+    }
+
+    /**
+     * Executes the pipeline.
+     *
+     * @param expressionResolver the resolver of the placeholders in the pipeline.
+     * @return the pipeline element after evaluation.
+     * @throws UnresolvedPlaceholderException if a placeholder is not supported by the resolver.
+     */
+    PipelineElement execute(final ExpressionResolver expressionResolver) {
+        PipelineElement element = placeholderPrefix == null || placeholderName == null
+                ? PipelineElement.unresolved()
+                : expressionResolver.resolvePlaceholder(placeholderPrefix, placeholderName);
+        for (final PipelineFunction.Compiled function : functions) {
+            element = function.apply(element, expressionResolver);
+        }
+        return element;
+    }
+
+    private static List<String> getPipelineStagesExpressions(final String pipelineExpression) {
+
+        if (!PIPE_PATTERN.matcher(pipelineExpression).matches()) {
+            throw UnresolvedPlaceholderException.newBuilder(pipelineExpression).build();
+        }
+
+        final List<String> pipelineStagesExpressions = new ArrayList<>();
+        final Matcher matcher = PIPE_STAGE_PATTERN.matcher(pipelineExpression);
+
+        while (matcher.find()) {
+            pipelineStagesExpressions.add(matcher.group().trim());
+
+            // +1 for the starting placeholder
+            if (pipelineStagesExpressions.size() > MAX_COUNT_PIPELINE_FUNCTIONS + 1) {
+                throw PlaceholderFunctionTooComplexException.newBuilder(MAX_COUNT_PIPELINE_FUNCTIONS).build();
+            }
+        }
+        return pipelineStagesExpressions;
+    }
+
+    private static List<PipelineFunction.Compiled> compileFunctions(final List<String> pipelineStagesExpressions,
+            final int skip) {
+
+        final List<PipelineFunction.Compiled> functions = new ArrayList<>(pipelineStagesExpressions.size());
+        for (int i = skip; i < pipelineStagesExpressions.size(); i++) {
+            functions.add(ImmutableFunctionExpression.INSTANCE.compile(pipelineStagesExpressions.get(i)));
+        }
+        return functions;
+    }
+
+    private static boolean isFunction(final String expression) {
+        return expression.startsWith(FunctionExpression.PREFIX + SEPARATOR);
+    }
+
+}
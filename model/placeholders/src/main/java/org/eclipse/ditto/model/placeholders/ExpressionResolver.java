@@ -46,6 +46,19 @@ public interface ExpressionResolver {
      */
     PipelineElement resolveAsPipelineElement(String pipelineExpression);
 
+    /**
+     * Resolve a single placeholder given by its prefix and name, e.g. {@code thing} and {@code id} for the placeholder
+     * {@code thing:id}. Unlike {@link #resolveAsPipelineElement(String)} the name is not parsed as pipeline expression.
+     *
+     * @param prefix the prefix of the placeholder.
+     * @param name the name of the placeholder.
+     * @return the resolved placeholder or an unresolved pipeline element.
+     * @throws UnresolvedPlaceholderException if the placeholder is not supported.
+     */
+    default PipelineElement resolvePlaceholder(final String prefix, final String name) {
+        return resolveAsPipelineElement(prefix + Expression.SEPARATOR + name);
+    }
+
     /**
      * Resolves a complete expression template starting with a {@link Placeholder} followed by optional pipeline stages
      * (e.g. functions).
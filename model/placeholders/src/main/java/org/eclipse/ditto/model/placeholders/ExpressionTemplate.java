@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+/**
+ * A template string like {@code {{ thing:namespace }}/{{ header:device_id | fn:substring-before(':') }}} which was
+ * parsed once into its literal parts and its pipeline expressions. The syntax of the template and the functions
+ * of its pipelines are validated when it is created, resolving it neither parses the template again nor uses regular
+ * expressions. Therefore templates used repeatedly, e.g. the addresses and header mappings of a connection, should be
+ * parsed once and then be resolved for each message.
+ * Instances are created via {@link PlaceholderFactory#newExpressionTemplate(String)}.
+ */
+public interface ExpressionTemplate {
+
+    /**
+     * @return the template string this template was parsed from.
+     */
+    String getTemplate();
+
+    /**
+     * Resolves the placeholders of this template and executes their pipelines. Resolution stops at the first pipeline
+     * which leads to an unresolved or deleted element, see {@link ExpressionResolver#resolve(String)}.
+     *
+     * @param expressionResolver the resolver of the placeholders.
+     * @return the resolved String, a signifier for resolution failure, or one for deletion.
+     * @throws NullPointerException if {@code expressionResolver} is {@code null}.
+     * @throws UnresolvedPlaceholderException if a placeholder of the template is not supported by the resolver.
+     */
+    PipelineElement resolve(ExpressionResolver expressionResolver);
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.common.Placeholders;
+
+/**
+ * Immutable implementation of {@link ExpressionTemplate}. The template is split into the literal parts and the parsed
+ * pipeline expressions in between, i. e. a template with {@code n} placeholders consists of {@code n + 1} literal
+ * parts, some of which may be empty.
+ */
+@Immutable
+final class ImmutableExpressionTemplate implements ExpressionTemplate {
+
+    private static final PipelineElementVisitor<String> RESOLVED_VALUE = PipelineElement.<String>newVisitorBuilder()
+            .resolved(Function.identity())
+            .unresolved(() -> "")
+            .deleted(() -> "")
+            .build();
+
+    private final String template;
+    private final List<String> literals;
+    private final List<CompiledPipelineExpression> expressions;
+    private final PipelineElement resolvedTemplate;
+
+    private ImmutableExpressionTemplate(final String template, final List<String> literals,
+            final List<CompiledPipelineExpression> expressions) {
+
+        this.template = template;
+        this.literals = Collections.unmodifiableList(new ArrayList<>(literals));
+        this.expressions = Collections.unmodifiableList(new ArrayList<>(expressions));
+        resolvedTemplate = PipelineElement.resolved(template);
+    }
+
+    /**
+     * Parses the passed template string.
+     *
+     * @param template the template string.
+     * @return the parsed template.
+     * @throws NullPointerException if {@code template} is {@code null}.
+     * @throws UnresolvedPlaceholderException if a placeholder of the template is no valid pipeline expression.
+     * @throws PlaceholderFunctionTooComplexException if a pipeline of the template contains too many functions.
+     * @throws PlaceholderFunctionUnknownException if a pipeline of the template calls an unknown function.
+     * @throws PlaceholderFunctionSignatureInvalidException if the parameters of a function do not match its
+     * signature.
+     */
+    static ImmutableExpressionTemplate of(final String template) {
+        checkNotNull(template, "template");
+
+        final List<String> literals = new ArrayList<>();
+        final List<CompiledPipelineExpression> expressions = new ArrayList<>();
+        final Matcher matcher = Placeholders.pattern().matcher(template);
+        int literalStart = 0;
+        while (matcher.find()) {
+            literals.add(template.substring(literalStart, matcher.start()));
+            expressions.add(CompiledPipelineExpression.compile(getPipelineExpression(matcher)));
+            literalStart = matcher.end();
+        }
+        literals.add(template.substring(literalStart));
+
+        return new ImmutableExpressionTemplate(template, literals, expressions);
+    }
+
+    private static String getPipelineExpression(final Matcher matcher) {
+        for (final String groupName : Placeholders.groupNames()) {
+            @Nullable final String group = matcher.group(groupName);
+            if (group != null) {
+                return group;
+            }
+        }
+        return "";
+    }
+
+    @Override
+    public String getTemplate() {
+        return template;
+    }
+
+    @Override
+    public PipelineElement resolve(final ExpressionResolver expressionResolver) {
+        checkNotNull(expressionResolver, "expressionResolver");
+
+        final int expressionCount = expressions.size();
+        if (expressionCount == 0) {
+            return resolvedTemplate;
+        }
+        if (expressionCount == 1 && literals.get(0).isEmpty() && literals.get(1).isEmpty()) {
+            // the template consists of a single placeholder, e.g. {{ thing:id }}
+            return expressions.get(0).execute(expressionResolver);
+        }
+
+        final StringBuilder resultBuilder = new StringBuilder(template.length());
+        for (int i = 0; i < expressionCount; i++) {
+            resultBuilder.append(literals.get(i));
+            final PipelineElement element = expressions.get(i).execute(expressionResolver);
+            if (element.getType() != PipelineElement.Type.RESOLVED) {
+                // abort pipeline execution: resolution failed or the string has been deleted.
+                return element;
+            }
+            resultBuilder.append(element.accept(RESOLVED_VALUE));
+        }
+        resultBuilder.append(literals.get(expressionCount));
+        return PipelineElement.resolved(resultBuilder.toString());
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ImmutableExpressionTemplate that = (ImmutableExpressionTemplate) o;
+        return Objects.equals(template, that.template);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(template);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "template=" + template +
+                "]";
+    }
+
+}
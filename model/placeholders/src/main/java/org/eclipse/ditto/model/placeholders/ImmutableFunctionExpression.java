@@ -39,6 +39,9 @@ final class ImmutableFunctionExpression implements FunctionExpression {
             new PipelineFunctionDelete()           // fn:delete()
     ));
 
+    private static final PipelineFunction.Compiled UNRESOLVED_FUNCTION =
+            (value, expressionResolver) -> PipelineElement.unresolved();
+
     @Override
     public String getPrefix() {
         return PREFIX;
@@ -66,18 +69,28 @@ final class ImmutableFunctionExpression implements FunctionExpression {
     public PipelineElement resolve(final String expression, final PipelineElement resolvedInputValue,
             final ExpressionResolver expressionResolver) {
 
+        return compile(expression).apply(resolvedInputValue, expressionResolver);
+    }
+
+    /**
+     * Parses the passed function expression once into the function it calls with its parameters applied.
+     *
+     * @param expression the function expression, e.g.: {@code fn:default('fallback')}.
+     * @return the function with its parameters applied.
+     * @throws PlaceholderFunctionUnknownException if the expression calls an unknown function.
+     * @throws PlaceholderFunctionSignatureInvalidException if the parameters do not match the function's signature.
+     */
+    PipelineFunction.Compiled compile(final String expression) {
+
         if (!supports(expression.replaceFirst(getPrefix() + ":", ""))) {
             throw PlaceholderFunctionUnknownException.newBuilder(expression).build();
         }
 
         return SUPPORTED.stream()
                 .filter(pf -> expression.startsWith(getPrefix() + ":" + pf.getName() + "("))
-                .map(pf -> pf.apply(resolvedInputValue,
-                        expression.replaceFirst(getPrefix() + ":" + pf.getName(), "").trim(),
-                        expressionResolver)
-                )
+                .map(pf -> pf.compile(expression.replaceFirst(getPrefix() + ":" + pf.getName(), "").trim()))
                 .findFirst()
-                .orElse(PipelineElement.unresolved());
+                .orElse(UNRESOLVED_FUNCTION);
     }
 
 }
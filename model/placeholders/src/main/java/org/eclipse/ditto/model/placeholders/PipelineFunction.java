@@ -50,8 +50,40 @@ interface PipelineFunction {
      * function.
      * @return processed output value, or an empty optional otherwise.
      */
-    PipelineElement apply(PipelineElement value, String paramsIncludingParentheses,
-            ExpressionResolver expressionResolver);
+    default PipelineElement apply(final PipelineElement value, final String paramsIncludingParentheses,
+            final ExpressionResolver expressionResolver) {
+
+        return compile(paramsIncludingParentheses).apply(value, expressionResolver);
+    }
+
+    /**
+     * Parses and validates the passed in function parameters once and returns the function with these parameters
+     * applied. The returned function may be executed any number of times without parsing the parameters again.
+     *
+     * @param paramsIncludingParentheses the passed in function parameters including parentheses, e.g.: {@code
+     * ('fallback')}
+     * @return the function with the parameters applied.
+     * @throws PlaceholderFunctionSignatureInvalidException if the parameters do not match the function's signature.
+     */
+    Compiled compile(String paramsIncludingParentheses);
+
+    /**
+     * A pipeline function whose parameters were already parsed.
+     */
+    @FunctionalInterface
+    interface Compiled {
+
+        /**
+         * Executes the function by passing in a value and returning a processed result.
+         *
+         * @param value the input value to process.
+         * @param expressionResolver the expressionResolver to use in order to resolve placeholders occurring in the
+         * function parameters.
+         * @return processed output value.
+         */
+        PipelineElement apply(PipelineElement value, ExpressionResolver expressionResolver);
+
+    }
 
     /**
      * Defines a function's signature.
@@ -12,10 +12,12 @@
  */
 package org.eclipse.ditto.model.placeholders;
 
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 /**
@@ -95,19 +97,31 @@ final class PipelineFunctionParameterResolverFactory {
         public PipelineElement apply(final String paramsIncludingParentheses,
                 final ExpressionResolver resolver,
                 final PipelineFunction pipelineFunction) {
+
+            return parse(paramsIncludingParentheses, pipelineFunction).resolve(resolver);
+        }
+
+        /**
+         * Parses the single parameter without resolving it, so that the result may be resolved repeatedly.
+         *
+         * @param paramsIncludingParentheses the function parameters including parentheses.
+         * @param pipelineFunction the function the parameters are passed to.
+         * @return the parsed parameter.
+         * @throws PlaceholderFunctionSignatureInvalidException if the parameters do not match this resolver.
+         */
+        Parameter parse(final String paramsIncludingParentheses, final PipelineFunction pipelineFunction) {
             final Matcher matcher = this.pattern.matcher(paramsIncludingParentheses);
             if (matcher.matches()) {
 
                 String constant = matcher.group("singleQuotedConstant");
                 constant = constant != null ? constant : matcher.group("doubleQuotedConstant");
                 if (constant != null) {
-                    return PipelineElement.resolved(constant);
+                    return new Parameter(constant, null);
                 }
 
                 final String placeholder = matcher.group("placeholder");
                 if (placeholder != null) {
-                    // if resolution fails, interpret the placeholder string as string literal.
-                    return resolver.resolveAsPipelineElement(placeholder);
+                    return new Parameter(placeholder, CompiledPipelineExpression.compile(placeholder));
                 }
             }
 
@@ -117,6 +131,45 @@ final class PipelineFunctionParameterResolverFactory {
 
     }
 
+    /**
+     * A parsed function parameter which is either a string constant or a placeholder. Placeholders are compiled when
+     * the parameter is parsed, resolving them does not parse them again.
+     */
+    @Immutable
+    static final class Parameter {
+
+        private final String value;
+        @Nullable private final CompiledPipelineExpression placeholder;
+        private final PipelineElement resolvedConstant;
+
+        private Parameter(final String value, @Nullable final CompiledPipelineExpression placeholder) {
+            this.value = value;
+            this.placeholder = placeholder;
+            resolvedConstant = PipelineElement.resolved(value);
+        }
+
+        /**
+         * @return the string constant or an empty optional if the parameter is a placeholder.
+         */
+        Optional<String> getConstant() {
+            return placeholder != null ? Optional.empty() : Optional.of(value);
+        }
+
+        /**
+         * Resolves the parameter.
+         *
+         * @param resolver the resolver of placeholders.
+         * @return the constant or the resolved placeholder.
+         */
+        PipelineElement resolve(final ExpressionResolver resolver) {
+            if (placeholder != null) {
+                return placeholder.execute(resolver);
+            }
+            return resolvedConstant;
+        }
+
+    }
+
     static class EmptyParameterResolver implements Predicate<String> {
 
         private static final String EMPTY_PARENTHESES_PATTERN = "\\(\\s*+\\)";
@@ -36,27 +36,26 @@ final class PipelineFunctionSubstringAfter implements PipelineFunction {
     }
 
     @Override
-    public PipelineElement apply(final PipelineElement value, final String paramsIncludingParentheses,
-            final ExpressionResolver expressionResolver) {
+    public Compiled compile(final String paramsIncludingParentheses) {
+        final String splitValue = parse(paramsIncludingParentheses);
 
-        final String splitValue = parseAndResolve(paramsIncludingParentheses, expressionResolver);
-
-        return value.onResolved(previousStage -> {
-            if (previousStage.contains(splitValue)) {
-                return PipelineElement.resolved(previousStage.substring(previousStage.indexOf(splitValue) + 1));
+        return (value, expressionResolver) -> value.onResolved(previousStage -> {
+            final int splitIndex = previousStage.indexOf(splitValue);
+            if (splitIndex >= 0) {
+                return PipelineElement.resolved(previousStage.substring(splitIndex + 1));
             } else {
                 return PipelineElement.unresolved();
             }
         });
     }
 
-    private String parseAndResolve(final String paramsIncludingParentheses,
-            final ExpressionResolver expressionResolver) {
-        final PipelineElement resolved = PipelineFunctionParameterResolverFactory.forStringParameter()
-                .apply(paramsIncludingParentheses, expressionResolver, this);
-        return resolved.toOptional().orElseThrow(() ->
-                PlaceholderFunctionSignatureInvalidException.newBuilder(paramsIncludingParentheses, this)
-                        .build());
+    private String parse(final String paramsIncludingParentheses) {
+        return PipelineFunctionParameterResolverFactory.forStringParameter()
+                .parse(paramsIncludingParentheses, this)
+                .getConstant()
+                .orElseThrow(() ->
+                        PlaceholderFunctionSignatureInvalidException.newBuilder(paramsIncludingParentheses, this)
+                                .build());
     }
 
     /**
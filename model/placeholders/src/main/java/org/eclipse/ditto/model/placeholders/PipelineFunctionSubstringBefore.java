@@ -39,25 +39,22 @@ final class PipelineFunctionSubstringBefore implements PipelineFunction {
     }
 
     @Override
-    public PipelineElement apply(final PipelineElement value, final String paramsIncludingParentheses,
-            final ExpressionResolver expressionResolver) {
+    public Compiled compile(final String paramsIncludingParentheses) {
+        final String splitValue = parse(paramsIncludingParentheses);
 
-        final String splitValue = parseAndResolve(paramsIncludingParentheses, expressionResolver);
-
-        return value.onResolved(previousStage -> {
-            if (previousStage.contains(splitValue)) {
-                return PipelineElement.resolved(previousStage.substring(0, previousStage.indexOf(splitValue)));
+        return (value, expressionResolver) -> value.onResolved(previousStage -> {
+            final int splitIndex = previousStage.indexOf(splitValue);
+            if (splitIndex >= 0) {
+                return PipelineElement.resolved(previousStage.substring(0, splitIndex));
             } else {
                 return PipelineElement.unresolved();
             }
         });
     }
 
-    private String parseAndResolve(final String paramsIncludingParentheses,
-            final ExpressionResolver expressionResolver) {
-
-        return parameterResolver.apply(paramsIncludingParentheses, expressionResolver, this)
-                .toOptional()
+    private String parse(final String paramsIncludingParentheses) {
+        return parameterResolver.parse(paramsIncludingParentheses, this)
+                .getConstant()
                 .orElseThrow(
                         () -> PlaceholderFunctionSignatureInvalidException.newBuilder(paramsIncludingParentheses, this)
                                 .build());
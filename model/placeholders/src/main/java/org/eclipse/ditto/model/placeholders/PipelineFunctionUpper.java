@@ -36,12 +36,10 @@ final class PipelineFunctionUpper implements PipelineFunction {
     }
 
     @Override
-    public PipelineElement apply(final PipelineElement value, final String paramsIncludingParentheses,
-            final ExpressionResolver expressionResolver) {
-
+    public Compiled compile(final String paramsIncludingParentheses) {
         // check if signature matches (empty params!)
         validateOrThrow(paramsIncludingParentheses);
-        return value.map(String::toUpperCase);
+        return (element, expressionResolver) -> element.map(String::toUpperCase);
     }
 
     private void validateOrThrow(final String paramsIncludingParentheses) {
@@ -23,7 +23,8 @@ import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 
 /**
- * Factory that creates instances of {@link Placeholder}, {@link PlaceholderResolver}s and {@link ExpressionResolver}s.
+ * Factory that creates instances of {@link Placeholder}, {@link PlaceholderResolver}s, {@link ExpressionResolver}s and
+ * {@link ExpressionTemplate}s.
  */
 public final class PlaceholderFactory {
 
@@ -143,6 +144,23 @@ public final class PlaceholderFactory {
                 stringUsedInPlaceholderReplacement);
     }
 
+    /**
+     * Parses the passed in {@code template} into an {@link ExpressionTemplate} which can be resolved repeatedly without
+     * parsing the template again.
+     *
+     * @param template the template string potentially containing placeholders and pipeline functions.
+     * @return the parsed template.
+     * @throws NullPointerException if {@code template} is {@code null}.
+     * @throws UnresolvedPlaceholderException if a placeholder of the template is no valid pipeline expression.
+     * @throws PlaceholderFunctionTooComplexException thrown if the {@code template} contains a placeholder
+     * function chain which is too complex (e.g. too much chained function calls)
+     * @throws PlaceholderFunctionUnknownException if the template calls an unknown function.
+     * @throws PlaceholderFunctionSignatureInvalidException if the parameters of a function do not match its signature.
+     */
+    public static ExpressionTemplate newExpressionTemplate(final String template) {
+        return ImmutableExpressionTemplate.of(template);
+    }
+
     private static ExpressionResolver newExpressionResolver(final List<PlaceholderResolver<?>> placeholderResolvers,
             final String stringUsedInPlaceholderValidation) {
         return new ImmutableExpressionResolver(placeholderResolvers, stringUsedInPlaceholderValidation);
@@ -176,7 +176,9 @@ public final class PlaceholderFilter {
      * function chain which is too complex (e.g. too much chained function calls)
      */
     public static void validate(final String template, final Placeholder<?>... placeholders) {
-        applyOrElseRetain(template, PlaceholderFactory.newExpressionResolverForValidation(placeholders));
+        // parsing the template validates all of its pipelines, even those after a deleting one
+        PlaceholderFactory.newExpressionTemplate(template)
+                .resolve(PlaceholderFactory.newExpressionResolverForValidation(placeholders));
     }
 
     /**
@@ -194,16 +196,21 @@ public final class PlaceholderFilter {
      */
     public static String validateAndReplace(final String template, final String stringUsedInPlaceholderReplacement,
             final Placeholder<?>... placeholders) {
-        return doApply(template,
-                PlaceholderFactory.newExpressionResolverForValidation(stringUsedInPlaceholderReplacement, placeholders)
-        );
+        final PipelineElement resolved = PlaceholderFactory.newExpressionTemplate(template)
+                .resolve(PlaceholderFactory.newExpressionResolverForValidation(stringUsedInPlaceholderReplacement,
+                        placeholders));
+        return toResolvedValueOrThrow(template, resolved);
     }
 
     private static String doApply(final String template, final ExpressionResolver expressionResolver) {
+        return toResolvedValueOrThrow(template, expressionResolver.resolve(template));
+    }
+
+    private static String toResolvedValueOrThrow(final String template, final PipelineElement pipelineElement) {
         final Supplier<String> throwUnresolvedPlaceholderException = () -> {
             throw UnresolvedPlaceholderException.newBuilder(template).build();
         };
-        return expressionResolver.resolve(template)
+        return pipelineElement
                 .accept(PipelineElement.<String>newVisitorBuilder()
                         .resolved(Function.identity())
                         .unresolved(throwUnresolvedPlaceholderException)
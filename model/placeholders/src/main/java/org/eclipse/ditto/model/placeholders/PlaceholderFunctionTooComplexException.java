@@ -27,8 +27,8 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonParsableException;
 
 /**
- * Thrown when a the placeholder functions in a {@link Pipeline} get too complex (e.g. too many chained function calls)
- * in order to be executed safely by the backend.
+ * Thrown when a the placeholder functions in a pipeline expression get too complex (e.g. too many chained function
+ * calls) in order to be executed safely by the backend.
  */
 @Immutable
 @JsonParsableException(errorCode = PlaceholderFunctionTooComplexException.ERROR_CODE)
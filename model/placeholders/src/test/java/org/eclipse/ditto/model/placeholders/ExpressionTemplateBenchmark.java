@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.model.things.ThingId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares resolving a template string, which parses the template for each resolution, with resolving an
+ * {@link ExpressionTemplate} parsed in advance. The templates are typical target addresses and header mappings of a
+ * connection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class ExpressionTemplateBenchmark {
+
+    @Param({
+            "{{ thing:id }}",
+            "{{ header:x | fn:substring-before(':') }}",
+            "telemetry/{{ thing:namespace }}/{{ thing:name }}"
+    })
+    public String template;
+
+    private ExpressionTemplate expressionTemplate;
+    private ExpressionResolver expressionResolver;
+
+    @Setup
+    public void setUp() {
+        expressionTemplate = PlaceholderFactory.newExpressionTemplate(template);
+        expressionResolver = PlaceholderFactory.newExpressionResolver(
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newHeadersPlaceholder(),
+                        Collections.singletonMap("x", "org.eclipse.ditto:device-4711")),
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newThingPlaceholder(),
+                        ThingId.of("org.eclipse.ditto", "device-4711"))
+        );
+    }
+
+    @Benchmark
+    public PipelineElement resolveTemplateString() {
+        return expressionResolver.resolve(template);
+    }
+
+    @Benchmark
+    public PipelineElement resolveParsedTemplate() {
+        return expressionTemplate.resolve(expressionResolver);
+    }
+
+    @Benchmark
+    public ExpressionTemplate parseTemplate() {
+        return PlaceholderFactory.newExpressionTemplate(template);
+    }
+
+}
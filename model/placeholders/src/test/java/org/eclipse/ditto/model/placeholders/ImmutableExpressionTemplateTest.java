@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.ditto.model.things.ThingId;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mutabilitydetector.unittesting.AllowedReason;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests {@link ImmutableExpressionTemplate}.
+ */
+public final class ImmutableExpressionTemplateTest {
+
+    private static final String THING_NAMESPACE = "org.eclipse.ditto";
+    private static final ThingId THING_ID = ThingId.of(THING_NAMESPACE, "foo");
+
+    private static final String[] TEMPLATES = {
+            "",
+            "no placeholders",
+            "{{ thing:id }}",
+            "{{thing:name}}",
+            "prefix/{{ thing:namespace }}/{{ header:device-id | fn:substring-before(':') }}/suffix",
+            "{{ header:device-id | fn:substring-after(':') | fn:upper() }}",
+            "{{ header:unknown | fn:default('fallback') }}",
+            "{{ header:unknown | fn:default(thing:name) }}",
+            "{{ header:unknown | fn:default(header:alsoUnknown) }}",
+            "before {{ header:unknown }} after",
+            "{{ header:device-id }}{{ header:device-id | fn:delete() }}",
+            "{{ fn:default('constant') | fn:lower() }}",
+            "legacy ${thing:id}",
+            "{{ thing:id | fn:substring-before(\"|\") | fn:default('bAz') | fn:lower() }}",
+            "$1 \\ {{ thing:name }} }}"
+    };
+
+    private static ExpressionResolver expressionResolver;
+
+    @BeforeClass
+    public static void setUpExpressionResolver() {
+        final Map<String, String> headers = new HashMap<>();
+        headers.put("device-id", "device:4711");
+        expressionResolver = PlaceholderFactory.newExpressionResolver(
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newHeadersPlaceholder(), headers),
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newThingPlaceholder(), THING_ID)
+        );
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(ImmutableExpressionTemplate.class, areImmutable(),
+                AllowedReason.assumingFields("literals", "expressions")
+                        .areSafelyCopiedUnmodifiableCollectionsWithImmutableElements(),
+                AllowedReason.provided(PipelineElement.class).isAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(ImmutableExpressionTemplate.class)
+                .usingGetClass()
+                .withOnlyTheseFields("template")
+                .verify();
+    }
+
+    @Test
+    public void resolvesLikeTheUnparsedTemplate() {
+        for (final String template : TEMPLATES) {
+            final PipelineElement expected = expressionResolver.resolve(template);
+
+            final PipelineElement actual = ImmutableExpressionTemplate.of(template).resolve(expressionResolver);
+
+            assertThat(actual.getType()).as(template).isEqualTo(expected.getType());
+            assertThat(actual.toOptional()).as(template).isEqualTo(expected.toOptional());
+        }
+    }
+
+    @Test
+    public void resolveTypicalTemplates() {
+        assertThat(ImmutableExpressionTemplate.of("{{ thing:id }}").resolve(expressionResolver))
+                .contains(THING_ID.toString());
+        assertThat(ImmutableExpressionTemplate.of("{{ header:device-id | fn:substring-before(':') }}")
+                .resolve(expressionResolver))
+                .contains("device");
+    }
+
+    @Test
+    public void parsedTemplateCanBeResolvedRepeatedly() {
+        final ExpressionTemplate underTest = ImmutableExpressionTemplate.of("{{ header:device-id }}/{{ thing:name }}");
+        final ExpressionResolver otherResolver = PlaceholderFactory.newExpressionResolver(
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newHeadersPlaceholder(),
+                        Collections.singletonMap("device-id", "other")),
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newThingPlaceholder(),
+                        ThingId.of(THING_NAMESPACE, "bar"))
+        );
+
+        assertThat(underTest.resolve(expressionResolver)).contains("device:4711/foo");
+        assertThat(underTest.resolve(otherResolver)).contains("other/bar");
+        assertThat(underTest.getTemplate()).isEqualTo("{{ header:device-id }}/{{ thing:name }}");
+    }
+
+    @Test
+    public void resolutionAbortsAtUnresolvedPipeline() {
+        final ExpressionTemplate underTest =
+                ImmutableExpressionTemplate.of("{{ header:unknown }}/{{ header:device-id | fn:delete() }}");
+
+        assertThat(underTest.resolve(expressionResolver)).isEqualTo(PipelineElement.unresolved());
+    }
+
+    @Test
+    public void unknownFunctionIsRejectedWhenParsing() {
+        assertThatExceptionOfType(PlaceholderFunctionUnknownException.class)
+                .isThrownBy(() -> ImmutableExpressionTemplate.of("{{ thing:id | fn:unknown() }}"));
+    }
+
+    @Test
+    public void invalidFunctionSignatureIsRejectedWhenParsing() {
+        assertThatExceptionOfType(PlaceholderFunctionSignatureInvalidException.class)
+                .isThrownBy(() -> ImmutableExpressionTemplate.of("{{ thing:id | fn:upper('x') }}"));
+    }
+
+    @Test
+    public void invalidPipelineIsRejectedWhenParsing() {
+        assertThatExceptionOfType(UnresolvedPlaceholderException.class)
+                .isThrownBy(() -> ImmutableExpressionTemplate.of("{{ }}"));
+        assertThatExceptionOfType(UnresolvedPlaceholderException.class)
+                .isThrownBy(() -> ImmutableExpressionTemplate.of("{{ thing-id }}"));
+    }
+
+    @Test
+    public void functionsAfterDeletingPipelineAreValidatedWhenParsing() {
+        assertThatExceptionOfType(PlaceholderFunctionUnknownException.class)
+                .isThrownBy(() -> ImmutableExpressionTemplate.of(
+                        "{{ header:device-id | fn:delete() }}{{ thing:id | fn:unknown() }}"));
+    }
+
+    @Test
+    public void unsupportedPlaceholderIsRejectedWhenResolving() {
+        final ExpressionTemplate underTest = ImmutableExpressionTemplate.of("{{ thing:unknown }}");
+
+        assertThatExceptionOfType(UnresolvedPlaceholderException.class)
+                .isThrownBy(() -> underTest.resolve(expressionResolver));
+    }
+
+}
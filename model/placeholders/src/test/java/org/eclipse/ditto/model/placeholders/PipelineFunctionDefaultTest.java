@@ -29,7 +29,9 @@ public class PipelineFunctionDefaultTest {
 
     private static final String KNOWN_VALUE = "expected";
     private static final String KNOWN_FALLBACK = "fallback";
-    private static final String KNOWN_PLACEHOLDER = "thing:name";
+    private static final String KNOWN_PLACEHOLDER_PREFIX = "thing";
+    private static final String KNOWN_PLACEHOLDER_NAME = "name";
+    private static final String KNOWN_PLACEHOLDER = KNOWN_PLACEHOLDER_PREFIX + ":" + KNOWN_PLACEHOLDER_NAME;
 
     private final PipelineFunctionDefault function = new PipelineFunctionDefault();
 
@@ -59,12 +61,12 @@ public class PipelineFunctionDefaultTest {
     public void applyReturnsDefaultPlaceholder() {
         final PipelineElement input = PipelineElement.unresolved();
         final String params = "(" + KNOWN_PLACEHOLDER + ")";
-        when(expressionResolver.resolveAsPipelineElement(anyString()))
+        when(expressionResolver.resolvePlaceholder(anyString(), anyString()))
                 .thenReturn(PipelineElement.resolved(KNOWN_VALUE));
 
         assertThat(function.apply(input, params, expressionResolver)).contains(KNOWN_VALUE);
 
-        verify(expressionResolver).resolveAsPipelineElement(KNOWN_PLACEHOLDER);
+        verify(expressionResolver).resolvePlaceholder(KNOWN_PLACEHOLDER_PREFIX, KNOWN_PLACEHOLDER_NAME);
     }
 
 }
@@ -31,7 +31,9 @@ import org.mockito.junit.MockitoJUnitRunner;
 public class PipelineFunctionParameterResolverFactoryTest {
 
     private static final String KNOWN_VALUE = "expected";
-    private static final String KNOWN_PLACEHOLDER = "thing:name";
+    private static final String KNOWN_PLACEHOLDER_PREFIX = "thing";
+    private static final String KNOWN_PLACEHOLDER_NAME = "name";
+    private static final String KNOWN_PLACEHOLDER = KNOWN_PLACEHOLDER_PREFIX + ":" + KNOWN_PLACEHOLDER_NAME;
     private static final PipelineFunction DUMMY = new PipelineFunctionDelete();
 
     @Mock
@@ -84,12 +86,12 @@ public class PipelineFunctionParameterResolverFactoryTest {
                 PipelineFunctionParameterResolverFactory.forStringOrPlaceholderParameter();
 
         final String params = "(" + KNOWN_PLACEHOLDER + ")";
-        when(expressionResolver.resolveAsPipelineElement(anyString()))
+        when(expressionResolver.resolvePlaceholder(anyString(), anyString()))
                 .thenReturn(PipelineElement.resolved(KNOWN_VALUE));
 
         assertThat(parameterResolver.apply(params, expressionResolver, DUMMY)).contains(KNOWN_VALUE);
 
-        verify(expressionResolver).resolveAsPipelineElement(KNOWN_PLACEHOLDER);
+        verify(expressionResolver).resolvePlaceholder(KNOWN_PLACEHOLDER_PREFIX, KNOWN_PLACEHOLDER_NAME);
     }
 
     @Test
@@ -114,14 +116,14 @@ public class PipelineFunctionParameterResolverFactoryTest {
         final String stringDouble = "(   \"" + KNOWN_VALUE + "\"   )";
         final String stringPlaceholder = "(    " + KNOWN_PLACEHOLDER + "   )";
 
-        when(expressionResolver.resolveAsPipelineElement(anyString())).thenReturn(
+        when(expressionResolver.resolvePlaceholder(anyString(), anyString())).thenReturn(
                 PipelineElement.resolved(KNOWN_VALUE));
 
         assertThat(parameterResolver.apply(stringSingle, expressionResolver, DUMMY)).contains(KNOWN_VALUE);
         assertThat(parameterResolver.apply(stringDouble, expressionResolver, DUMMY)).contains(KNOWN_VALUE);
         assertThat(parameterResolver.apply(stringPlaceholder, expressionResolver, DUMMY)).contains(KNOWN_VALUE);
 
-        verify(expressionResolver).resolveAsPipelineElement(KNOWN_PLACEHOLDER);
+        verify(expressionResolver).resolvePlaceholder(KNOWN_PLACEHOLDER_PREFIX, KNOWN_PLACEHOLDER_NAME);
     }
 
     @Test
@@ -131,11 +133,11 @@ public class PipelineFunctionParameterResolverFactoryTest {
 
         final String stringPlaceholder = "(    " + KNOWN_PLACEHOLDER + "   )";
 
-        when(expressionResolver.resolveAsPipelineElement(anyString())).thenReturn(PipelineElement.unresolved());
+        when(expressionResolver.resolvePlaceholder(anyString(), anyString())).thenReturn(PipelineElement.unresolved());
 
         assertThat(parameterResolver.apply(stringPlaceholder, expressionResolver, DUMMY)).isEmpty();
 
-        verify(expressionResolver).resolveAsPipelineElement(KNOWN_PLACEHOLDER);
+        verify(expressionResolver).resolvePlaceholder(KNOWN_PLACEHOLDER_PREFIX, KNOWN_PLACEHOLDER_NAME);
     }
 
     @Test
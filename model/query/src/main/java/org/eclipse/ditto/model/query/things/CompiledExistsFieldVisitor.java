@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import java.util.function.Predicate;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.query.expression.visitors.ExistsFieldExpressionVisitor;
+import org.eclipse.ditto.model.things.Thing;
+
+/**
+ * ExistsFieldExpressionVisitor creating reusable Java {@link Predicate}s of {@link Thing}s with JSON pointers which
+ * are resolved once when visiting. The semantics are the same as those of {@link ExistsThingPredicateVisitor}.
+ */
+final class CompiledExistsFieldVisitor implements ExistsFieldExpressionVisitor<Predicate<Thing>> {
+
+    private static final CompiledExistsFieldVisitor INSTANCE = new CompiledExistsFieldVisitor();
+
+    private CompiledExistsFieldVisitor() {
+        // only internally instantiable
+    }
+
+    /**
+     * Gets the singleton instance of this {@code CompiledExistsFieldVisitor}.
+     *
+     * @return the singleton instance.
+     */
+    static CompiledExistsFieldVisitor getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Predicate<Thing> visitAttribute(final String key) {
+        final JsonPointer pointer = JsonPointer.of(key);
+        return thing -> thing.getAttributes()
+                .flatMap(attributes -> attributes.getValue(pointer))
+                .isPresent();
+    }
+
+    @Override
+    public Predicate<Thing> visitFeature(final String featureId) {
+        return thing -> thing.getFeatures()
+                .flatMap(features -> features.getFeature(featureId))
+                .isPresent();
+    }
+
+    @Override
+    public Predicate<Thing> visitFeatureIdProperty(final String featureId, final String property) {
+        final JsonPointer pointer = JsonPointer.of(property);
+        return thing -> thing.getFeatures()
+                .flatMap(features -> features.getFeature(featureId))
+                .flatMap(feature -> feature.getProperty(pointer))
+                .isPresent();
+    }
+
+    @Override
+    public Predicate<Thing> visitSimple(final String fieldName) {
+        final JsonPointer pointer = JsonPointer.of(fieldName);
+        return thing -> thing.toJson().getValue(pointer).isPresent();
+    }
+
+}
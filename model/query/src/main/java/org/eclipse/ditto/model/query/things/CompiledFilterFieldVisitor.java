@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.query.expression.visitors.FilterFieldExpressionVisitor;
+import org.eclipse.ditto.model.things.Thing;
+
+/**
+ * FilterFieldExpressionVisitor creating functions which look up the value of a field of a {@link Thing}. The JSON
+ * pointers of the fields are resolved once when visiting. Attributes and feature properties are read without
+ * converting the whole Thing to JSON.
+ */
+final class CompiledFilterFieldVisitor implements FilterFieldExpressionVisitor<Function<Thing, Optional<JsonValue>>> {
+
+    private static final CompiledFilterFieldVisitor INSTANCE = new CompiledFilterFieldVisitor();
+
+    private CompiledFilterFieldVisitor() {
+        // only internally instantiable
+    }
+
+    /**
+     * Gets the singleton instance of this {@code CompiledFilterFieldVisitor}.
+     *
+     * @return the singleton instance.
+     */
+    static CompiledFilterFieldVisitor getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Function<Thing, Optional<JsonValue>> visitAttribute(final String key) {
+        final JsonPointer pointer = JsonPointer.of(key);
+        return thing -> thing.getAttributes().flatMap(attributes -> attributes.getValue(pointer));
+    }
+
+    @Override
+    public Function<Thing, Optional<JsonValue>> visitFeatureIdProperty(final String featureId,
+            final String property) {
+
+        final JsonPointer pointer = JsonPointer.of(property);
+        return thing -> thing.getFeatures()
+                .flatMap(features -> features.getFeature(featureId))
+                .flatMap(feature -> feature.getProperty(pointer));
+    }
+
+    @Override
+    public Function<Thing, Optional<JsonValue>> visitSimple(final String fieldName) {
+        final JsonPointer pointer = JsonPointer.of(fieldName);
+        return thing -> thing.toJson(field -> true).getValue(pointer);
+    }
+
+}
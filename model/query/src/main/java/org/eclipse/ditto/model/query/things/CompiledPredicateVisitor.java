@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.query.criteria.visitors.PredicateVisitor;
+
+/**
+ * PredicateVisitor creating reusable Java {@link Predicate}s of the JSON value of a field. Everything which does not
+ * depend on the field value, e. g. the regular expression of a {@code like} predicate, is prepared once when visiting.
+ * The created predicates accept {@code null} for a field which does not exist.
+ * The semantics are the same as those of {@link ThingPredicatePredicateVisitor}.
+ */
+final class CompiledPredicateVisitor implements PredicateVisitor<Predicate<JsonValue>> {
+
+    private static final CompiledPredicateVisitor INSTANCE = new CompiledPredicateVisitor();
+
+    private CompiledPredicateVisitor() {
+        // only internally instantiable
+    }
+
+    /**
+     * Gets the singleton instance of this {@code CompiledPredicateVisitor}.
+     *
+     * @return the singleton instance.
+     */
+    static CompiledPredicateVisitor getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Predicate<JsonValue> visitEq(final Object value) {
+        return jsonValue -> {
+            final Object javaValue = toJava(jsonValue);
+            return null != javaValue && javaValue.equals(value);
+        };
+    }
+
+    @Override
+    public Predicate<JsonValue> visitNe(final Object value) {
+        return visitEq(value).negate();
+    }
+
+    @Override
+    public Predicate<JsonValue> visitGe(final Object value) {
+        return compareWith(value, comparison -> comparison >= 0);
+    }
+
+    @Override
+    public Predicate<JsonValue> visitGt(final Object value) {
+        return compareWith(value, comparison -> comparison > 0);
+    }
+
+    @Override
+    public Predicate<JsonValue> visitLe(final Object value) {
+        return compareWith(value, comparison -> comparison <= 0);
+    }
+
+    @Override
+    public Predicate<JsonValue> visitLt(final Object value) {
+        return compareWith(value, comparison -> comparison < 0);
+    }
+
+    @Override
+    public Predicate<JsonValue> visitIn(final List<?> values) {
+        final Set<?> valueSet = new HashSet<>(values);
+        return jsonValue -> {
+            final Object javaValue = toJava(jsonValue);
+            return null != javaValue && valueSet.contains(javaValue);
+        };
+    }
+
+    @Override
+    public Predicate<JsonValue> visitLike(final String value) {
+        final Pattern pattern = Pattern.compile(value);
+        return jsonValue -> null != jsonValue && jsonValue.isString() &&
+                pattern.matcher(jsonValue.asString()).matches();
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Predicate<JsonValue> compareWith(final Object value, final IntPredicate comparisonPredicate) {
+        if (!(value instanceof Comparable)) {
+            return jsonValue -> false;
+        }
+        final Comparable comparableValue = (Comparable) value;
+        return jsonValue -> {
+            final Object javaValue = toJava(jsonValue);
+            return javaValue instanceof Comparable && comparisonPredicate.test(
+                    ThingPredicatePredicateVisitor.compare(comparableValue, (Comparable) javaValue));
+        };
+    }
+
+    private static Object toJava(final JsonValue jsonValue) {
+        return null != jsonValue ? ThingPredicatePredicateVisitor.mapJsonValueToJava(jsonValue) : null;
+    }
+
+}
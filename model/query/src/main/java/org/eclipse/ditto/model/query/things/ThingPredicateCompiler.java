@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.visitors.CriteriaVisitor;
+import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
+import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.model.things.Thing;
+
+/**
+ * Compiles {@link Criteria} into Java {@link Predicate}s of {@link Thing}s which may be tested against any number of
+ * Things. In contrast to {@link ThingPredicateVisitor}, the predicate tree is built only once, the regular
+ * expressions of {@code like} predicates are compiled only once and the JSON pointers of all fields are resolved only
+ * once. Compile the criteria of a filter when it is set and reuse the result for each Thing to filter.
+ */
+public final class ThingPredicateCompiler implements CriteriaVisitor<Predicate<Thing>> {
+
+    private static final ThingPredicateCompiler INSTANCE = new ThingPredicateCompiler();
+
+    private ThingPredicateCompiler() {
+        // only internally instantiable
+    }
+
+    /**
+     * Compiles the given criteria into a reusable predicate.
+     *
+     * @param criteria the criteria to compile.
+     * @return the predicate which is safe to be tested repeatedly and concurrently.
+     * @throws NullPointerException if {@code criteria} is {@code null}.
+     */
+    public static Predicate<Thing> compile(final Criteria criteria) {
+        return requireNonNull(criteria, "The criteria must not be null!").accept(INSTANCE);
+    }
+
+    @Override
+    public Predicate<Thing> visitAnd(final Stream<Predicate<Thing>> conjuncts) {
+        final List<Predicate<Thing>> predicates = conjuncts.collect(Collectors.toList());
+        if (predicates.size() == 1) {
+            return predicates.get(0);
+        }
+        return thing -> {
+            for (final Predicate<Thing> predicate : predicates) {
+                if (!predicate.test(thing)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    @Override
+    public Predicate<Thing> visitAny() {
+        return any -> true;
+    }
+
+    @Override
+    public Predicate<Thing> visitExists(final ExistsFieldExpression fieldExpression) {
+        return fieldExpression.acceptExistsVisitor(CompiledExistsFieldVisitor.getInstance());
+    }
+
+    @Override
+    public Predicate<Thing> visitField(final FilterFieldExpression fieldExpression,
+            final org.eclipse.ditto.model.query.criteria.Predicate predicate) {
+
+        final Function<Thing, Optional<JsonValue>> fieldValue =
+                fieldExpression.acceptFilterVisitor(CompiledFilterFieldVisitor.getInstance());
+        final Predicate<JsonValue> valuePredicate = predicate.accept(CompiledPredicateVisitor.getInstance());
+        return thing -> valuePredicate.test(fieldValue.apply(thing).orElse(null));
+    }
+
+    @Override
+    public Predicate<Thing> visitNor(final Stream<Predicate<Thing>> negativeDisjoints) {
+        return visitOr(negativeDisjoints).negate();
+    }
+
+    @Override
+    public Predicate<Thing> visitOr(final Stream<Predicate<Thing>> disjoints) {
+        final List<Predicate<Thing>> predicates = disjoints.collect(Collectors.toList());
+        if (predicates.size() == 1) {
+            return predicates.get(0);
+        }
+        return thing -> {
+            for (final Predicate<Thing> predicate : predicates) {
+                if (predicate.test(thing)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+}
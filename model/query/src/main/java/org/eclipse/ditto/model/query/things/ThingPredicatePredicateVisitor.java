@@ -122,7 +122,7 @@ public final class ThingPredicatePredicateVisitor implements PredicateVisitor<Fu
                         .isPresent();
     }
 
-    private static int compare(final Comparable value, final Comparable obj) {
+    static int compare(final Comparable value, final Comparable obj) {
         final Comparable comparableObj = asNumber(obj);
         final Comparable comparableValue = asNumber(value);
         // best effort try to convert both values to a BigDecimal in order to compare them:
@@ -178,7 +178,7 @@ public final class ThingPredicatePredicateVisitor implements PredicateVisitor<Fu
         return thing.toJson(p -> true).getValue(fieldName);
     }
 
-    private static Object mapJsonValueToJava(final JsonValue jsonValue) {
+    static Object mapJsonValueToJava(final JsonValue jsonValue) {
         final Object result;
 
         if (jsonValue.isString()) {
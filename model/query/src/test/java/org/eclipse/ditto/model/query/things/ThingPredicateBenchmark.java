@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
+import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.model.things.FeatureProperties;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the per-event cost of filtering a partial Thing, as it is created from a thing event, with a predicate
+ * built by {@link ThingPredicateVisitor} for each event and with a predicate compiled once by
+ * {@link ThingPredicateCompiler}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class ThingPredicateBenchmark {
+
+    @Param({
+            "eq(attributes/manufacturer,\"ACME\")",
+            "like(thingId,\"org.eclipse.ditto:sensor-*\")",
+            "and(exists(features/temperature),gt(features/temperature/properties/value,20.5))",
+            "or(eq(attributes/location/city,\"Berlin\"),in(attributes/level,3,4,5),not(exists(attributes/muted)))"
+    })
+    public String filter;
+
+    private Criteria criteria;
+    private Predicate<Thing> compiledPredicate;
+    private Thing thing;
+
+    @Setup
+    public void setUp() {
+        criteria = new QueryFilterCriteriaFactory(new CriteriaFactoryImpl(),
+                new ModelBasedThingsFieldExpressionFactory())
+                .filterCriteria(filter, DittoHeaders.empty());
+        compiledPredicate = ThingPredicateCompiler.compile(criteria);
+        thing = Thing.newBuilder()
+                .setId(ThingId.of("org.eclipse.ditto", "sensor-4711"))
+                .setRevision(42L)
+                .setAttribute(JsonPointer.of("manufacturer"), JsonValue.of("ACME"))
+                .setAttribute(JsonPointer.of("location/city"), JsonValue.of("Berlin"))
+                .setAttribute(JsonPointer.of("level"), JsonValue.of(4))
+                .setFeature("temperature", FeatureProperties.newBuilder()
+                        .set("value", 23.25)
+                        .set("unit", "Celsius")
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public boolean visitPerEvent() {
+        return ThingPredicateVisitor.apply(criteria).test(thing);
+    }
+
+    @Benchmark
+    public boolean compiledOnce() {
+        return compiledPredicate.test(thing);
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
+import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.model.things.FeatureProperties;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ThingPredicateCompiler}.
+ */
+public final class ThingPredicateCompilerTest {
+
+    private static final QueryFilterCriteriaFactory queryFilterCriteriaFactory =
+            new QueryFilterCriteriaFactory(new CriteriaFactoryImpl(), new ModelBasedThingsFieldExpressionFactory());
+
+    private static final List<Thing> THINGS = Arrays.asList(
+            Thing.newBuilder()
+                    .setId(ThingId.of("org.eclipse.ditto", "foo-1"))
+                    .setAttribute(JsonPointer.of("counter"), JsonValue.of(42))
+                    .setAttribute(JsonPointer.of("location/city"), JsonValue.of("Berlin"))
+                    .setFeature("lamp", FeatureProperties.newBuilder()
+                            .set(JsonPointer.of("on"), JsonValue.of(true))
+                            .set(JsonPointer.of("brightness"), JsonValue.of(0.75))
+                            .build())
+                    .build(),
+            Thing.newBuilder()
+                    .setId(ThingId.of("org.eclipse.ditto", "bar-2"))
+                    .setAttribute(JsonPointer.of("counter"), JsonValue.of(7L))
+                    .setAttribute(JsonPointer.of("location/city"), JsonValue.of("Bern"))
+                    .build(),
+            Thing.newBuilder()
+                    .setId(ThingId.of("com.example", "baz-3"))
+                    .setAttribute(JsonPointer.of("counter"), JsonValue.of("42"))
+                    .setFeature("lamp", FeatureProperties.newBuilder()
+                            .set(JsonPointer.of("on"), JsonValue.of(false))
+                            .build())
+                    .build());
+
+    private static final List<String> FILTERS = Arrays.asList(
+            "eq(thingId,\"org.eclipse.ditto:foo-1\")",
+            "ne(attributes/counter,42)",
+            "ge(attributes/counter,10)",
+            "gt(attributes/counter,\"7\")",
+            "le(features/lamp/properties/brightness,1)",
+            "lt(attributes/counter,42.5)",
+            "in(attributes/counter,7,42)",
+            "like(attributes/location/city,\"Ber*\")",
+            "like(thingId,\"*:ba?-*\")",
+            "exists(features/lamp)",
+            "exists(features/lamp/properties/brightness)",
+            "exists(attributes/location)",
+            "exists(thingId)",
+            "eq(_namespace,\"org.eclipse.ditto\")",
+            "and(exists(features/lamp),eq(features/lamp/properties/on,true))",
+            "or(eq(attributes/counter,7),like(attributes/location/city,\"*lin\"))",
+            "not(or(eq(attributes/counter,7),eq(attributes/counter,42)))",
+            "and(like(thingId,\"org.eclipse.ditto:*\"),not(exists(features/lamp)),ge(attributes/counter,1))");
+
+    @Test
+    public void compiledPredicatesMatchLikeThingPredicateVisitor() {
+        for (final String filter : FILTERS) {
+            final Predicate<Thing> compiled = ThingPredicateCompiler.compile(createCriteria(filter));
+            for (final Thing thing : THINGS) {
+                final boolean expected = ThingPredicateVisitor.apply(createCriteria(filter)).test(thing);
+                assertThat(compiled.test(thing))
+                        .as("Filtering <%s> with <%s>", thing.getEntityId().orElse(null), filter)
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    public void compiledPredicateIsReusable() {
+        final String filter = "and(exists(attributes/counter),or(gt(attributes/counter,10),like(thingId,\"*bar*\")))";
+        final Predicate<Thing> compiled = ThingPredicateCompiler.compile(createCriteria(filter));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(compiled.test(THINGS.get(0))).isTrue();
+            assertThat(compiled.test(THINGS.get(1))).isTrue();
+            assertThat(compiled.test(THINGS.get(2))).isTrue();
+        }
+    }
+
+    @Test
+    public void existsThingIdMatchesAllThings() {
+        final Predicate<Thing> compiled = ThingPredicateCompiler.compile(createCriteria("exists(thingId)"));
+
+        assertThat(THINGS).allMatch(compiled);
+    }
+
+    private static Criteria createCriteria(final String filter) {
+        return queryFilterCriteriaFactory.filterCriteria(filter, DittoHeaders.empty());
+    }
+
+}
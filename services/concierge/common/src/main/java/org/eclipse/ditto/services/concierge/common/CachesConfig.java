@@ -46,6 +46,13 @@ public interface CachesConfig {
      */
     CacheConfig getEnforcerCacheConfig();
 
+    /**
+     * Returns how many decisions each cached policy enforcer remembers. Zero disables remembering decisions.
+     *
+     * @return the maximum number of decisions per policy enforcer.
+     */
+    int getEnforcerDecisionCacheSize();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code CachesConfig}.
@@ -55,7 +62,12 @@ public interface CachesConfig {
         /**
          * The duration to wait for entity shard regions.
          */
-        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10L));
+        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10L)),
+
+        /**
+         * The maximum number of decisions each cached policy enforcer remembers.
+         */
+        ENFORCER_DECISION_CACHE_SIZE("enforcer-decision-cache-size", 0);
 
         private final String path;
         private final Object defaultValue;
@@ -20,6 +20,7 @@ import javax.annotation.concurrent.Immutable;
 import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
 import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
 
 import com.typesafe.config.Config;
@@ -35,11 +36,18 @@ public final class DefaultCachesConfig implements CachesConfig {
     private final Duration askTimeout;
     private final CacheConfig idCacheConfig;
     private final CacheConfig enforcerCacheConfig;
+    private final int enforcerDecisionCacheSize;
 
     private DefaultCachesConfig(final ScopedConfig config) {
         askTimeout = config.getDuration(CachesConfigValue.ASK_TIMEOUT.getConfigPath());
         idCacheConfig = DefaultCacheConfig.of(config, "id");
         enforcerCacheConfig = DefaultCacheConfig.of(config, "enforcer");
+        enforcerDecisionCacheSize = config.getInt(CachesConfigValue.ENFORCER_DECISION_CACHE_SIZE.getConfigPath());
+        if (enforcerDecisionCacheSize < 0) {
+            throw new DittoConfigError("The value at <" +
+                    CachesConfigValue.ENFORCER_DECISION_CACHE_SIZE.getConfigPath() +
+                    "> must not be negative but it was <" + enforcerDecisionCacheSize + ">!");
+        }
     }
 
     /**
@@ -68,6 +76,11 @@ public final class DefaultCachesConfig implements CachesConfig {
         return enforcerCacheConfig;
     }
 
+    @Override
+    public int getEnforcerDecisionCacheSize() {
+        return enforcerDecisionCacheSize;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -79,12 +92,13 @@ public final class DefaultCachesConfig implements CachesConfig {
         final DefaultCachesConfig that = (DefaultCachesConfig) o;
         return askTimeout.equals(that.askTimeout) &&
                 idCacheConfig.equals(that.idCacheConfig) &&
-                enforcerCacheConfig.equals(that.enforcerCacheConfig);
+                enforcerCacheConfig.equals(that.enforcerCacheConfig) &&
+                enforcerDecisionCacheSize == that.enforcerDecisionCacheSize;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askTimeout, idCacheConfig, enforcerCacheConfig);
+        return Objects.hash(askTimeout, idCacheConfig, enforcerCacheConfig, enforcerDecisionCacheSize);
     }
 
     @Override
@@ -93,6 +107,7 @@ public final class DefaultCachesConfig implements CachesConfig {
                 "askTimeout=" + askTimeout +
                 ", idCacheConfig=" + idCacheConfig +
                 ", enforcerCacheConfig=" + enforcerCacheConfig +
+                ", enforcerDecisionCacheSize=" + enforcerDecisionCacheSize +
                 "]";
     }
 
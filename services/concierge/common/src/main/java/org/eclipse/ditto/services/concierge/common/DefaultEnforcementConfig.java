@@ -13,7 +13,10 @@
 package org.eclipse.ditto.services.concierge.common;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import javax.annotation.concurrent.Immutable;
 
@@ -32,11 +35,24 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
     private final Duration askTimeout;
     private final int bufferSize;
     private final int parallelism;
+    private final boolean keyOrderedWorkStealing;
+    private final List<PriorityClassConfig> priorityClasses;
+    private final double admissionRate;
+    private final int admissionBurst;
 
     private DefaultEnforcementConfig(final ConfigWithFallback configWithFallback) {
         askTimeout = configWithFallback.getDuration(EnforcementConfigValue.ASK_TIMEOUT.getConfigPath());
         bufferSize = configWithFallback.getInt(EnforcementConfigValue.BUFFER_SIZE.getConfigPath());
         parallelism = configWithFallback.getInt(EnforcementConfigValue.PARALLELISM.getConfigPath());
+        keyOrderedWorkStealing =
+                configWithFallback.getBoolean(EnforcementConfigValue.KEY_ORDERED_WORK_STEALING.getConfigPath());
+        priorityClasses = Collections.unmodifiableList(
+                configWithFallback.getConfigList(EnforcementConfigValue.PRIORITY_CLASSES.getConfigPath())
+                        .stream()
+                        .map(DefaultPriorityClassConfig::of)
+                        .collect(Collectors.toList()));
+        admissionRate = configWithFallback.getDouble(EnforcementConfigValue.ADMISSION_RATE.getConfigPath());
+        admissionBurst = configWithFallback.getInt(EnforcementConfigValue.ADMISSION_BURST.getConfigPath());
     }
 
     /**
@@ -66,6 +82,26 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
         return parallelism;
     }
 
+    @Override
+    public boolean isKeyOrderedWorkStealing() {
+        return keyOrderedWorkStealing;
+    }
+
+    @Override
+    public List<PriorityClassConfig> getPriorityClasses() {
+        return priorityClasses;
+    }
+
+    @Override
+    public double getAdmissionRate() {
+        return admissionRate;
+    }
+
+    @Override
+    public int getAdmissionBurst() {
+        return admissionBurst;
+    }
+
 
     @Override
     public boolean equals(final Object o) {
@@ -78,12 +114,17 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
         final DefaultEnforcementConfig that = (DefaultEnforcementConfig) o;
         return bufferSize == that.bufferSize &&
                 parallelism == that.parallelism &&
-                askTimeout.equals(that.askTimeout);
+                keyOrderedWorkStealing == that.keyOrderedWorkStealing &&
+                Double.compare(that.admissionRate, admissionRate) == 0 &&
+                admissionBurst == that.admissionBurst &&
+                askTimeout.equals(that.askTimeout) &&
+                Objects.equals(priorityClasses, that.priorityClasses);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askTimeout, bufferSize, parallelism);
+        return Objects.hash(askTimeout, bufferSize, parallelism, keyOrderedWorkStealing, priorityClasses,
+                admissionRate, admissionBurst);
     }
 
     @Override
@@ -92,6 +133,10 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
                 "askTimeout=" + askTimeout +
                 ", bufferSize=" + bufferSize +
                 ", parallelism=" + parallelism +
+                ", keyOrderedWorkStealing=" + keyOrderedWorkStealing +
+                ", priorityClasses=" + priorityClasses +
+                ", admissionRate=" + admissionRate +
+                ", admissionBurst=" + admissionBurst +
                 "]";
     }
 
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.common;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class implements {@link PriorityClassConfig} for Ditto's Concierge service.
+ */
+@Immutable
+public final class DefaultPriorityClassConfig implements PriorityClassConfig {
+
+    private static final String CONFIG_PATH = "priority-classes";
+
+    private final String name;
+    private final int weight;
+    private final int bufferSize;
+    private final List<String> channels;
+    private final List<String> categories;
+    private final boolean specialLane;
+
+    private DefaultPriorityClassConfig(final ConfigWithFallback configWithFallback) {
+        name = configWithFallback.getString(PriorityClassConfigValue.NAME.getConfigPath());
+        weight = configWithFallback.getInt(PriorityClassConfigValue.WEIGHT.getConfigPath());
+        bufferSize = configWithFallback.getInt(PriorityClassConfigValue.BUFFER_SIZE.getConfigPath());
+        channels = Collections.unmodifiableList(
+                configWithFallback.getStringList(PriorityClassConfigValue.CHANNELS.getConfigPath()));
+        categories = Collections.unmodifiableList(
+                configWithFallback.getStringList(PriorityClassConfigValue.CATEGORIES.getConfigPath())
+                        .stream()
+                        .map(category -> category.toLowerCase(Locale.ENGLISH))
+                        .collect(Collectors.toList()));
+        specialLane = configWithFallback.getBoolean(PriorityClassConfigValue.SPECIAL_LANE.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of {@code DefaultPriorityClassConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of one element of the list at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultPriorityClassConfig of(final Config config) {
+        return new DefaultPriorityClassConfig(ConfigWithFallback.newInstance(config.atKey(CONFIG_PATH), CONFIG_PATH,
+                PriorityClassConfigValue.values()));
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getWeight() {
+        return weight;
+    }
+
+    @Override
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    @Override
+    public List<String> getChannels() {
+        return channels;
+    }
+
+    @Override
+    public List<String> getCategories() {
+        return categories;
+    }
+
+    @Override
+    public boolean isSpecialLane() {
+        return specialLane;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultPriorityClassConfig that = (DefaultPriorityClassConfig) o;
+        return weight == that.weight &&
+                bufferSize == that.bufferSize &&
+                specialLane == that.specialLane &&
+                Objects.equals(name, that.name) &&
+                Objects.equals(channels, that.channels) &&
+                Objects.equals(categories, that.categories);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, weight, bufferSize, channels, categories, specialLane);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "name=" + name +
+                ", weight=" + weight +
+                ", bufferSize=" + bufferSize +
+                ", channels=" + channels +
+                ", categories=" + categories +
+                ", specialLane=" + specialLane +
+                "]";
+    }
+
+}
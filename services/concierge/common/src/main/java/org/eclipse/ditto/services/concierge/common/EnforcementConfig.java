@@ -13,6 +13,8 @@
 package org.eclipse.ditto.services.concierge.common;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 
 import javax.annotation.concurrent.Immutable;
 
@@ -45,6 +47,40 @@ public interface EnforcementConfig {
      */
     int getParallelism();
 
+    /**
+     * Indicates whether the enforcer actor processes messages of different entities on any free slot instead of
+     * partitioning them by the hash of their IDs. Messages of the same entity are processed in order either way.
+     *
+     * @return {@code true} if messages are processed key-ordered with work stealing, {@code false} else.
+     */
+    boolean isKeyOrderedWorkStealing();
+
+    /**
+     * Returns the priority classes of the messages of the enforcer actor. Each class has its own queue; messages
+     * matching no class are enqueued in a default class of weight 1 with the buffer size of this config. Messages of
+     * different classes may overtake each other even if they concern the same entity, so messages which have to be
+     * processed in order, e.g. modifying and retrieving commands of the same thing, should belong to the same class.
+     *
+     * @return the priority classes in the order in which messages are matched against them.
+     */
+    List<PriorityClassConfig> getPriorityClasses();
+
+    /**
+     * Returns how many messages per second the enforcer actor admits for each authorization subject on average.
+     * A non-positive rate disables the admission control.
+     *
+     * @return the admission rate.
+     */
+    double getAdmissionRate();
+
+    /**
+     * Returns how many messages of an authorization subject the enforcer actor admits in a burst above the admission
+     * rate.
+     *
+     * @return the admission burst.
+     */
+    int getAdmissionBurst();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code EnforcementConfig}.
@@ -64,7 +100,27 @@ public interface EnforcementConfig {
         /**
          * The parallelism used for processing messages in parallel in enforcer actor.
          */
-        PARALLELISM("parallelism", 100)
+        PARALLELISM("parallelism", 100),
+
+        /**
+         * Whether the enforcer actor processes messages of different entities on any free slot.
+         */
+        KEY_ORDERED_WORK_STEALING("key-ordered-work-stealing", false),
+
+        /**
+         * The priority classes of the messages of the enforcer actor.
+         */
+        PRIORITY_CLASSES("priority-classes", Collections.emptyList()),
+
+        /**
+         * How many messages per second are admitted for each authorization subject; non-positive to disable.
+         */
+        ADMISSION_RATE("admission-rate", 0.0),
+
+        /**
+         * How many messages of an authorization subject are admitted in a burst above the admission rate.
+         */
+        ADMISSION_BURST("admission-burst", 1_000)
         ;
 
         private final String path;
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.common;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings of a priority class of the messages of the enforcer actor. A message belongs to a
+ * class if it matches all criteria of the class.
+ */
+@Immutable
+public interface PriorityClassConfig {
+
+    /**
+     * Returns the name of the priority class which is used for metrics.
+     *
+     * @return the name.
+     */
+    String getName();
+
+    /**
+     * Returns the weight of the priority class by which its queue is dequeued.
+     *
+     * @return the weight.
+     */
+    int getWeight();
+
+    /**
+     * Returns how many messages of the priority class may wait in its queue.
+     *
+     * @return the buffer size.
+     */
+    int getBufferSize();
+
+    /**
+     * Returns the channels of the messages of the priority class, e.g. "twin" or "live"; any channel if empty.
+     *
+     * @return the channels.
+     */
+    List<String> getChannels();
+
+    /**
+     * Returns the command categories of the messages of the priority class, e.g. "query", "modify" or "delete"; any
+     * message if empty.
+     *
+     * @return the command categories in lower case.
+     */
+    List<String> getCategories();
+
+    /**
+     * Indicates whether the priority class contains only messages for the special enforcement lane, i.e. internal
+     * messages sent during the enforcement of other messages.
+     *
+     * @return {@code true} if only messages for the special enforcement lane belong to the class.
+     */
+    boolean isSpecialLane();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code PriorityClassConfig}.
+     */
+    enum PriorityClassConfigValue implements KnownConfigValue {
+
+        /**
+         * The name of the priority class.
+         */
+        NAME("name", ""),
+
+        /**
+         * The weight of the priority class.
+         */
+        WEIGHT("weight", 1),
+
+        /**
+         * How many messages of the priority class may wait in its queue.
+         */
+        BUFFER_SIZE("buffer-size", 1_000),
+
+        /**
+         * The channels of the messages of the priority class.
+         */
+        CHANNELS("channels", Collections.emptyList()),
+
+        /**
+         * The command categories of the messages of the priority class.
+         */
+        CATEGORIES("categories", Collections.emptyList()),
+
+        /**
+         * Whether only messages for the special enforcement lane belong to the priority class.
+         */
+        SPECIAL_LANE("special-lane", false);
+
+        private final String path;
+        private final Object defaultValue;
+
+        private PriorityClassConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+    }
+
+}
@@ -12,7 +12,7 @@
  */
 package org.eclipse.ditto.services.concierge.common;
 
-import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
@@ -45,7 +45,9 @@ public final class DefaultEnforcementConfigTest {
 
     @Test
     public void assertImmutability() {
-        assertInstancesOf(DefaultEnforcementConfig.class, areImmutable());
+        assertInstancesOf(DefaultEnforcementConfig.class,
+                areImmutable(),
+                assumingFields("priorityClasses").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
     }
 
     @Test
@@ -68,6 +70,18 @@ public final class DefaultEnforcementConfigTest {
         softly.assertThat(underTest.getParallelism())
                 .as(EnforcementConfig.EnforcementConfigValue.PARALLELISM.getConfigPath())
                 .isEqualTo(EnforcementConfig.EnforcementConfigValue.PARALLELISM.getDefaultValue());
+        softly.assertThat(underTest.isKeyOrderedWorkStealing())
+                .as(EnforcementConfig.EnforcementConfigValue.KEY_ORDERED_WORK_STEALING.getConfigPath())
+                .isEqualTo(EnforcementConfig.EnforcementConfigValue.KEY_ORDERED_WORK_STEALING.getDefaultValue());
+        softly.assertThat(underTest.getPriorityClasses())
+                .as(EnforcementConfig.EnforcementConfigValue.PRIORITY_CLASSES.getConfigPath())
+                .isEqualTo(EnforcementConfig.EnforcementConfigValue.PRIORITY_CLASSES.getDefaultValue());
+        softly.assertThat(underTest.getAdmissionRate())
+                .as(EnforcementConfig.EnforcementConfigValue.ADMISSION_RATE.getConfigPath())
+                .isEqualTo(EnforcementConfig.EnforcementConfigValue.ADMISSION_RATE.getDefaultValue());
+        softly.assertThat(underTest.getAdmissionBurst())
+                .as(EnforcementConfig.EnforcementConfigValue.ADMISSION_BURST.getConfigPath())
+                .isEqualTo(EnforcementConfig.EnforcementConfigValue.ADMISSION_BURST.getDefaultValue());
     }
 
     @Test
@@ -83,6 +97,19 @@ public final class DefaultEnforcementConfigTest {
         softly.assertThat(underTest.getParallelism())
                 .as(EnforcementConfig.EnforcementConfigValue.PARALLELISM.getConfigPath())
                 .isEqualTo(73);
+        softly.assertThat(underTest.isKeyOrderedWorkStealing())
+                .as(EnforcementConfig.EnforcementConfigValue.KEY_ORDERED_WORK_STEALING.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getPriorityClasses())
+                .as(EnforcementConfig.EnforcementConfigValue.PRIORITY_CLASSES.getConfigPath())
+                .extracting(PriorityClassConfig::getName)
+                .containsExactly("internal", "queries");
+        softly.assertThat(underTest.getAdmissionRate())
+                .as(EnforcementConfig.EnforcementConfigValue.ADMISSION_RATE.getConfigPath())
+                .isEqualTo(250.0);
+        softly.assertThat(underTest.getAdmissionBurst())
+                .as(EnforcementConfig.EnforcementConfigValue.ADMISSION_BURST.getConfigPath())
+                .isEqualTo(500);
     }
 
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.common;
+
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultPriorityClassConfig}.
+ */
+public final class DefaultPriorityClassConfigTest {
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultPriorityClassConfig.class,
+                areImmutable(),
+                assumingFields("channels", "categories")
+                        .areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultPriorityClassConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final PriorityClassConfig underTest = DefaultPriorityClassConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.getName())
+                .as(PriorityClassConfig.PriorityClassConfigValue.NAME.getConfigPath())
+                .isEmpty();
+        softly.assertThat(underTest.getWeight())
+                .as(PriorityClassConfig.PriorityClassConfigValue.WEIGHT.getConfigPath())
+                .isEqualTo(PriorityClassConfig.PriorityClassConfigValue.WEIGHT.getDefaultValue());
+        softly.assertThat(underTest.getBufferSize())
+                .as(PriorityClassConfig.PriorityClassConfigValue.BUFFER_SIZE.getConfigPath())
+                .isEqualTo(PriorityClassConfig.PriorityClassConfigValue.BUFFER_SIZE.getDefaultValue());
+        softly.assertThat(underTest.getChannels())
+                .as(PriorityClassConfig.PriorityClassConfigValue.CHANNELS.getConfigPath())
+                .isEmpty();
+        softly.assertThat(underTest.getCategories())
+                .as(PriorityClassConfig.PriorityClassConfigValue.CATEGORIES.getConfigPath())
+                .isEmpty();
+        softly.assertThat(underTest.isSpecialLane())
+                .as(PriorityClassConfig.PriorityClassConfigValue.SPECIAL_LANE.getConfigPath())
+                .isFalse();
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final PriorityClassConfig underTest =
+                DefaultPriorityClassConfig.of(ConfigFactory.load("priority-class-test"));
+
+        softly.assertThat(underTest.getName())
+                .as(PriorityClassConfig.PriorityClassConfigValue.NAME.getConfigPath())
+                .isEqualTo("modifications");
+        softly.assertThat(underTest.getWeight())
+                .as(PriorityClassConfig.PriorityClassConfigValue.WEIGHT.getConfigPath())
+                .isEqualTo(3);
+        softly.assertThat(underTest.getBufferSize())
+                .as(PriorityClassConfig.PriorityClassConfigValue.BUFFER_SIZE.getConfigPath())
+                .isEqualTo(42);
+        softly.assertThat(underTest.getChannels())
+                .as(PriorityClassConfig.PriorityClassConfigValue.CHANNELS.getConfigPath())
+                .containsExactly("twin", "live");
+        softly.assertThat(underTest.getCategories())
+                .as(PriorityClassConfig.PriorityClassConfigValue.CATEGORIES.getConfigPath())
+                .containsExactly("modify", "delete");
+        softly.assertThat(underTest.isSpecialLane())
+                .as(PriorityClassConfig.PriorityClassConfigValue.SPECIAL_LANE.getConfigPath())
+                .isTrue();
+    }
+
+}
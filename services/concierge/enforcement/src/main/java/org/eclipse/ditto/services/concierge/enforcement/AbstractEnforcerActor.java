@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.concierge.enforcement;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
@@ -21,6 +22,8 @@ import org.eclipse.ditto.model.enforcers.Enforcer;
 import org.eclipse.ditto.services.concierge.common.DittoConciergeConfig;
 import org.eclipse.ditto.services.concierge.common.EnforcementConfig;
 import org.eclipse.ditto.services.utils.akka.controlflow.AbstractGraphActor;
+import org.eclipse.ditto.services.utils.akka.controlflow.PriorityClass;
+import org.eclipse.ditto.services.utils.akka.controlflow.TokenBucketAdmission;
 import org.eclipse.ditto.services.utils.cache.Cache;
 import org.eclipse.ditto.services.utils.cache.CaffeineCache;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
@@ -158,6 +161,21 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
         return enforcementConfig.getParallelism();
     }
 
+    @Override
+    protected boolean isKeyOrderedWorkStealing() {
+        return enforcementConfig.isKeyOrderedWorkStealing();
+    }
+
+    @Override
+    protected List<PriorityClass> getPriorityClasses() {
+        return EnforcementPriorityClasses.of(enforcementConfig);
+    }
+
+    @Override
+    protected TokenBucketAdmission createAdmission() {
+        return EnforcementPriorityClasses.admission(enforcementConfig);
+    }
+
     @Override
     protected Contextual<WithDittoHeaders> mapMessage(final WithDittoHeaders message) {
         return contextual.withReceivedMessage(message, getSender());
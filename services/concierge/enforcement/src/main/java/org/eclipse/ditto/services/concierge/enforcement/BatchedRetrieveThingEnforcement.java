@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
+import org.eclipse.ditto.signals.commands.things.ThingCommand;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingUnavailableException;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.ThingQueryCommandResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import akka.NotUsed;
+import akka.actor.ActorRef;
+import akka.pattern.Patterns;
+import akka.stream.javadsl.Source;
+
+/**
+ * Enforces and executes the {@link RetrieveThing} commands of a multi-thing retrieval like {@code GET /things?ids=...}
+ * or a page of search results. Instead of routing each command through an {@link EnforcerActor}, the commands are
+ * grouped by the policy of their thing. The enforcer is looked up and the command is authorized once per policy
+ * group, then the things are retrieved directly from the things shard region and their JSON views are restricted by
+ * the enforcer of their group. Error responses of the things shard region invalidate the cached policy ID of the thing
+ * and the cached enforcer of its policy.
+ * <p>
+ * Commands which cannot be enforced by an existing policy, e.g. for things with an ACL, for nonexistent things or for
+ * commands selecting the inlined policy, are delegated to the passed fallback which should enforce them one by one.
+ * </p>
+ */
+public final class BatchedRetrieveThingEnforcement {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchedRetrieveThingEnforcement.class);
+
+    private final ActorRef thingsShardRegion;
+    private final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache;
+    private final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache;
+    private final Function<WithDittoHeaders, CompletionStage<WithDittoHeaders>> preEnforcer;
+    private final Duration askTimeout;
+
+    /**
+     * Constructor.
+     *
+     * @param thingsShardRegion the ActorRef to the Things shard region.
+     * @param thingIdCache the thing-id-cache.
+     * @param policyEnforcerCache the policy-enforcer cache.
+     * @param preEnforcer pre-enforcer function to block undesirable commands, may be {@code null}.
+     * @param askTimeout the timeout for retrieving a single thing.
+     */
+    public BatchedRetrieveThingEnforcement(final ActorRef thingsShardRegion,
+            final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
+            final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
+            @Nullable final Function<WithDittoHeaders, CompletionStage<WithDittoHeaders>> preEnforcer,
+            final Duration askTimeout) {
+
+        this.thingsShardRegion = requireNonNull(thingsShardRegion);
+        this.thingIdCache = requireNonNull(thingIdCache);
+        this.policyEnforcerCache = requireNonNull(policyEnforcerCache);
+        this.preEnforcer = Optional.ofNullable(preEnforcer).orElse(CompletableFuture::completedFuture);
+        this.askTimeout = requireNonNull(askTimeout);
+    }
+
+    /**
+     * Enforces and executes the passed commands.
+     *
+     * @param retrieveThings the commands to execute.
+     * @param fallback enforces and executes a single command which cannot be enforced by the policy of its thing.
+     * @param parallelism how many policy groups are authorized and how many things are retrieved in parallel.
+     * @return source of the responses in no particular order: a {@code RetrieveThingResponse} with restricted view for
+     * each authorized command and a {@link DittoRuntimeException} for each failed one.
+     */
+    public Source<Object, NotUsed> retrieveThings(final Collection<RetrieveThing> retrieveThings,
+            final Function<RetrieveThing, CompletionStage<Object>> fallback,
+            final int parallelism) {
+
+        return Source.fromCompletionStage(groupByPolicy(retrieveThings))
+                .mapConcat(groups -> groups)
+                .mapAsync(parallelism, group -> authorizeGroup(group, fallback))
+                .mapConcat(retrievals -> retrievals)
+                .mapAsyncUnordered(parallelism, Supplier::get);
+    }
+
+    /**
+     * Executes the passed sudo commands directly at the things shard region.
+     *
+     * @param sudoRetrieveThings the commands to execute.
+     * @param parallelism how many things are retrieved in parallel.
+     * @return source of the responses in no particular order.
+     */
+    public Source<Object, NotUsed> sudoRetrieveThings(final Collection<SudoRetrieveThing> sudoRetrieveThings,
+            final int parallelism) {
+
+        return Source.from(sudoRetrieveThings)
+                .mapAsyncUnordered(parallelism, sudoRetrieveThing ->
+                        Patterns.ask(thingsShardRegion, sudoRetrieveThing, askTimeout)
+                                .handle((response, error) -> null != error
+                                        ? reportThingUnavailable(ThingId.of(sudoRetrieveThing.getEntityId()),
+                                        sudoRetrieveThing.getDittoHeaders(), error)
+                                        : response));
+    }
+
+    private CompletionStage<List<PolicyGroup>> groupByPolicy(final Collection<RetrieveThing> retrieveThings) {
+        final List<CompletableFuture<Optional<Entry<EntityIdWithResourceType>>>> enforcerKeyEntries =
+                retrieveThings.stream()
+                        .map(retrieveThing -> thingIdCache.get(
+                                EntityIdWithResourceType.of(ThingCommand.RESOURCE_TYPE,
+                                        retrieveThing.getThingEntityId()))
+                                .exceptionally(error -> Optional.empty()))
+                        .collect(Collectors.toList());
+
+        return CompletableFuture.allOf(enforcerKeyEntries.toArray(new CompletableFuture[0]))
+                .thenApply(unused -> {
+                    final Map<EntityIdWithResourceType, PolicyGroup> groups = new LinkedHashMap<>();
+                    final PolicyGroup fallbackGroup = new PolicyGroup(null);
+                    int i = 0;
+                    for (final RetrieveThing retrieveThing : retrieveThings) {
+                        final Optional<EntityIdWithResourceType> policyKey = enforcerKeyEntries.get(i++).join()
+                                .filter(Entry::exists)
+                                .map(Entry::getValueOrThrow)
+                                .filter(key -> PolicyCommand.RESOURCE_TYPE.equals(key.getResourceType()))
+                                .filter(key -> isEnforceableInGroup(retrieveThing));
+                        final PolicyGroup group = policyKey.isPresent()
+                                ? groups.computeIfAbsent(policyKey.get(), PolicyGroup::new)
+                                : fallbackGroup;
+                        group.retrieveThings.add(retrieveThing);
+                    }
+                    final List<PolicyGroup> result = new ArrayList<>(groups.values());
+                    result.add(fallbackGroup);
+                    return result;
+                });
+    }
+
+    private static boolean isEnforceableInGroup(final RetrieveThing retrieveThing) {
+        return !LiveSignalEnforcement.isLiveSignal(retrieveThing) &&
+                !ThingCommandEnforcement.shouldRetrievePolicyWithThing(retrieveThing);
+    }
+
+    private CompletionStage<List<Supplier<CompletionStage<Object>>>> authorizeGroup(final PolicyGroup group,
+            final Function<RetrieveThing, CompletionStage<Object>> fallback) {
+
+        if (null == group.policyKey) {
+            return CompletableFuture.completedFuture(withFallback(group.retrieveThings, fallback));
+        }
+        return policyEnforcerCache.get(group.policyKey)
+                .exceptionally(error -> Optional.empty())
+                .thenApply(enforcerEntry -> {
+                    if (enforcerEntry.isPresent() && enforcerEntry.get().exists()) {
+                        final Enforcer enforcer = enforcerEntry.get().getValueOrThrow();
+                        final Map<DittoHeaders, Optional<DittoHeaders>> authorizedHeaders = new HashMap<>();
+                        return group.retrieveThings.stream()
+                                .map(retrieveThing -> authorize(retrieveThing, group.policyKey, enforcer,
+                                        authorizedHeaders))
+                                .collect(Collectors.toList());
+                    } else {
+                        // the policy was deleted, the enforcer of a single command reports the appropriate error
+                        LOGGER.debug("No enforcer for <{}>, enforcing <{}> commands one by one.", group.policyKey,
+                                group.retrieveThings.size());
+                        return withFallback(group.retrieveThings, fallback);
+                    }
+                });
+    }
+
+    private static List<Supplier<CompletionStage<Object>>> withFallback(final List<RetrieveThing> retrieveThings,
+            final Function<RetrieveThing, CompletionStage<Object>> fallback) {
+
+        return retrieveThings.stream()
+                .map(retrieveThing -> (Supplier<CompletionStage<Object>>) () -> fallback.apply(retrieveThing))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Authorizes the passed command. The commands of one multi-thing retrieval share their headers, thus the
+     * authorization is computed once per policy and headers.
+     */
+    private Supplier<CompletionStage<Object>> authorize(final RetrieveThing retrieveThing,
+            final EntityIdWithResourceType policyKey, final Enforcer enforcer,
+            final Map<DittoHeaders, Optional<DittoHeaders>> authorizedHeaders) {
+
+        final Optional<DittoHeaders> headersWithReadSubjects =
+                authorizedHeaders.computeIfAbsent(retrieveThing.getDittoHeaders(), dittoHeaders ->
+                        ThingCommandEnforcement.authorizeByPolicy(enforcer, retrieveThing)
+                                .map(RetrieveThing::getDittoHeaders));
+        if (headersWithReadSubjects.isPresent()) {
+            final RetrieveThing authorizedRetrieveThing = retrieveThing.setDittoHeaders(headersWithReadSubjects.get());
+            return () -> preEnforcer.apply(authorizedRetrieveThing)
+                    .thenCompose(preEnforced -> retrieveThing((RetrieveThing) preEnforced, policyKey, enforcer))
+                    .exceptionally(error -> DittoRuntimeException.asDittoRuntimeException(error, cause ->
+                            reportThingUnavailable(retrieveThing.getThingEntityId(),
+                                    retrieveThing.getDittoHeaders(), cause)));
+        } else {
+            final DittoRuntimeException error = ThingCommandEnforcement.errorForThingCommand(retrieveThing);
+            return () -> CompletableFuture.completedFuture(error);
+        }
+    }
+
+    private CompletionStage<Object> retrieveThing(final RetrieveThing retrieveThing,
+            final EntityIdWithResourceType policyKey, final Enforcer enforcer) {
+
+        return Patterns.ask(thingsShardRegion, retrieveThing, askTimeout)
+                .handle((response, error) -> {
+                    if (response instanceof ThingQueryCommandResponse) {
+                        return ThingCommandEnforcement.buildJsonViewForThingQueryCommandResponse(
+                                (ThingQueryCommandResponse) response, enforcer);
+                    } else if (response instanceof DittoRuntimeException) {
+                        // the thing may have been deleted or got another policy since its entries were cached
+                        invalidateCaches(retrieveThing.getThingEntityId(), policyKey);
+                        return response;
+                    } else {
+                        return reportThingUnavailable(retrieveThing.getThingEntityId(),
+                                retrieveThing.getDittoHeaders(), error);
+                    }
+                });
+    }
+
+    private void invalidateCaches(final ThingId thingId, final EntityIdWithResourceType policyKey) {
+        thingIdCache.invalidate(EntityIdWithResourceType.of(ThingCommand.RESOURCE_TYPE, thingId));
+        policyEnforcerCache.invalidate(policyKey);
+    }
+
+    private static DittoRuntimeException reportThingUnavailable(final ThingId thingId,
+            final DittoHeaders dittoHeaders,
+            @Nullable final Throwable error) {
+
+        LOGGER.warn("Could not retrieve Thing <{}>: {}", thingId, error == null ? "unknown response" : error);
+        return ThingUnavailableException.newBuilder(thingId)
+                .dittoHeaders(dittoHeaders)
+                .build();
+    }
+
+    /**
+     * Commands whose things share a policy; commands without a policy key are delegated to the fallback.
+     */
+    private static final class PolicyGroup {
+
+        @Nullable private final EntityIdWithResourceType policyKey;
+        private final List<RetrieveThing> retrieveThings;
+
+        private PolicyGroup(@Nullable final EntityIdWithResourceType policyKey) {
+            this.policyKey = policyKey;
+            retrieveThings = new ArrayList<>();
+        }
+
+    }
+
+}
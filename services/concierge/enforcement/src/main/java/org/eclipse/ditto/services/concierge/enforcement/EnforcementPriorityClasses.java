@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.services.concierge.common.EnforcementConfig;
+import org.eclipse.ditto.services.concierge.common.PriorityClassConfig;
+import org.eclipse.ditto.services.utils.akka.controlflow.AbstractGraphActor;
+import org.eclipse.ditto.services.utils.akka.controlflow.PriorityClass;
+import org.eclipse.ditto.services.utils.akka.controlflow.TokenBucketAdmission;
+import org.eclipse.ditto.signals.commands.base.Command;
+
+/**
+ * Creates the priority classes and the admission control of the queue of enforcement actors from their config.
+ */
+@Immutable
+public final class EnforcementPriorityClasses {
+
+    private static final String DEFAULT_CHANNEL = "twin";
+
+    private EnforcementPriorityClasses() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Create the priority classes configured in the enforcement config.
+     *
+     * @param enforcementConfig the enforcement config.
+     * @return the priority classes in the order of the config.
+     * @throws IllegalArgumentException if the weight or buffer size of a configured class is not positive.
+     */
+    public static List<PriorityClass> of(final EnforcementConfig enforcementConfig) {
+        return enforcementConfig.getPriorityClasses()
+                .stream()
+                .map(EnforcementPriorityClasses::toPriorityClass)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Create the admission control of authorization subjects configured in the enforcement config.
+     *
+     * @param enforcementConfig the enforcement config.
+     * @return the admission control; admits every message if the configured admission rate is not positive.
+     */
+    public static TokenBucketAdmission admission(final EnforcementConfig enforcementConfig) {
+        return TokenBucketAdmission.of(enforcementConfig.getAdmissionRate(), enforcementConfig.getAdmissionBurst());
+    }
+
+    private static PriorityClass toPriorityClass(final PriorityClassConfig config) {
+        return PriorityClass.of(config.getName(), config.getWeight(), config.getBufferSize(), predicate(config));
+    }
+
+    private static Predicate<WithDittoHeaders> predicate(final PriorityClassConfig config) {
+        final List<String> channels = config.getChannels();
+        final List<String> categories = config.getCategories();
+        final boolean specialLane = config.isSpecialLane();
+        return message -> (channels.isEmpty() || channels.contains(getChannel(message))) &&
+                (categories.isEmpty() || categories.contains(getCategory(message))) &&
+                (!specialLane || isInSpecialLane(message));
+    }
+
+    private static String getChannel(final WithDittoHeaders message) {
+        return message.getDittoHeaders().getChannel().orElse(DEFAULT_CHANNEL);
+    }
+
+    private static String getCategory(final WithDittoHeaders message) {
+        if (message instanceof Command) {
+            return ((Command) message).getCategory().name().toLowerCase(Locale.ENGLISH);
+        } else {
+            return "";
+        }
+    }
+
+    private static boolean isInSpecialLane(final WithDittoHeaders message) {
+        return message.getDittoHeaders().containsKey(AbstractGraphActor.DITTO_INTERNAL_SPECIAL_ENFORCEMENT_LANE);
+    }
+
+}
@@ -560,7 +560,7 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
      * @param enforcer the enforcer.
      * @return response with view on entity restricted by enforcer.
      */
-    private static <T extends ThingQueryCommandResponse> T buildJsonViewForThingQueryCommandResponse(
+    static <T extends ThingQueryCommandResponse> T buildJsonViewForThingQueryCommandResponse(
             final ThingQueryCommandResponse<T> response,
             final Enforcer enforcer) {
 
@@ -941,7 +941,7 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
      * @param command the thing query command.
      * @return whether it is necessary to retrieve the thing's policy.
      */
-    private static boolean shouldRetrievePolicyWithThing(final ThingCommand command) {
+    static boolean shouldRetrievePolicyWithThing(final ThingCommand command) {
         final RetrieveThing retrieveThing = (RetrieveThing) command;
         final boolean isNotV1 = JsonSchemaVersion.V_1 != command.getImplementedSchemaVersion();
         return isNotV1 && retrieveThing.getSelectedFields().filter(selector ->
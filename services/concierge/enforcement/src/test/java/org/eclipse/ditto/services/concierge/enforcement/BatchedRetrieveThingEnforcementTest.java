@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.model.base.json.JsonSchemaVersion.V_1;
+import static org.eclipse.ditto.model.base.json.JsonSchemaVersion.V_2;
+import static org.eclipse.ditto.model.policies.SubjectIssuer.GOOGLE;
+import static org.eclipse.ditto.model.things.Permission.READ;
+import static org.eclipse.ditto.model.things.Permission.WRITE;
+import static org.eclipse.ditto.services.concierge.enforcement.TestSetup.CACHES_CONFIG;
+import static org.eclipse.ditto.services.concierge.enforcement.TestSetup.POLICY_SUDO;
+import static org.eclipse.ditto.services.concierge.enforcement.TestSetup.SUBJECT;
+import static org.eclipse.ditto.services.concierge.enforcement.TestSetup.THING_ID;
+import static org.eclipse.ditto.services.concierge.enforcement.TestSetup.THING_SUDO;
+import static org.eclipse.ditto.services.concierge.enforcement.TestSetup.headers;
+import static org.eclipse.ditto.services.concierge.enforcement.TestSetup.newThing;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PoliciesResourceType;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.AclEntry;
+import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CaffeineCache;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
+import org.eclipse.ditto.services.utils.cacheloaders.ThingEnforcementIdCacheLoader;
+import org.eclipse.ditto.signals.commands.things.ThingCommand;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.testkit.TestActorRef;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link BatchedRetrieveThingEnforcement}.
+ */
+public final class BatchedRetrieveThingEnforcementTest {
+
+    private ActorSystem system;
+    private ActorMaterializer materializer;
+    private MockEntitiesActor mockEntitiesActorInstance;
+    private BatchedRetrieveThingEnforcement underTest;
+
+    @Before
+    public void init() {
+        system = ActorSystem.create("test", ConfigFactory.load("test"));
+        materializer = ActorMaterializer.create(system);
+        final TestActorRef<MockEntitiesActor> testActorRef =
+                new TestActorRef<>(system, MockEntitiesActor.props(), system.guardian(), UUID.randomUUID().toString());
+        mockEntitiesActorInstance = testActorRef.underlyingActor();
+
+        final Duration askTimeout = CACHES_CONFIG.getAskTimeout();
+        final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache =
+                CaffeineCache.of(Caffeine.newBuilder(), new PolicyEnforcerCacheLoader(askTimeout, testActorRef));
+        final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache =
+                CaffeineCache.of(Caffeine.newBuilder(), new ThingEnforcementIdCacheLoader(askTimeout, testActorRef));
+        underTest = new BatchedRetrieveThingEnforcement(testActorRef, thingIdCache, policyEnforcerCache, null,
+                askTimeout);
+    }
+
+    @After
+    public void shutdown() {
+        if (system != null) {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    @Test
+    public void retrieveThingAuthorizedByPolicy() throws Exception {
+        final PolicyId policyId = PolicyId.of("policy:id");
+        setUpThingWithPolicy(policyId, PoliciesModelFactory.newPolicyBuilder(policyId)
+                .setRevision(1L)
+                .forLabel("authorize-self")
+                .setSubject(GOOGLE, SUBJECT.getId())
+                .setGrantedPermissions(PoliciesResourceType.thingResource(JsonPointer.empty()),
+                        READ.name(), WRITE.name())
+                .build()
+                .toJson(FieldType.all()));
+        final JsonObject thingJson = newThing().setPolicyId(policyId).build().toJson(V_2, FieldType.all());
+        mockEntitiesActorInstance.setReply(RetrieveThingResponse.of(THING_ID, thingJson, headers(V_2)));
+
+        final List<Object> responses = retrieveThings(RetrieveThing.of(THING_ID, headers(V_2)), unexpectedFallback());
+
+        assertThat(responses).hasSize(1);
+        assertThat(responses.get(0)).isInstanceOf(RetrieveThingResponse.class);
+        assertThat((CharSequence) ((RetrieveThingResponse) responses.get(0)).getEntityId()).isEqualTo(THING_ID);
+    }
+
+    @Test
+    public void restrictJsonViewOfRetrievedThingByPolicy() throws Exception {
+        final PolicyId policyId = PolicyId.of("restricted:policy");
+        setUpThingWithPolicy(policyId, PoliciesModelFactory.newPolicyBuilder(policyId)
+                .setRevision(1L)
+                .forLabel("authorize-self")
+                .setSubject(GOOGLE, SUBJECT.getId())
+                .setGrantedPermissions(PoliciesResourceType.thingResource(JsonPointer.empty()), READ.name())
+                .setRevokedPermissions(PoliciesResourceType.thingResource(JsonPointer.of("/attributes/secret")),
+                        READ.name())
+                .build()
+                .toJson(FieldType.all()));
+        final JsonObject thingJson = newThing().setPolicyId(policyId)
+                .setAttribute(JsonPointer.of("public"), JsonValue.of("visible"))
+                .setAttribute(JsonPointer.of("secret"), JsonValue.of("hidden"))
+                .build()
+                .toJson(V_2, FieldType.all());
+        mockEntitiesActorInstance.setReply(RetrieveThingResponse.of(THING_ID, thingJson, headers(V_2)));
+
+        final List<Object> responses = retrieveThings(RetrieveThing.of(THING_ID, headers(V_2)), unexpectedFallback());
+
+        assertThat(responses).hasSize(1);
+        assertThat(responses.get(0)).isInstanceOf(RetrieveThingResponse.class);
+        final JsonObject entity = ((RetrieveThingResponse) responses.get(0)).getEntity().asObject();
+        assertThat(entity.getValue(JsonPointer.of("/attributes/public"))).contains(JsonValue.of("visible"));
+        assertThat(entity.getValue(JsonPointer.of("/attributes/secret"))).isEmpty();
+    }
+
+    @Test
+    public void invalidateCachesOnErrorResponse() throws Exception {
+        final PolicyId policyId = PolicyId.of("policy:id");
+        setUpThingWithPolicy(policyId, PoliciesModelFactory.newPolicyBuilder(policyId)
+                .setRevision(1L)
+                .forLabel("authorize-self")
+                .setSubject(GOOGLE, SUBJECT.getId())
+                .setGrantedPermissions(PoliciesResourceType.thingResource(JsonPointer.empty()), READ.name())
+                .build()
+                .toJson(FieldType.all()));
+        final AtomicInteger sudoRetrieveThingCalls = new AtomicInteger();
+        final JsonObject thingWithPolicy = newThing().setPolicyId(policyId).build().toJson(V_2, FieldType.all());
+        mockEntitiesActorInstance.setHandler(THING_SUDO, signal -> {
+            sudoRetrieveThingCalls.incrementAndGet();
+            return SudoRetrieveThingResponse.of(thingWithPolicy, DittoHeaders.empty());
+        });
+        mockEntitiesActorInstance.setReply(ThingCommand.RESOURCE_TYPE, ThingNotAccessibleException.newBuilder(THING_ID)
+                .dittoHeaders(headers(V_2))
+                .build());
+
+        final List<Object> firstResponses =
+                retrieveThings(RetrieveThing.of(THING_ID, headers(V_2)), unexpectedFallback());
+        final List<Object> secondResponses =
+                retrieveThings(RetrieveThing.of(THING_ID, headers(V_2)), unexpectedFallback());
+
+        assertThat(firstResponses).hasSize(1);
+        assertThat(firstResponses.get(0)).isInstanceOf(ThingNotAccessibleException.class);
+        assertThat(secondResponses).hasSize(1);
+        assertThat(sudoRetrieveThingCalls).hasValue(2);
+    }
+
+    @Test
+    public void rejectRetrieveThingByPolicy() throws Exception {
+        final PolicyId policyId = PolicyId.of("empty:policy");
+        setUpThingWithPolicy(policyId, PoliciesModelFactory.newPolicyBuilder(policyId)
+                .forLabel("dummy")
+                .setSubject(GOOGLE, "not-subject")
+                .setGrantedPermissions(PoliciesResourceType.thingResource(JsonPointer.empty()), READ.name())
+                .build()
+                .toJson(FieldType.all()));
+
+        final List<Object> responses = retrieveThings(RetrieveThing.of(THING_ID, headers(V_2)), unexpectedFallback());
+
+        assertThat(responses).hasSize(1);
+        assertThat(responses.get(0)).isInstanceOf(ThingNotAccessibleException.class);
+    }
+
+    @Test
+    public void delegateRetrieveThingWithAclToFallback() throws Exception {
+        final JsonObject thingWithAcl = newThing()
+                .setPermissions(AclEntry.newInstance(SUBJECT, READ))
+                .build()
+                .toJson(V_1, FieldType.all());
+        mockEntitiesActorInstance.setReply(THING_SUDO,
+                SudoRetrieveThingResponse.of(thingWithAcl, DittoHeaders.empty()));
+        final RetrieveThingResponse fallbackResponse =
+                RetrieveThingResponse.of(THING_ID, JsonFactory.newObject(), headers(V_1));
+        final AtomicInteger fallbackCalls = new AtomicInteger();
+
+        final List<Object> responses = retrieveThings(RetrieveThing.of(THING_ID, headers(V_1)), retrieveThing -> {
+            fallbackCalls.incrementAndGet();
+            return CompletableFuture.completedFuture(fallbackResponse);
+        });
+
+        assertThat(fallbackCalls).hasValue(1);
+        assertThat(responses).containsExactly(fallbackResponse);
+    }
+
+    private void setUpThingWithPolicy(final PolicyId policyId, final JsonObject policy) {
+        final JsonObject thingWithPolicy = newThing().setPolicyId(policyId).build().toJson(V_2, FieldType.all());
+        mockEntitiesActorInstance.setReply(THING_SUDO,
+                SudoRetrieveThingResponse.of(thingWithPolicy, DittoHeaders.empty()));
+        mockEntitiesActorInstance.setReply(POLICY_SUDO,
+                SudoRetrievePolicyResponse.of(policyId, policy, DittoHeaders.empty()));
+    }
+
+    private List<Object> retrieveThings(final RetrieveThing retrieveThing,
+            final Function<RetrieveThing, CompletionStage<Object>> fallback)
+            throws Exception {
+
+        return underTest.retrieveThings(Collections.singletonList(retrieveThing), fallback, 2)
+                .runWith(Sink.seq(), materializer)
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+    }
+
+    private static Function<RetrieveThing, CompletionStage<Object>>
+    unexpectedFallback() {
+        return retrieveThing -> {
+            throw new AssertionError("Unexpected fallback for " + retrieveThing);
+        };
+    }
+
+}
@@ -16,6 +16,7 @@ import static org.eclipse.ditto.services.models.concierge.ConciergeMessagingCons
 import static org.eclipse.ditto.services.models.thingsearch.ThingsSearchConstants.SEARCH_ACTOR_PATH;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -24,11 +25,14 @@ import javax.annotation.concurrent.Immutable;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.services.concierge.common.DittoConciergeConfig;
 import org.eclipse.ditto.services.concierge.common.EnforcementConfig;
+import org.eclipse.ditto.services.concierge.enforcement.EnforcementPriorityClasses;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.ThingSearchSudoCommand;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.akka.controlflow.AbstractGraphActor;
 import org.eclipse.ditto.services.utils.akka.controlflow.Filter;
+import org.eclipse.ditto.services.utils.akka.controlflow.PriorityClass;
+import org.eclipse.ditto.services.utils.akka.controlflow.TokenBucketAdmission;
 import org.eclipse.ditto.services.utils.akka.controlflow.WithSender;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
@@ -63,7 +67,7 @@ public final class DispatcherActor extends AbstractGraphActor<DispatcherActor.Im
     private final EnforcementConfig enforcementConfig;
 
     @SuppressWarnings("unused")
-    private DispatcherActor(final ActorRef enforcerActor,
+    private DispatcherActor(final Props thingsAggregatorProps,
             final ActorRef pubSubMediator,
             final Flow<ImmutableDispatch, ImmutableDispatch, NotUsed> handler) {
 
@@ -74,8 +78,7 @@ public final class DispatcherActor extends AbstractGraphActor<DispatcherActor.Im
         ).getEnforcementConfig();
 
         this.handler = handler;
-        final Props props = ThingsAggregatorActor.props(enforcerActor);
-        thingsAggregatorActor = getContext().actorOf(props, ThingsAggregatorActor.ACTOR_NAME);
+        thingsAggregatorActor = getContext().actorOf(thingsAggregatorProps, ThingsAggregatorActor.ACTOR_NAME);
 
         initActor(getSelf(), pubSubMediator);
     }
@@ -108,6 +111,21 @@ public final class DispatcherActor extends AbstractGraphActor<DispatcherActor.Im
         return enforcementConfig.getParallelism();
     }
 
+    @Override
+    protected boolean isKeyOrderedWorkStealing() {
+        return enforcementConfig.isKeyOrderedWorkStealing();
+    }
+
+    @Override
+    protected List<PriorityClass> getPriorityClasses() {
+        return EnforcementPriorityClasses.of(enforcementConfig);
+    }
+
+    @Override
+    protected TokenBucketAdmission createAdmission() {
+        return EnforcementPriorityClasses.admission(enforcementConfig);
+    }
+
     @Override
     protected void preEnhancement(final ReceiveBuilder receiveBuilder) {
         // no-op
@@ -138,13 +156,39 @@ public final class DispatcherActor extends AbstractGraphActor<DispatcherActor.Im
             final ActorRef enforcerActor,
             final Graph<FlowShape<WithSender, WithSender>, ?> preEnforcer) {
 
+        return props(pubSubMediator, ThingsAggregatorActor.props(enforcerActor), preEnforcer);
+    }
+
+    /**
+     * Create Akka actor configuration Props object without pre-enforcer.
+     *
+     * @param pubSubMediator Akka pub-sub mediator.
+     * @param thingsAggregatorProps the Props of the {@link ThingsAggregatorActor} to start as child.
+     * @return the Props object.
+     */
+    public static Props props(final ActorRef pubSubMediator, final Props thingsAggregatorProps) {
+        return props(pubSubMediator, thingsAggregatorProps, Flow.create());
+    }
+
+    /**
+     * Create Akka actor configuration Props object with pre-enforcer.
+     *
+     * @param pubSubMediator Akka pub-sub mediator.
+     * @param thingsAggregatorProps the Props of the {@link ThingsAggregatorActor} to start as child.
+     * @param preEnforcer the pre-enforcer as graph.
+     * @return the Props object.
+     */
+    public static Props props(final ActorRef pubSubMediator,
+            final Props thingsAggregatorProps,
+            final Graph<FlowShape<WithSender, WithSender>, ?> preEnforcer) {
+
         final Graph<FlowShape<ImmutableDispatch, ImmutableDispatch>, NotUsed> dispatchFlow =
                 createDispatchFlow(pubSubMediator);
 
         final Flow<ImmutableDispatch, ImmutableDispatch, NotUsed> handler = asContextualFlow(preEnforcer)
                 .via(dispatchFlow);
 
-        return Props.create(DispatcherActor.class, enforcerActor, pubSubMediator, handler);
+        return Props.create(DispatcherActor.class, thingsAggregatorProps, pubSubMediator, handler);
     }
 
     /**
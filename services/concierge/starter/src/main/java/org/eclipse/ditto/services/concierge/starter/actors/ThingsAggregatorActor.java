@@ -13,10 +13,12 @@
 package org.eclipse.ditto.services.concierge.starter.actors;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
@@ -26,6 +28,7 @@ import org.eclipse.ditto.model.base.json.Jsonifiable;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.concierge.common.DittoConciergeConfig;
 import org.eclipse.ditto.services.concierge.common.ThingsAggregatorConfig;
+import org.eclipse.ditto.services.concierge.enforcement.BatchedRetrieveThingEnforcement;
 import org.eclipse.ditto.services.models.concierge.ConciergeWrapper;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
@@ -35,6 +38,7 @@ import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
 
+import akka.NotUsed;
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
 import akka.actor.Props;
@@ -61,6 +65,7 @@ public final class ThingsAggregatorActor extends AbstractActor {
 
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
     private final ActorRef targetActor;
+    @Nullable private final BatchedRetrieveThingEnforcement batchedEnforcement;
     private final ExecutionContext aggregatorDispatcher;
     private final java.time.Duration retrieveSingleThingTimeout;
     private final int maxParallelism;
@@ -68,7 +73,14 @@ public final class ThingsAggregatorActor extends AbstractActor {
 
     @SuppressWarnings("unused")
     private ThingsAggregatorActor(final ActorRef targetActor) {
+        this(targetActor, null);
+    }
+
+    @SuppressWarnings("unused")
+    private ThingsAggregatorActor(final ActorRef targetActor,
+            @Nullable final BatchedRetrieveThingEnforcement batchedEnforcement) {
         this.targetActor = targetActor;
+        this.batchedEnforcement = batchedEnforcement;
         aggregatorDispatcher = getContext().system().dispatchers().lookup(AGGREGATOR_INTERNAL_DISPATCHER);
         final ThingsAggregatorConfig aggregatorConfig = DittoConciergeConfig.of(
                 DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
@@ -89,6 +101,21 @@ public final class ThingsAggregatorActor extends AbstractActor {
                 .withDispatcher(AGGREGATOR_INTERNAL_DISPATCHER);
     }
 
+    /**
+     * Creates Akka configuration object Props for a ThingsAggregatorActor which enforces the retrieved things per
+     * policy and retrieves them directly from the things shard region. Only the things which cannot be enforced by
+     * their policy are asked one by one at the target actor.
+     *
+     * @param targetActor the Actor selection to delegate "asks" for single things to.
+     * @param batchedEnforcement the enforcement of the retrieved things grouped by policy.
+     * @return the Akka configuration Props object
+     */
+    public static Props props(final ActorRef targetActor,
+            final BatchedRetrieveThingEnforcement batchedEnforcement) {
+        return Props.create(ThingsAggregatorActor.class, targetActor, batchedEnforcement)
+                .withDispatcher(AGGREGATOR_INTERNAL_DISPATCHER);
+    }
+
     @Override
     public Receive createReceive() {
         return ReceiveBuilder.create()
@@ -136,26 +163,12 @@ public final class ThingsAggregatorActor extends AbstractActor {
             final Command<?> command, final ActorRef resultReceiver) {
 
         final DittoHeaders dittoHeaders = command.getDittoHeaders();
-
-        final CompletionStage<?> commandResponseSource = Source.from(thingIds)
+        final List<Command<?>> commands = thingIds.stream()
                 .filter(Objects::nonNull)
-                .map(thingId -> {
-                    final Command<?> toBeWrapped;
-                    if (command instanceof RetrieveThings) {
-                        toBeWrapped = Optional.ofNullable(selectedFields)
-                                .map(sf -> RetrieveThing.getBuilder(thingId, dittoHeaders)
-                                        .withSelectedFields(sf)
-                                        .build())
-                                .orElse(RetrieveThing.of(thingId, dittoHeaders));
-                    } else {
-                        toBeWrapped = Optional.ofNullable(selectedFields)
-                                .map(sf -> SudoRetrieveThing.of(thingId, sf, dittoHeaders))
-                                .orElse(SudoRetrieveThing.of(thingId, dittoHeaders));
-                    }
-                    return ConciergeWrapper.wrapForEnforcerRouter(toBeWrapped);
-                })
-                .ask(calculateParallelism(thingIds), targetActor, Jsonifiable.class,
-                        Timeout.apply(retrieveSingleThingTimeout.toMillis(), TimeUnit.MILLISECONDS))
+                .map(thingId -> createRetrieveCommand(thingId, selectedFields, command, dittoHeaders))
+                .collect(Collectors.toList());
+
+        final CompletionStage<?> commandResponseSource = retrieve(commands, calculateParallelism(thingIds))
                 .log("command-response", log)
                 .runWith(StreamRefs.sourceRef(), actorMaterializer);
 
@@ -163,6 +176,44 @@ public final class ThingsAggregatorActor extends AbstractActor {
                 .to(resultReceiver);
     }
 
+    private static Command<?> createRetrieveCommand(final ThingId thingId,
+            @Nullable final JsonFieldSelector selectedFields,
+            final Command<?> command, final DittoHeaders dittoHeaders) {
+
+        if (command instanceof RetrieveThings) {
+            return Optional.ofNullable(selectedFields)
+                    .map(sf -> RetrieveThing.getBuilder(thingId, dittoHeaders)
+                            .withSelectedFields(sf)
+                            .build())
+                    .orElse(RetrieveThing.of(thingId, dittoHeaders));
+        } else {
+            return Optional.ofNullable(selectedFields)
+                    .map(sf -> SudoRetrieveThing.of(thingId, sf, dittoHeaders))
+                    .orElse(SudoRetrieveThing.of(thingId, dittoHeaders));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Source<Object, NotUsed> retrieve(final List<Command<?>> commands, final int parallelism) {
+        if (null == batchedEnforcement) {
+            return Source.from(commands)
+                    .map(ConciergeWrapper::wrapForEnforcerRouter)
+                    .ask(parallelism, targetActor, Jsonifiable.class,
+                            Timeout.apply(retrieveSingleThingTimeout.toMillis(), TimeUnit.MILLISECONDS))
+                    .map(Object.class::cast);
+        } else if (commands.stream().allMatch(SudoRetrieveThing.class::isInstance)) {
+            return batchedEnforcement.sudoRetrieveThings((List<SudoRetrieveThing>) (List<?>) commands, parallelism);
+        } else {
+            return batchedEnforcement.retrieveThings((List<RetrieveThing>) (List<?>) commands,
+                    this::askTargetActor, parallelism);
+        }
+    }
+
+    private CompletionStage<Object> askTargetActor(final RetrieveThing retrieveThing) {
+        return Patterns.ask(targetActor, ConciergeWrapper.wrapForEnforcerRouter(retrieveThing),
+                retrieveSingleThingTimeout);
+    }
+
     private int calculateParallelism(final Collection<ThingId> thingIds) {
         final int size = thingIds.size();
         if (size < maxParallelism / 2) {
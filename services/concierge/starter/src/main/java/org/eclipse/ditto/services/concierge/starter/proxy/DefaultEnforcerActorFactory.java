@@ -29,6 +29,7 @@ import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.concierge.actors.ShardRegions;
 import org.eclipse.ditto.services.concierge.common.CachesConfig;
 import org.eclipse.ditto.services.concierge.common.ConciergeConfig;
+import org.eclipse.ditto.services.concierge.enforcement.BatchedRetrieveThingEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.EnforcementProvider;
 import org.eclipse.ditto.services.concierge.enforcement.EnforcerActor;
 import org.eclipse.ditto.services.concierge.enforcement.LiveSignalEnforcement;
@@ -38,6 +39,7 @@ import org.eclipse.ditto.services.concierge.enforcement.placeholders.Placeholder
 import org.eclipse.ditto.services.concierge.enforcement.validators.CommandWithOptionalEntityValidator;
 import org.eclipse.ditto.services.concierge.starter.actors.CachedNamespaceInvalidator;
 import org.eclipse.ditto.services.concierge.starter.actors.DispatcherActor;
+import org.eclipse.ditto.services.concierge.starter.actors.ThingsAggregatorActor;
 import org.eclipse.ditto.services.models.concierge.ConciergeMessagingConstants;
 import org.eclipse.ditto.services.models.concierge.actors.ConciergeEnforcerClusterRouterFactory;
 import org.eclipse.ditto.services.models.concierge.actors.ConciergeForwarderActor;
@@ -97,7 +99,8 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
                         actorSystem.dispatchers().lookup("thing-id-cache-dispatcher"));
 
         final AsyncCacheLoader<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCacheLoader =
-                new PolicyEnforcerCacheLoader(askTimeout, policiesShardRegionProxy);
+                new PolicyEnforcerCacheLoader(askTimeout, policiesShardRegionProxy,
+                        cachesConfig.getEnforcerDecisionCacheSize());
         final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache =
                 CacheFactory.createCache(policyEnforcerCacheLoader, cachesConfig.getEnforcerCacheConfig(),
                         ENFORCER_CACHE_METRIC_NAME_PREFIX + "policy",
@@ -128,7 +131,12 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
                 ConciergeEnforcerClusterRouterFactory.createConciergeEnforcerClusterRouter(context,
                         conciergeConfig.getClusterConfig().getNumberOfShards());
 
-        context.actorOf(DispatcherActor.props(pubSubMediator, conciergeEnforcerRouter), DispatcherActor.ACTOR_NAME);
+        final BatchedRetrieveThingEnforcement batchedRetrieveThingEnforcement =
+                new BatchedRetrieveThingEnforcement(thingsShardRegionProxy, thingIdCache, policyEnforcerCache,
+                        preEnforcer, conciergeConfig.getEnforcementConfig().getAskTimeout());
+        final Props thingsAggregatorProps =
+                ThingsAggregatorActor.props(conciergeEnforcerRouter, batchedRetrieveThingEnforcement);
+        context.actorOf(DispatcherActor.props(pubSubMediator, thingsAggregatorProps), DispatcherActor.ACTOR_NAME);
 
         final ActorRef conciergeForwarder =
                 context.actorOf(ConciergeForwarderActor.props(pubSubMediator, conciergeEnforcerRouter),
@@ -34,6 +34,7 @@ import org.mozilla.javascript.Scriptable;
 
 /**
  * This mapper executes its mapping methods on the <b>current thread</b>. The caller should be aware of that.
+ * Its mapping methods may be called by several threads at once, each of them uses its own JavaScript scope.
  */
 @PayloadMapper(
         alias = {"JavaScript",
@@ -89,12 +90,10 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
                 javaScriptConfig.getMaxScriptStackDepth());
 
         try {
-            // create scope once and load the required libraries in order to get best performance:
-            contextFactory.call(cx -> {
-                final Scriptable scope = cx.initSafeStandardObjects(); // that one disables "print, exit, quit", etc.
-                initLibraries(cx, scope);
-                return scope;
-            });
+            // create a scope and load the required libraries once in order to validate the scripts, further scopes
+            // are only created for mappings running in parallel:
+            final ScopePool scopePool = new ScopePool(this::createScope, contextFactory.call(this::createScope));
+            initMappings(scopePool);
         } catch (final RhinoException e) {
             final boolean sourceExists = e.lineSource() != null && !e.lineSource().isEmpty();
             final String lineSource = sourceExists ? (", source:\n" + e.lineSource()) : "";
@@ -117,6 +116,28 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
         return outgoingMapping.apply(adaptable);
     }
 
+    private Scriptable createScope(final Context cx) {
+        final Scriptable scope = cx.initSafeStandardObjects(); // that one disables "print, exit, quit", etc.
+        initLibraries(cx, scope);
+        return scope;
+    }
+
+    private void initMappings(final ScopePool scopePool) {
+        if (getUserIncomingScript().isEmpty()) {
+            // shortcut: the user defined an empty incoming mapping script -> assume that the ExternalMessage is in DittoProtocol
+            incomingMapping = DefaultIncomingMapping.get();
+        } else {
+            incomingMapping = new ScriptedIncomingMapping(contextFactory, scopePool);
+        }
+
+        if (getUserOutgoingScript().isEmpty()) {
+            // shortcut: the user defined an empty outgoing mapping script -> send the Adaptable as DittoProtocol JSON
+            outgoingMapping = DefaultOutgoingMapping.get();
+        } else {
+            outgoingMapping = new ScriptedOutgoingMapping(contextFactory, scopePool);
+        }
+    }
+
     private void initLibraries(final Context cx, final Scriptable scope) {
         if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadLongJS).orElse(false)) {
             loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_LONG)),
@@ -134,31 +155,31 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
         loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(OUTGOING_SCRIPT)),
                 OUTGOING_SCRIPT);
 
-        final String userIncomingScript = getConfiguration()
-                .flatMap(JavaScriptMessageMapperConfiguration::getIncomingScript)
-                .orElse("");
-        if (userIncomingScript.isEmpty()) {
-            // shortcut: the user defined an empty incoming mapping script -> assume that the ExternalMessage is in DittoProtocol
-            incomingMapping = DefaultIncomingMapping.get();
-        } else {
-            incomingMapping = new ScriptedIncomingMapping(contextFactory, scope);
+        final String userIncomingScript = getUserIncomingScript();
+        if (!userIncomingScript.isEmpty()) {
             cx.evaluateString(scope, userIncomingScript,
                     JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT, 1, null);
         }
 
-        final String userOutgoingScript = getConfiguration()
-                .flatMap(JavaScriptMessageMapperConfiguration::getOutgoingScript)
-                .orElse("");
-        if (userOutgoingScript.isEmpty()) {
-            // shortcut: the user defined an empty outgoing mapping script -> send the Adaptable as DittoProtocol JSON
-            outgoingMapping = DefaultOutgoingMapping.get();
-        } else {
-            outgoingMapping = new ScriptedOutgoingMapping(contextFactory, scope);
+        final String userOutgoingScript = getUserOutgoingScript();
+        if (!userOutgoingScript.isEmpty()) {
             cx.evaluateString(scope, userOutgoingScript,
                     JavaScriptMessageMapperConfigurationProperties.OUTGOING_SCRIPT, 1, null);
         }
     }
 
+    private String getUserIncomingScript() {
+        return getConfiguration()
+                .flatMap(JavaScriptMessageMapperConfiguration::getIncomingScript)
+                .orElse("");
+    }
+
+    private String getUserOutgoingScript() {
+        return getConfiguration()
+                .flatMap(JavaScriptMessageMapperConfiguration::getOutgoingScript)
+                .orElse("");
+    }
+
     private Optional<JavaScriptMessageMapperConfiguration> getConfiguration() {
         return Optional.ofNullable(configuration);
     }
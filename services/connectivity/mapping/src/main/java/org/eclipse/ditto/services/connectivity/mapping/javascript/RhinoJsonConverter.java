@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.mozilla.javascript.Callable;
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.NativeArray;
+import org.mozilla.javascript.NativeJSON;
+import org.mozilla.javascript.NativeObject;
+import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.ScriptableObject;
+import org.mozilla.javascript.Symbol;
+import org.mozilla.javascript.Undefined;
+
+/**
+ * Converts between Rhino's JavaScript values and {@link JsonValue}s without rendering and re-parsing a JSON string.
+ * The conversion follows the semantics of {@code JSON.stringify} and {@code JSON.parse}: object properties with
+ * {@code undefined}, function or symbol values are omitted, such array elements become {@code null} and
+ * non-finite numbers become {@code null}.
+ * Values which are neither primitives nor plain objects or arrays, e.g. dates or objects with a {@code toJSON}
+ * function, are still converted with {@link NativeJSON#stringify(Context, Scriptable, Object, Object, Object)}.
+ */
+final class RhinoJsonConverter {
+
+    private static final String TO_JSON = "toJSON";
+    private static final double MAX_LONG_AS_DOUBLE = 0x1p63;
+
+    private RhinoJsonConverter() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Converts the given JavaScript value to a JSON value. An {@code undefined} value is converted to the JSON
+     * {@code null} literal.
+     *
+     * @param cx the current Rhino context.
+     * @param scope the scope the value was created in.
+     * @param value the JavaScript value.
+     * @return the JSON value.
+     * @throws IllegalArgumentException if the value contains a cyclic reference.
+     */
+    static JsonValue toJsonValue(final Context cx, final Scriptable scope, @Nullable final Object value) {
+        final JsonValue result = new ToJsonWalker(cx, scope).convert(value);
+        return null != result ? result : JsonFactory.nullLiteral();
+    }
+
+    /**
+     * Converts the given JSON value to the JavaScript value {@code JSON.parse} would create for its string
+     * representation.
+     *
+     * @param cx the current Rhino context.
+     * @param scope the scope to create objects and arrays in.
+     * @param jsonValue the JSON value.
+     * @return the JavaScript value.
+     */
+    @Nullable
+    static Object toRhinoValue(final Context cx, final Scriptable scope, final JsonValue jsonValue) {
+        if (jsonValue.isNull()) {
+            return null;
+        } else if (jsonValue.isBoolean()) {
+            return jsonValue.asBoolean();
+        } else if (jsonValue.isString()) {
+            return jsonValue.asString();
+        } else if (jsonValue.isNumber()) {
+            return toRhinoNumber(jsonValue);
+        } else if (jsonValue.isArray()) {
+            final JsonArray jsonArray = jsonValue.asArray();
+            final Object[] elements = new Object[jsonArray.getSize()];
+            int index = 0;
+            for (final JsonValue element : jsonArray) {
+                elements[index++] = toRhinoValue(cx, scope, element);
+            }
+            return cx.newArray(scope, elements);
+        } else {
+            final Scriptable object = cx.newObject(scope);
+            for (final JsonField field : jsonValue.asObject()) {
+                final String key = field.getKeyName();
+                final Object propertyValue = toRhinoValue(cx, scope, field.getValue());
+                final int arrayIndex = toArrayIndex(key);
+                if (arrayIndex < 0) {
+                    object.put(key, object, propertyValue);
+                } else {
+                    object.put(arrayIndex, object, propertyValue);
+                }
+            }
+            return object;
+        }
+    }
+
+    private static Number toRhinoNumber(final JsonValue jsonValue) {
+        // like Rhino's JSON parser: integral numbers in int range become Integers, all others Doubles
+        if (jsonValue.isInt()) {
+            return jsonValue.asInt();
+        }
+        final double doubleValue = jsonValue.asDouble();
+        final int intValue = (int) doubleValue;
+        if (intValue == doubleValue) {
+            return intValue;
+        }
+        return doubleValue;
+    }
+
+    private static int toArrayIndex(final String key) {
+        final int length = key.length();
+        if (length == 0 || length > 10 || (length > 1 && key.charAt(0) == '0')) {
+            return -1;
+        }
+        long index = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = key.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index <= Integer.MAX_VALUE ? (int) index : -1;
+    }
+
+    /**
+     * Walks a JavaScript value depth first and keeps track of the objects on the current path to detect cycles,
+     * which {@code JSON.stringify} rejects as well.
+     */
+    private static final class ToJsonWalker {
+
+        private final Context cx;
+        private final Scriptable scope;
+        private final Deque<Object> path;
+
+        private ToJsonWalker(final Context cx, final Scriptable scope) {
+            this.cx = cx;
+            this.scope = scope;
+            path = new ArrayDeque<>();
+        }
+
+        /*
+         * Returns null for values which JSON.stringify treats as undefined.
+         */
+        @Nullable
+        private JsonValue convert(@Nullable final Object value) {
+            if (null == value) {
+                return JsonFactory.nullLiteral();
+            } else if (value instanceof Undefined || value instanceof Symbol) {
+                return null;
+            } else if (value instanceof CharSequence) {
+                return JsonValue.of(value.toString());
+            } else if (value instanceof Boolean) {
+                return JsonValue.of((Boolean) value);
+            } else if (value instanceof Number) {
+                return convertNumber((Number) value);
+            } else if (value instanceof NativeArray) {
+                return convertArray((NativeArray) value);
+            } else if (value instanceof NativeObject && !hasToJsonFunction((NativeObject) value)) {
+                return convertObject((NativeObject) value);
+            } else if (value instanceof Callable) {
+                return null;
+            }
+            return stringifyAndParse(value);
+        }
+
+        private JsonValue convertNumber(final Number number) {
+            if (number instanceof Integer || number instanceof Short || number instanceof Byte) {
+                return JsonValue.of(number.intValue());
+            } else if (number instanceof Long) {
+                return JsonValue.of(number.longValue());
+            }
+            final double doubleValue = number.doubleValue();
+            if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+                return JsonFactory.nullLiteral();
+            }
+            // JavaScript renders integral numbers without fraction, which are then parsed as int or long
+            if (doubleValue == Math.rint(doubleValue) && Math.abs(doubleValue) < MAX_LONG_AS_DOUBLE) {
+                final long longValue = (long) doubleValue;
+                final int intValue = (int) longValue;
+                return intValue == longValue ? JsonValue.of(intValue) : JsonValue.of(longValue);
+            }
+            return JsonValue.of(doubleValue);
+        }
+
+        private JsonArray convertArray(final NativeArray nativeArray) {
+            enter(nativeArray);
+            final JsonArrayBuilder arrayBuilder = JsonFactory.newArrayBuilder();
+            final long length = nativeArray.getLength();
+            for (int index = 0; index < length; index++) {
+                final Object element = nativeArray.get(index, nativeArray);
+                final JsonValue jsonElement = Scriptable.NOT_FOUND == element ? null : convert(element);
+                arrayBuilder.add(null != jsonElement ? jsonElement : JsonFactory.nullLiteral());
+            }
+            leave();
+            return arrayBuilder.build();
+        }
+
+        private JsonObject convertObject(final NativeObject nativeObject) {
+            enter(nativeObject);
+            final JsonObjectBuilder objectBuilder = JsonFactory.newObjectBuilder();
+            for (final Object id : nativeObject.getIds()) {
+                final Object propertyValue;
+                if (id instanceof Integer) {
+                    propertyValue = nativeObject.get((Integer) id, nativeObject);
+                } else {
+                    propertyValue = nativeObject.get(id.toString(), nativeObject);
+                }
+                final JsonValue jsonPropertyValue = convert(propertyValue);
+                if (null != jsonPropertyValue) {
+                    // set as field because the key must not be interpreted as JSON pointer
+                    objectBuilder.set(JsonFactory.newField(JsonFactory.newKey(id.toString()), jsonPropertyValue));
+                }
+            }
+            leave();
+            return objectBuilder.build();
+        }
+
+        private static boolean hasToJsonFunction(final NativeObject nativeObject) {
+            return ScriptableObject.getProperty(nativeObject, TO_JSON) instanceof Callable;
+        }
+
+        @Nullable
+        private JsonValue stringifyAndParse(final Object value) {
+            final Object jsonString = NativeJSON.stringify(cx, scope, value, null, null);
+            if (jsonString instanceof Undefined) {
+                return null;
+            }
+            return JsonFactory.readFrom(jsonString.toString());
+        }
+
+        private void enter(final Object value) {
+            for (final Object ancestor : path) {
+                if (ancestor == value) {
+                    throw new IllegalArgumentException("Cyclic object value can not be converted to JSON.");
+                }
+            }
+            path.push(value);
+        }
+
+        private void leave() {
+            path.pop();
+        }
+
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.Scriptable;
+
+/**
+ * Pool of initialized JavaScript scopes of one mapper. Rhino scopes are not thread-safe and mapping scripts may modify
+ * them, e.g. by assigning a global variable, so each scope is used by at most one mapping at a time. The pool grows up
+ * to the number of mappings running in parallel.
+ */
+@ThreadSafe
+final class ScopePool {
+
+    private final Function<Context, Scriptable> scopeFactory;
+    private final Queue<Scriptable> idleScopes;
+
+    /**
+     * Constructs a new ScopePool.
+     *
+     * @param scopeFactory creates a new initialized scope within the passed context.
+     * @param initialScope an initialized scope to start with.
+     */
+    ScopePool(final Function<Context, Scriptable> scopeFactory, final Scriptable initialScope) {
+        this.scopeFactory = scopeFactory;
+        idleScopes = new ConcurrentLinkedQueue<>();
+        idleScopes.add(initialScope);
+    }
+
+    /**
+     * Applies the function to a scope which is not used by any other thread meanwhile.
+     *
+     * @param cx the current context, used to create a new scope if all scopes are in use.
+     * @param function the function to apply.
+     * @param <T> the type of the result.
+     * @return the result of the function.
+     */
+    <T> T withScope(final Context cx, final Function<Scriptable, T> function) {
+        Scriptable scope = idleScopes.poll();
+        if (null == scope) {
+            scope = scopeFactory.apply(cx);
+        }
+        try {
+            return function.apply(scope);
+        } finally {
+            idleScopes.add(scope);
+        }
+    }
+
+}
@@ -18,7 +18,6 @@ import java.util.List;
 
 import javax.annotation.Nullable;
 
-import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -29,7 +28,6 @@ import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.mozilla.javascript.Context;
 import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.NativeArray;
-import org.mozilla.javascript.NativeJSON;
 import org.mozilla.javascript.NativeObject;
 import org.mozilla.javascript.RhinoException;
 import org.mozilla.javascript.Scriptable;
@@ -50,17 +48,18 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
     @Nullable
     private ContextFactory contextFactory;
     @Nullable
-    private Scriptable scope;
+    private ScopePool scopePool;
 
-    ScriptedIncomingMapping(@Nullable final ContextFactory contextFactory, @Nullable final Scriptable scope) {
+    ScriptedIncomingMapping(@Nullable final ContextFactory contextFactory, @Nullable final ScopePool scopePool) {
         this.contextFactory = contextFactory;
-        this.scope = scope;
+        this.scopePool = scopePool;
     }
 
     @Override
     public List<Adaptable> apply(final ExternalMessage message) {
         try {
-            return contextFactory.call(cx -> {
+            // a scope is not thread-safe, so each mapping running in parallel uses its own one
+            return contextFactory.call(cx -> scopePool.withScope(cx, scope -> {
                 final NativeObject externalMessage = mapExternalMessageToNativeObject(message);
 
                 final org.mozilla.javascript.Function
@@ -79,13 +78,13 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
                     for (Object idxObj : jsArray.getIds()) {
                         int index = (Integer) idxObj;
                         final Object element = jsArray.get(index, null);
-                        list.add(getAdaptableFromObject(cx, element));
+                        list.add(getAdaptableFromObject(cx, scope, element));
                     }
                     return list;
                 }
 
-                return Collections.singletonList(getAdaptableFromObject(cx, result));
-            });
+                return Collections.singletonList(getAdaptableFromObject(cx, scope, result));
+            }));
         } catch (final RhinoException e) {
             throw buildMessageMappingFailedException(e, message.findContentType().orElse(""),
                     DittoHeaders.of(message.getHeaders()));
@@ -122,11 +121,11 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
         return externalMessage;
     }
 
-    private Adaptable getAdaptableFromObject(final Context cx, final Object result) {
-        final String dittoProtocolJsonStr = (String) NativeJSON.stringify(cx, scope, result, null, null);
+    private static Adaptable getAdaptableFromObject(final Context cx, final Scriptable scope,
+            final Object result) {
 
         return DittoJsonException.wrapJsonRuntimeException(() -> {
-            final JsonObject jsonObject = JsonFactory.readFrom(dittoProtocolJsonStr).asObject();
+            final JsonObject jsonObject = RhinoJsonConverter.toJsonValue(cx, scope, result).asObject();
             return ProtocolFactory.jsonifiableAdaptableFromJson(jsonObject);
         });
     }
@@ -36,14 +36,10 @@ import org.eclipse.ditto.services.connectivity.mapping.MessageMapper;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageBuilder;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
-import org.mozilla.javascript.Callable;
-import org.mozilla.javascript.Context;
 import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.NativeArray;
-import org.mozilla.javascript.NativeJSON;
 import org.mozilla.javascript.NativeObject;
 import org.mozilla.javascript.RhinoException;
-import org.mozilla.javascript.Scriptable;
 import org.mozilla.javascript.Undefined;
 import org.mozilla.javascript.typedarrays.NativeArrayBuffer;
 
@@ -60,20 +56,21 @@ public final class ScriptedOutgoingMapping implements MappingFunction<Adaptable,
     private static final String OUTGOING_FUNCTION_NAME = "mapFromDittoProtocolMsgWrapper";
 
     @Nullable private final ContextFactory contextFactory;
-    @Nullable private final Scriptable scope;
+    @Nullable private final ScopePool scopePool;
 
-    ScriptedOutgoingMapping(@Nullable final ContextFactory contextFactory, @Nullable final Scriptable scope) {
+    ScriptedOutgoingMapping(@Nullable final ContextFactory contextFactory, @Nullable final ScopePool scopePool) {
         this.contextFactory = contextFactory;
-        this.scope = scope;
+        this.scopePool = scopePool;
     }
 
     @Override
     public List<ExternalMessage> apply(final Adaptable adaptable) {
         try {
             final JsonifiableAdaptable jsonifiableAdaptable = ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable);
-            return contextFactory.call(cx -> {
+            // a scope is not thread-safe, so each mapping running in parallel uses its own one
+            return contextFactory.call(cx -> scopePool.withScope(cx, scope -> {
                 final Object dittoProtocolMessage =
-                        NativeJSON.parse(cx, scope, jsonifiableAdaptable.toJsonString(), new NullCallable());
+                        RhinoJsonConverter.toRhinoValue(cx, scope, jsonifiableAdaptable.toJson());
 
                 final org.mozilla.javascript.Function mapFromDittoProtocolMsgWrapper =
                         (org.mozilla.javascript.Function) scope.get(OUTGOING_FUNCTION_NAME, scope);
@@ -95,7 +92,7 @@ public final class ScriptedOutgoingMapping implements MappingFunction<Adaptable,
                     return list;
                 }
                 return Collections.singletonList(getExternalMessageFromObject(adaptable, (NativeObject) result));
-            });
+            }));
         } catch (final RhinoException e) {
             throw buildMessageMappingFailedException(e, MessageMapper.findContentType(adaptable).orElse(""),
                     adaptable.getHeaders().orElseGet(DittoHeaders::empty));
@@ -179,13 +176,4 @@ public final class ScriptedOutgoingMapping implements MappingFunction<Adaptable,
         return Optional.empty();
     }
 
-    private static final class NullCallable implements Callable {
-
-        @Override
-        public Object call(final Context context, final Scriptable scope, final Scriptable holdable,
-                final Object[] objects) {
-            return objects[1];
-        }
-    }
-
 }
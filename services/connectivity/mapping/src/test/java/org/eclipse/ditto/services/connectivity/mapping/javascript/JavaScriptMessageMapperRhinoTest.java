@@ -16,11 +16,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
@@ -127,6 +132,33 @@ public final class JavaScriptMessageMapperRhinoTest {
                     "    );\n" +
                     "}";
 
+    private static final String MAPPING_INCOMING_WITH_GLOBAL =
+            "function mapToDittoProtocolMsg(\n" +
+                    "    headers,\n" +
+                    "    textPayload,\n" +
+                    "    bytePayload,\n" +
+                    "    contentType\n" +
+                    ") {\n" +
+                    "\n" +
+                    "    // assigns a global variable on purpose\n" +
+                    "    value = textPayload;\n" +
+                    "    for (var i = 0; i < 1000; i++) {}\n" +
+                    "    let dittoHeaders = {};\n" +
+                    "    dittoHeaders[\"correlation-id\"] = headers[\"correlation-id\"];\n" +
+                    "\n" +
+                    "    return Ditto.buildDittoProtocolMsg(\n" +
+                    "        \"" + MAPPING_INCOMING_NAMESPACE + "\",\n" +
+                    "        \"" + MAPPING_INCOMING_ID + "\",\n" +
+                    "        \"things\",\n" +
+                    "        \"twin\",\n" +
+                    "        \"commands\",\n" +
+                    "        \"modify\",\n" +
+                    "        \"" + MAPPING_INCOMING_PATH + "\",\n" +
+                    "        dittoHeaders,\n" +
+                    "        value\n" +
+                    "    );\n" +
+                    "}";
+
     private static final String MAPPING_OUTGOING_PLAIN = "function mapFromDittoProtocolMsg(\n" +
             "    namespace,\n" +
             "    id,\n" +
@@ -357,6 +389,7 @@ public final class JavaScriptMessageMapperRhinoTest {
     private static MessageMapper javaScriptRhinoMapperEmpty;
     private static MessageMapper javaScriptRhinoMapperBinary;
     private static MessageMapper javaScriptRhinoMapperDefault;
+    private static MessageMapper javaScriptRhinoMapperWithGlobal;
 
     @BeforeClass
     public static void setup() {
@@ -413,6 +446,15 @@ public final class JavaScriptMessageMapperRhinoTest {
                         .outgoingScript(MAPPING_OUTGOING_DEFAULT)
                         .build()
         );
+
+        javaScriptRhinoMapperWithGlobal = JavaScriptMessageMapperFactory.createJavaScriptMessageMapperRhino();
+        javaScriptRhinoMapperWithGlobal.configure(MAPPING_CONFIG,
+                JavaScriptMessageMapperFactory
+                        .createJavaScriptMessageMapperConfigurationBuilder("global", Collections.emptyMap())
+                        .incomingScript(MAPPING_INCOMING_WITH_GLOBAL)
+                        .outgoingScript(MAPPING_OUTGOING_PLAIN)
+                        .build()
+        );
     }
 
     @Test
@@ -756,6 +798,39 @@ public final class JavaScriptMessageMapperRhinoTest {
     }
 
     @Nullable
+    @Test
+    public void testConcurrentIncomingMappingsWithGlobalVariableDoNotInterfere() throws Exception {
+        final int numberOfThreads = 8;
+        final int mappingsPerThread = 50;
+        final ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+        try {
+            final List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int thread = 0; thread < numberOfThreads; thread++) {
+                final int threadNumber = thread;
+                futures.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < mappingsPerThread; i++) {
+                        final String payload = "payload-" + threadNumber + "-" + i;
+                        final Map<String, String> headers = new HashMap<>();
+                        headers.put(HEADER_CORRELATION_ID, UUID.randomUUID().toString());
+                        headers.put(ExternalMessage.CONTENT_TYPE_HEADER, CONTENT_TYPE_PLAIN);
+                        final ExternalMessage message = ExternalMessageFactory.newExternalMessageBuilder(headers)
+                                .withText(payload)
+                                .build();
+
+                        final List<Adaptable> adaptables = javaScriptRhinoMapperWithGlobal.map(message);
+
+                        assertThat(adaptables).hasSize(1);
+                        assertThat(adaptables.get(0).getPayload().getValue()).contains(JsonValue.of(payload));
+                    }
+                }, executorService));
+            }
+
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
     private static String byteBuffer2String(@Nullable final ByteBuffer buf) {
         if (buf == null) {
             return null;
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.NativeJSON;
+import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.ScriptableObject;
+
+/**
+ * Unit test for {@link RhinoJsonConverter}.
+ */
+public final class RhinoJsonConverterTest {
+
+    private static final String JS_OBJECT = "({\n" +
+            "  string: 'hello',\n" +
+            "  concatenated: 'con' + 'cat',\n" +
+            "  integer: 42,\n" +
+            "  integralDouble: 5.0,\n" +
+            "  computedInt: 6 / 2,\n" +
+            "  longNumber: 1234567890123,\n" +
+            "  decimal: 3.14,\n" +
+            "  infinity: 1 / 0,\n" +
+            "  flag: true,\n" +
+            "  nullValue: null,\n" +
+            "  undefinedValue: undefined,\n" +
+            "  fn: function() { return 1; },\n" +
+            "  array: [1, 'two', null, undefined, function() {}, [3], {}],\n" +
+            "  nested: { deeper: { deepest: [] } },\n" +
+            "  date: new Date(0),\n" +
+            "  custom: { toJSON: function() { return 'custom'; } },\n" +
+            "  '1': 'index key',\n" +
+            "  'a/b': 'slash key'\n" +
+            "})";
+
+    private Context cx;
+    private Scriptable scope;
+
+    @Before
+    public void setUp() {
+        cx = Context.enter();
+        scope = cx.initSafeStandardObjects();
+    }
+
+    @After
+    public void tearDown() {
+        Context.exit();
+    }
+
+    @Test
+    public void toJsonValueIsEqualToParsedStringifiedValue() {
+        final Object jsObject = evaluate(JS_OBJECT);
+
+        final JsonValue converted = RhinoJsonConverter.toJsonValue(cx, scope, jsObject);
+
+        assertThat(converted).isEqualTo(stringifyAndParse(jsObject));
+        assertThat(converted.asObject().getValue("integralDouble")).contains(JsonValue.of(5));
+        assertThat(converted.asObject().getField("a/b")).isPresent();
+    }
+
+    @Test
+    public void primitivesAndUndefinedAreConverted() {
+        assertThat(RhinoJsonConverter.toJsonValue(cx, scope, evaluate("'text'"))).isEqualTo(JsonValue.of("text"));
+        assertThat(RhinoJsonConverter.toJsonValue(cx, scope, evaluate("2.5"))).isEqualTo(JsonValue.of(2.5));
+        assertThat(RhinoJsonConverter.toJsonValue(cx, scope, evaluate("undefined"))).isEqualTo(JsonValue.nullLiteral());
+    }
+
+    @Test
+    public void cyclicObjectIsRejected() {
+        final Object jsObject = evaluate("var o = { a: {} }; o.a.b = o; o");
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> RhinoJsonConverter.toJsonValue(cx, scope, jsObject));
+    }
+
+    @Test
+    public void sameObjectMayOccurTwice() {
+        final Object jsObject = evaluate("var shared = { x: 1 }; ({ a: shared, b: [shared] })");
+
+        assertThat(RhinoJsonConverter.toJsonValue(cx, scope, jsObject))
+                .isEqualTo(JsonFactory.readFrom("{\"a\":{\"x\":1},\"b\":[{\"x\":1}]}"));
+    }
+
+    @Test
+    public void toRhinoValueIsUsableLikeParsedValue() {
+        final JsonObject jsonObject = JsonFactory.newObject("{\"topic\":\"org.eclipse.ditto/thing/things/twin/" +
+                "events/modified\",\"headers\":{\"correlation-id\":\"4711\"},\"path\":\"/\",\"value\":{" +
+                "\"integer\":42,\"longNumber\":1234567890123,\"decimal\":3.14,\"flag\":false,\"null\":null,\"7\":\"index\"," +
+                "\"array\":[1,[2],{\"three\":3}]},\"revision\":1}");
+
+        final Object rhinoValue = RhinoJsonConverter.toRhinoValue(cx, scope, jsonObject);
+        ScriptableObject.putProperty(scope, "msg", rhinoValue);
+
+        assertThat(stringifyAndParse(rhinoValue)).isEqualTo(jsonObject);
+        assertThat(((Number) evaluate("msg.value.integer + 1")).intValue()).isEqualTo(43);
+        assertThat(((Number) evaluate("msg.value.array[2].three")).intValue()).isEqualTo(3);
+        assertThat(evaluate("msg.value['7']")).isEqualTo("index");
+        assertThat(evaluate("Array.isArray(msg.value.array)")).isEqualTo(true);
+        assertThat(evaluate("typeof msg.value.longNumber")).isEqualTo("number");
+    }
+
+    private Object evaluate(final String script) {
+        return cx.evaluateString(scope, script, "test", 1, null);
+    }
+
+    private JsonValue stringifyAndParse(final Object jsValue) {
+        return JsonFactory.readFrom((String) NativeJSON.stringify(cx, scope, jsValue, null, null));
+    }
+
+}
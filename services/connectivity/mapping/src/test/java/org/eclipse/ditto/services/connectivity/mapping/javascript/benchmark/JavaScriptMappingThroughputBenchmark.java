@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.protocoladapter.Adaptable;
+import org.eclipse.ditto.services.connectivity.mapping.MessageMapper;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark measuring the mapping throughput of a single connection with JavaScript mapping.
+ * In contrast to {@link JavaScriptMessageMapperRhinoBenchmark}, the message mappers are configured once per benchmark
+ * thread like they are once per connection, so that only the mapping of messages is measured.
+ * Run with {@code -t <n>} to simulate {@code n} connections mapping in parallel.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class JavaScriptMappingThroughputBenchmark {
+
+    @Param({"SimpleMapTextPayloadToDitto", "Test2ParseJsonPayloadToDitto", "Test4ConstructJsonPayloadToDitto"})
+    public String incomingScenario;
+
+    private MessageMapper incomingMessageMapper;
+    private ExternalMessage externalMessage;
+    private MessageMapper outgoingMessageMapper;
+    private Adaptable adaptable;
+
+    @Setup
+    public void setUp() {
+        final MapToDittoProtocolScenario toDittoScenario = createIncomingScenario(incomingScenario);
+        incomingMessageMapper = toDittoScenario.getMessageMapper();
+        externalMessage = toDittoScenario.getExternalMessage();
+
+        final MapFromDittoProtocolScenario fromDittoScenario = new SimpleMapThingEventFromDitto();
+        outgoingMessageMapper = fromDittoScenario.getMessageMapper();
+        adaptable = fromDittoScenario.getDittoAdaptable();
+    }
+
+    @Benchmark
+    public List<Adaptable> mapIncoming() {
+        return incomingMessageMapper.map(externalMessage);
+    }
+
+    @Benchmark
+    public List<ExternalMessage> mapOutgoing() {
+        return outgoingMessageMapper.map(adaptable);
+    }
+
+    private static MapToDittoProtocolScenario createIncomingScenario(final String scenarioName) {
+        switch (scenarioName) {
+            case "SimpleMapTextPayloadToDitto":
+                return new SimpleMapTextPayloadToDitto();
+            case "Test2ParseJsonPayloadToDitto":
+                return new Test2ParseJsonPayloadToDitto();
+            case "Test4ConstructJsonPayloadToDitto":
+                return new Test4ConstructJsonPayloadToDitto();
+            default:
+                throw new IllegalArgumentException("Unknown scenario: " + scenarioName);
+        }
+    }
+
+}
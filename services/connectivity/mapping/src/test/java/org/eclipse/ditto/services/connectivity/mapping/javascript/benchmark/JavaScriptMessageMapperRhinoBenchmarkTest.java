@@ -110,6 +110,21 @@ public class JavaScriptMessageMapperRhinoBenchmarkTest {
         );
     }
 
+    @Test
+    public void simpleMapThingEventFromDitto() {
+        final SimpleMapThingEventFromDitto scenario = new SimpleMapThingEventFromDitto();
+        final List<ExternalMessage> externalMessages =
+                scenario.getMessageMapper().map(scenario.getDittoAdaptable());
+
+        assertThat(externalMessages).hasSize(1);
+        final ExternalMessage externalMessage = externalMessages.get(0);
+        System.out.println(externalMessage);
+        assertThat(externalMessage.findContentType()).contains(SimpleMapThingEventFromDitto.CONTENT_TYPE);
+        assertThat(externalMessage.getTextPayload().map(JsonFactory::readFrom)).contains(JsonFactory.readFrom(
+                "{\"thingId\":\"org.eclipse.ditto:jmh-test\",\"temperature\":23.25,\"attributes\":" +
+                        "{\"manufacturer\":\"ACME\",\"serial\":4711,\"location\":{\"lat\":52.52,\"lon\":13.405}}}"));
+    }
+
     private List<Adaptable> runScenario(final MapToDittoProtocolScenario scenario) {
         final MessageMapper messageMapper = scenario.getMessageMapper();
         final ExternalMessage externalMessage = scenario.getExternalMessage();
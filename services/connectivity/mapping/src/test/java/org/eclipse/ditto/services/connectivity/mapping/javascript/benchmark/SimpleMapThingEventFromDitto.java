@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript.benchmark;
+
+import java.util.Collections;
+import java.util.UUID;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.protocoladapter.Adaptable;
+import org.eclipse.ditto.protocoladapter.DittoProtocolAdapter;
+import org.eclipse.ditto.services.connectivity.mapping.MessageMapper;
+import org.eclipse.ditto.services.connectivity.mapping.javascript.JavaScriptMessageMapperFactory;
+import org.eclipse.ditto.signals.events.things.ThingModified;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class SimpleMapThingEventFromDitto implements MapFromDittoProtocolScenario {
+
+    static final String CONTENT_TYPE = "application/json";
+
+    private static final String MAPPING_OUTGOING_JSON =
+            "function mapFromDittoProtocolMsg(\n" +
+                    "    namespace,\n" +
+                    "    id,\n" +
+                    "    group,\n" +
+                    "    channel,\n" +
+                    "    criterion,\n" +
+                    "    action,\n" +
+                    "    path,\n" +
+                    "    dittoHeaders,\n" +
+                    "    value,\n" +
+                    "    status\n" +
+                    ") {\n" +
+                    "\n" +
+                    "    // ###\n" +
+                    "    // Insert your mapping logic here\n" +
+                    "    let headers = {};\n" +
+                    "    headers['correlation-id'] = dittoHeaders['correlation-id'];\n" +
+                    "    let textPayload = JSON.stringify({\n" +
+                    "        thingId: namespace + \":\" + id,\n" +
+                    "        temperature: value.features.environment.properties.temperature,\n" +
+                    "        attributes: value.attributes\n" +
+                    "    });\n" +
+                    "    let bytePayload = null;\n" +
+                    "    let contentType = \"" + CONTENT_TYPE + "\";\n" +
+                    "    // ###\n" +
+                    "\n" +
+                    "    return Ditto.buildExternalMsg(\n" +
+                    "        headers,\n" +
+                    "        textPayload,\n" +
+                    "        bytePayload,\n" +
+                    "        contentType\n" +
+                    "    );\n" +
+                    "}";
+
+    private final Adaptable adaptable;
+
+    public SimpleMapThingEventFromDitto() {
+        final ThingId thingId = ThingId.of("org.eclipse.ditto", "jmh-test");
+        final Thing thing = Thing.newBuilder()
+                .setId(thingId)
+                .setAttribute(JsonPointer.of("manufacturer"), JsonValue.of("ACME"))
+                .setAttribute(JsonPointer.of("serial"), JsonValue.of(4711L))
+                .setAttribute(JsonPointer.of("location"), JsonFactory.newObject("{\"lat\":52.52,\"lon\":13.405}"))
+                .setFeatureProperty("environment", JsonPointer.of("temperature"), JsonValue.of(23.25))
+                .setFeatureProperty("environment", JsonPointer.of("humidity"), JsonValue.of(42))
+                .setFeatureProperty("environment", JsonPointer.of("history"),
+                        JsonFactory.newArray("[21.5, 22, 22.75, 23.25]"))
+                .build();
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .correlationId(UUID.randomUUID().toString())
+                .build();
+        adaptable = DittoProtocolAdapter.newInstance().toAdaptable(ThingModified.of(thing, 1L, dittoHeaders));
+    }
+
+    @Override
+    public MessageMapper getMessageMapper() {
+        final MessageMapper javaScriptRhinoMapper = JavaScriptMessageMapperFactory.createJavaScriptMessageMapperRhino();
+        javaScriptRhinoMapper.configure(MapToDittoProtocolScenario.MAPPING_CONFIG,
+                JavaScriptMessageMapperFactory
+                        .createJavaScriptMessageMapperConfigurationBuilder("json", Collections.emptyMap())
+                        .outgoingScript(MAPPING_OUTGOING_JSON)
+                        .build()
+        );
+        return javaScriptRhinoMapper;
+    }
+
+    @Override
+    public Adaptable getDittoAdaptable() {
+        return adaptable;
+    }
+}
@@ -1177,7 +1177,8 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
          * same Thing may be processed out-of-order if the mapping of the first message takes longer than the
          * mapping of the second message.
          * This however will also limit throughput as the used hashing key is often connection source address based
-         * and does not yet "know" of the Thing ID.
+         * and does not yet "know" of the Thing ID. Therefore each pooled instance maps the messages it receives in
+         * parallel and only preserves their order as configured in "ditto.connectivity.mapping-processor".
          */
         return getContext().actorOf(new ConsistentHashingPool(connection.getProcessorPoolSize())
                 .withDispatcher("message-mapping-processor-dispatcher")
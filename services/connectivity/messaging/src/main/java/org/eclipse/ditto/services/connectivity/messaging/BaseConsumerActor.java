@@ -24,7 +24,9 @@ import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
 import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
 import org.eclipse.ditto.model.connectivity.ResourceStatus;
 import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.services.connectivity.messaging.config.ConnectivityConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
+import org.eclipse.ditto.services.connectivity.messaging.config.MappingProcessorConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.MonitoringConfig;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.DefaultConnectionMonitorRegistry;
@@ -39,6 +41,11 @@ import akka.routing.ConsistentHashingRouter;
 
 /**
  * Base class for consumer actors that holds common fields and handles the address status.
+ * <p>
+ * Consumed messages are sent to the message mapping processor actors, which acknowledge each of them once it was
+ * mapped. A consumer with {@link MappingProcessorConfig#getMaxInFlightPerConsumer()} unacknowledged messages pauses
+ * consuming from its source until half of them were acknowledged.
+ * </p>
  */
 public abstract class BaseConsumerActor extends AbstractActorWithTimers {
 
@@ -48,8 +55,11 @@ public abstract class BaseConsumerActor extends AbstractActorWithTimers {
     protected final ConnectionId connectionId;
 
     private final ActorRef messageMappingProcessor;
+    private final int maxInFlight;
 
     @Nullable private ResourceStatus resourceStatus;
+    private int inFlight;
+    private boolean consumptionPaused;
 
 
     protected BaseConsumerActor(final ConnectionId connectionId, final String sourceAddress,
@@ -60,16 +70,27 @@ public abstract class BaseConsumerActor extends AbstractActorWithTimers {
         this.source = checkNotNull(source, "source");
         resetResourceStatus();
 
-        final MonitoringConfig monitoringConfig = DittoConnectivityConfig.of(
+        final ConnectivityConfig connectivityConfig = DittoConnectivityConfig.of(
                 DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
-        ).getMonitoringConfig();
+        );
+        final MonitoringConfig monitoringConfig = connectivityConfig.getMonitoringConfig();
+        maxInFlight = connectivityConfig.getMappingProcessorConfig().getMaxInFlightPerConsumer();
+        inFlight = 0;
+        consumptionPaused = false;
 
         inboundMonitor = DefaultConnectionMonitorRegistry.fromConfig(monitoringConfig)
                 .forInboundConsumed(connectionId, sourceAddress);
     }
 
     protected void forwardToMappingActor(final ExternalMessage message, final String hashKey) {
-        doForwardToMappingActor(addReplyTarget(message), hashKey);
+        final Object envelope = new ConsistentHashingRouter.ConsistentHashableEnvelope(
+                new MessageMappingProcessorActor.ConsumedMessage(addReplyTarget(message)), hashKey);
+        messageMappingProcessor.tell(envelope, getSelf());
+        inFlight++;
+        if (!consumptionPaused && inFlight >= maxInFlight) {
+            consumptionPaused = true;
+            pauseConsumption();
+        }
     }
 
     protected void forwardToMappingActor(final DittoRuntimeException message, final String hashKey) {
@@ -81,6 +102,43 @@ public abstract class BaseConsumerActor extends AbstractActorWithTimers {
         messageMappingProcessor.forward(envelope, getContext());
     }
 
+    /**
+     * Handles the acknowledgement of a message mapping processor actor that a consumed message was mapped.
+     *
+     * @param consumedMessageMapped the acknowledgement.
+     */
+    protected void handleConsumedMessageMapped(
+            final MessageMappingProcessorActor.ConsumedMessageMapped consumedMessageMapped) {
+
+        inFlight--;
+        if (consumptionPaused && inFlight <= maxInFlight / 2) {
+            consumptionPaused = false;
+            resumeConsumption();
+        }
+    }
+
+    /**
+     * @return whether consuming from the source is paused because too many consumed messages were not mapped yet.
+     */
+    protected boolean isConsumptionPaused() {
+        return consumptionPaused;
+    }
+
+    /**
+     * Pauses consuming from the source because too many consumed messages were not mapped yet. Consumers whose
+     * protocol cannot pause keep consuming, their messages wait in the message mapping processor actors.
+     */
+    protected void pauseConsumption() {
+        // does nothing by default
+    }
+
+    /**
+     * Resumes consuming from the source after {@link #pauseConsumption()}, once enough consumed messages were mapped.
+     */
+    protected void resumeConsumption() {
+        // does nothing by default
+    }
+
     protected void resetResourceStatus() {
         resourceStatus = ConnectivityModelFactory.newSourceStatus(getInstanceIdentifier(),
                 ConnectivityStatus.OPEN, sourceAddress, "Started at " + Instant.now());
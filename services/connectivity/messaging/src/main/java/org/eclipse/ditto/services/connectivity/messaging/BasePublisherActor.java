@@ -38,7 +38,7 @@ import org.eclipse.ditto.model.connectivity.ResourceStatus;
 import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.model.placeholders.ExpressionResolver;
-import org.eclipse.ditto.model.placeholders.PlaceholderFilter;
+import org.eclipse.ditto.model.placeholders.ExpressionTemplate;
 import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.MonitoringConfig;
 import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
@@ -77,6 +77,7 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
     protected final ConnectionMonitor responseDroppedMonitor;
     private final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry;
     private final List<Optional<ReplyTarget>> replyTargets;
+    private final ExpressionTemplateCache expressionTemplates;
 
     protected BasePublisherActor(final Connection connection) {
         checkNotNull(connection, "connection");
@@ -98,6 +99,7 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
         connectionLogger =
                 ConnectionLoggerRegistry.fromConfig(monitoringConfig.logger()).forConnection(this.connectionId);
         replyTargets = connection.getSources().stream().map(Source::getReplyTarget).collect(Collectors.toList());
+        expressionTemplates = new ExpressionTemplateCache();
     }
 
     private static String getInstanceIdentifier() {
@@ -125,12 +127,14 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
                             final ExpressionResolver expressionResolver = Resolvers.forOutbound(outbound);
                             final String address = replyTarget.getAddress();
                             final Optional<T> resolvedAddress =
-                                    resolveTargetAddress(expressionResolver, address).map(this::toPublishTarget);
+                                    resolveTargetAddress(expressionTemplates, expressionResolver, address)
+                                            .map(this::toPublishTarget);
 
                             if (resolvedAddress.isPresent()) {
                                 final HeaderMapping headerMapping = replyTarget.getHeaderMapping().orElse(null);
                                 final ExternalMessage responseWithMappedHeaders =
-                                        applyHeaderMapping(expressionResolver, outbound, headerMapping, log());
+                                        applyHeaderMapping(expressionTemplates, expressionResolver, outbound,
+                                                headerMapping, log());
                                 publishResponseOrError(resolvedAddress.get(), outbound, responseWithMappedHeaders);
                             } else {
                                 log().debug("Response dropped, reply-target address unresolved: <{}>", address);
@@ -164,11 +168,12 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
                                         target.getOriginalAddress());
                         final HeaderMapping headerMapping = target.getHeaderMapping().orElse(null);
                         catchHeaderMappingException(publishedMonitor, outboundSource, () ->
-                                resolveTargetAddress(resolver, target.getAddress())
+                                resolveTargetAddress(expressionTemplates, resolver, target.getAddress())
                                         .map(this::toPublishTarget)
                                         .ifPresent(publishTarget -> {
                                             final ExternalMessage mappedMessage =
-                                                    applyHeaderMapping(resolver, outbound, headerMapping, log());
+                                                    applyHeaderMapping(expressionTemplates, resolver, outbound,
+                                                            headerMapping, log());
                                             publishMessage(target, publishTarget, mappedMessage, publishedMonitor);
                                         }));
                     });
@@ -277,10 +282,12 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
             final @Nullable HeaderMapping mapping,
             final DiagnosticLoggingAdapter log) {
 
-        return applyHeaderMapping(Resolvers.forOutbound(outboundSignal), outboundSignal, mapping, log);
+        return applyHeaderMapping(new ExpressionTemplateCache(), Resolvers.forOutbound(outboundSignal), outboundSignal,
+                mapping, log);
     }
 
-    private static ExternalMessage applyHeaderMapping(final ExpressionResolver expressionResolver,
+    private static ExternalMessage applyHeaderMapping(final ExpressionTemplateCache expressionTemplates,
+            final ExpressionResolver expressionResolver,
             final OutboundSignal.Mapped outboundSignal,
             final @Nullable HeaderMapping mapping,
             final DiagnosticLoggingAdapter log) {
@@ -293,7 +300,7 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
             final Signal<?> sourceSignal = outboundSignal.getSource();
 
             final Map<String, String> mappedHeaders = mapping.getMapping().entrySet().stream()
-                    .flatMap(e -> mapHeaderByResolver(expressionResolver, e.getValue())
+                    .flatMap(e -> mapHeaderByResolver(expressionTemplates.get(e.getValue()), expressionResolver)
                             .map(resolvedValue -> Stream.of(new AbstractMap.SimpleEntry<>(e.getKey(), resolvedValue)))
                             .orElseGet(Stream::empty))
                     .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
@@ -307,16 +314,20 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
         return messageBuilder.build();
     }
 
-    private static Optional<String> mapHeaderByResolver(final ExpressionResolver resolver, final String value) {
-        return PlaceholderFilter.applyOrElseDelete(value, resolver);
+    private static Optional<String> mapHeaderByResolver(final ExpressionTemplate template,
+            final ExpressionResolver resolver) {
+
+        return template.resolve(resolver).toOptional();
     }
 
     /**
      * Resolve target address.
      * If not resolvable, the returned Optional will be empty.
      */
-    private static Optional<String> resolveTargetAddress(final ExpressionResolver resolver, final String value) {
-        return resolver.resolve(value).toOptional();
+    private static Optional<String> resolveTargetAddress(final ExpressionTemplateCache expressionTemplates,
+            final ExpressionResolver resolver, final String value) {
+
+        return expressionTemplates.get(value).resolve(resolver).toOptional();
     }
 
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.placeholders.ExpressionTemplate;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
+
+/**
+ * Keeps the parsed templates of a connection, i. e. addresses and header mappings, so that each template is parsed once
+ * and then only resolved for each message. The templates were validated when the connection was created, thus the
+ * number of cached templates is bounded by the configuration of the connection.
+ * Templates which fail to parse are not cached, resolving them throws the parse exception each time.
+ */
+@ThreadSafe
+final class ExpressionTemplateCache {
+
+    private final Map<String, ExpressionTemplate> templates;
+
+    ExpressionTemplateCache() {
+        templates = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the parsed template, parsing it if it was not requested before.
+     *
+     * @param template the template string.
+     * @return the parsed template.
+     * @throws org.eclipse.ditto.model.base.exceptions.DittoRuntimeException if the template is invalid.
+     */
+    ExpressionTemplate get(final String template) {
+        return templates.computeIfAbsent(template, PlaceholderFactory::newExpressionTemplate);
+    }
+
+}
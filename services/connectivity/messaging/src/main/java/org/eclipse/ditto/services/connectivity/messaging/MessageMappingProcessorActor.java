@@ -18,11 +18,19 @@ import static org.eclipse.ditto.model.connectivity.MetricType.MAPPED;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.AbstractMap;
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -41,6 +49,7 @@ import org.eclipse.ditto.model.connectivity.ConnectionSignalIdEnforcementFailedE
 import org.eclipse.ditto.model.connectivity.EnforcementFilter;
 import org.eclipse.ditto.model.connectivity.LogCategory;
 import org.eclipse.ditto.model.connectivity.LogType;
+import org.eclipse.ditto.model.connectivity.MessageMappingFailedException;
 import org.eclipse.ditto.model.connectivity.MetricDirection;
 import org.eclipse.ditto.model.connectivity.MetricType;
 import org.eclipse.ditto.model.connectivity.Target;
@@ -52,7 +61,9 @@ import org.eclipse.ditto.protocoladapter.TopicPath;
 import org.eclipse.ditto.services.base.config.limits.DefaultLimitsConfig;
 import org.eclipse.ditto.services.base.config.limits.LimitsConfig;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor.PublishMappedMessage;
+import org.eclipse.ditto.services.connectivity.messaging.config.ConnectivityConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
+import org.eclipse.ditto.services.connectivity.messaging.config.MappingProcessorConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.MonitoringConfig;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.DefaultConnectionMonitorRegistry;
@@ -64,22 +75,51 @@ import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignalFactory;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
+import org.eclipse.ditto.services.utils.tracing.TracingTags;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.base.CommandResponse;
 import org.eclipse.ditto.signals.commands.things.ThingErrorResponse;
 
+import akka.NotUsed;
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.actor.Status;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.japi.pf.ReceiveBuilder;
+import akka.stream.ActorMaterializer;
+import akka.stream.FlowShape;
+import akka.stream.OverflowStrategy;
+import akka.stream.QueueOfferResult;
+import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.GraphDSL;
+import akka.stream.javadsl.Merge;
+import akka.stream.javadsl.Partition;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.stream.javadsl.SourceQueueWithComplete;
 import scala.util.Either;
 import scala.util.Left;
 import scala.util.Right;
 
 /**
  * This Actor processes incoming {@link Signal}s and dispatches them.
+ * <p>
+ * The mapping of inbound {@link ExternalMessage}s and of outbound signals runs in a stream with bounded parallelism,
+ * so that a slow payload mapping does not block the messages received after it. The mapping results are dispatched
+ * by the actor again in the order configured by {@link MappingProcessorConfig#getOrdering()}. At most
+ * {@link MappingProcessorConfig#getBufferSize()} messages are in the mapping stream at once, further messages wait
+ * in the actor until a mapping finished, so no message is dropped.
+ * </p>
+ * <p>
+ * Consumer actors send their messages as {@link ConsumedMessage} and are answered with {@link ConsumedMessageMapped}
+ * once a message was mapped. They limit their unmapped messages to
+ * {@link MappingProcessorConfig#getMaxInFlightPerConsumer()}, which bounds the messages waiting in this actor.
+ * </p>
  */
 public final class MessageMappingProcessorActor extends AbstractActor {
 
@@ -88,6 +128,10 @@ public final class MessageMappingProcessorActor extends AbstractActor {
      */
     public static final String ACTOR_NAME = "messageMappingProcessor";
 
+    private static final String INBOUND = "inbound";
+    private static final String OUTBOUND = "outbound";
+    private static final String DIRECTION_TAG_NAME = "direction";
+
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
     private final ActorRef clientActor;
@@ -99,6 +143,17 @@ public final class MessageMappingProcessorActor extends AbstractActor {
     private final ConnectionMonitor responseDispatchedMonitor;
     private final ConnectionMonitor responseDroppedMonitor;
     private final ConnectionMonitor responseMappedMonitor;
+    private final MappingProcessorConfig mappingProcessorConfig;
+    private final Gauge mappingQueueSize;
+    private final Counter mappingRejectedCounter;
+    private final PreparedTimer inboundMappingLatency;
+    private final PreparedTimer outboundMappingLatency;
+    private final ExpressionTemplateCache headerMappingTemplates;
+
+    private final Deque<MappingTask<?>> waitingMappings;
+
+    @Nullable private SourceQueueWithComplete<MappingTask<?>> mappingQueue;
+    private int pendingMappings;
 
     @SuppressWarnings("unused")
     private MessageMappingProcessorActor(final ActorRef conciergeForwarder,
@@ -115,13 +170,29 @@ public final class MessageMappingProcessorActor extends AbstractActor {
                 DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
         );
 
-        final MonitoringConfig monitoringConfig = DittoConnectivityConfig.of(
+        final ConnectivityConfig connectivityConfig = DittoConnectivityConfig.of(
                 DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
-        ).getMonitoringConfig();
+        );
+        final MonitoringConfig monitoringConfig = connectivityConfig.getMonitoringConfig();
         this.connectionMonitorRegistry = DefaultConnectionMonitorRegistry.fromConfig(monitoringConfig);
         responseDispatchedMonitor = connectionMonitorRegistry.forResponseDispatched(connectionId);
         responseDroppedMonitor = connectionMonitorRegistry.forResponseDropped(connectionId);
         responseMappedMonitor = connectionMonitorRegistry.forResponseMapped(connectionId);
+
+        mappingProcessorConfig = connectivityConfig.getMappingProcessorConfig();
+        mappingQueueSize = DittoMetrics.gauge("connectivity_message_mapping_queue_size")
+                .tag(TracingTags.CONNECTION_ID, connectionId.toString());
+        mappingRejectedCounter = DittoMetrics.counter("connectivity_message_mapping_rejected")
+                .tag(TracingTags.CONNECTION_ID, connectionId.toString());
+        inboundMappingLatency = DittoMetrics.timer("connectivity_message_mapping_latency")
+                .tag(TracingTags.CONNECTION_ID, connectionId.toString())
+                .tag(DIRECTION_TAG_NAME, INBOUND);
+        outboundMappingLatency = DittoMetrics.timer("connectivity_message_mapping_latency")
+                .tag(TracingTags.CONNECTION_ID, connectionId.toString())
+                .tag(DIRECTION_TAG_NAME, OUTBOUND);
+        headerMappingTemplates = new ExpressionTemplateCache();
+        waitingMappings = new ArrayDeque<>();
+        pendingMappings = 0;
     }
 
     /**
@@ -142,9 +213,37 @@ public final class MessageMappingProcessorActor extends AbstractActor {
                 connectionId);
     }
 
+    @Override
+    public void preStart() {
+        final Executor mappingExecutor = getContext().getDispatcher();
+        final ActorRef self = getSelf();
+        // the actor never offers more tasks than fit into the buffer, so the overflow strategy does not apply
+        mappingQueue = Source.<MappingTask<?>>queue(mappingProcessorConfig.getBufferSize(), OverflowStrategy.dropNew())
+                .via(mappingFlow(mappingExecutor))
+                // send the mapped task with its original sender, so that the results are dispatched on its behalf
+                .to(Sink.foreach(mappedTask -> self.tell(mappedTask, mappedTask.sender)))
+                .run(ActorMaterializer.create(getContext()));
+    }
+
+    @Override
+    public void postStop() {
+        if (null != mappingQueue) {
+            mappingQueue.complete();
+        }
+        for (int i = 0; i < pendingMappings + waitingMappings.size(); i++) {
+            mappingQueueSize.decrement();
+        }
+        if (!waitingMappings.isEmpty()) {
+            log.warning("Stopping with <{}> messages waiting for being mapped.", waitingMappings.size());
+        }
+    }
+
     @Override
     public Receive createReceive() {
         return ReceiveBuilder.create()
+                .match(MappingTask.class, this::dispatchMappingResults)
+                .match(RejectedMappingTask.class, this::handleRejectedMappingTask)
+                .match(ConsumedMessage.class, this::handleConsumedMessage)
                 .match(ExternalMessage.class, this::handleInboundMessage)
                 .match(CommandResponse.class, this::handleCommandResponse)
                 .match(OutboundSignal.class, this::handleOutboundSignal)
@@ -158,15 +257,26 @@ public final class MessageMappingProcessorActor extends AbstractActor {
                 }).build();
     }
 
+    private void handleConsumedMessage(final ConsumedMessage consumedMessage) {
+        handleInboundMessage(consumedMessage.externalMessage, getSender());
+    }
+
     private void handleInboundMessage(final ExternalMessage externalMessage) {
+        handleInboundMessage(externalMessage, null);
+    }
+
+    private void handleInboundMessage(final ExternalMessage externalMessage,
+            @Nullable final ActorRef acknowledgementReceiver) {
+
         ConditionChecker.checkNotNull(externalMessage);
         final String correlationId = externalMessage.getHeaders().get(DittoHeaderDefinition.CORRELATION_ID.getKey());
         ConnectionLogUtil.enhanceLogWithCorrelationIdAndConnectionId(log, correlationId, connectionId);
         log.debug("Handling ExternalMessage: {}", externalMessage);
         try {
-            mapExternalMessageToSignalAndForwardToConcierge(externalMessage);
+            mapExternalMessageToSignalAndForwardToConcierge(externalMessage, acknowledgementReceiver);
         } catch (final Exception e) {
             handleException(e, externalMessage, getAuthorizationContext(externalMessage).orElse(null));
+            acknowledgeMapping(acknowledgementReceiver);
         }
     }
 
@@ -190,9 +300,15 @@ public final class MessageMappingProcessorActor extends AbstractActor {
         }
     }
 
-    private void mapExternalMessageToSignalAndForwardToConcierge(final ExternalMessage externalMessage) {
-        messageMappingProcessor.process(externalMessage,
-                handleMappingResult(externalMessage, getAuthorizationContextOrThrow(externalMessage)));
+    private void mapExternalMessageToSignalAndForwardToConcierge(final ExternalMessage externalMessage,
+            @Nullable final ActorRef acknowledgementReceiver) {
+
+        final MappingResultHandler<MappedInboundExternalMessage> resultHandler =
+                handleMappingResult(externalMessage, getAuthorizationContextOrThrow(externalMessage));
+        // the entity of an inbound message is only known after mapping, so it has no ordering key
+        enqueueMappingTask(new MappingTask<>(null, DittoHeaders.of(externalMessage.getHeaders()),
+                handler -> messageMappingProcessor.process(externalMessage, handler), resultHandler,
+                inboundMappingLatency, getSender(), acknowledgementReceiver));
     }
 
     private MappingResultHandler<MappedInboundExternalMessage> handleMappingResult(
@@ -364,7 +480,123 @@ public final class MessageMappingProcessorActor extends AbstractActor {
                 InfoProviderFactory.forSignal(outbound.getSource())
         );
 
-        messageMappingProcessor.process(outbound, outboundMappingResultHandler);
+        final Signal<?> source = outbound.getSource();
+        enqueueMappingTask(new MappingTask<>(source.getEntityId().toString(), source.getDittoHeaders(),
+                handler -> messageMappingProcessor.process(outbound, handler), outboundMappingResultHandler,
+                outboundMappingLatency, getSender(), null));
+    }
+
+    private void enqueueMappingTask(final MappingTask<?> mappingTask) {
+        mappingQueueSize.increment();
+        if (pendingMappings >= mappingProcessorConfig.getBufferSize() || !waitingMappings.isEmpty()) {
+            // wait for a running mapping to finish in order to keep the order of reception
+            waitingMappings.add(mappingTask);
+        } else {
+            offerMappingTask(mappingTask);
+        }
+    }
+
+    private void offerMappingTask(final MappingTask<?> mappingTask) {
+        pendingMappings++;
+        if (null == mappingQueue) {
+            getSelf().tell(new RejectedMappingTask(mappingTask), mappingTask.sender);
+        } else {
+            final ActorRef self = getSelf();
+            mappingQueue.offer(mappingTask).whenComplete((result, error) -> {
+                if (!QueueOfferResult.enqueued().equals(result)) {
+                    self.tell(new RejectedMappingTask(mappingTask), mappingTask.sender);
+                }
+            });
+        }
+    }
+
+    private void dispatchMappingResults(final MappingTask<?> mappingTask) {
+        mappingDone();
+        try {
+            mappingTask.dispatchResults();
+        } finally {
+            acknowledgeMapping(mappingTask.acknowledgementReceiver);
+        }
+    }
+
+    private void handleRejectedMappingTask(final RejectedMappingTask rejectedMappingTask) {
+        mappingDone();
+        final MappingTask<?> mappingTask = rejectedMappingTask.mappingTask;
+        mappingRejectedCounter.increment();
+        // the mapping stream only rejects tasks if it terminated, which is a bug or happens while stopping
+        log.error("Rejecting message as the mapping stream does not accept it, <{}> messages are waiting for " +
+                "being mapped.", waitingMappings.size());
+        final String contentType = mappingTask.dittoHeaders.getContentType().orElse(null);
+        mappingTask.reject(MessageMappingFailedException.newBuilder(contentType)
+                .description("The connection stopped mapping messages.")
+                .dittoHeaders(mappingTask.dittoHeaders)
+                .build());
+        acknowledgeMapping(mappingTask.acknowledgementReceiver);
+    }
+
+    private void mappingDone() {
+        pendingMappings--;
+        mappingQueueSize.decrement();
+        while (pendingMappings < mappingProcessorConfig.getBufferSize() && !waitingMappings.isEmpty()) {
+            offerMappingTask(waitingMappings.poll());
+        }
+    }
+
+    private void acknowledgeMapping(@Nullable final ActorRef acknowledgementReceiver) {
+        if (null != acknowledgementReceiver) {
+            acknowledgementReceiver.tell(ConsumedMessageMapped.INSTANCE, getSelf());
+        }
+    }
+
+    private Flow<MappingTask<?>, MappingTask<?>, NotUsed> mappingFlow(final Executor mappingExecutor) {
+        final int parallelism = mappingProcessorConfig.getParallelism();
+        switch (mappingProcessorConfig.getOrdering()) {
+            case STRICT:
+                return Flow.<MappingTask<?>>create()
+                        .mapAsync(parallelism, mappingTask -> mappingTask.map(mappingExecutor));
+            case NONE:
+                return Flow.<MappingTask<?>>create()
+                        .mapAsyncUnordered(parallelism, mappingTask -> mappingTask.map(mappingExecutor));
+            case PER_ENTITY:
+            default:
+                return partitionByOrderingKey(mappingExecutor, parallelism);
+        }
+    }
+
+    /**
+     * Partitions the mapping by consistent hashing of the ordering keys of the mapping tasks, so that the tasks of one
+     * entity are mapped sequentially and in order while the tasks of other entities are mapped in parallel.
+     * Tasks without ordering key are mapped in parallel in a separate lane which preserves their order.
+     */
+    private static Flow<MappingTask<?>, MappingTask<?>, NotUsed> partitionByOrderingKey(
+            final Executor mappingExecutor, final int parallelism) {
+
+        final int parallelismWithUnkeyedLane = parallelism + 1;
+
+        return Flow.fromGraph(GraphDSL.create(
+                Partition.<MappingTask<?>>create(parallelismWithUnkeyedLane, mappingTask -> {
+                    if (null == mappingTask.orderingKey) {
+                        return 0;
+                    } else {
+                        return Math.abs(mappingTask.orderingKey.hashCode() % parallelism) + 1;
+                    }
+                }),
+                Merge.<MappingTask<?>>create(parallelismWithUnkeyedLane, true),
+
+                (nA, nB) -> nA,
+                (builder, partition, merge) -> {
+                    builder.from(partition.out(0))
+                            .via(builder.add(Flow.<MappingTask<?>>create()
+                                    .mapAsync(parallelism, mappingTask -> mappingTask.map(mappingExecutor))))
+                            .toInlet(merge.in(0));
+                    for (int i = 1; i < parallelismWithUnkeyedLane; i++) {
+                        builder.from(partition.out(i))
+                                .via(builder.add(Flow.<MappingTask<?>>create()
+                                        .mapAsync(1, mappingTask -> mappingTask.map(mappingExecutor))))
+                                .toInlet(merge.in(i));
+                    }
+                    return FlowShape.of(partition.in(), merge.out());
+                }));
     }
 
     private Set<ConnectionMonitor> getMonitorsForDroppedSignal(final OutboundSignal outbound,
@@ -461,7 +693,9 @@ public final class MessageMappingProcessorActor extends AbstractActor {
                     final Map<String, String> mappedExternalHeaders = mapping.getMapping()
                             .entrySet()
                             .stream()
-                            .flatMap(e -> PlaceholderFilter.applyOrElseDelete(e.getValue(), expressionResolver)
+                            .flatMap(e -> headerMappingTemplates.get(e.getValue())
+                                    .resolve(expressionResolver)
+                                    .toOptional()
                                     .map(resolvedValue ->
                                             Stream.of(new AbstractMap.SimpleEntry<>(e.getKey(), resolvedValue)))
                                     .orElseGet(Stream::empty)
@@ -506,4 +740,121 @@ public final class MessageMappingProcessorActor extends AbstractActor {
         return builder;
     }
 
+    /**
+     * A message waiting for being mapped. The mapping runs outside of the actor and records its results, which are
+     * dispatched to the result handler by the actor afterwards.
+     *
+     * @param <T> the type of mapped messages.
+     */
+    private static final class MappingTask<T> {
+
+        @Nullable private final String orderingKey;
+        private final DittoHeaders dittoHeaders;
+        private final Consumer<MappingResultHandler<T>> mapping;
+        private final MappingResultHandler<T> resultHandler;
+        private final PreparedTimer latencyTimer;
+        private final ActorRef sender;
+        @Nullable private final ActorRef acknowledgementReceiver;
+        private final RecordingMappingResultHandler<T> recordedResults;
+        private final long startNanos;
+
+        private MappingTask(@Nullable final String orderingKey,
+                final DittoHeaders dittoHeaders,
+                final Consumer<MappingResultHandler<T>> mapping,
+                final MappingResultHandler<T> resultHandler,
+                final PreparedTimer latencyTimer,
+                final ActorRef sender,
+                @Nullable final ActorRef acknowledgementReceiver) {
+
+            this.orderingKey = orderingKey;
+            this.dittoHeaders = dittoHeaders;
+            this.mapping = mapping;
+            this.resultHandler = resultHandler;
+            this.latencyTimer = latencyTimer;
+            this.sender = sender;
+            this.acknowledgementReceiver = acknowledgementReceiver;
+            recordedResults = new RecordingMappingResultHandler<>();
+            startNanos = System.nanoTime();
+        }
+
+        private CompletionStage<MappingTask<?>> map(final Executor mappingExecutor) {
+            return CompletableFuture.runAsync(() -> mapping.accept(recordedResults), mappingExecutor)
+                    .handle((aVoid, error) -> {
+                        if (null != error) {
+                            recordedResults.onException(toException(error));
+                        }
+                        return this;
+                    });
+        }
+
+        private void dispatchResults() {
+            latencyTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            recordedResults.replayTo(resultHandler);
+        }
+
+        private void reject(final DittoRuntimeException exception) {
+            resultHandler.onException(exception);
+        }
+
+        private static Exception toException(final Throwable error) {
+            final Throwable cause = error instanceof CompletionException && null != error.getCause()
+                    ? error.getCause()
+                    : error;
+            return cause instanceof Exception ? (Exception) cause : new IllegalStateException(cause);
+        }
+
+    }
+
+    /**
+     * An {@link ExternalMessage} sent by a consumer actor, which is answered with {@link ConsumedMessageMapped} once
+     * the message was mapped.
+     */
+    public static final class ConsumedMessage {
+
+        private final ExternalMessage externalMessage;
+
+        /**
+         * Constructs a new ConsumedMessage object.
+         *
+         * @param externalMessage the consumed message.
+         * @throws NullPointerException if {@code externalMessage} is {@code null}.
+         */
+        public ConsumedMessage(final ExternalMessage externalMessage) {
+            this.externalMessage = ConditionChecker.checkNotNull(externalMessage, "externalMessage");
+        }
+
+        /**
+         * @return the consumed message.
+         */
+        public ExternalMessage getExternalMessage() {
+            return externalMessage;
+        }
+
+    }
+
+    /**
+     * Answer to a {@link ConsumedMessage} once it was mapped.
+     */
+    public enum ConsumedMessageMapped {
+
+        /**
+         * The single instance of this acknowledgement.
+         */
+        INSTANCE
+
+    }
+
+    /**
+     * Sent to the actor if a mapping task could not be enqueued into the mapping stream.
+     */
+    private static final class RejectedMappingTask {
+
+        private final MappingTask<?> mappingTask;
+
+        private RejectedMappingTask(final MappingTask<?> mappingTask) {
+            this.mappingTask = mappingTask;
+        }
+
+    }
+
 }
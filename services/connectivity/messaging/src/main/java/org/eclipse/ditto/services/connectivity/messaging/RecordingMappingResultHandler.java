@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * {@link MappingResultHandler} which records the results of a mapping in order to pass them to another handler later.
+ * This allows to map a message outside of an actor and to handle the results, which have side effects like sending
+ * messages or updating connection monitors, inside the actor again.
+ *
+ * @param <T> the type of mapped messages.
+ */
+@NotThreadSafe
+final class RecordingMappingResultHandler<T> implements MappingResultHandler<T> {
+
+    private final List<Consumer<MappingResultHandler<T>>> results;
+
+    RecordingMappingResultHandler() {
+        results = new ArrayList<>();
+    }
+
+    @Override
+    public void onMessageMapped(final T mappedMessage) {
+        results.add(handler -> handler.onMessageMapped(mappedMessage));
+    }
+
+    @Override
+    public void onMessageDropped() {
+        results.add(MappingResultHandler::onMessageDropped);
+    }
+
+    @Override
+    public void onException(final Exception ex) {
+        results.add(handler -> handler.onException(ex));
+    }
+
+    /**
+     * Passes all recorded results to the given handler in the order they were recorded.
+     *
+     * @param handler the handler to pass the results to.
+     */
+    void replayTo(final MappingResultHandler<T> handler) {
+        results.forEach(result -> result.accept(handler));
+    }
+
+}
@@ -45,6 +45,7 @@ import org.eclipse.ditto.model.connectivity.EnforcementFilterFactory;
 import org.eclipse.ditto.model.connectivity.ResourceStatus;
 import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
 import org.eclipse.ditto.services.connectivity.messaging.BaseConsumerActor;
+import org.eclipse.ditto.services.connectivity.messaging.MessageMappingProcessorActor;
 import org.eclipse.ditto.services.connectivity.messaging.amqp.status.ConsumerClosedStatusReport;
 import org.eclipse.ditto.services.connectivity.messaging.config.Amqp10Config;
 import org.eclipse.ditto.services.connectivity.messaging.config.ConnectionConfig;
@@ -143,6 +144,7 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
                 .match(RestartMessageConsumer.class, this::handleRestartMessageConsumer)
                 .match(JmsMessage.class, this::handleJmsMessage)
                 .match(ResourceStatus.class, this::handleAddressStatus)
+                .match(MessageMappingProcessorActor.ConsumedMessageMapped.class, this::handleConsumedMessageMapped)
                 .match(RetrieveAddressStatus.class, ras -> getSender().tell(getCurrentSourceStatus(), getSelf()))
                 .match(ConsumerClosedStatusReport.class, this::matchesOwnConsumer, this::handleConsumerClosed)
                 .match(CreateMessageConsumerResponse.class, this::messageConsumerCreated)
@@ -204,6 +206,18 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
         }
     }
 
+    @Override
+    protected void pauseConsumption() {
+        log.info("Stopping message consumer until the consumed messages were mapped.");
+        stopMessageConsumer();
+    }
+
+    @Override
+    protected void resumeConsumption() {
+        log.info("Restarting message consumer as the consumed messages were mapped.");
+        startMessageConsumer();
+    }
+
     private boolean isThrottlingEnabled() {
         return throttlingInterval.toMillis() > 0 && throttlingLimit > 0;
     }
@@ -296,7 +310,9 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
      */
     private void handleRestartMessageConsumer(final RestartMessageConsumer restartMessageConsumer) {
         final long delay = restartMessageConsumer.getRestartAt() - System.currentTimeMillis();
-        if (delay <= 25) { // restart message consumer immediately if delay is negative or too small to schedule
+        if (isConsumptionPaused()) {
+            log.debug("Not restarting message consumer as it waits for consumed messages being mapped.");
+        } else if (delay <= 25) { // restart message consumer immediately if delay is negative or too small to schedule
             log.debug("Restarting message consumer.");
             startMessageConsumer();
         } else { // otherwise schedule restarting of consumer
@@ -21,12 +21,13 @@ import org.eclipse.ditto.services.base.config.supervision.WithSupervisorConfig;
 import org.eclipse.ditto.services.utils.config.KnownConfigValue;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WithEventBatchConfig;
 
 /**
  * Provides configuration settings for Connectivity service's connection behaviour.
  */
 @Immutable
-public interface ConnectionConfig extends WithSupervisorConfig, WithActivityCheckConfig {
+public interface ConnectionConfig extends WithSupervisorConfig, WithActivityCheckConfig, WithEventBatchConfig {
 
     /**
      * Returns the amount of time for how long the connection actor waits for response from client actors.
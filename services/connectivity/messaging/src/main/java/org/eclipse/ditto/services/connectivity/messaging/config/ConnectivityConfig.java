@@ -42,6 +42,20 @@ public interface ConnectivityConfig extends ServiceSpecificConfig, WithHealthChe
      */
     MappingConfig getMappingConfig();
 
+    /**
+     * Returns the config for the mapping stream of Connectivity service's message mapping processor actors.
+     *
+     * @return the config.
+     */
+    MappingProcessorConfig getMappingProcessorConfig();
+
+    /**
+     * Returns the config for the stream which dispatches the outbound signals of a connection to its client actors.
+     *
+     * @return the config.
+     */
+    OutboundDispatchConfig getOutboundDispatchConfig();
+
     /**
      * Returns the config for Connectivity service's reconnect behaviour.
      *
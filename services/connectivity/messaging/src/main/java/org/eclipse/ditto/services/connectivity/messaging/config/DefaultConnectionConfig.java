@@ -25,7 +25,9 @@ import org.eclipse.ditto.services.base.config.supervision.SupervisorConfig;
 import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultEventBatchConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultSnapshotConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.EventBatchConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 
 import com.typesafe.config.Config;
@@ -42,6 +44,7 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
     private final Collection<String> blacklistedHostnames;
     private final SupervisorConfig supervisorConfig;
     private final SnapshotConfig snapshotConfig;
+    private final EventBatchConfig eventBatchConfig;
     private final Amqp10Config amqp10Config;
     private final MqttConfig mqttConfig;
     private final KafkaConfig kafkaConfig;
@@ -55,6 +58,7 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
         blacklistedHostnames = Collections.unmodifiableCollection(Arrays.asList(blacklistedHostnamesStr.split(",")));
         supervisorConfig = DefaultSupervisorConfig.of(config);
         snapshotConfig = DefaultSnapshotConfig.of(config);
+        eventBatchConfig = DefaultEventBatchConfig.of(config);
         amqp10Config = DefaultAmqp10Config.of(config);
         mqttConfig = DefaultMqttConfig.of(config);
         kafkaConfig = DefaultKafkaConfig.of(config);
@@ -94,6 +98,11 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
         return snapshotConfig;
     }
 
+    @Override
+    public EventBatchConfig getEventBatchConfig() {
+        return eventBatchConfig;
+    }
+
     @Override
     public Amqp10Config getAmqp10Config() {
         return amqp10Config;
@@ -132,6 +141,7 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
                 Objects.equals(blacklistedHostnames, that.blacklistedHostnames) &&
                 Objects.equals(supervisorConfig, that.supervisorConfig) &&
                 Objects.equals(snapshotConfig, that.snapshotConfig) &&
+                Objects.equals(eventBatchConfig, that.eventBatchConfig) &&
                 Objects.equals(amqp10Config, that.amqp10Config) &&
                 Objects.equals(mqttConfig, that.mqttConfig) &&
                 Objects.equals(activityCheckConfig, that.activityCheckConfig) &&
@@ -141,8 +151,8 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
 
     @Override
     public int hashCode() {
-        return Objects.hash(clientActorAskTimeout, blacklistedHostnames, supervisorConfig, snapshotConfig, amqp10Config,
-                mqttConfig, kafkaConfig, activityCheckConfig, httpPushConfig);
+        return Objects.hash(clientActorAskTimeout, blacklistedHostnames, supervisorConfig, snapshotConfig,
+                eventBatchConfig, amqp10Config, mqttConfig, kafkaConfig, activityCheckConfig, httpPushConfig);
     }
 
     @Override
@@ -152,6 +162,7 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
                 ", blacklistedHostnames=" + blacklistedHostnames +
                 ", supervisorConfig=" + supervisorConfig +
                 ", snapshotConfig=" + snapshotConfig +
+                ", eventBatchConfig=" + eventBatchConfig +
                 ", amqp10Config=" + amqp10Config +
                 ", mqttConfig=" + mqttConfig +
                 ", kafkaConfig=" + kafkaConfig +
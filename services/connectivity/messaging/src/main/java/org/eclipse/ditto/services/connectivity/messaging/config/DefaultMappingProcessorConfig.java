@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.config;
+
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of the {@link MappingProcessorConfig}.
+ */
+@Immutable
+public final class DefaultMappingProcessorConfig implements MappingProcessorConfig {
+
+    private static final String CONFIG_PATH = "mapping-processor";
+
+    private final int parallelism;
+    private final int bufferSize;
+    private final int maxInFlightPerConsumer;
+    private final Ordering ordering;
+
+    private DefaultMappingProcessorConfig(final ScopedConfig config) {
+        parallelism = config.getPositiveIntOrThrow(MappingProcessorConfigValue.PARALLELISM);
+        bufferSize = config.getPositiveIntOrThrow(MappingProcessorConfigValue.BUFFER_SIZE);
+        maxInFlightPerConsumer = config.getPositiveIntOrThrow(MappingProcessorConfigValue.MAX_IN_FLIGHT_PER_CONSUMER);
+        final String orderingName = config.getString(MappingProcessorConfigValue.ORDERING.getConfigPath());
+        ordering = Ordering.forName(orderingName)
+                .orElseThrow(() -> new DittoConfigError("The ordering <" + orderingName + "> at <" +
+                        MappingProcessorConfigValue.ORDERING.getConfigPath() + "> is unknown!"));
+    }
+
+    /**
+     * Returns an instance of {@code DefaultMappingProcessorConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the mapping processor config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultMappingProcessorConfig of(final Config config) {
+        return new DefaultMappingProcessorConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, MappingProcessorConfigValue.values()));
+    }
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    @Override
+    public int getMaxInFlightPerConsumer() {
+        return maxInFlightPerConsumer;
+    }
+
+    @Override
+    public Ordering getOrdering() {
+        return ordering;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultMappingProcessorConfig that = (DefaultMappingProcessorConfig) o;
+        return parallelism == that.parallelism &&
+                bufferSize == that.bufferSize &&
+                maxInFlightPerConsumer == that.maxInFlightPerConsumer &&
+                ordering == that.ordering;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(parallelism, bufferSize, maxInFlightPerConsumer, ordering);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "parallelism=" + parallelism +
+                ", bufferSize=" + bufferSize +
+                ", maxInFlightPerConsumer=" + maxInFlightPerConsumer +
+                ", ordering=" + ordering +
+                "]";
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.config;
+
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of the {@link OutboundDispatchConfig}.
+ */
+@Immutable
+public final class DefaultOutboundDispatchConfig implements OutboundDispatchConfig {
+
+    private static final String CONFIG_PATH = "outbound-dispatch";
+
+    private final int parallelism;
+    private final int bufferSize;
+    private final int maxPendingSignals;
+
+    private DefaultOutboundDispatchConfig(final ScopedConfig config) {
+        parallelism = config.getPositiveIntOrThrow(OutboundDispatchConfigValue.PARALLELISM);
+        bufferSize = config.getPositiveIntOrThrow(OutboundDispatchConfigValue.BUFFER_SIZE);
+        maxPendingSignals = config.getInt(OutboundDispatchConfigValue.MAX_PENDING_SIGNALS.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of {@code DefaultOutboundDispatchConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the outbound dispatch config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultOutboundDispatchConfig of(final Config config) {
+        return new DefaultOutboundDispatchConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, OutboundDispatchConfigValue.values()));
+    }
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    @Override
+    public int getMaxPendingSignals() {
+        return maxPendingSignals;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultOutboundDispatchConfig that = (DefaultOutboundDispatchConfig) o;
+        return parallelism == that.parallelism &&
+                bufferSize == that.bufferSize &&
+                maxPendingSignals == that.maxPendingSignals;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(parallelism, bufferSize, maxPendingSignals);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "parallelism=" + parallelism +
+                ", bufferSize=" + bufferSize +
+                ", maxPendingSignals=" + maxPendingSignals +
+                "]";
+    }
+
+}
@@ -48,6 +48,8 @@ public final class DittoConnectivityConfig implements ConnectivityConfig {
     private final HealthCheckConfig healthCheckConfig;
     private final ConnectionConfig connectionConfig;
     private final MappingConfig mappingConfig;
+    private final MappingProcessorConfig mappingProcessorConfig;
+    private final OutboundDispatchConfig outboundDispatchConfig;
     private final ReconnectConfig reconnectConfig;
     private final ClientConfig clientConfig;
     private final ProtocolConfig protocolConfig;
@@ -61,6 +63,8 @@ public final class DittoConnectivityConfig implements ConnectivityConfig {
         protocolConfig = DefaultProtocolConfig.of(dittoScopedConfig);
         connectionConfig = DefaultConnectionConfig.of(serviceSpecificConfig);
         mappingConfig = DefaultMappingConfig.of(serviceSpecificConfig);
+        mappingProcessorConfig = DefaultMappingProcessorConfig.of(serviceSpecificConfig);
+        outboundDispatchConfig = DefaultOutboundDispatchConfig.of(serviceSpecificConfig);
         reconnectConfig = DefaultReconnectConfig.of(serviceSpecificConfig);
         clientConfig = DefaultClientConfig.of(serviceSpecificConfig);
         monitoringConfig = DefaultMonitoringConfig.of(serviceSpecificConfig);
@@ -88,6 +92,16 @@ public final class DittoConnectivityConfig implements ConnectivityConfig {
         return mappingConfig;
     }
 
+    @Override
+    public MappingProcessorConfig getMappingProcessorConfig() {
+        return mappingProcessorConfig;
+    }
+
+    @Override
+    public OutboundDispatchConfig getOutboundDispatchConfig() {
+        return outboundDispatchConfig;
+    }
+
     @Override
     public ReconnectConfig getReconnectConfig() {
         return reconnectConfig;
@@ -159,6 +173,8 @@ public final class DittoConnectivityConfig implements ConnectivityConfig {
                 Objects.equals(healthCheckConfig, that.healthCheckConfig) &&
                 Objects.equals(connectionConfig, that.connectionConfig) &&
                 Objects.equals(mappingConfig, that.mappingConfig) &&
+                Objects.equals(mappingProcessorConfig, that.mappingProcessorConfig) &&
+                Objects.equals(outboundDispatchConfig, that.outboundDispatchConfig) &&
                 Objects.equals(reconnectConfig, that.reconnectConfig) &&
                 Objects.equals(clientConfig, that.clientConfig) &&
                 Objects.equals(protocolConfig, that.protocolConfig) &&
@@ -168,7 +184,8 @@ public final class DittoConnectivityConfig implements ConnectivityConfig {
     @Override
     public int hashCode() {
         return Objects.hash(serviceSpecificConfig, persistenceOperationsConfig, mongoDbConfig, healthCheckConfig,
-                connectionConfig, mappingConfig, reconnectConfig, clientConfig, protocolConfig, monitoringConfig);
+                connectionConfig, mappingConfig, mappingProcessorConfig, outboundDispatchConfig, reconnectConfig,
+                clientConfig, protocolConfig, monitoringConfig);
     }
 
     @Override
@@ -180,6 +197,8 @@ public final class DittoConnectivityConfig implements ConnectivityConfig {
                 ", healthCheckConfig=" + healthCheckConfig +
                 ", connectionConfig=" + connectionConfig +
                 ", mappingConfig=" + mappingConfig +
+                ", mappingProcessorConfig=" + mappingProcessorConfig +
+                ", outboundDispatchConfig=" + outboundDispatchConfig +
                 ", reconnectConfig=" + reconnectConfig +
                 ", clientConfig=" + clientConfig +
                 ", protocolConfig=" + protocolConfig +
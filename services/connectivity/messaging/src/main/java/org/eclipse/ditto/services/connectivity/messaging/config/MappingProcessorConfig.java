@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.config;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the mapping stream of the message mapping processor actors of a connection.
+ */
+@Immutable
+public interface MappingProcessorConfig {
+
+    /**
+     * Returns how many messages are mapped in parallel by one message mapping processor actor.
+     *
+     * @return the parallelism.
+     */
+    int getParallelism();
+
+    /**
+     * Returns how many messages may be in the mapping stream of one message mapping processor actor. Messages
+     * exceeding this limit wait in the actor until a mapping finished.
+     *
+     * @return the buffer size.
+     */
+    int getBufferSize();
+
+    /**
+     * Returns how many consumed messages each consumer actor of a connection may have sent to the message mapping
+     * processor actors without being mapped yet. A consumer reaching this limit pauses consuming from its source if
+     * the protocol supports that.
+     *
+     * @return the maximum number of unmapped messages per consumer.
+     */
+    int getMaxInFlightPerConsumer();
+
+    /**
+     * Returns the order in which mapped messages are dispatched.
+     *
+     * @return the ordering guarantee.
+     */
+    Ordering getOrdering();
+
+    /**
+     * The order guarantees of the mapping stream.
+     */
+    enum Ordering {
+
+        /**
+         * Mapped messages are dispatched in the order they were received. A slow mapping delays the dispatching of
+         * all messages received after it, although these are mapped in parallel.
+         */
+        STRICT("strict"),
+
+        /**
+         * Mapped messages are dispatched in the order they were received per entity. Messages are distributed to
+         * {@link #getParallelism()} lanes by consistent hashing of their entity ID, so a slow mapping only delays
+         * the messages of its lane.
+         */
+        PER_ENTITY("per-entity"),
+
+        /**
+         * Mapped messages are dispatched as soon as they were mapped.
+         */
+        NONE("none");
+
+        private final String name;
+
+        Ordering(final String name) {
+            this.name = name;
+        }
+
+        /**
+         * Returns the ordering with the given name.
+         *
+         * @param name the name as used in the config.
+         * @return the ordering or an empty Optional.
+         */
+        public static Optional<Ordering> forName(final CharSequence name) {
+            return Arrays.stream(values())
+                    .filter(ordering -> ordering.name.contentEquals(name))
+                    .findAny();
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+
+    }
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code MappingProcessorConfig}.
+     */
+    enum MappingProcessorConfigValue implements KnownConfigValue {
+
+        /**
+         * See documentation on {@link MappingProcessorConfig#getParallelism()}.
+         */
+        PARALLELISM("parallelism", 8),
+
+        /**
+         * See documentation on {@link MappingProcessorConfig#getBufferSize()}.
+         */
+        BUFFER_SIZE("buffer-size", 1000),
+
+        /**
+         * See documentation on {@link MappingProcessorConfig#getMaxInFlightPerConsumer()}.
+         */
+        MAX_IN_FLIGHT_PER_CONSUMER("max-in-flight-per-consumer", 1000),
+
+        /**
+         * See documentation on {@link MappingProcessorConfig#getOrdering()}.
+         */
+        ORDERING("ordering", Ordering.PER_ENTITY.toString());
+
+        private final String path;
+        private final Object defaultValue;
+
+        MappingProcessorConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the stream which filters the outbound signals of a connection and dispatches
+ * them to its client actors.
+ */
+@Immutable
+public interface OutboundDispatchConfig {
+
+    /**
+     * Returns how many outbound signals are filtered in parallel for one connection.
+     *
+     * @return the parallelism.
+     */
+    int getParallelism();
+
+    /**
+     * Returns how many outbound signals may be enqueued in the dispatching stream of one connection. Signals exceeding
+     * this limit wait until the stream has capacity again.
+     *
+     * @return the buffer size.
+     */
+    int getBufferSize();
+
+    /**
+     * Returns how many outbound signals may be pending for being dispatched for one connection, including the signals
+     * waiting for the dispatching stream. Signals exceeding this limit are dropped. {@code 0} means that the number of
+     * pending signals is unbounded and no signal is dropped.
+     *
+     * @return the maximum number of pending signals or {@code 0} if unbounded.
+     */
+    int getMaxPendingSignals();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code OutboundDispatchConfig}.
+     */
+    enum OutboundDispatchConfigValue implements KnownConfigValue {
+
+        /**
+         * See documentation on {@link OutboundDispatchConfig#getParallelism()}.
+         */
+        PARALLELISM("parallelism", 4),
+
+        /**
+         * See documentation on {@link OutboundDispatchConfig#getBufferSize()}.
+         */
+        BUFFER_SIZE("buffer-size", 10_000),
+
+        /**
+         * See documentation on {@link OutboundDispatchConfig#getMaxPendingSignals()}.
+         */
+        MAX_PENDING_SIGNALS("max-pending-signals", 0);
+
+        private final String path;
+        private final Object defaultValue;
+
+        OutboundDispatchConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -14,34 +14,55 @@
 package org.eclipse.ditto.services.connectivity.messaging.monitoring.logs;
 
 import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import javax.annotation.Nullable;
-import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
 
 /**
- * Default implementation of {@link org.eclipse.ditto.services.connectivity.messaging.monitoring.logs.EvictingQueue}.
- * This implementation does not care about synchronization, as we don't care if there might be an element too much or
- * too little in the queue. We care about speed of the queue.
+ * Default implementation of {@link org.eclipse.ditto.services.connectivity.messaging.monitoring.logs.EvictingQueue}
+ * backed by a ring buffer of fixed size. Offering an element takes constant time and overwrites the oldest element
+ * once the capacity is reached, thus the memory footprint of the queue is bounded by its capacity.
+ * <p>
+ * The queue is lock-free but not strictly linearizable: concurrent offers, polls and iterations might see an element
+ * too much or too little, which is fine for logs. Iterators work on a snapshot of the queue and do not support
+ * removal.
+ * </p>
  *
  * @param <E> type of elements in the queue.
  */
-@NotThreadSafe
+@ThreadSafe
 final class DefaultEvictingQueue<E> extends AbstractQueue<E> implements EvictingQueue<E> {
 
     private final int capacity;
-    private final Queue<E> elements;
+    private final AtomicReferenceArray<E> elements;
+
+    /**
+     * Sequence number of the next offered element, i. e. the number of elements offered so far.
+     */
+    private final AtomicLong tail;
+
+    /**
+     * Sequence number of the oldest element which was not polled. Elements with a sequence number smaller than
+     * {@code tail - capacity} were overwritten even if they are not yet polled.
+     */
+    private final AtomicLong head;
 
     private DefaultEvictingQueue(final int capacity) {
-        this.capacity = capacity;
-        this.elements = new ConcurrentLinkedQueue<>();
+        this.capacity = Math.max(0, capacity);
+        elements = new AtomicReferenceArray<>(this.capacity);
+        tail = new AtomicLong();
+        head = new AtomicLong();
     }
 
     /**
-     * Create a new synchronized evicting queue.
+     * Create a new evicting queue.
      *
      * @param capacity capacity of the queue.
      * @param <E> type of elements in the queue.
@@ -53,30 +74,78 @@ final class DefaultEvictingQueue<E> extends AbstractQueue<E> implements Evicting
 
     @Override
     public Iterator<E> iterator() {
-        return elements.iterator();
+        final long currentTail = tail.get();
+        final long currentHead = getHead(currentTail);
+        final List<E> snapshot = new ArrayList<>((int) (currentTail - currentHead));
+        for (long sequenceNumber = currentHead; sequenceNumber < currentTail; sequenceNumber++) {
+            @Nullable final E element = elements.get(index(sequenceNumber));
+            if (null != element) {
+                snapshot.add(element);
+            }
+        }
+        return Collections.unmodifiableList(snapshot).iterator();
     }
 
     @Override
-    public boolean offer(@Nullable final E e) {
-        if (capacity == elements.size()) {
-            elements.poll();
+    public boolean offer(final E e) {
+        if (null == e) {
+            throw new NullPointerException("The element must not be null!");
         }
-        return elements.offer(e);
+        if (capacity > 0) {
+            elements.set(index(tail.getAndIncrement()), e);
+        }
+        return true;
     }
 
     @Override
+    @Nullable
     public E poll() {
-        return elements.poll();
+        while (true) {
+            final long observedHead = head.get();
+            final long currentTail = tail.get();
+            final long currentHead = Math.max(observedHead, currentTail - capacity);
+            if (currentHead >= currentTail) {
+                return null;
+            }
+            @Nullable final E element = elements.get(index(currentHead));
+            if (head.compareAndSet(observedHead, currentHead + 1) && null != element) {
+                return element;
+            }
+        }
     }
 
     @Override
+    @Nullable
     public E peek() {
-        return elements.peek();
+        final long currentTail = tail.get();
+        final long currentHead = getHead(currentTail);
+        if (currentHead >= currentTail) {
+            return null;
+        }
+        return elements.get(index(currentHead));
     }
 
     @Override
     public int size() {
-        return elements.size();
+        final long currentTail = tail.get();
+        return (int) (currentTail - getHead(currentTail));
+    }
+
+    @Override
+    public void clear() {
+        head.set(tail.get());
+        for (int i = 0; i < capacity; i++) {
+            // drop the references so that the cleared elements may be garbage collected
+            elements.lazySet(i, null);
+        }
+    }
+
+    private long getHead(final long currentTail) {
+        return Math.max(head.get(), currentTail - capacity);
+    }
+
+    private int index(final long sequenceNumber) {
+        return (int) (sequenceNumber % capacity);
     }
 
     @Override
@@ -89,12 +158,14 @@ final class DefaultEvictingQueue<E> extends AbstractQueue<E> implements Evicting
         }
         final DefaultEvictingQueue<?> that = (DefaultEvictingQueue<?>) o;
         return capacity == that.capacity &&
-                Objects.equals(elements, that.elements);
+                Objects.equals(elements, that.elements) &&
+                Objects.equals(tail, that.tail) &&
+                Objects.equals(head, that.head);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(capacity, elements);
+        return Objects.hash(capacity, elements, tail, head);
     }
 
     @Override
@@ -102,6 +173,8 @@ final class DefaultEvictingQueue<E> extends AbstractQueue<E> implements Evicting
         return getClass().getSimpleName() + " [" +
                 ", capacity=" + capacity +
                 ", elements=" + elements +
+                ", tail=" + tail +
+                ", head=" + head +
                 "]";
     }
 
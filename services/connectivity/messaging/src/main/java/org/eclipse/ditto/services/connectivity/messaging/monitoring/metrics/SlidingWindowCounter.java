@@ -15,28 +15,52 @@ package org.eclipse.ditto.services.connectivity.messaging.monitoring.metrics;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
- * Simple implementation of a sliding window using a map. Depending on the given parameters
- * {@code window} and {@code duration} this implementation holds counter for time slots of size {@code duration} to
- * fill the {@code window}.
+ * Lock-free implementation of a sliding window using ring buffers of primitive counters. For each
+ * {@link MeasurementWindow} this implementation holds a counter for each time slot of size {@code resolution} which
+ * is needed to fill the {@code window}. The ring of a window has one slot more than the window spans, so that the slot
+ * of the current time never overwrites a slot which is still inside the window.
+ * <p>
+ * Each counter is striped into {@link #STRIPES} cells to reduce contention of concurrently incrementing threads.
+ * A cell packs the ID of its time slot and the count of the slot into one {@code long}, a cell belonging to an older
+ * time slot is reset when the first measurement of its new time slot arrives.
+ * </p>
+ * <p>
+ * The memory footprint is fixed when the counter is created: {@code 2 * STRIPES * sum(window / resolution + 1)}
+ * {@code long}s, i. e. 2976 bytes plus object overhead for the windows
+ * {@link MeasurementWindow#ONE_MINUTE ONE_MINUTE}, {@link MeasurementWindow#ONE_HOUR ONE_HOUR} and
+ * {@link MeasurementWindow#ONE_DAY ONE_DAY} together.
+ * </p>
  */
 public final class SlidingWindowCounter {
 
+    /**
+     * Number of cells per time slot. Must be a power of two.
+     */
+    static final int STRIPES = 2;
+
+    private static final int COUNT_BITS = 40;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long SLOT_ID_MASK = (1L << (Long.SIZE - COUNT_BITS)) - 1;
+
     private final Clock clock;
     private final MeasurementWindow[] windows;
-    private final ConcurrentMap<Long, Long> successMeasurements = new ConcurrentHashMap<>();
-    private final ConcurrentMap<Long, Long> failureMeasurements = new ConcurrentHashMap<>();
+    private final long[] resolutionsInMs;
+    private final long[] windowsInMs;
+    private final int[] ringOffsets;
+    private final int[] ringLengths;
+    private final int cellsPerStripe;
+    private final AtomicLongArray successMeasurements;
+    private final AtomicLongArray failureMeasurements;
 
     private final AtomicLong lastSuccessTimestamp = new AtomicLong(Instant.EPOCH.toEpochMilli());
     private final AtomicLong lastFailureTimestamp = new AtomicLong(Instant.EPOCH.toEpochMilli());
-    private final Duration minResolution;
 
     /**
      * Instantiates a new {@link SlidingWindowCounter} that records the measurements for the given time windows.
@@ -45,12 +69,23 @@ public final class SlidingWindowCounter {
      */
     SlidingWindowCounter(final Clock clock, final MeasurementWindow... windows) {
         this.clock = clock;
-        this.windows = windows;
+        this.windows = Arrays.copyOf(windows, windows.length);
 
-        minResolution = Stream.of(windows)
-                .map(MeasurementWindow::getResolution)
-                .min(Duration::compareTo)
-                .orElse(Duration.ofMinutes(5));
+        resolutionsInMs = new long[windows.length];
+        windowsInMs = new long[windows.length];
+        ringOffsets = new int[windows.length];
+        ringLengths = new int[windows.length];
+        int offset = 0;
+        for (int i = 0; i < windows.length; i++) {
+            resolutionsInMs[i] = windows[i].getResolution().toMillis();
+            windowsInMs[i] = windows[i].getWindow().toMillis();
+            ringOffsets[i] = offset;
+            ringLengths[i] = (int) (windowsInMs[i] / resolutionsInMs[i]) + 1;
+            offset += ringLengths[i];
+        }
+        cellsPerStripe = offset;
+        successMeasurements = new AtomicLongArray(STRIPES * cellsPerStripe);
+        failureMeasurements = new AtomicLongArray(STRIPES * cellsPerStripe);
     }
 
     /**
@@ -82,65 +117,75 @@ public final class SlidingWindowCounter {
      * @param success whether to increment success or failure count
      */
     void increment(final boolean success) {
-        increment(success, clock.instant().toEpochMilli());
+        final long now = clock.millis();
+        increment(success, now, now);
     }
 
     /**
-     * Increment this counter.
+     * Increment this counter. Measurements which are newer than the current time or older than the largest window are
+     * only reflected in the timestamp of the last measurement.
      *
      * @param success whether to increment success or failure count
      * @param ts the timestamp when the operation happened (mostly useful for testing)
      */
     void increment(final boolean success, final long ts) {
-        final long previousTimestamp;
+        increment(success, ts, clock.millis());
+    }
+
+    private void increment(final boolean success, final long ts, final long now) {
         if (success) {
-            previousTimestamp = updateTimestampAndReturnPrevious(lastSuccessTimestamp, ts);
-            incrementMeasurements(ts, successMeasurements);
+            lastSuccessTimestamp.accumulateAndGet(ts, Math::max);
+            incrementMeasurements(ts, now, successMeasurements);
         } else {
-            previousTimestamp = updateTimestampAndReturnPrevious(lastFailureTimestamp, ts);
-            incrementMeasurements(ts, failureMeasurements);
+            lastFailureTimestamp.accumulateAndGet(ts, Math::max);
+            incrementMeasurements(ts, now, failureMeasurements);
         }
-
-        // if diff between current and last timestamp is too large, cleanup old measurements
-        if (previousTimestamp > ts - minResolution.toMillis()) {
-            cleanUpOldMeasurements();
-        }
-    }
-
-    private long updateTimestampAndReturnPrevious(final AtomicLong toUpdate, final long ts) {
-        return toUpdate.getAndUpdate(previous -> Math.max(previous, ts));
     }
 
-    private void incrementMeasurements(final long ts, final Map<Long, Long> measurements) {
-        for (final MeasurementWindow window : windows) {
-            final long slot = getSlot(ts, window.getResolution().toMillis());
-            measurements.compute(slot, (key, value) -> (value == null) ? 1 : value + 1);
+    private void incrementMeasurements(final long ts, final long now, final AtomicLongArray measurements) {
+        final int stripeOffset = getStripeOffset();
+        for (int i = 0; i < windows.length; i++) {
+            final long slot = getSlot(ts, resolutionsInMs[i]);
+            final long currentSlot = getSlot(now, resolutionsInMs[i]);
+            final long oldestSlot = getSlot(now - windowsInMs[i], resolutionsInMs[i]);
+            // future slots would overwrite slots which are still inside the window
+            if (slot > oldestSlot && slot <= currentSlot) {
+                incrementCell(measurements, stripeOffset + getCellIndex(i, slot), slot);
+            }
         }
     }
 
-    private void cleanUpOldMeasurements() {
-        cleanUpOldMeasurements(successMeasurements);
-        cleanUpOldMeasurements(failureMeasurements);
+    private int getStripeOffset() {
+        return (int) (Thread.currentThread().getId() & (STRIPES - 1)) * cellsPerStripe;
     }
 
-    private void cleanUpOldMeasurements(final Map<Long, Long> measurements) {
-        measurements.entrySet().removeIf(e -> isOld(e.getKey()));
+    private int getCellIndex(final int windowIndex, final long slot) {
+        return ringOffsets[windowIndex] + (int) Math.floorMod(slot, (long) ringLengths[windowIndex]);
     }
 
-    private boolean isOld(long slot) {
-        final long now = clock.instant().toEpochMilli();
-        for (final MeasurementWindow window : windows) {
-            final long resolutionInMs = window.getResolution().toMillis();
-            final long windowInMs = window.getWindow().toMillis();
-            // max slot is the current slot for this window
-            final long max = getSlot(now, resolutionInMs);
-            // min slot is current slot minus window size
-            final long min = getSlot(now - windowInMs, resolutionInMs);
-            if (slot <= max && slot >= min) {
-                return false;
+    private static void incrementCell(final AtomicLongArray measurements, final int index, final long slot) {
+        final long slotId = slot & SLOT_ID_MASK;
+        while (true) {
+            final long cell = measurements.get(index);
+            final long updatedCell;
+            if ((cell & COUNT_MASK) == 0 || isNewer(slotId, cell >>> COUNT_BITS)) {
+                // the cell is empty or still holds the count of an older time slot
+                updatedCell = (slotId << COUNT_BITS) | 1;
+            } else if ((cell >>> COUNT_BITS) == slotId) {
+                updatedCell = cell + 1;
+            } else {
+                // the cell already belongs to a newer time slot
+                return;
+            }
+            if (measurements.compareAndSet(index, cell, updatedCell)) {
+                return;
             }
         }
-        return true;
+    }
+
+    private static boolean isNewer(final long slotId, final long otherSlotId) {
+        // compare the IDs in the arithmetic of their width in order to survive an overflow of the IDs
+        return ((slotId - otherSlotId) << COUNT_BITS) > 0;
     }
 
     /**
@@ -159,31 +204,39 @@ public final class SlidingWindowCounter {
     /**
      * Gets counts for all measurement windows given.
      *
-     * @param measurements the measurements map to use
+     * @param measurements the measurements to use
      * @return the counts for all windows
      */
-    private Map<Duration, Long> getCounts(final Map<Long, Long> measurements) {
+    private Map<Duration, Long> getCounts(final AtomicLongArray measurements) {
         final Map<Duration, Long> result = new HashMap<>();
-        final long now = clock.instant().toEpochMilli();
-        for (final MeasurementWindow window : windows) {
+        final long now = clock.millis();
+        for (int i = 0; i < windows.length; i++) {
             // min is where we start to sum up the slots
-            final long windowInMs = window.getWindow().toMillis();
-            final long resolutionInMs = window.getResolution().toMillis();
-            final long min = getSlot(now - windowInMs, resolutionInMs);
+            final long min = getSlot(now - windowsInMs[i], resolutionsInMs[i]);
             // max is the current active time slot
-            final long max = getSlot(now, resolutionInMs);
+            final long max = getSlot(now, resolutionsInMs[i]);
             long sum = 0;
-            for (final Map.Entry<Long, Long> e : measurements.entrySet()) {
-                long slot = e.getKey();
-                if (slot > min && slot <= max) {
-                    sum += e.getValue();
-                }
+            for (long slot = min + 1; slot <= max; slot++) {
+                sum += getCount(measurements, i, slot);
             }
-            result.put(window.getWindow(), sum);
+            result.put(windows[i].getWindow(), sum);
         }
         return result;
     }
 
+    private long getCount(final AtomicLongArray measurements, final int windowIndex, final long slot) {
+        final long slotId = slot & SLOT_ID_MASK;
+        final int cellIndex = getCellIndex(windowIndex, slot);
+        long count = 0;
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            final long cell = measurements.get(stripe * cellsPerStripe + cellIndex);
+            if ((cell >>> COUNT_BITS) == slotId) {
+                count += cell & COUNT_MASK;
+            }
+        }
+        return count;
+    }
+
     /**
      * Reset all counts.
      */
@@ -192,19 +245,21 @@ public final class SlidingWindowCounter {
         reset(failureMeasurements);
     }
 
-    private void reset(final Map<Long, Long> measurements) {
-        measurements.clear();
+    private static void reset(final AtomicLongArray measurements) {
+        for (int i = 0; i < measurements.length(); i++) {
+            measurements.set(i, 0);
+        }
     }
 
-    private long getSlot(long ts, final long resolutionInMs) {
+    private static long getSlot(final long ts, final long resolutionInMs) {
         return ts / resolutionInMs;
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
-                ", successMeasurements=" + successMeasurements +
-                ", failureMeasurements=" + failureMeasurements +
+                ", successMeasurements=" + getCounts(true) +
+                ", failureMeasurements=" + getCounts(false) +
                 ", lastSuccessTimestamp=" + lastSuccessTimestamp +
                 ", lastFailureTimestamp=" + lastFailureTimestamp +
                 "]";
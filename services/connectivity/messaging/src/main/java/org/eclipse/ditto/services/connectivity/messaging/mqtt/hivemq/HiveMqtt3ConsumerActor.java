@@ -30,6 +30,7 @@ import org.eclipse.ditto.model.connectivity.HeaderMapping;
 import org.eclipse.ditto.model.connectivity.PayloadMapping;
 import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.services.connectivity.messaging.BaseConsumerActor;
+import org.eclipse.ditto.services.connectivity.messaging.MessageMappingProcessorActor;
 import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
 import org.eclipse.ditto.services.connectivity.util.ConnectionLogUtil;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
@@ -90,6 +91,7 @@ public final class HiveMqtt3ConsumerActor extends BaseConsumerActor {
                         message -> log.info("Dropping message in dryRun mode: {}", message))
                 .match(Mqtt3Publish.class, this::handleMqttMessage)
                 .match(RetrieveAddressStatus.class, ram -> getSender().tell(getCurrentSourceStatus(), getSelf()))
+                .match(MessageMappingProcessorActor.ConsumedMessageMapped.class, this::handleConsumedMessageMapped)
                 .matchAny(unhandled -> {
                     log.info("Unhandled message: {}", unhandled);
                     unhandled(unhandled);
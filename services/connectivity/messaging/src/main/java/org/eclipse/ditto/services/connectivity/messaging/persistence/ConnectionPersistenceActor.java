@@ -21,7 +21,6 @@ import java.time.Instant;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -78,12 +77,11 @@ import org.eclipse.ditto.services.connectivity.messaging.validation.DittoConnect
 import org.eclipse.ditto.services.connectivity.util.ConnectionLogUtil;
 import org.eclipse.ditto.services.models.concierge.pubsub.DittoProtocolSub;
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
-import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
-import org.eclipse.ditto.services.models.connectivity.OutboundSignalFactory;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.EventBatchConfig;
 import org.eclipse.ditto.services.utils.persistentactors.AbstractShardedPersistenceActor;
 import org.eclipse.ditto.services.utils.persistentactors.commands.CommandStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.commands.DefaultContext;
@@ -93,6 +91,7 @@ import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.connectivity.ConnectivityCommand;
 import org.eclipse.ditto.signals.commands.connectivity.exceptions.ConnectionFailedException;
 import org.eclipse.ditto.signals.commands.connectivity.exceptions.ConnectionNotAccessibleException;
+import org.eclipse.ditto.signals.commands.connectivity.exceptions.ConnectionUnavailableException;
 import org.eclipse.ditto.signals.commands.connectivity.modify.CheckConnectionLogsActive;
 import org.eclipse.ditto.signals.commands.connectivity.modify.CloseConnection;
 import org.eclipse.ditto.signals.commands.connectivity.modify.EnableConnectionLogs;
@@ -165,7 +164,7 @@ public final class ConnectionPersistenceActor
 
     private final Duration checkLoggingActiveInterval;
 
-    @Nullable private SignalFilter signalFilter = null;
+    private final ActorRef outboundDispatcher;
     @Nullable private Instant loggingEnabledUntil;
     private final Duration loggingEnabledDuration;
     private final ConnectionConfig config;
@@ -221,6 +220,10 @@ public final class ConnectionPersistenceActor
 
         this.loggingEnabledDuration = monitoringConfig.logger().logDuration();
         this.checkLoggingActiveInterval = monitoringConfig.logger().loggingActiveCheckInterval();
+
+        outboundDispatcher = getContext().actorOf(
+                OutboundDispatchingActor.props(connectionId, connectivityConfig.getOutboundDispatchConfig()),
+                OutboundDispatchingActor.ACTOR_NAME);
     }
 
     /**
@@ -294,6 +297,11 @@ public final class ConnectionPersistenceActor
         return config.getSnapshotConfig();
     }
 
+    @Override
+    protected EventBatchConfig getEventBatchConfig() {
+        return config.getEventBatchConfig();
+    }
+
     @Override
     protected boolean entityExistsAsDeleted() {
         return entity != null &&
@@ -305,6 +313,11 @@ public final class ConnectionPersistenceActor
         return ConnectionNotAccessibleException.newBuilder(entityId);
     }
 
+    @Override
+    protected DittoRuntimeExceptionBuilder newUnavailableExceptionBuilder() {
+        return ConnectionUnavailableException.newBuilder(entityId);
+    }
+
     @Override
     protected void publishEvent(final ConnectivityEvent event) {
         // Do nothing because nobody subscribes for connectivity events.
@@ -453,7 +466,8 @@ public final class ConnectionPersistenceActor
     @Override
     protected void matchAnyAfterInitialization(final Object message) {
         if (message instanceof Signal) {
-            forwardSignalToClientActors((Signal) message);
+            // outbound signals are subscribed by the outbound dispatcher; forward those which reach this actor anyway
+            outboundDispatcher.forward(message, getContext());
         } else if (message == CheckLoggingActive.INSTANCE) {
             checkLoggingEnabled();
         } else {
@@ -466,49 +480,23 @@ public final class ConnectionPersistenceActor
         broadcastToClientActorsIfStarted(checkLoggingActive, getSelf());
     }
 
-    private void forwardSignalToClientActors(final Signal signal) {
-        enhanceLogUtil(signal);
-        if (clientActorRouter == null) {
-            logDroppedSignal(signal.getType(), "Client actor not ready.");
-            return;
-        }
-        if (entity == null || signalFilter == null) {
-            logDroppedSignal(signal.getType(), "No Connection or signalFilter configuration available.");
-            return;
-        }
-        if (entityId.toString().equals(signal.getDittoHeaders().getOrigin().orElse(null))) {
-            logDroppedSignal(signal.getType(), "Was sent by myself.");
-            return;
-        }
-
-        final List<Target> subscribedAndAuthorizedTargets = signalFilter.filter(signal);
-        if (subscribedAndAuthorizedTargets.isEmpty()) {
-            logDroppedSignal(signal.getType(), "No subscribed and authorized targets present");
-            return;
-        }
-
-        log.debug("Forwarding signal <{}> to client actor with targets: {}.", signal.getType(),
-                subscribedAndAuthorizedTargets);
-
-        final OutboundSignal outbound = OutboundSignalFactory.newOutboundSignal(signal, subscribedAndAuthorizedTargets);
-        final Object msg = new ConsistentHashingRouter.ConsistentHashableEnvelope(outbound,
-                outbound.getSource().getEntityId().toString());
-        clientActorRouter.tell(msg, getSender());
-    }
-
     private void prepareForSignalForwarding(final StagedCommand command) {
         if (entity != null) {
-            signalFilter = new SignalFilter(entity, connectionMonitorRegistry);
+            // compiles the routing table of the targets once per opened or modified connection
+            outboundDispatcher.tell(
+                    new OutboundDispatchingActor.UpdateSignalFilter(new SignalFilter(entity, connectionMonitorRegistry)),
+                    getSelf());
         }
 
         // remove previous subscriptions.
         // with high probability, unnecessary changes won't propagate to other cluster nodes.
-        dittoProtocolSub.removeSubscriber(getSelf());
+        dittoProtocolSub.removeSubscriber(outboundDispatcher);
 
         if (isDesiredStateOpen()) {
             startEnabledLoggingChecker();
             updateLoggingIfEnabled();
-            dittoProtocolSub.subscribe(toStreamingTypes(getUniqueTopics(entity)), getTargetAuthSubjects(), getSelf())
+            dittoProtocolSub.subscribe(toStreamingTypes(getUniqueTopics(entity)), getTargetAuthSubjects(),
+                    outboundDispatcher)
                     .thenAccept(done -> getSelf().tell(command, ActorRef.noSender()));
         } else {
             interpretStagedCommand(command);
@@ -577,15 +565,6 @@ public final class ConnectionPersistenceActor
                 });
     }
 
-    private void enhanceLogUtil(final WithDittoHeaders<?> createConnection) {
-        ConnectionLogUtil.enhanceLogWithCorrelationIdAndConnectionId(log, createConnection, entityId);
-    }
-
-
-    private void logDroppedSignal(final String type, final String reason) {
-        log.debug("Signal ({}) dropped: {}", type, reason);
-    }
-
     private void retrieveConnectionLogs(final RetrieveConnectionLogs command, final ActorRef sender) {
         this.updateLoggingIfEnabled();
         broadcastCommandWithDifferentSender(command,
@@ -801,6 +780,8 @@ public final class ConnectionPersistenceActor
 
             // start client actor without name so it does not conflict with its previous incarnation
             clientActorRouter = getContext().actorOf(clusterRouterPoolProps);
+            outboundDispatcher.tell(new OutboundDispatchingActor.UpdateClientActorRouter(clientActorRouter),
+                    getSelf());
         } else if (clientActorRouter != null) {
             log.debug("ClientActor already started.");
         } else {
@@ -818,6 +799,7 @@ public final class ConnectionPersistenceActor
             log.debug("Stopping the client actor.");
             stopChildActor(clientActorRouter);
             clientActorRouter = null;
+            outboundDispatcher.tell(new OutboundDispatchingActor.UpdateClientActorRouter(null), getSelf());
         }
     }
 
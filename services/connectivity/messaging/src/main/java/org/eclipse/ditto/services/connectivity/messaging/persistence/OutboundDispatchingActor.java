@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.persistence;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.Target;
+import org.eclipse.ditto.services.connectivity.messaging.config.OutboundDispatchConfig;
+import org.eclipse.ditto.services.connectivity.util.ConnectionLogUtil;
+import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
+import org.eclipse.ditto.services.models.connectivity.OutboundSignalFactory;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
+import org.eclipse.ditto.services.utils.tracing.TracingTags;
+import org.eclipse.ditto.signals.base.Signal;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.pf.ReceiveBuilder;
+import akka.routing.ConsistentHashingRouter;
+import akka.stream.ActorMaterializer;
+import akka.stream.OverflowStrategy;
+import akka.stream.QueueOfferResult;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.stream.javadsl.SourceQueueWithComplete;
+
+/**
+ * Subscribes for the outbound signals of a connection, filters them by the targets of the connection and dispatches
+ * them to the client actors of the connection.
+ * <p>
+ * This actor is a child of the {@link ConnectionPersistenceActor} which keeps it up to date with the signal filter of
+ * the connection and the router of its client actors. Thus the persistence actor handles the lifecycle of the
+ * connection only, while the outbound signals pass through this actor. The signals are filtered in parallel in a
+ * stream and dispatched in the order they were received. Signals exceeding the buffer size of the stream wait in this
+ * actor until the stream has capacity again, they are only dropped if the optional limit of pending signals is
+ * configured and exceeded. The number of pending signals, the number of dropped signals and the latency between
+ * reception and dispatching are reported as metrics of the connection.
+ * </p>
+ */
+final class OutboundDispatchingActor extends AbstractActor {
+
+    /**
+     * The name of this Actor.
+     */
+    static final String ACTOR_NAME = "outboundDispatcher";
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
+    private final ConnectionId connectionId;
+    private final OutboundDispatchConfig outboundDispatchConfig;
+    private final Gauge dispatchQueueSize;
+    private final Counter dispatchDroppedCounter;
+    private final PreparedTimer dispatchLatency;
+    private final Deque<DispatchTask> waitingDispatches;
+    private int pendingDispatches;
+
+    @Nullable private SignalFilter signalFilter;
+    @Nullable private ActorRef clientActorRouter;
+    @Nullable private SourceQueueWithComplete<DispatchTask> dispatchQueue;
+
+    @SuppressWarnings("unused")
+    private OutboundDispatchingActor(final ConnectionId connectionId,
+            final OutboundDispatchConfig outboundDispatchConfig) {
+
+        this.connectionId = connectionId;
+        this.outboundDispatchConfig = outboundDispatchConfig;
+        dispatchQueueSize = DittoMetrics.gauge("connectivity_outbound_dispatch_queue_size")
+                .tag(TracingTags.CONNECTION_ID, connectionId.toString());
+        dispatchDroppedCounter = DittoMetrics.counter("connectivity_outbound_dispatch_dropped")
+                .tag(TracingTags.CONNECTION_ID, connectionId.toString());
+        dispatchLatency = DittoMetrics.timer("connectivity_outbound_dispatch_latency")
+                .tag(TracingTags.CONNECTION_ID, connectionId.toString());
+        waitingDispatches = new ArrayDeque<>();
+        pendingDispatches = 0;
+        signalFilter = null;
+        clientActorRouter = null;
+        dispatchQueue = null;
+
+        ConnectionLogUtil.enhanceLogWithConnectionId(log, connectionId);
+    }
+
+    /**
+     * Creates Akka configuration object for this actor.
+     *
+     * @param connectionId the ID of the connection whose outbound signals are dispatched.
+     * @param outboundDispatchConfig the config of the dispatching stream.
+     * @return the Akka configuration Props object.
+     */
+    static Props props(final ConnectionId connectionId, final OutboundDispatchConfig outboundDispatchConfig) {
+        return Props.create(OutboundDispatchingActor.class, connectionId, outboundDispatchConfig);
+    }
+
+    @Override
+    public void preStart() {
+        final Executor filterExecutor = getContext().getDispatcher();
+        final ActorRef self = getSelf();
+        dispatchQueue = Source.<DispatchTask>queue(outboundDispatchConfig.getBufferSize(), OverflowStrategy.dropNew())
+                .mapAsync(outboundDispatchConfig.getParallelism(), task -> task.filter(filterExecutor))
+                .to(Sink.foreach(task -> {
+                    task.dispatch(self);
+                    self.tell(DispatchDone.INSTANCE, ActorRef.noSender());
+                }))
+                .run(ActorMaterializer.create(getContext()));
+    }
+
+    @Override
+    public void postStop() {
+        if (null != dispatchQueue) {
+            dispatchQueue.complete();
+        }
+        for (int i = pendingDispatches + waitingDispatches.size(); i > 0; i--) {
+            dispatchQueueSize.decrement();
+        }
+        pendingDispatches = 0;
+        waitingDispatches.clear();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(UpdateSignalFilter.class, update -> signalFilter = update.signalFilter)
+                .match(UpdateClientActorRouter.class, update -> clientActorRouter = update.clientActorRouter)
+                .match(Signal.class, this::handleSignal)
+                .match(DispatchTask.class, this::handleFailedDispatchTask)
+                .matchEquals(DispatchDone.INSTANCE, done -> dispatchDone())
+                .matchAny(m -> {
+                    log.warning("Unknown message: {}", m);
+                    unhandled(m);
+                }).build();
+    }
+
+    private void handleSignal(final Signal<?> signal) {
+        enhanceLogUtil(signal);
+        if (clientActorRouter == null) {
+            logDroppedSignal(signal.getType(), "Client actor not ready.");
+            return;
+        }
+        if (signalFilter == null) {
+            logDroppedSignal(signal.getType(), "No signalFilter configuration available.");
+            return;
+        }
+        if (connectionId.toString().equals(signal.getDittoHeaders().getOrigin().orElse(null))) {
+            logDroppedSignal(signal.getType(), "Was sent by myself.");
+            return;
+        }
+        enqueueDispatchTask(new DispatchTask(signal, signalFilter, clientActorRouter, getSender()));
+    }
+
+    private void enqueueDispatchTask(final DispatchTask dispatchTask) {
+        final int maxPendingSignals = outboundDispatchConfig.getMaxPendingSignals();
+        if (null == dispatchQueue ||
+                maxPendingSignals > 0 && pendingDispatches + waitingDispatches.size() >= maxPendingSignals) {
+            dropDispatchTask(dispatchTask);
+        } else {
+            dispatchQueueSize.increment();
+            if (pendingDispatches >= outboundDispatchConfig.getBufferSize() || !waitingDispatches.isEmpty()) {
+                // keep the order of reception by letting the signal wait behind the already waiting ones
+                waitingDispatches.add(dispatchTask);
+            } else {
+                offerDispatchTask(dispatchTask);
+            }
+        }
+    }
+
+    private void offerDispatchTask(final DispatchTask dispatchTask) {
+        final ActorRef self = getSelf();
+        pendingDispatches++;
+        dispatchQueue.offer(dispatchTask).whenComplete((result, error) -> {
+            if (!QueueOfferResult.enqueued().equals(result)) {
+                // only happens if the stream was completed or failed
+                dispatchDroppedCounter.increment();
+                self.tell(DispatchDone.INSTANCE, ActorRef.noSender());
+            }
+        });
+    }
+
+    private void dropDispatchTask(final DispatchTask dispatchTask) {
+        dispatchDroppedCounter.increment();
+        log.warning("Dropping signal <{}> as it could not be enqueued for dispatching, <{}> signals are waiting for " +
+                "being dispatched.", dispatchTask.signal.getType(), pendingDispatches + waitingDispatches.size());
+    }
+
+    private void dispatchDone() {
+        pendingDispatches--;
+        dispatchQueueSize.decrement();
+        while (pendingDispatches < outboundDispatchConfig.getBufferSize() && !waitingDispatches.isEmpty()) {
+            offerDispatchTask(waitingDispatches.poll());
+        }
+    }
+
+    private void handleFailedDispatchTask(final DispatchTask dispatchTask) {
+        enhanceLogUtil(dispatchTask.signal);
+        final Throwable error = dispatchTask.error;
+        log.warning("Failed to filter the targets of signal <{}>: {}: {}", dispatchTask.signal.getType(),
+                null != error ? error.getClass().getSimpleName() : null,
+                null != error ? error.getMessage() : null);
+    }
+
+    private void enhanceLogUtil(final WithDittoHeaders<?> signal) {
+        ConnectionLogUtil.enhanceLogWithCorrelationIdAndConnectionId(log, signal, connectionId);
+    }
+
+    private void logDroppedSignal(final String type, final String reason) {
+        log.debug("Signal ({}) dropped: {}", type, reason);
+    }
+
+    /**
+     * Message to update the signal filter which determines the targets of the outbound signals.
+     */
+    @Immutable
+    static final class UpdateSignalFilter {
+
+        private final SignalFilter signalFilter;
+
+        UpdateSignalFilter(final SignalFilter signalFilter) {
+            this.signalFilter = signalFilter;
+        }
+
+    }
+
+    /**
+     * Message to update the router of the client actors the outbound signals are dispatched to.
+     */
+    @Immutable
+    static final class UpdateClientActorRouter {
+
+        @Nullable private final ActorRef clientActorRouter;
+
+        UpdateClientActorRouter(@Nullable final ActorRef clientActorRouter) {
+            this.clientActorRouter = clientActorRouter;
+        }
+
+    }
+
+    /**
+     * Message of the dispatching stream to this actor that a signal left the stream.
+     */
+    private enum DispatchDone {
+        INSTANCE
+    }
+
+    /**
+     * A signal together with the signal filter and the client actor router which were current when it was received.
+     * The targets are determined outside of the actor, the determined targets are written back to the task before it
+     * is dispatched.
+     */
+    private final class DispatchTask {
+
+        private final Signal<?> signal;
+        private final SignalFilter signalFilter;
+        private final ActorRef clientActorRouter;
+        private final ActorRef sender;
+        private final long startNanos;
+        private List<Target> targets;
+        @Nullable private Throwable error;
+
+        private DispatchTask(final Signal<?> signal, final SignalFilter signalFilter,
+                final ActorRef clientActorRouter, final ActorRef sender) {
+
+            this.signal = signal;
+            this.signalFilter = signalFilter;
+            this.clientActorRouter = clientActorRouter;
+            this.sender = sender;
+            startNanos = System.nanoTime();
+            targets = Collections.emptyList();
+            error = null;
+        }
+
+        private CompletableFuture<DispatchTask> filter(final Executor filterExecutor) {
+            return CompletableFuture.supplyAsync(() -> {
+                targets = signalFilter.filter(signal);
+                return this;
+            }, filterExecutor).exceptionally(throwable -> {
+                error = throwable instanceof CompletionException && null != throwable.getCause()
+                        ? throwable.getCause()
+                        : throwable;
+                return this;
+            });
+        }
+
+        private void dispatch(final ActorRef dispatchingActor) {
+            if (null != error) {
+                // log the failure inside the actor
+                dispatchingActor.tell(this, ActorRef.noSender());
+            } else if (!targets.isEmpty()) {
+                final OutboundSignal outbound = OutboundSignalFactory.newOutboundSignal(signal, targets);
+                final Object msg = new ConsistentHashingRouter.ConsistentHashableEnvelope(outbound,
+                        outbound.getSource().getEntityId().toString());
+                clientActorRouter.tell(msg, sender);
+            }
+            dispatchLatency.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+
+    }
+
+}
@@ -15,16 +15,23 @@ package org.eclipse.ditto.services.connectivity.messaging.persistence;
 import static org.eclipse.ditto.protocoladapter.TopicPath.Criterion.COMMANDS;
 import static org.eclipse.ditto.protocoladapter.TopicPath.Criterion.EVENTS;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
 
-import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.FilteredTopic;
@@ -37,7 +44,8 @@ import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
 import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactory;
 import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
 import org.eclipse.ditto.model.query.things.ModelBasedThingsFieldExpressionFactory;
-import org.eclipse.ditto.model.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.model.query.things.ThingPredicateCompiler;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.WithThingId;
 import org.eclipse.ditto.protocoladapter.TopicPath;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
@@ -58,12 +66,19 @@ import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
  * <li>removing those targets that do not want to receive a signal</li>
  * <li>removing those targets that are not allowed to read a signal</li>
  * </ul>
+ * <p>
+ * The targets of the connection are indexed once by topic and namespace on construction. The index holds the
+ * authorization subjects of each target and the compiled RQL filters of its topics, so that filtering a signal neither
+ * parses filter strings nor scans topics which cannot apply to the signal.
+ * </p>
  */
 final class SignalFilter {
 
     private final Connection connection;
     private final QueryFilterCriteriaFactory queryFilterCriteriaFactory;
     private final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry;
+    private final List<TargetRoute> targetRoutes;
+    private final Map<Topic, TopicRoutes> routesByTopic;
 
     /**
      * Constructs a new SignalFilter instance with the given {@code connection}.
@@ -77,6 +92,8 @@ final class SignalFilter {
                 new ModelBasedThingsFieldExpressionFactory();
         queryFilterCriteriaFactory = new QueryFilterCriteriaFactory(criteriaFactory, fieldExpressionFactory);
         this.connectionMonitorRegistry = connectionMonitorRegistry;
+        targetRoutes = createTargetRoutes(connection.getTargets());
+        routesByTopic = createRoutesByTopic(targetRoutes);
     }
 
     /**
@@ -88,42 +105,35 @@ final class SignalFilter {
      * Target cannot be mapped to a valid criterion
      */
     List<Target> filter(final Signal<?> signal) {
-        return connection.getTargets().stream()
-                .filter(t -> isTargetAuthorized(t, signal)) // this is cheaper, so check this first
+        final Set<String> readSubjects = signal.getDittoHeaders().getReadSubjects();
+        final boolean[] authorized = new boolean[targetRoutes.size()];
+        for (final TargetRoute targetRoute : targetRoutes) {
+            // this is cheaper, so check this first
+            if (targetRoute.isAuthorized(readSubjects)) {
+                authorized[targetRoute.index] = true;
                 // count authorized targets
-                .peek(authorizedTarget -> connectionMonitorRegistry.forOutboundDispatched(connection.getId(), authorizedTarget.getAddress())
-                        .success(signal))
-                .filter(t -> isTargetSubscribedForTopic(t, signal))
-                // count authorized + filtered targets
-                .peek(filteredTarget -> connectionMonitorRegistry.forOutboundFiltered(connection.getId(), filteredTarget.getAddress())
-                        .success(signal))
-                .collect(Collectors.toList());
-    }
-
-    private static boolean isTargetAuthorized(final Target target, final Signal<?> signal) {
-        final Set<String> authorizedReadSubjects = signal.getDittoHeaders().getReadSubjects();
-        final AuthorizationContext authorizationContext = target.getAuthorizationContext();
-        final List<String> connectionSubjects = authorizationContext.getAuthorizationSubjectIds();
-        return !Collections.disjoint(authorizedReadSubjects, connectionSubjects);
-    }
-
-    private boolean isTargetSubscribedForTopic(final Target target, final Signal<?> signal) {
-        return target.getTopics().stream()
-                .filter(applyTopicFilter(signal))
-                .filter(applyRqlFilter(signal))
-                .anyMatch(applyNamespaceFilter(signal));
-    }
-
-    private static Predicate<FilteredTopic> applyTopicFilter(final Signal<?> signal) {
-        return t -> t.getTopic().equals(topicFromSignal(signal).orElse(null));
-    }
+                connectionMonitorRegistry.forOutboundDispatched(connection.getId(), targetRoute.target.getAddress())
+                        .success(signal);
+            }
+        }
 
-    private Predicate<FilteredTopic> applyRqlFilter(final Signal<?> signal) {
-        return t -> !t.hasFilter() || t.getFilter().filter(f -> matchesFilter(f, signal)).isPresent();
-    }
+        final TopicRoutes topicRoutes = topicFromSignal(signal).map(routesByTopic::get).orElse(null);
+        if (null == topicRoutes) {
+            return Collections.emptyList();
+        }
 
-    private static Predicate<FilteredTopic> applyNamespaceFilter(final WithId signal) {
-        return t -> t.getNamespaces().isEmpty() || t.getNamespaces().contains(namespaceFromId(signal));
+        final SignalThing signalThing = new SignalThing(signal);
+        final List<Target> result = new ArrayList<>();
+        for (final TopicRoute topicRoute : topicRoutes.forNamespace(namespaceFromId(signal))) {
+            if (authorized[topicRoute.targetRoute.index] && topicRoute.matches(signalThing)) {
+                final Target target = topicRoute.targetRoute.target;
+                // count authorized + filtered targets
+                connectionMonitorRegistry.forOutboundFiltered(connection.getId(), target.getAddress())
+                        .success(signal);
+                result.add(target);
+            }
+        }
+        return result;
     }
 
     @Nullable
@@ -131,18 +141,44 @@ final class SignalFilter {
         return NamespaceReader.fromEntityId(withId.getEntityId()).orElse(null);
     }
 
-    private boolean matchesFilter(final String filter, final Signal<?> signal) {
+    private List<TargetRoute> createTargetRoutes(final List<Target> targets) {
+        final List<TargetRoute> result = new ArrayList<>(targets.size());
+        final Map<String, Predicate<SignalThing>> compiledFilters = new HashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            final Target target = targets.get(i);
+            final List<CompiledTopic> compiledTopics = target.getTopics()
+                    .stream()
+                    .map(filteredTopic -> compileTopic(filteredTopic, compiledFilters))
+                    .collect(Collectors.toList());
+            result.add(new TargetRoute(i, target, compiledTopics));
+        }
+        return Collections.unmodifiableList(result);
+    }
 
-        if (signal instanceof ThingEvent) {
+    private CompiledTopic compileTopic(final FilteredTopic filteredTopic,
+            final Map<String, Predicate<SignalThing>> compiledFilters) {
 
-            // currently only ThingEvents may be filtered
-            return ThingEventToThingConverter.thingEventToThing((ThingEvent) signal)
-                    .filter(thing -> ThingPredicateVisitor.apply(parseCriteria(filter, signal.getDittoHeaders()))
-                            .test(thing)
-                    )
-                    .isPresent();
-        } else {
-            return true;
+        @Nullable final Predicate<SignalThing> filterPredicate = filteredTopic.getFilter()
+                .map(filter -> compiledFilters.computeIfAbsent(filter, this::compileFilter))
+                .orElse(null);
+        return new CompiledTopic(filteredTopic, filterPredicate);
+    }
+
+    /**
+     * Compiles each filter of the targets only once for all signals the filter is applied to.
+     * If the filter string is invalid, the returned predicate parses it again for each filtered signal in order to
+     * throw the exception with the headers of that signal.
+     */
+    private Predicate<SignalThing> compileFilter(final String filter) {
+        try {
+            final Predicate<Thing> thingPredicate =
+                    ThingPredicateCompiler.compile(parseCriteria(filter, DittoHeaders.empty()));
+            return signalThing -> signalThing.matches(thingPredicate);
+        } catch (final DittoRuntimeException e) {
+            return signalThing -> signalThing.matches(thing -> {
+                parseCriteria(filter, signalThing.signal.getDittoHeaders());
+                return true;
+            });
         }
     }
 
@@ -201,4 +237,176 @@ final class SignalFilter {
         return criterion;
     }
 
+    private static Map<Topic, TopicRoutes> createRoutesByTopic(final List<TargetRoute> targetRoutes) {
+        final Map<Topic, TopicRoutes> result = new EnumMap<>(Topic.class);
+        for (final Topic topic : Topic.values()) {
+            final List<TopicRoute> routesForAllNamespaces = createTopicRoutes(targetRoutes, topic, null);
+            final Map<String, List<TopicRoute>> routesByNamespace = new HashMap<>();
+            targetRoutes.stream()
+                    .flatMap(targetRoute -> targetRoute.compiledTopics.stream())
+                    .filter(compiledTopic -> topic == compiledTopic.topic)
+                    .flatMap(compiledTopic -> compiledTopic.namespaces.stream())
+                    .distinct()
+                    .forEach(namespace -> routesByNamespace.put(namespace,
+                            createTopicRoutes(targetRoutes, topic, namespace)));
+            if (!routesForAllNamespaces.isEmpty() || !routesByNamespace.isEmpty()) {
+                result.put(topic, new TopicRoutes(routesByNamespace, routesForAllNamespaces));
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static List<TopicRoute> createTopicRoutes(final List<TargetRoute> targetRoutes, final Topic topic,
+            @Nullable final String namespace) {
+
+        final List<TopicRoute> result = new ArrayList<>();
+        for (final TargetRoute targetRoute : targetRoutes) {
+            final List<CompiledTopic> applicableTopics = targetRoute.compiledTopics.stream()
+                    .filter(compiledTopic -> topic == compiledTopic.topic)
+                    .filter(compiledTopic -> compiledTopic.namespaces.isEmpty() ||
+                            compiledTopic.namespaces.contains(namespace))
+                    .collect(Collectors.toList());
+            if (!applicableTopics.isEmpty()) {
+                result.add(new TopicRoute(targetRoute, applicableTopics));
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * A target together with the authorization subjects and the compiled topics of the target.
+     */
+    @Immutable
+    private static final class TargetRoute {
+
+        private final int index;
+        private final Target target;
+        private final Set<String> authorizationSubjectIds;
+        private final List<CompiledTopic> compiledTopics;
+
+        private TargetRoute(final int index, final Target target, final List<CompiledTopic> compiledTopics) {
+            this.index = index;
+            this.target = target;
+            authorizationSubjectIds =
+                    Collections.unmodifiableSet(
+                            new HashSet<>(target.getAuthorizationContext().getAuthorizationSubjectIds()));
+            this.compiledTopics = Collections.unmodifiableList(compiledTopics);
+        }
+
+        private boolean isAuthorized(final Set<String> readSubjects) {
+            return !Collections.disjoint(readSubjects, authorizationSubjectIds);
+        }
+
+    }
+
+    /**
+     * A filtered topic of a target with its namespaces and its compiled RQL filter.
+     */
+    @Immutable
+    private static final class CompiledTopic {
+
+        private final Topic topic;
+        private final Set<String> namespaces;
+        @Nullable private final Predicate<SignalThing> filterPredicate;
+
+        private CompiledTopic(final FilteredTopic filteredTopic,
+                @Nullable final Predicate<SignalThing> filterPredicate) {
+
+            topic = filteredTopic.getTopic();
+            namespaces = Collections.unmodifiableSet(new HashSet<>(filteredTopic.getNamespaces()));
+            this.filterPredicate = filterPredicate;
+        }
+
+        private boolean matches(final SignalThing signalThing) {
+            return null == filterPredicate || filterPredicate.test(signalThing);
+        }
+
+    }
+
+    /**
+     * A target which subscribed for a particular topic and namespace with the compiled topics which apply to them.
+     */
+    @Immutable
+    private static final class TopicRoute {
+
+        private final TargetRoute targetRoute;
+        private final List<CompiledTopic> applicableTopics;
+
+        private TopicRoute(final TargetRoute targetRoute, final List<CompiledTopic> applicableTopics) {
+            this.targetRoute = targetRoute;
+            this.applicableTopics = Collections.unmodifiableList(applicableTopics);
+        }
+
+        private boolean matches(final SignalThing signalThing) {
+            for (final CompiledTopic applicableTopic : applicableTopics) {
+                if (applicableTopic.matches(signalThing)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+    /**
+     * The routes of one topic in the order of the targets of the connection.
+     */
+    @Immutable
+    private static final class TopicRoutes {
+
+        private final Map<String, List<TopicRoute>> routesByNamespace;
+        private final List<TopicRoute> routesForAllNamespaces;
+
+        private TopicRoutes(final Map<String, List<TopicRoute>> routesByNamespace,
+                final List<TopicRoute> routesForAllNamespaces) {
+
+            this.routesByNamespace = Collections.unmodifiableMap(routesByNamespace);
+            this.routesForAllNamespaces = routesForAllNamespaces;
+        }
+
+        private List<TopicRoute> forNamespace(@Nullable final String namespace) {
+            if (null == namespace) {
+                return routesForAllNamespaces;
+            }
+            return routesByNamespace.getOrDefault(namespace, routesForAllNamespaces);
+        }
+
+    }
+
+    /**
+     * Converts a {@link ThingEvent} to a {@link Thing} at most once, no matter how many filters are applied to it.
+     */
+    @NotThreadSafe
+    private static final class SignalThing {
+
+        private final Signal<?> signal;
+        private boolean converted;
+        @Nullable private Thing thing;
+
+        private SignalThing(final Signal<?> signal) {
+            this.signal = signal;
+            converted = false;
+            thing = null;
+        }
+
+        private boolean matches(final Predicate<Thing> thingPredicate) {
+            if (signal instanceof ThingEvent) {
+                // currently only ThingEvents may be filtered
+                return null != getThing() && thingPredicate.test(thing);
+            } else {
+                return true;
+            }
+        }
+
+        @Nullable
+        private Thing getThing() {
+            if (!converted) {
+                thing = ThingEventToThingConverter.thingEventToThing((ThingEvent) signal).orElse(null);
+                converted = true;
+            }
+            return thing;
+        }
+
+    }
+
 }
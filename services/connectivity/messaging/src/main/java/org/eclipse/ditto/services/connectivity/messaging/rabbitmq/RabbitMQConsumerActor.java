@@ -32,6 +32,7 @@ import org.eclipse.ditto.model.connectivity.ResourceStatus;
 import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
 import org.eclipse.ditto.services.connectivity.messaging.BaseConsumerActor;
+import org.eclipse.ditto.services.connectivity.messaging.MessageMappingProcessorActor;
 import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageBuilder;
@@ -95,6 +96,7 @@ public final class RabbitMQConsumerActor extends BaseConsumerActor {
         return ReceiveBuilder.create()
                 .match(Delivery.class, this::handleDelivery)
                 .match(ResourceStatus.class, this::handleAddressStatus)
+                .match(MessageMappingProcessorActor.ConsumedMessageMapped.class, this::handleConsumedMessageMapped)
                 .match(RetrieveAddressStatus.class, ram -> getSender().tell(getCurrentSourceStatus(), getSelf()))
                 .matchAny(m -> {
                     log.warning("Unknown message: {}", m);
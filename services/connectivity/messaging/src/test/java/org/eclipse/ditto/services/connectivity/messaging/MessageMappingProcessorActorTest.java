@@ -72,6 +72,8 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
@@ -405,6 +407,86 @@ public final class MessageMappingProcessorActorTest {
         }};
     }
 
+    @Test
+    public void testCommandResponsesOfOneThingAreDispatchedInOrder() {
+        new TestKit(actorSystem) {{
+            final ActorRef messageMappingProcessorActor = createMessageMappingProcessorActor(this);
+
+            final String[] correlationIds = new String[20];
+            for (int i = 0; i < correlationIds.length; i++) {
+                correlationIds[i] = UUID.randomUUID().toString();
+                final ModifyAttributeResponse commandResponse =
+                        ModifyAttributeResponse.modified(KNOWN_THING_ID, JsonPointer.of("foo"),
+                                DittoHeaders.newBuilder()
+                                        .correlationId(correlationIds[i])
+                                        .build());
+                messageMappingProcessorActor.tell(commandResponse, getRef());
+            }
+
+            for (final String correlationId : correlationIds) {
+                final OutboundSignal.Mapped outboundSignal =
+                        expectMsgClass(PublishMappedMessage.class).getOutboundSignal();
+                assertThat(outboundSignal.getSource().getDittoHeaders().getCorrelationId())
+                        .contains(correlationId);
+            }
+        }};
+    }
+
+    @Test
+    public void testCommandResponsesExceedingTheBufferSizeAreNotDropped() {
+        final ActorSystem smallBufferSystem = ActorSystem.create("SmallMappingBuffer",
+                ConfigFactory.parseString("ditto.connectivity.mapping-processor.buffer-size = 2")
+                        .withFallback(TestConstants.CONFIG));
+        try {
+            new TestKit(smallBufferSystem) {{
+                final ActorRef messageMappingProcessorActor = smallBufferSystem.actorOf(
+                        MessageMappingProcessorActor.props(getRef(), getRef(), getMessageMappingProcessor(),
+                                CONNECTION_ID));
+
+                final String[] correlationIds = new String[20];
+                for (int i = 0; i < correlationIds.length; i++) {
+                    correlationIds[i] = UUID.randomUUID().toString();
+                    final ModifyAttributeResponse commandResponse =
+                            ModifyAttributeResponse.modified(KNOWN_THING_ID, JsonPointer.of("foo"),
+                                    DittoHeaders.newBuilder()
+                                            .correlationId(correlationIds[i])
+                                            .build());
+                    messageMappingProcessorActor.tell(commandResponse, getRef());
+                }
+
+                for (final String correlationId : correlationIds) {
+                    final OutboundSignal.Mapped outboundSignal =
+                            expectMsgClass(PublishMappedMessage.class).getOutboundSignal();
+                    assertThat(outboundSignal.getSource().getDittoHeaders().getCorrelationId())
+                            .contains(correlationId);
+                }
+            }};
+        } finally {
+            TestKit.shutdownActorSystem(smallBufferSystem);
+        }
+    }
+
+    @Test
+    public void testConsumedMessageIsAcknowledgedAfterMapping() {
+        new TestKit(actorSystem) {{
+            final ActorRef messageMappingProcessorActor = createMessageMappingProcessorActor(this);
+            final ModifyAttribute modifyCommand = createModifyAttributeCommand();
+            final ExternalMessage externalMessage =
+                    ExternalMessageFactory.newExternalMessageBuilder(modifyCommand.getDittoHeaders())
+                            .withText(ProtocolFactory
+                                    .wrapAsJsonifiableAdaptable(DITTO_PROTOCOL_ADAPTER.toAdaptable(modifyCommand))
+                                    .toJsonString())
+                            .withAuthorizationContext(AUTHORIZATION_CONTEXT)
+                            .build();
+
+            messageMappingProcessorActor.tell(new MessageMappingProcessorActor.ConsumedMessage(externalMessage),
+                    getRef());
+
+            expectMsgClass(ModifyAttribute.class);
+            expectMsg(MessageMappingProcessorActor.ConsumedMessageMapped.INSTANCE);
+        }};
+    }
+
 
     @Test
     public void testThingNotAccessibleExceptionRetainsTopic() {
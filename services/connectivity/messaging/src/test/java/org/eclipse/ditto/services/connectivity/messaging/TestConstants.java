@@ -211,12 +211,15 @@ public final class TestConstants {
             public CompletionStage<Void> subscribe(final Collection<StreamingType> types,
                     final Collection<String> topics, final ActorRef subscriber) {
                 doDelegate(d -> d.subscribe(types, topics, subscriber));
-                return CompletableFuture.allOf(types.stream()
-                        .map(type -> {
-                            final Object sub = DistPubSubAccess.subscribe(type.getDistributedPubSubTopic(), subscriber);
-                            return Patterns.ask(pubSubMediator, sub, Duration.ofSeconds(10L)).toCompletableFuture();
-                        })
-                        .toArray(CompletableFuture[]::new));
+                return subscribeViaMediator(types, subscriber);
+            }
+
+            @Override
+            public CompletionStage<Void> subscribe(final Collection<StreamingType> types,
+                    final Collection<String> topics, final Collection<String> twinEventTopics,
+                    final ActorRef subscriber) {
+                doDelegate(d -> d.subscribe(types, topics, twinEventTopics, subscriber));
+                return subscribeViaMediator(types, subscriber);
             }
 
             @Override
@@ -238,6 +241,16 @@ public final class TestConstants {
                 return CompletableFuture.completedFuture(null);
             }
 
+            private CompletionStage<Void> subscribeViaMediator(final Collection<StreamingType> types,
+                    final ActorRef subscriber) {
+                return CompletableFuture.allOf(types.stream()
+                        .map(type -> {
+                            final Object sub = DistPubSubAccess.subscribe(type.getDistributedPubSubTopic(), subscriber);
+                            return Patterns.ask(pubSubMediator, sub, Duration.ofSeconds(10L)).toCompletableFuture();
+                        })
+                        .toArray(CompletableFuture[]::new));
+            }
+
             private void doDelegate(final Consumer<DittoProtocolSub> c) {
                 if (delegate != null) {
                     c.accept(delegate);
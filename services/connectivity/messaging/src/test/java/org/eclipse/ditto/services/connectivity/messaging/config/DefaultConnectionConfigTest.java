@@ -22,6 +22,7 @@ import java.time.Duration;
 import org.assertj.core.api.JUnitSoftAssertions;
 import org.eclipse.ditto.services.base.config.supervision.DefaultSupervisorConfig;
 import org.eclipse.ditto.services.base.config.supervision.ExponentialBackOffConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.EventBatchConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 import org.junit.BeforeClass;
 import org.junit.Rule;
@@ -55,6 +56,7 @@ public final class DefaultConnectionConfigTest {
                         .areSafelyCopiedUnmodifiableCollectionsWithImmutableElements(),
                 provided(DefaultSupervisorConfig.class,
                         SnapshotConfig.class,
+                        EventBatchConfig.class,
                         DefaultMqttConfig.class,
                         DefaultKafkaConfig.class,
                         DefaultAmqp10Config.class
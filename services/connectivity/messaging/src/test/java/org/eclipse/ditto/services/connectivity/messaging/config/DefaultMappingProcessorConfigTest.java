@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.config;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.connectivity.messaging.config.DefaultMappingProcessorConfig}.
+ */
+public final class DefaultMappingProcessorConfigTest {
+
+    private static Config mappingProcessorTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        mappingProcessorTestConf = ConfigFactory.load("mapping-processor-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultMappingProcessorConfig.class,
+                areImmutable(),
+                provided(MappingProcessorConfig.Ordering.class).isAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultMappingProcessorConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultMappingProcessorConfig underTest = DefaultMappingProcessorConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.getParallelism())
+                .as(MappingProcessorConfig.MappingProcessorConfigValue.PARALLELISM.getConfigPath())
+                .isEqualTo(MappingProcessorConfig.MappingProcessorConfigValue.PARALLELISM.getDefaultValue());
+        softly.assertThat(underTest.getBufferSize())
+                .as(MappingProcessorConfig.MappingProcessorConfigValue.BUFFER_SIZE.getConfigPath())
+                .isEqualTo(MappingProcessorConfig.MappingProcessorConfigValue.BUFFER_SIZE.getDefaultValue());
+        softly.assertThat(underTest.getMaxInFlightPerConsumer())
+                .as(MappingProcessorConfig.MappingProcessorConfigValue.MAX_IN_FLIGHT_PER_CONSUMER.getConfigPath())
+                .isEqualTo(MappingProcessorConfig.MappingProcessorConfigValue.MAX_IN_FLIGHT_PER_CONSUMER
+                        .getDefaultValue());
+        softly.assertThat(underTest.getOrdering())
+                .as(MappingProcessorConfig.MappingProcessorConfigValue.ORDERING.getConfigPath())
+                .isEqualTo(MappingProcessorConfig.Ordering.PER_ENTITY);
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultMappingProcessorConfig underTest = DefaultMappingProcessorConfig.of(mappingProcessorTestConf);
+
+        softly.assertThat(underTest.getParallelism())
+                .as(MappingProcessorConfig.MappingProcessorConfigValue.PARALLELISM.getConfigPath())
+                .isEqualTo(4);
+        softly.assertThat(underTest.getBufferSize())
+                .as(MappingProcessorConfig.MappingProcessorConfigValue.BUFFER_SIZE.getConfigPath())
+                .isEqualTo(50);
+        softly.assertThat(underTest.getMaxInFlightPerConsumer())
+                .as(MappingProcessorConfig.MappingProcessorConfigValue.MAX_IN_FLIGHT_PER_CONSUMER.getConfigPath())
+                .isEqualTo(20);
+        softly.assertThat(underTest.getOrdering())
+                .as(MappingProcessorConfig.MappingProcessorConfigValue.ORDERING.getConfigPath())
+                .isEqualTo(MappingProcessorConfig.Ordering.STRICT);
+    }
+
+    @Test
+    public void unknownOrderingIsRejected() {
+        final Config config = ConfigFactory.parseString("mapping-processor.ordering = \"random\"");
+
+        assertThatExceptionOfType(DittoConfigError.class)
+                .isThrownBy(() -> DefaultMappingProcessorConfig.of(config));
+    }
+
+}
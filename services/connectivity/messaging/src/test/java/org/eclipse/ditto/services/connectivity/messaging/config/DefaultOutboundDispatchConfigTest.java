@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.connectivity.messaging.config.DefaultOutboundDispatchConfig}.
+ */
+public final class DefaultOutboundDispatchConfigTest {
+
+    private static Config outboundDispatchTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        outboundDispatchTestConf = ConfigFactory.load("outbound-dispatch-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultOutboundDispatchConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultOutboundDispatchConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultOutboundDispatchConfig underTest = DefaultOutboundDispatchConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.getParallelism())
+                .as(OutboundDispatchConfig.OutboundDispatchConfigValue.PARALLELISM.getConfigPath())
+                .isEqualTo(OutboundDispatchConfig.OutboundDispatchConfigValue.PARALLELISM.getDefaultValue());
+        softly.assertThat(underTest.getBufferSize())
+                .as(OutboundDispatchConfig.OutboundDispatchConfigValue.BUFFER_SIZE.getConfigPath())
+                .isEqualTo(OutboundDispatchConfig.OutboundDispatchConfigValue.BUFFER_SIZE.getDefaultValue());
+        softly.assertThat(underTest.getMaxPendingSignals())
+                .as(OutboundDispatchConfig.OutboundDispatchConfigValue.MAX_PENDING_SIGNALS.getConfigPath())
+                .isEqualTo(OutboundDispatchConfig.OutboundDispatchConfigValue.MAX_PENDING_SIGNALS.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultOutboundDispatchConfig underTest = DefaultOutboundDispatchConfig.of(outboundDispatchTestConf);
+
+        softly.assertThat(underTest.getParallelism())
+                .as(OutboundDispatchConfig.OutboundDispatchConfigValue.PARALLELISM.getConfigPath())
+                .isEqualTo(2);
+        softly.assertThat(underTest.getBufferSize())
+                .as(OutboundDispatchConfig.OutboundDispatchConfigValue.BUFFER_SIZE.getConfigPath())
+                .isEqualTo(100);
+        softly.assertThat(underTest.getMaxPendingSignals())
+                .as(OutboundDispatchConfig.OutboundDispatchConfigValue.MAX_PENDING_SIGNALS.getConfigPath())
+                .isEqualTo(1000);
+    }
+
+}
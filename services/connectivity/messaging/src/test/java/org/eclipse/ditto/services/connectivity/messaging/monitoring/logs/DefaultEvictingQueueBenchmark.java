@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.monitoring.logs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures adding log entries to a full {@link DefaultEvictingQueue}, which evicts the oldest entry for each added
+ * one, and reading all entries of the queue.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class DefaultEvictingQueueBenchmark {
+
+    private static final String ENTRY = "log entry";
+
+    @Param({"10", "1000"})
+    public int capacity;
+
+    private EvictingQueue<String> queue;
+
+    @Setup
+    public void setUp() {
+        queue = DefaultEvictingQueue.withCapacity(capacity);
+        for (int i = 0; i < capacity; i++) {
+            queue.offer(ENTRY);
+        }
+    }
+
+    @Benchmark
+    public boolean offer() {
+        return queue.offer(ENTRY);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean offerConcurrently() {
+        return queue.offer(ENTRY);
+    }
+
+    @Benchmark
+    public List<String> readAll() {
+        return new ArrayList<>(queue);
+    }
+
+}
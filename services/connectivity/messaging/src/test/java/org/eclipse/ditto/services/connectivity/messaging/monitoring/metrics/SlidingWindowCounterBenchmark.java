@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.monitoring.metrics;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures recording and reading measurements of a {@link SlidingWindowCounter} with the default windows of a
+ * connection, both by a single thread and by concurrent threads sharing the counter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class SlidingWindowCounterBenchmark {
+
+    private SlidingWindowCounter counter;
+
+    @Setup
+    public void setUp() {
+        counter = new SlidingWindowCounter(Clock.systemUTC(), MeasurementWindow.values());
+        for (int i = 0; i < 10_000; i++) {
+            counter.increment(i % 10 != 0);
+        }
+    }
+
+    @Benchmark
+    public void increment() {
+        counter.increment();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void incrementConcurrently() {
+        counter.increment();
+    }
+
+    @Benchmark
+    public Map<Duration, Long> getCounts() {
+        return counter.getCounts(true);
+    }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.connectivity.messaging.config.DefaultOutboundDispatchConfig;
+import org.eclipse.ditto.services.connectivity.messaging.config.OutboundDispatchConfig;
+import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
+import org.eclipse.ditto.signals.events.things.ThingModified;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.routing.ConsistentHashingRouter;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link OutboundDispatchingActor}.
+ */
+public final class OutboundDispatchingActorTest {
+
+    private static ActorSystem actorSystem;
+
+    @BeforeClass
+    public static void setUp() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", TestConstants.CONFIG);
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem, scala.concurrent.duration.Duration.apply(5, TimeUnit.SECONDS),
+                    false);
+        }
+    }
+
+    @Test
+    public void dispatchSignalsInOrderToClientActorRouter() {
+        new TestKit(actorSystem) {{
+            final ConnectionId connectionId = TestConstants.createRandomConnectionId();
+            final Connection connection = TestConstants.createConnection(connectionId);
+            final TestKit clientActorRouter = new TestKit(actorSystem);
+            final ActorRef underTest = createOutboundDispatchingActor(connection, clientActorRouter.getRef());
+
+            for (long revision = 1; revision <= 20; revision++) {
+                underTest.tell(thingModified(revision), getRef());
+            }
+
+            for (long revision = 1; revision <= 20; revision++) {
+                final ConsistentHashingRouter.ConsistentHashableEnvelope envelope =
+                        clientActorRouter.expectMsgClass(ConsistentHashingRouter.ConsistentHashableEnvelope.class);
+                assertThat(envelope.hashKey()).isEqualTo(TestConstants.Things.THING_ID.toString());
+                final OutboundSignal outboundSignal = (OutboundSignal) envelope.message();
+                assertThat(((ThingModified) outboundSignal.getSource()).getRevision()).isEqualTo(revision);
+                assertThat(outboundSignal.getTargets()).containsExactly(TestConstants.Targets.TWIN_TARGET);
+                assertThat(clientActorRouter.getLastSender()).isEqualTo(getRef());
+            }
+        }};
+    }
+
+    @Test
+    public void signalsExceedingTheBufferSizeAreNotDropped() {
+        new TestKit(actorSystem) {{
+            final ConnectionId connectionId = TestConstants.createRandomConnectionId();
+            final Connection connection = TestConstants.createConnection(connectionId);
+            final TestKit clientActorRouter = new TestKit(actorSystem);
+            final OutboundDispatchConfig outboundDispatchConfig = DefaultOutboundDispatchConfig.of(
+                    ConfigFactory.parseString("outbound-dispatch { parallelism = 1, buffer-size = 2 }"));
+            final ActorRef underTest =
+                    createOutboundDispatchingActor(connection, clientActorRouter.getRef(), outboundDispatchConfig);
+
+            for (long revision = 1; revision <= 50; revision++) {
+                underTest.tell(thingModified(revision), getRef());
+            }
+
+            for (long revision = 1; revision <= 50; revision++) {
+                final ConsistentHashingRouter.ConsistentHashableEnvelope envelope =
+                        clientActorRouter.expectMsgClass(ConsistentHashingRouter.ConsistentHashableEnvelope.class);
+                final OutboundSignal outboundSignal = (OutboundSignal) envelope.message();
+                assertThat(((ThingModified) outboundSignal.getSource()).getRevision()).isEqualTo(revision);
+            }
+            clientActorRouter.expectNoMessage();
+        }};
+    }
+
+    @Test
+    public void dropSignalsWithoutClientActorRouter() {
+        new TestKit(actorSystem) {{
+            final ConnectionId connectionId = TestConstants.createRandomConnectionId();
+            final Connection connection = TestConstants.createConnection(connectionId);
+            final TestKit clientActorRouter = new TestKit(actorSystem);
+            final ActorRef underTest = createOutboundDispatchingActor(connection, clientActorRouter.getRef());
+
+            underTest.tell(new OutboundDispatchingActor.UpdateClientActorRouter(null), getRef());
+            underTest.tell(thingModified(1L), getRef());
+
+            clientActorRouter.expectNoMessage();
+        }};
+    }
+
+    @Test
+    public void dropSignalsSentByTheConnectionItself() {
+        new TestKit(actorSystem) {{
+            final ConnectionId connectionId = TestConstants.createRandomConnectionId();
+            final Connection connection = TestConstants.createConnection(connectionId);
+            final TestKit clientActorRouter = new TestKit(actorSystem);
+            final ActorRef underTest = createOutboundDispatchingActor(connection, clientActorRouter.getRef());
+
+            final ThingModified thingModified = thingModified(1L);
+            underTest.tell(thingModified.setDittoHeaders(thingModified.getDittoHeaders()
+                    .toBuilder()
+                    .origin(connectionId)
+                    .build()), getRef());
+
+            clientActorRouter.expectNoMessage();
+        }};
+    }
+
+    private static ActorRef createOutboundDispatchingActor(final Connection connection,
+            final ActorRef clientActorRouter) {
+
+        return createOutboundDispatchingActor(connection, clientActorRouter,
+                TestConstants.CONNECTIVITY_CONFIG.getOutboundDispatchConfig());
+    }
+
+    private static ActorRef createOutboundDispatchingActor(final Connection connection,
+            final ActorRef clientActorRouter, final OutboundDispatchConfig outboundDispatchConfig) {
+
+        final ActorRef underTest =
+                actorSystem.actorOf(OutboundDispatchingActor.props(connection.getId(), outboundDispatchConfig));
+        underTest.tell(new OutboundDispatchingActor.UpdateSignalFilter(
+                new SignalFilter(connection, TestConstants.Monitoring.MONITOR_REGISTRY_MOCK)), ActorRef.noSender());
+        underTest.tell(new OutboundDispatchingActor.UpdateClientActorRouter(clientActorRouter), ActorRef.noSender());
+        return underTest;
+    }
+
+    private static ThingModified thingModified(final long revision) {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .readSubjects(TestConstants.Authorization.AUTHORIZATION_CONTEXT.getAuthorizationSubjectIds())
+                .build();
+        return ThingModified.of(TestConstants.Things.THING, revision, dittoHeaders);
+    }
+
+}
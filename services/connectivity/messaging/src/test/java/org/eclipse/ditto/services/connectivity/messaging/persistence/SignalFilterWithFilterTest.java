@@ -27,6 +27,7 @@ import org.assertj.core.api.Assertions;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.ConnectionId;
@@ -183,4 +184,66 @@ public class SignalFilterWithFilterTest {
                 .assertThat(filteredTargets)
                 .contains(targetA, targetD); // THEN: only targetA and targetD should be in the filtered targets
     }
+
+    @Test
+    public void applySignalFilterWithSeveralFilteredTopicsPerTarget() {
+
+        // targetA filters namespace "foo" for attribute "test" == 1 and all namespaces for attribute "test" == 42
+        final Target targetA = newTarget("twin/a", newAuthContext(AUTHORIZED), HEADER_MAPPING, null,
+                newFilteredTopic(TWIN_EVENTS, Collections.singletonList("foo"), "eq(attributes/test,1)"),
+                newFilteredTopic(TWIN_EVENTS, Collections.emptyList(), "eq(attributes/test,42)"));
+
+        // targetB filters namespace "foo" for attribute "test" == 1 and namespace "org.example" without RQL filter
+        final Target targetB = newTarget("twin/b", newAuthContext(AUTHORIZED), HEADER_MAPPING, null,
+                newFilteredTopic(TWIN_EVENTS, Collections.singletonList("foo"), "eq(attributes/test,1)"),
+                newFilteredTopic(TWIN_EVENTS, Collections.singletonList("org.example")));
+
+        final Connection connection = ConnectivityModelFactory
+                .newConnectionBuilder(CONNECTION_ID, ConnectionType.AMQP_10, ConnectivityStatus.OPEN, URI)
+                .targets(Arrays.asList(targetA, targetB))
+                .build();
+
+        final Thing thing = Thing.newBuilder()
+                .setId(THING_ID) // WHEN: the namespace of the modifed thing is "foo"
+                .setAttribute(JsonPointer.of("test"), JsonValue.of(42)) // WHEN: the "test" value is 42
+                .build();
+        final DittoHeaders headers = DittoHeaders.newBuilder().readSubjects(Arrays.asList(AUTHORIZED.getId()))
+                .build();
+        final ThingModified thingModified = ThingModified.of(thing, 3L, headers);
+
+        final SignalFilter signalFilter = new SignalFilter(connection, connectionMonitorRegistry);
+        final List<Target> filteredTargets = signalFilter.filter(thingModified);
+        Assertions
+                .assertThat(filteredTargets)
+                .isEqualTo(Collections.singletonList(targetA)); // THEN: only targetA should be in the filtered targets
+    }
+
+    @Test
+    public void applySignalFilterWithInvalidRqlFilter() {
+
+        final Target target = newTarget("twin/a", newAuthContext(AUTHORIZED), HEADER_MAPPING, null,
+                newFilteredTopic(TWIN_EVENTS, Collections.emptyList(), "gt(attributes/test"));
+
+        final Connection connection = ConnectivityModelFactory
+                .newConnectionBuilder(CONNECTION_ID, ConnectionType.AMQP_10, ConnectivityStatus.OPEN, URI)
+                .targets(Collections.singletonList(target))
+                .build();
+
+        final Thing thing = Thing.newBuilder().setId(THING_ID).build();
+        final DittoHeaders headers = DittoHeaders.newBuilder()
+                .readSubjects(Arrays.asList(AUTHORIZED.getId()))
+                .correlationId("invalid-filter")
+                .build();
+        final ThingModified thingModified = ThingModified.of(thing, 3L, headers);
+
+        // WHEN: the connection is opened with an invalid filter
+        final SignalFilter signalFilter = new SignalFilter(connection, connectionMonitorRegistry);
+
+        // THEN: filtering a thing event fails with the headers of the event
+        Assertions.assertThatExceptionOfType(InvalidRqlExpressionException.class)
+                .isThrownBy(() -> signalFilter.filter(thingModified))
+                .satisfies(e -> Assertions.assertThat(e.getDittoHeaders().getCorrelationId())
+                        .contains("invalid-filter"));
+    }
+
 }
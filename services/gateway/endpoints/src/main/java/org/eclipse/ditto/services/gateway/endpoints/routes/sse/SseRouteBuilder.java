@@ -12,11 +12,13 @@
  */
 package org.eclipse.ditto.services.gateway.endpoints.routes.sse;
 
+import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.services.gateway.endpoints.utils.EventSniffer;
+import org.eclipse.ditto.services.gateway.endpoints.utils.SignalRenderingCache;
 
 import akka.http.javadsl.model.sse.ServerSentEvent;
 import akka.http.javadsl.server.RequestContext;
@@ -56,6 +58,17 @@ public interface SseRouteBuilder {
      */
     SseRouteBuilder withSseConnectionSupervisor(SseConnectionSupervisor sseConnectionSupervisor);
 
+    /**
+     * Sets the given cache to share the rendering of an event among all SSE connections receiving it with the same
+     * schema version and field selector. The rendering is empty if the event is not to be sent.
+     * If no cache is set each connection renders each event itself.
+     *
+     * @param signalRenderingCache the cache to be used.
+     * @return this builder instance to allow method chaining.
+     * @throws NullPointerException if {@code signalRenderingCache} is {@code null}.
+     */
+    SseRouteBuilder withSignalRenderingCache(SignalRenderingCache<Optional<String>> signalRenderingCache);
+
     /**
      * Creates the Akka HTTP route for SSE.
      *
@@ -47,6 +47,7 @@ import org.eclipse.ditto.services.gateway.endpoints.routes.sse.SseAuthorizationE
 import org.eclipse.ditto.services.gateway.endpoints.routes.sse.SseConnectionSupervisor;
 import org.eclipse.ditto.services.gateway.endpoints.routes.sse.SseRouteBuilder;
 import org.eclipse.ditto.services.gateway.endpoints.utils.EventSniffer;
+import org.eclipse.ditto.services.gateway.endpoints.utils.SignalRenderingCache;
 import org.eclipse.ditto.services.gateway.streaming.Connect;
 import org.eclipse.ditto.services.gateway.streaming.StartStreaming;
 import org.eclipse.ditto.services.gateway.streaming.actors.EventAndResponsePublisher;
@@ -92,6 +93,7 @@ public final class ThingsSseRouteBuilder implements SseRouteBuilder {
     private SseAuthorizationEnforcer sseAuthorizationEnforcer;
     private SseConnectionSupervisor sseConnectionSupervisor;
     private EventSniffer<ServerSentEvent> eventSniffer;
+    private SignalRenderingCache<Optional<String>> signalRenderingCache;
 
     private ThingsSseRouteBuilder(final ActorRef streamingActor,
             final QueryFilterCriteriaFactory queryFilterCriteriaFactory) {
@@ -101,6 +103,7 @@ public final class ThingsSseRouteBuilder implements SseRouteBuilder {
         sseAuthorizationEnforcer = new NoOpSseAuthorizationEnforcer();
         sseConnectionSupervisor = new NoOpSseConnectionSupervisor();
         eventSniffer = EventSniffer.noOp();
+        signalRenderingCache = SignalRenderingCache.disabled();
     }
 
     /**
@@ -136,6 +139,14 @@ public final class ThingsSseRouteBuilder implements SseRouteBuilder {
         return this;
     }
 
+    @Override
+    public ThingsSseRouteBuilder withSignalRenderingCache(
+            final SignalRenderingCache<Optional<String>> signalRenderingCache) {
+
+        this.signalRenderingCache = checkNotNull(signalRenderingCache, "signalRenderingCache");
+        return this;
+    }
+
     /**
      * Describes {@code /things} SSE route.
      *
@@ -229,6 +240,9 @@ public final class ThingsSseRouteBuilder implements SseRouteBuilder {
                         queryFilterCriteriaFactory.filterCriteria(filterString, dittoHeaders);
                     }
 
+                    final JsonSchemaVersion jsonSchemaVersion = dittoHeaders.getSchemaVersion()
+                            .orElse(dittoHeaders.getImplementedSchemaVersion());
+
                     return Source.<Jsonifiable.WithPredicate<JsonObject, JsonField>>actorPublisher(
                             EventAndResponsePublisher.props(10))
                             .mapMaterializedValue(publisherActor -> {
@@ -239,7 +253,8 @@ public final class ThingsSseRouteBuilder implements SseRouteBuilder {
                                     null);
                             streamingActor.tell(
                                     new StartStreaming(StreamingType.EVENTS, connectionCorrelationId,
-                                            dittoHeaders.getAuthorizationContext(), namespaces, filterString), null);
+                                            dittoHeaders.getAuthorizationContext(), namespaces, targetThingIds,
+                                            filterString), null);
                             return NotUsed.getInstance();
                         })
                         .filter(jsonifiable -> jsonifiable instanceof ThingEvent)
@@ -250,22 +265,12 @@ public final class ThingsSseRouteBuilder implements SseRouteBuilder {
                             )
                             .filter(thingEvent -> namespaces.isEmpty() ||
                                     namespaces.contains(namespaceFromId(thingEvent)))
-                            .map(ThingEventToThingConverter::thingEventToThing)
+                            .map(thingEvent -> signalRenderingCache.render(thingEvent,
+                                    Arrays.asList(jsonSchemaVersion, fieldSelector),
+                                    () -> thingEventToJsonString(thingEvent, jsonSchemaVersion, fieldSelector)))
                             .filter(Optional::isPresent)
                             .map(Optional::get)
-                            .map(thing -> {
-                            final JsonSchemaVersion jsonSchemaVersion = dittoHeaders.getSchemaVersion()
-                                    .orElse(dittoHeaders.getImplementedSchemaVersion());
-                            return null != fieldSelector
-                                    ? thing.toJson(jsonSchemaVersion, fieldSelector)
-                                    : thing.toJson(jsonSchemaVersion);
-                        })
-                            .filter(thingJson -> fieldSelector == null || fieldSelector.getPointers().stream()
-                                    .filter(p -> !p.equals(Thing.JsonFields.ID.getPointer())) // ignore "thingId"
-                                    .anyMatch(
-                                            thingJson::contains)) // check if the resulting JSON did contain ANY of the requested fields
-                            .filter(thingJson -> !thingJson.isEmpty()) // avoid sending back empty jsonValues
-                            .map(jsonValue -> ServerSentEvent.create(jsonValue.toString()))
+                            .map(ServerSentEvent::create)
                             .via(Flow.fromFunction(msg -> {
                                 messageCounter.increment();
                                 return msg;
@@ -278,6 +283,22 @@ public final class ThingsSseRouteBuilder implements SseRouteBuilder {
         return Directives.completeOKWithFuture(sseSourceStage, EventStreamMarshalling.toEventStream());
     }
 
+    private static Optional<String> thingEventToJsonString(final ThingEvent thingEvent,
+            final JsonSchemaVersion jsonSchemaVersion,
+            @Nullable final JsonFieldSelector fieldSelector) {
+
+        return ThingEventToThingConverter.thingEventToThing(thingEvent)
+                .map(thing -> null != fieldSelector
+                        ? thing.toJson(jsonSchemaVersion, fieldSelector)
+                        : thing.toJson(jsonSchemaVersion))
+                // check if the resulting JSON did contain ANY of the requested fields
+                .filter(thingJson -> fieldSelector == null || fieldSelector.getPointers().stream()
+                        .filter(p -> !p.equals(Thing.JsonFields.ID.getPointer())) // ignore "thingId"
+                        .anyMatch(thingJson::contains))
+                .filter(thingJson -> !thingJson.isEmpty()) // avoid sending back empty jsonValues
+                .map(JsonObject::toString);
+    }
+
     private static String namespaceFromId(final ThingEvent thingEvent) {
         return thingEvent.getEntityId().getNamespace();
     }
@@ -52,6 +52,7 @@ import org.eclipse.ditto.protocoladapter.ProtocolAdapter;
 import org.eclipse.ditto.protocoladapter.ProtocolFactory;
 import org.eclipse.ditto.protocoladapter.TopicPath;
 import org.eclipse.ditto.services.gateway.endpoints.utils.EventSniffer;
+import org.eclipse.ditto.services.gateway.endpoints.utils.SignalRenderingCache;
 import org.eclipse.ditto.services.gateway.security.HttpHeader;
 import org.eclipse.ditto.services.gateway.streaming.Connect;
 import org.eclipse.ditto.services.gateway.streaming.ResponsePublished;
@@ -150,6 +151,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
     private EventSniffer<String> outgoingMessageSniffer;
     private WebSocketAuthorizationEnforcer authorizationEnforcer;
     private WebSocketSupervisor webSocketSupervisor;
+    private SignalRenderingCache<String> signalRenderingCache;
 
     private WebSocketRoute(final ActorRef streamingActor, final EventStream eventStream) {
 
@@ -161,6 +163,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         outgoingMessageSniffer = noOpEventSniffer;
         authorizationEnforcer = new NoOpAuthorizationEnforcer();
         webSocketSupervisor = new NoOpWebSocketSupervisor();
+        signalRenderingCache = SignalRenderingCache.disabled();
     }
 
     /**
@@ -200,6 +203,12 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         return this;
     }
 
+    @Override
+    public WebSocketRouteBuilder withSignalRenderingCache(final SignalRenderingCache<String> signalRenderingCache) {
+        this.signalRenderingCache = checkNotNull(signalRenderingCache, "signalRenderingCache");
+        return this;
+    }
+
     /**
      * Builds the {@code /ws} route.
      *
@@ -458,7 +467,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                 Flow.fromFunction(x -> x);
 
         final Flow<Jsonifiable.WithPredicate<JsonObject, JsonField>, Message, NotUsed> messageFlow =
-                Flow.fromFunction(jsonifiableToString(adapter))
+                Flow.fromFunction(jsonifiableToString(adapter, signalRenderingCache))
                         .via(Flow.fromFunction(result -> {
                             LogUtil.logWithCorrelationId(LOGGER, connectionCorrelationId, logger ->
                                     logger.debug("Sending outgoing WebSocket message: {}", result));
@@ -591,31 +600,42 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
     }
 
     private static Function<Jsonifiable.WithPredicate<JsonObject, JsonField>, String> jsonifiableToString(
-            final ProtocolAdapter adapter) {
+            final ProtocolAdapter adapter, final SignalRenderingCache<String> signalRenderingCache) {
         return jsonifiable -> {
             if (jsonifiable instanceof StreamingAck) {
                 return streamingAckToString((StreamingAck) jsonifiable);
             }
-
-            final Adaptable adaptable;
-            if (jsonifiable instanceof WithDittoHeaders
-                    && ((WithDittoHeaders) jsonifiable).getDittoHeaders().getChannel().isPresent()) {
-                // if channel was present in headers, use that one:
-                final TopicPath.Channel channel =
-                        TopicPath.Channel.forName(((WithDittoHeaders) jsonifiable).getDittoHeaders().getChannel().get())
-                                .orElse(TopicPath.Channel.TWIN);
-                adaptable = jsonifiableToAdaptable(jsonifiable, channel, adapter);
-            } else if (jsonifiable instanceof Signal && isLiveSignal((Signal<?>) jsonifiable)) {
-                adaptable = jsonifiableToAdaptable(jsonifiable, TopicPath.Channel.LIVE, adapter);
-            } else {
-                adaptable = jsonifiableToAdaptable(jsonifiable, TopicPath.Channel.TWIN, adapter);
+            if (jsonifiable instanceof Command || jsonifiable instanceof Event) {
+                // commands and events are published to all sessions subscribed to them;
+                // responses and errors reach only one session
+                return signalRenderingCache.render(jsonifiable, adapter,
+                        () -> jsonifiableToJsonString(jsonifiable, adapter));
             }
-
-            final JsonifiableAdaptable jsonifiableAdaptable = ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable);
-            return jsonifiableAdaptable.toJsonString();
+            return jsonifiableToJsonString(jsonifiable, adapter);
         };
     }
 
+    private static String jsonifiableToJsonString(final Jsonifiable.WithPredicate<JsonObject, JsonField> jsonifiable,
+            final ProtocolAdapter adapter) {
+
+        final Adaptable adaptable;
+        if (jsonifiable instanceof WithDittoHeaders
+                && ((WithDittoHeaders) jsonifiable).getDittoHeaders().getChannel().isPresent()) {
+            // if channel was present in headers, use that one:
+            final TopicPath.Channel channel =
+                    TopicPath.Channel.forName(((WithDittoHeaders) jsonifiable).getDittoHeaders().getChannel().get())
+                            .orElse(TopicPath.Channel.TWIN);
+            adaptable = jsonifiableToAdaptable(jsonifiable, channel, adapter);
+        } else if (jsonifiable instanceof Signal && isLiveSignal((Signal<?>) jsonifiable)) {
+            adaptable = jsonifiableToAdaptable(jsonifiable, TopicPath.Channel.LIVE, adapter);
+        } else {
+            adaptable = jsonifiableToAdaptable(jsonifiable, TopicPath.Channel.TWIN, adapter);
+        }
+
+        final JsonifiableAdaptable jsonifiableAdaptable = ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable);
+        return jsonifiableAdaptable.toJsonString();
+    }
+
     private static String streamingAckToString(final StreamingAck streamingAck) {
         final StreamingType streamingType = streamingAck.getStreamingType();
         final boolean subscribed = streamingAck.isSubscribed();
@@ -16,6 +16,7 @@ import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.protocoladapter.ProtocolAdapter;
 import org.eclipse.ditto.services.gateway.endpoints.utils.EventSniffer;
+import org.eclipse.ditto.services.gateway.endpoints.utils.SignalRenderingCache;
 
 import akka.http.javadsl.server.Route;
 
@@ -62,6 +63,16 @@ public interface WebSocketRouteBuilder {
      */
     WebSocketRouteBuilder withWebSocketSupervisor(WebSocketSupervisor webSocketSupervisor);
 
+    /**
+     * Sets the given cache to share the rendering of a signal among all WebSocket sessions receiving it.
+     * If no cache is set each session renders each signal itself.
+     *
+     * @param signalRenderingCache the cache to be used.
+     * @return this builder instance to allow method chaining.
+     * @throws NullPointerException if {@code signalRenderingCache} is {@code null}.
+     */
+    WebSocketRouteBuilder withSignalRenderingCache(SignalRenderingCache<String> signalRenderingCache);
+
     /**
      * Creates the Akka HTTP route for websocket.
      *
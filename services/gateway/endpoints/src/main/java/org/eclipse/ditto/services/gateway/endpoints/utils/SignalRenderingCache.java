@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.utils;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.services.utils.cache.CaffeineCache;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * A short-lived cache of the renderings of signals which are delivered to many streaming sessions of this gateway
+ * instance, e.g. an event of a Thing which is sent to every WebSocket subscribed to events.
+ * All sessions share the signal instance they receive, thus a rendering is keyed by the identity of the signal and a
+ * variant which comprises everything else the rendering depends on, e.g. protocol adapter, schema version or field
+ * selector of the session. Sessions with the same variant share one immutable rendering instead of rendering the
+ * signal each.
+ * Cache hits and misses are reported as metrics with the name of the cache.
+ *
+ * @param <V> the type of the renderings.
+ */
+@ThreadSafe
+public final class SignalRenderingCache<V> {
+
+    @Nullable private final CaffeineCache<RenderingKey, V> cache;
+
+    private SignalRenderingCache(@Nullable final CaffeineCache<RenderingKey, V> cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Returns a new {@code SignalRenderingCache} for the given parameters.
+     *
+     * @param cacheConfig the config of the cache; {@code expire-after-write} should be short, as the cache holds the
+     * signals until their renderings expire.
+     * @param cacheName the name of the cache which is used for metrics.
+     * @param <V> the type of the renderings.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static <V> SignalRenderingCache<V> of(final CacheConfig cacheConfig, final String cacheName) {
+        checkNotNull(cacheConfig, "cacheConfig");
+        checkNotNull(cacheName, "cacheName");
+
+        final Caffeine<Object, Object> caffeine = Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getMaximumSize())
+                .expireAfterWrite(cacheConfig.getExpireAfterWrite());
+
+        return new SignalRenderingCache<>(CaffeineCache.of(caffeine, cacheName));
+    }
+
+    /**
+     * Returns a {@code SignalRenderingCache} which renders each signal for every session.
+     *
+     * @param <V> the type of the renderings.
+     * @return the instance.
+     */
+    public static <V> SignalRenderingCache<V> disabled() {
+        return new SignalRenderingCache<>(null);
+    }
+
+    /**
+     * Returns the cached rendering of the given signal in the given variant, or renders and caches it.
+     *
+     * @param signal the signal as received by the session.
+     * @param variant everything except the signal the rendering depends on; compared by {@code equals}.
+     * @param renderer renders the signal in the variant; must not return {@code null}.
+     * @return the rendering.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public V render(final Object signal, final Object variant, final Supplier<V> renderer) {
+        checkNotNull(signal, "signal");
+        checkNotNull(variant, "variant");
+        checkNotNull(renderer, "renderer");
+
+        if (null == cache) {
+            return renderer.get();
+        }
+        return cache.get(new RenderingKey(signal, variant),
+                (key, executor) -> CompletableFuture.completedFuture(renderer.get()))
+                .join();
+    }
+
+    /**
+     * Key of a rendering which compares signals by identity; comparing them by {@code equals} would compare their
+     * whole content for every lookup.
+     */
+    @Immutable
+    private static final class RenderingKey {
+
+        private final Object signal;
+        private final Object variant;
+
+        private RenderingKey(final Object signal, final Object variant) {
+            this.signal = signal;
+            this.variant = variant;
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final RenderingKey that = (RenderingKey) o;
+            return signal == that.signal && Objects.equals(variant, that.variant);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(signal) + variant.hashCode();
+        }
+
+    }
+
+}
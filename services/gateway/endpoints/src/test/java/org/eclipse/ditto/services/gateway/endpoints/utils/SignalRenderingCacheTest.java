@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link SignalRenderingCache}.
+ */
+public final class SignalRenderingCacheTest {
+
+    private final AtomicInteger renderings = new AtomicInteger();
+
+    @Test
+    public void sameSignalAndVariantIsRenderedOnce() {
+        final SignalRenderingCache<String> underTest = newCache();
+        final Object signal = new Object();
+
+        final String first = underTest.render(signal, "v2", renderer("rendered"));
+        final String second = underTest.render(signal, "v2", renderer("rendered again"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(renderings).hasValue(1);
+    }
+
+    @Test
+    public void otherVariantIsRenderedAgain() {
+        final SignalRenderingCache<String> underTest = newCache();
+        final Object signal = new Object();
+
+        underTest.render(signal, "v1", renderer("v1"));
+        final String v2 = underTest.render(signal, "v2", renderer("v2"));
+
+        assertThat(v2).isEqualTo("v2");
+        assertThat(renderings).hasValue(2);
+    }
+
+    @Test
+    public void equalSignalInOtherInstanceIsRenderedAgain() {
+        final SignalRenderingCache<String> underTest = newCache();
+
+        underTest.render("signal", "v2", renderer("first"));
+        final String second = underTest.render(new String("signal"), "v2", renderer("second"));
+
+        assertThat(second).isEqualTo("second");
+        assertThat(renderings).hasValue(2);
+    }
+
+    @Test
+    public void disabledCacheRendersEveryTime() {
+        final SignalRenderingCache<String> underTest = SignalRenderingCache.disabled();
+        final Object signal = new Object();
+
+        underTest.render(signal, "v2", renderer("first"));
+        final String second = underTest.render(signal, "v2", renderer("second"));
+
+        assertThat(second).isEqualTo("second");
+        assertThat(renderings).hasValue(2);
+    }
+
+    private Supplier<String> renderer(final String rendering) {
+        return () -> {
+            renderings.incrementAndGet();
+            return rendering;
+        };
+    }
+
+    private static SignalRenderingCache<String> newCache() {
+        return SignalRenderingCache.of(DefaultCacheConfig.of(
+                ConfigFactory.parseString("rendered-signals {\n" +
+                        "  maximum-size = 100\n" +
+                        "  expire-after-write = 5s\n" +
+                        "}"), "rendered-signals"), "test_rendered_signals_cache");
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.security.authentication.jwt;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.jwt.JsonWebToken;
+
+/**
+ * A {@link JwtAuthorizationContextProvider} which serves the authorization contexts of already verified tokens from a
+ * {@link VerifiedJwtCache} and only derives them once per token with the wrapped provider.
+ */
+@ThreadSafe
+final class CachingJwtAuthorizationContextProvider implements JwtAuthorizationContextProvider {
+
+    private final JwtAuthorizationContextProvider delegate;
+    private final VerifiedJwtCache verifiedJwtCache;
+
+    private CachingJwtAuthorizationContextProvider(final JwtAuthorizationContextProvider delegate,
+            final VerifiedJwtCache verifiedJwtCache) {
+
+        this.delegate = delegate;
+        this.verifiedJwtCache = verifiedJwtCache;
+    }
+
+    /**
+     * Returns a new {@code CachingJwtAuthorizationContextProvider}.
+     *
+     * @param delegate the provider which derives the authorization context of tokens without a cached context.
+     * @param verifiedJwtCache the cache of verified tokens.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    static CachingJwtAuthorizationContextProvider of(final JwtAuthorizationContextProvider delegate,
+            final VerifiedJwtCache verifiedJwtCache) {
+
+        return new CachingJwtAuthorizationContextProvider(checkNotNull(delegate, "delegate"),
+                checkNotNull(verifiedJwtCache, "verifiedJwtCache"));
+    }
+
+    @Override
+    public AuthorizationContext getAuthorizationContext(final JsonWebToken jwt) {
+        checkNotNull(jwt, "jwt");
+        return verifiedJwtCache.getAuthorizationContext(jwt)
+                .orElseGet(() -> {
+                    final AuthorizationContext authorizationContext = delegate.getAuthorizationContext(jwt);
+                    verifiedJwtCache.putAuthorizationContext(jwt, authorizationContext);
+                    return authorizationContext;
+                });
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.security.authentication.jwt;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.base.common.BinaryValidationResult;
+import org.eclipse.ditto.model.jwt.JsonWebToken;
+
+/**
+ * A {@link JwtValidator} which only delegates tokens to the wrapped validator if they are not contained in a
+ * {@link VerifiedJwtCache}. Successfully validated tokens are added to the cache; invalid tokens are never cached.
+ */
+@ThreadSafe
+final class CachingJwtValidator implements JwtValidator {
+
+    private final JwtValidator delegate;
+    private final VerifiedJwtCache verifiedJwtCache;
+
+    private CachingJwtValidator(final JwtValidator delegate, final VerifiedJwtCache verifiedJwtCache) {
+        this.delegate = delegate;
+        this.verifiedJwtCache = verifiedJwtCache;
+    }
+
+    /**
+     * Returns a new {@code CachingJwtValidator}.
+     *
+     * @param delegate the validator which verifies tokens that are not yet cached.
+     * @param verifiedJwtCache the cache of verified tokens.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    static CachingJwtValidator of(final JwtValidator delegate, final VerifiedJwtCache verifiedJwtCache) {
+        return new CachingJwtValidator(checkNotNull(delegate, "delegate"),
+                checkNotNull(verifiedJwtCache, "verifiedJwtCache"));
+    }
+
+    @Override
+    public CompletableFuture<BinaryValidationResult> validate(final JsonWebToken jsonWebToken) {
+        if (verifiedJwtCache.isVerified(jsonWebToken)) {
+            return CompletableFuture.completedFuture(BinaryValidationResult.valid());
+        }
+        return delegate.validate(jsonWebToken)
+                .thenApply(validationResult -> {
+                    if (validationResult.isValid()) {
+                        verifiedJwtCache.putVerified(jsonWebToken);
+                    }
+                    return validationResult;
+                });
+    }
+
+}
@@ -28,6 +28,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -80,19 +81,21 @@ public final class DittoPublicKeyProvider implements PublicKeyProvider {
     private DittoPublicKeyProvider(final JwtSubjectIssuersConfig jwtSubjectIssuersConfig,
             final HttpClientFacade httpClient,
             final CacheConfig publicKeysConfig,
-            final String cacheName) {
+            final String cacheName,
+            final Consumer<PublicKeyIdWithIssuer> publicKeyRemovalListener) {
 
         this.jwtSubjectIssuersConfig = argumentNotNull(jwtSubjectIssuersConfig);
         this.httpClient = argumentNotNull(httpClient);
         argumentNotNull(publicKeysConfig, "config of the public keys cache");
         argumentNotNull(cacheName);
+        argumentNotNull(publicKeyRemovalListener, "publicKeyRemovalListener");
 
         final AsyncCacheLoader<PublicKeyIdWithIssuer, PublicKey> loader = this::loadPublicKey;
 
         final Caffeine<PublicKeyIdWithIssuer, PublicKey> caffeine = Caffeine.newBuilder()
                 .maximumSize(publicKeysConfig.getMaximumSize())
                 .expireAfterWrite(publicKeysConfig.getExpireAfterWrite())
-                .removalListener(new CacheRemovalListener());
+                .removalListener(new CacheRemovalListener(publicKeyRemovalListener));
 
         publicKeyCache = CaffeineCache.of(caffeine, loader, cacheName);
     }
@@ -112,7 +115,30 @@ public final class DittoPublicKeyProvider implements PublicKeyProvider {
             final CacheConfig publicKeysCacheConfig,
             final String cacheName) {
 
-        return new DittoPublicKeyProvider(jwtSubjectIssuersConfig, httpClient, publicKeysCacheConfig, cacheName);
+        return of(jwtSubjectIssuersConfig, httpClient, publicKeysCacheConfig, cacheName, publicKeyIdWithIssuer -> {});
+    }
+
+    /**
+     * Returns a new {@code PublicKeyProvider} for the given parameters which notifies the given listener whenever a
+     * public key is removed from or replaced in its cache.
+     *
+     * @param jwtSubjectIssuersConfig the configuration of supported JWT subject issuers
+     * @param httpClient the http client.
+     * @param publicKeysCacheConfig the config of the public keys cache.
+     * @param cacheName The name of the cache.
+     * @param publicKeyRemovalListener is notified with the ID and issuer of each public key which was removed from
+     * the cache.
+     * @return the PublicKeyProvider.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static PublicKeyProvider of(final JwtSubjectIssuersConfig jwtSubjectIssuersConfig,
+            final HttpClientFacade httpClient,
+            final CacheConfig publicKeysCacheConfig,
+            final String cacheName,
+            final Consumer<PublicKeyIdWithIssuer> publicKeyRemovalListener) {
+
+        return new DittoPublicKeyProvider(jwtSubjectIssuersConfig, httpClient, publicKeysCacheConfig, cacheName,
+                publicKeyRemovalListener);
     }
 
     @Override
@@ -222,12 +248,21 @@ public final class DittoPublicKeyProvider implements PublicKeyProvider {
 
     private static final class CacheRemovalListener implements RemovalListener<PublicKeyIdWithIssuer, PublicKey> {
 
+        private final Consumer<PublicKeyIdWithIssuer> publicKeyRemovalListener;
+
+        private CacheRemovalListener(final Consumer<PublicKeyIdWithIssuer> publicKeyRemovalListener) {
+            this.publicKeyRemovalListener = publicKeyRemovalListener;
+        }
+
         @Override
         public void onRemoval(@Nullable final PublicKeyIdWithIssuer key, @Nullable final PublicKey value,
                 @Nonnull final com.github.benmanes.caffeine.cache.RemovalCause cause) {
 
             final String msgTemplate = "Removed PublicKey with ID <{}> from cache due to cause '{}'.";
             LOGGER.debug(msgTemplate, key, cause);
+            if (null != key) {
+                publicKeyRemovalListener.accept(key);
+            }
         }
 
     }
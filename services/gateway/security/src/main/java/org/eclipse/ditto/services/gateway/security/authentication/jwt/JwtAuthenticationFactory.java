@@ -30,20 +30,25 @@ import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 public final class JwtAuthenticationFactory {
 
     private static final String PUBLIC_KEY_CACHE_NAME = "ditto_authorization_jwt_publicKeys_cache";
+    private static final String VERIFIED_JWT_CACHE_NAME = "ditto_authorization_jwt_verified_cache";
 
     private final OAuthConfig oAuthConfig;
     private final CacheConfig publicKeyCacheConfig;
+    private final CacheConfig verifiedJwtCacheConfig;
     private final HttpClientFacade httpClientFacade;
 
     @Nullable private JwtValidator jwtValidator;
+    @Nullable private VerifiedJwtCache verifiedJwtCache;
     @Nullable private JwtSubjectIssuersConfig jwtSubjectIssuersConfig;
     @Nullable private PublicKeyProvider publicKeyProvider;
 
     private JwtAuthenticationFactory(final OAuthConfig oAuthConfig,
             final CacheConfig publicKeyCacheConfig,
+            final CacheConfig verifiedJwtCacheConfig,
             final HttpClientFacade httpClientFacade) {
         this.oAuthConfig = checkNotNull(oAuthConfig, "authenticationConfig");
         this.publicKeyCacheConfig = checkNotNull(publicKeyCacheConfig, "publicKeyCacheConfig");
+        this.verifiedJwtCacheConfig = checkNotNull(verifiedJwtCacheConfig, "verifiedJwtCacheConfig");
         this.httpClientFacade = checkNotNull(httpClientFacade, "httpClientFacade");
     }
 
@@ -52,24 +57,35 @@ public final class JwtAuthenticationFactory {
      */
     public static JwtAuthenticationFactory newInstance(final OAuthConfig oAuthConfig,
             final CacheConfig publicKeyCacheConfig,
+            final CacheConfig verifiedJwtCacheConfig,
             final HttpClientFacade httpClientFacade) {
-        return new JwtAuthenticationFactory(oAuthConfig, publicKeyCacheConfig, httpClientFacade);
+        return new JwtAuthenticationFactory(oAuthConfig, publicKeyCacheConfig, verifiedJwtCacheConfig,
+                httpClientFacade);
     }
 
     public JwtValidator getJwtValidator() {
         if (null == jwtValidator) {
-            jwtValidator = DefaultJwtValidator.of(getPublicKeyProvider());
+            jwtValidator = CachingJwtValidator.of(DefaultJwtValidator.of(getPublicKeyProvider()),
+                    getVerifiedJwtCache());
         }
         return jwtValidator;
     }
 
+    private VerifiedJwtCache getVerifiedJwtCache() {
+        if (null == verifiedJwtCache) {
+            verifiedJwtCache = VerifiedJwtCache.of(verifiedJwtCacheConfig, VERIFIED_JWT_CACHE_NAME);
+        }
+        return verifiedJwtCache;
+    }
+
     private PublicKeyProvider getPublicKeyProvider() {
         if (null == publicKeyProvider) {
             publicKeyProvider = DittoPublicKeyProvider.of(
                     getJwtSubjectIssuersConfig(),
                     httpClientFacade,
                     publicKeyCacheConfig,
-                    PUBLIC_KEY_CACHE_NAME);
+                    PUBLIC_KEY_CACHE_NAME,
+                    getVerifiedJwtCache()::invalidate);
         }
 
         return publicKeyProvider;
@@ -96,7 +112,8 @@ public final class JwtAuthenticationFactory {
         final DittoJwtAuthorizationSubjectsProvider authorizationSubjectsProvider =
                 DittoJwtAuthorizationSubjectsProvider.of(getJwtSubjectIssuersConfig());
 
-        return DefaultJwtAuthorizationContextProvider.of(authorizationSubjectsProvider);
+        return CachingJwtAuthorizationContextProvider.of(
+                DefaultJwtAuthorizationContextProvider.of(authorizationSubjectsProvider), getVerifiedJwtCache());
     }
 
 }
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.security.authentication.jwt;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.argumentNotNull;
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.jwt.JsonWebToken;
+import org.eclipse.ditto.services.gateway.security.cache.PublicKeyIdWithIssuer;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CaffeineCache;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * A bounded cache of {@link JsonWebToken}s whose signature was already verified, together with the
+ * {@link AuthorizationContext} which was derived from them.
+ * Entries are keyed by the SHA-256 digest of the encoded token and expire at the token's expiration time, but not
+ * later than the configured {@code expire-after-write}. All entries of a public key are dropped as soon as that key
+ * is removed from the public key cache, e.g. because the issuer rotated its keys.
+ * Cache hits and misses are reported as metrics with the name of the cache.
+ */
+@ThreadSafe
+public final class VerifiedJwtCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VerifiedJwtCache.class);
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final Cache<String, VerifiedJwt> cache;
+
+    private VerifiedJwtCache(final CacheConfig cacheConfig, final String cacheName) {
+        final Caffeine<String, VerifiedJwt> caffeine = Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getMaximumSize())
+                .expireAfter(new TokenExpiry(cacheConfig.getExpireAfterWrite()));
+
+        cache = CaffeineCache.of(caffeine, cacheName);
+    }
+
+    /**
+     * Returns a new {@code VerifiedJwtCache} for the given parameters.
+     *
+     * @param cacheConfig the config of the cache.
+     * @param cacheName the name of the cache which is used for metrics.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static VerifiedJwtCache of(final CacheConfig cacheConfig, final String cacheName) {
+        checkNotNull(cacheConfig, "cacheConfig");
+        checkNotNull(cacheName, "cacheName");
+
+        return new VerifiedJwtCache(cacheConfig, cacheName);
+    }
+
+    /**
+     * Indicates whether the signature of the given JWT was already verified and the token did not expire since.
+     * The lookup is recorded as cache hit or miss.
+     *
+     * @param jwt the JWT to look up.
+     * @return {@code true} if the JWT is known to be valid.
+     */
+    boolean isVerified(final JsonWebToken jwt) {
+        return cache.getIfPresent(digest(jwt))
+                .getNow(Optional.empty())
+                .isPresent();
+    }
+
+    /**
+     * Remembers that the signature of the given JWT was verified successfully.
+     *
+     * @param jwt the verified JWT.
+     */
+    void putVerified(final JsonWebToken jwt) {
+        cache.asMap().putIfAbsent(digest(jwt), new VerifiedJwt(jwt, null));
+    }
+
+    /**
+     * Returns the authorization context which was derived from the given verified JWT before.
+     *
+     * @param jwt the JWT to look up.
+     * @return the cached authorization context or an empty Optional if the JWT was not verified or its authorization
+     * context was not yet derived.
+     */
+    Optional<AuthorizationContext> getAuthorizationContext(final JsonWebToken jwt) {
+        return Optional.ofNullable(cache.asMap().get(digest(jwt)))
+                .flatMap(VerifiedJwt::getAuthorizationContext);
+    }
+
+    /**
+     * Stores the authorization context of a JWT. The context is only retained if the JWT was verified, so that the
+     * context of a forged token is never served from the cache.
+     *
+     * @param jwt the JWT the context was derived from.
+     * @param authorizationContext the authorization context.
+     */
+    void putAuthorizationContext(final JsonWebToken jwt, final AuthorizationContext authorizationContext) {
+        cache.asMap().computeIfPresent(digest(jwt),
+                (key, verifiedJwt) -> new VerifiedJwt(verifiedJwt.jwt, authorizationContext));
+    }
+
+    /**
+     * Removes all JWTs which were signed with the given public key.
+     *
+     * @param publicKeyIdWithIssuer identifies the public key.
+     */
+    void invalidate(final PublicKeyIdWithIssuer publicKeyIdWithIssuer) {
+        argumentNotNull(publicKeyIdWithIssuer);
+
+        final boolean removed =
+                cache.asMap().values().removeIf(verifiedJwt -> verifiedJwt.isSignedWith(publicKeyIdWithIssuer));
+        if (removed) {
+            LOGGER.debug("Removed verified JWTs signed with public key <{}> from cache.", publicKeyIdWithIssuer);
+        }
+    }
+
+    private static String digest(final JsonWebToken jwt) {
+        try {
+            final MessageDigest messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            final byte[] digest = messageDigest.digest(jwt.getToken().getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (final NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException("Message digest <" + DIGEST_ALGORITHM + "> is not available!", e);
+        }
+    }
+
+    @Immutable
+    private static final class VerifiedJwt {
+
+        private final JsonWebToken jwt;
+        @Nullable private final AuthorizationContext authorizationContext;
+
+        private VerifiedJwt(final JsonWebToken jwt, @Nullable final AuthorizationContext authorizationContext) {
+            this.jwt = jwt;
+            this.authorizationContext = authorizationContext;
+        }
+
+        private Optional<AuthorizationContext> getAuthorizationContext() {
+            return Optional.ofNullable(authorizationContext);
+        }
+
+        private boolean isSignedWith(final PublicKeyIdWithIssuer publicKeyIdWithIssuer) {
+            return publicKeyIdWithIssuer.getKeyId().equals(jwt.getKeyId()) &&
+                    publicKeyIdWithIssuer.getIssuer().equals(jwt.getIssuer());
+        }
+
+        private Optional<Instant> getExpirationTime() {
+            return jwt.getBody().getValue(JsonWebToken.JsonFields.EXP).map(Instant::ofEpochSecond);
+        }
+
+    }
+
+    /**
+     * Lets an entry expire at the expiration time of its token, but not later than the configured maximum.
+     * Updating the authorization context of an entry does not extend its lifetime.
+     */
+    private static final class TokenExpiry implements Expiry<String, VerifiedJwt> {
+
+        private final long maxDurationNanos;
+
+        private TokenExpiry(final Duration maxDuration) {
+            maxDurationNanos = maxDuration.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(final String key, final VerifiedJwt value, final long currentTime) {
+            final Instant now = Instant.now();
+            return value.getExpirationTime()
+                    .filter(expirationTime -> expirationTime.isBefore(now.plusNanos(maxDurationNanos)))
+                    .map(expirationTime -> Math.max(0L, Duration.between(now, expirationTime).toNanos()))
+                    .orElse(maxDurationNanos);
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final VerifiedJwt value, final long currentTime,
+                final long currentDuration) {
+
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final VerifiedJwt value, final long currentTime,
+                final long currentDuration) {
+
+            return currentDuration;
+        }
+
+    }
+
+}
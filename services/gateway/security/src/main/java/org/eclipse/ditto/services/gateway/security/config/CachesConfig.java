@@ -29,4 +29,18 @@ public interface CachesConfig {
      */
     CacheConfig getPublicKeysConfig();
 
+    /**
+     * Returns the configuration settings of the cache of already verified JSON web tokens.
+     *
+     * @return the config.
+     */
+    CacheConfig getVerifiedJwtConfig();
+
+    /**
+     * Returns the configuration settings of the cache of signals rendered for the WebSocket and SSE sessions.
+     *
+     * @return the config.
+     */
+    CacheConfig getRenderedSignalsConfig();
+
 }
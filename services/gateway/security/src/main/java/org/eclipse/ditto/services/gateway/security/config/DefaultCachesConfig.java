@@ -31,9 +31,15 @@ public final class DefaultCachesConfig implements CachesConfig {
     private static final String CONFIG_PATH = "cache";
 
     private final CacheConfig publicKeysConfig;
+    private final CacheConfig verifiedJwtConfig;
+    private final CacheConfig renderedSignalsConfig;
+
+    private DefaultCachesConfig(final CacheConfig thePublicKeysConfig, final CacheConfig theVerifiedJwtConfig,
+            final CacheConfig theRenderedSignalsConfig) {
 
-    private DefaultCachesConfig(final CacheConfig thePublicKeysConfig) {
         publicKeysConfig = thePublicKeysConfig;
+        verifiedJwtConfig = theVerifiedJwtConfig;
+        renderedSignalsConfig = theRenderedSignalsConfig;
     }
 
     /**
@@ -45,7 +51,9 @@ public final class DefaultCachesConfig implements CachesConfig {
      */
     public static DefaultCachesConfig of(final Config config) {
         final DefaultScopedConfig cacheScopedConfig = DefaultScopedConfig.newInstance(config, CONFIG_PATH);
-        return new DefaultCachesConfig(DefaultCacheConfig.of(cacheScopedConfig, "publickeys"));
+        return new DefaultCachesConfig(DefaultCacheConfig.of(cacheScopedConfig, "publickeys"),
+                DefaultCacheConfig.of(cacheScopedConfig, "verified-jwt"),
+                DefaultCacheConfig.of(cacheScopedConfig, "rendered-signals"));
     }
 
     @Override
@@ -53,6 +61,16 @@ public final class DefaultCachesConfig implements CachesConfig {
         return publicKeysConfig;
     }
 
+    @Override
+    public CacheConfig getVerifiedJwtConfig() {
+        return verifiedJwtConfig;
+    }
+
+    @Override
+    public CacheConfig getRenderedSignalsConfig() {
+        return renderedSignalsConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -62,18 +80,22 @@ public final class DefaultCachesConfig implements CachesConfig {
             return false;
         }
         final DefaultCachesConfig that = (DefaultCachesConfig) o;
-        return Objects.equals(publicKeysConfig, that.publicKeysConfig);
+        return Objects.equals(publicKeysConfig, that.publicKeysConfig) &&
+                Objects.equals(verifiedJwtConfig, that.verifiedJwtConfig) &&
+                Objects.equals(renderedSignalsConfig, that.renderedSignalsConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(publicKeysConfig);
+        return Objects.hash(publicKeysConfig, verifiedJwtConfig, renderedSignalsConfig);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "publicKeysConfig=" + publicKeysConfig +
+                ", verifiedJwtConfig=" + verifiedJwtConfig +
+                ", renderedSignalsConfig=" + renderedSignalsConfig +
                 "]";
     }
 
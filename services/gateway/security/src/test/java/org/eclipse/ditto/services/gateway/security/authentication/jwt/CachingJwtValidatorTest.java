@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.security.authentication.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationModelFactory;
+import org.eclipse.ditto.model.jwt.ImmutableJsonWebToken;
+import org.eclipse.ditto.model.jwt.JsonWebToken;
+import org.eclipse.ditto.services.gateway.security.cache.PublicKeyIdWithIssuer;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.typesafe.config.ConfigFactory;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+/**
+ * Unit test for {@link CachingJwtValidator} and {@link CachingJwtAuthorizationContextProvider} which share a
+ * {@link VerifiedJwtCache}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public final class CachingJwtValidatorTest {
+
+    private static final JsonWebToken VALID_JSON_WEB_TOKEN =
+            ImmutableJsonWebToken.fromToken(JwtTestConstants.VALID_JWT_TOKEN);
+
+    private static final JsonWebToken EXPIRED_JSON_WEB_TOKEN =
+            ImmutableJsonWebToken.fromToken(JwtTestConstants.EXPIRED_JWT_TOKEN);
+
+    private static final AuthorizationContext AUTHORIZATION_CONTEXT =
+            AuthorizationModelFactory.newAuthContext(AuthorizationModelFactory.newAuthSubject("issuer:subject"));
+
+    @Mock
+    private PublicKeyProvider publicKeyProvider;
+
+    private VerifiedJwtCache verifiedJwtCache;
+    private JwtValidator underTest;
+
+    @Before
+    public void setUp() {
+        verifiedJwtCache = VerifiedJwtCache.of(DefaultCacheConfig.of(ConfigFactory.parseString(
+                "verified-jwt { maximum-size = 10, expire-after-write = 1m }"), "verified-jwt"), "test_cache");
+        underTest = CachingJwtValidator.of(DefaultJwtValidator.of(publicKeyProvider), verifiedJwtCache);
+    }
+
+    @Test
+    public void validTokenIsVerifiedOnlyOnce() {
+        givenPublicKeyIsAvailable();
+
+        assertThat(underTest.validate(VALID_JSON_WEB_TOKEN).join().isValid()).isTrue();
+        assertThat(underTest.validate(VALID_JSON_WEB_TOKEN).join().isValid()).isTrue();
+
+        verify(publicKeyProvider, times(1)).getPublicKey(JwtTestConstants.ISSUER, JwtTestConstants.KEY_ID);
+    }
+
+    @Test
+    public void invalidTokenIsNotCached() {
+        givenPublicKeyIsAvailable();
+
+        assertThat(underTest.validate(EXPIRED_JSON_WEB_TOKEN).join().isValid()).isFalse();
+        assertThat(underTest.validate(EXPIRED_JSON_WEB_TOKEN).join().isValid()).isFalse();
+
+        verify(publicKeyProvider, times(2)).getPublicKey(JwtTestConstants.ISSUER, JwtTestConstants.KEY_ID);
+    }
+
+    @Test
+    public void tokenIsNotServedAfterItsExpirationTime() {
+        final JsonWebToken expiringToken = ImmutableJsonWebToken.fromToken(Jwts.builder()
+                .setHeaderParam("kid", JwtTestConstants.KEY_ID)
+                .setIssuer(JwtTestConstants.ISSUER)
+                .setExpiration(new Date(System.currentTimeMillis() - 1000L))
+                .signWith(JwtTestConstants.PRIVATE_KEY, SignatureAlgorithm.RS256)
+                .compact());
+
+        verifiedJwtCache.putVerified(expiringToken);
+
+        assertThat(verifiedJwtCache.isVerified(expiringToken)).isFalse();
+    }
+
+    @Test
+    public void removalOfPublicKeyInvalidatesVerifiedTokens() {
+        givenPublicKeyIsAvailable();
+
+        underTest.validate(VALID_JSON_WEB_TOKEN).join();
+
+        verifiedJwtCache.invalidate(PublicKeyIdWithIssuer.of(JwtTestConstants.KEY_ID, JwtTestConstants.ISSUER));
+        underTest.validate(VALID_JSON_WEB_TOKEN).join();
+
+        verify(publicKeyProvider, times(2)).getPublicKey(JwtTestConstants.ISSUER, JwtTestConstants.KEY_ID);
+    }
+
+    @Test
+    public void authorizationContextOfVerifiedTokenIsDerivedOnlyOnce() {
+        final JwtAuthorizationContextProvider delegate = mock(JwtAuthorizationContextProvider.class);
+        when(delegate.getAuthorizationContext(any())).thenReturn(AUTHORIZATION_CONTEXT);
+        final JwtAuthorizationContextProvider contextProvider =
+                CachingJwtAuthorizationContextProvider.of(delegate, verifiedJwtCache);
+        givenPublicKeyIsAvailable();
+
+        underTest.validate(VALID_JSON_WEB_TOKEN).join();
+
+        assertThat(contextProvider.getAuthorizationContext(VALID_JSON_WEB_TOKEN)).isEqualTo(AUTHORIZATION_CONTEXT);
+        assertThat(contextProvider.getAuthorizationContext(VALID_JSON_WEB_TOKEN)).isEqualTo(AUTHORIZATION_CONTEXT);
+        verify(delegate, times(1)).getAuthorizationContext(VALID_JSON_WEB_TOKEN);
+    }
+
+    @Test
+    public void authorizationContextOfUnverifiedTokenIsNotCached() {
+        final JwtAuthorizationContextProvider delegate = mock(JwtAuthorizationContextProvider.class);
+        when(delegate.getAuthorizationContext(any())).thenReturn(AUTHORIZATION_CONTEXT);
+        final JwtAuthorizationContextProvider contextProvider =
+                CachingJwtAuthorizationContextProvider.of(delegate, verifiedJwtCache);
+
+        contextProvider.getAuthorizationContext(VALID_JSON_WEB_TOKEN);
+        contextProvider.getAuthorizationContext(VALID_JSON_WEB_TOKEN);
+
+        verify(delegate, times(2)).getAuthorizationContext(VALID_JSON_WEB_TOKEN);
+    }
+
+    private void givenPublicKeyIsAvailable() {
+        when(publicKeyProvider.getPublicKey(JwtTestConstants.ISSUER, JwtTestConstants.KEY_ID))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(JwtTestConstants.PUBLIC_KEY)));
+    }
+
+}
@@ -35,6 +35,7 @@ import org.eclipse.ditto.services.gateway.endpoints.routes.status.OverallStatusR
 import org.eclipse.ditto.services.gateway.endpoints.routes.things.ThingsRoute;
 import org.eclipse.ditto.services.gateway.endpoints.routes.thingsearch.ThingSearchRoute;
 import org.eclipse.ditto.services.gateway.endpoints.routes.websocket.WebSocketRoute;
+import org.eclipse.ditto.services.gateway.endpoints.utils.SignalRenderingCache;
 import org.eclipse.ditto.services.gateway.health.DittoStatusAndHealthProviderFactory;
 import org.eclipse.ditto.services.gateway.health.GatewayHttpReadinessCheck;
 import org.eclipse.ditto.services.gateway.health.StatusAndHealthProvider;
@@ -43,6 +44,7 @@ import org.eclipse.ditto.services.gateway.proxy.actors.AbstractProxyActor;
 import org.eclipse.ditto.services.gateway.proxy.actors.ProxyActor;
 import org.eclipse.ditto.services.gateway.security.authentication.jwt.JwtAuthenticationFactory;
 import org.eclipse.ditto.services.gateway.security.config.AuthenticationConfig;
+import org.eclipse.ditto.services.gateway.security.config.CachesConfig;
 import org.eclipse.ditto.services.gateway.security.config.DevOpsConfig;
 import org.eclipse.ditto.services.gateway.security.utils.DefaultHttpClientFacade;
 import org.eclipse.ditto.services.gateway.starter.config.GatewayConfig;
@@ -51,6 +53,7 @@ import org.eclipse.ditto.services.models.concierge.actors.ConciergeEnforcerClust
 import org.eclipse.ditto.services.models.concierge.actors.ConciergeForwarderActor;
 import org.eclipse.ditto.services.models.concierge.pubsub.DittoProtocolSub;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.services.utils.cluster.ClusterStatusSupplier;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.cluster.config.ClusterConfig;
@@ -103,6 +106,9 @@ final class GatewayRootActor extends AbstractActor {
 
     private static final String CHILD_RESTART_INFO_MSG = "Restarting child ...";
 
+    private static final String WS_RENDERED_SIGNALS_CACHE_NAME = "ditto_gateway_ws_rendered_signals_cache";
+    private static final String SSE_RENDERED_SIGNALS_CACHE_NAME = "ditto_gateway_sse_rendered_signals_cache";
+
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
     private final SupervisorStrategy strategy = new OneForOneStrategy(true, DeciderBuilder
@@ -184,9 +190,10 @@ final class GatewayRootActor extends AbstractActor {
         final DefaultHttpClientFacade httpClient =
                 DefaultHttpClientFacade.getInstance(actorSystem, authenticationConfig.getHttpProxyConfig());
 
+        final CachesConfig cachesConfig = gatewayConfig.getCachesConfig();
         final JwtAuthenticationFactory jwtAuthenticationFactory =
                 JwtAuthenticationFactory.newInstance(authenticationConfig.getOAuthConfig(),
-                        gatewayConfig.getCachesConfig().getPublicKeysConfig(), httpClient);
+                        cachesConfig.getPublicKeysConfig(), cachesConfig.getVerifiedJwtConfig(), httpClient);
 
         final ActorRef streamingActor = startChildActor(StreamingActor.ACTOR_NAME,
                 StreamingActor.props(dittoProtocolSub, proxyActor, jwtAuthenticationFactory,
@@ -296,6 +303,7 @@ final class GatewayRootActor extends AbstractActor {
 
         final HttpConfig httpConfig = gatewayConfig.getHttpConfig();
         final DevOpsConfig devOpsConfig = authConfig.getDevOpsConfig();
+        final CacheConfig renderedSignalsConfig = gatewayConfig.getCachesConfig().getRenderedSignalsConfig();
 
         return RootRoute.getBuilder(httpConfig)
                 .statsRoute(new StatsRoute(proxyActor, actorSystem, httpConfig, devOpsConfig, headerTranslator))
@@ -305,11 +313,15 @@ final class GatewayRootActor extends AbstractActor {
                         new CachingHealthRoute(statusAndHealthProvider, gatewayConfig.getPublicHealthConfig()))
                 .devopsRoute(new DevOpsRoute(proxyActor, actorSystem, httpConfig, devOpsConfig, headerTranslator))
                 .policiesRoute(new PoliciesRoute(proxyActor, actorSystem, httpConfig, headerTranslator))
-                .sseThingsRoute(ThingsSseRouteBuilder.getInstance(streamingActor))
+                .sseThingsRoute(ThingsSseRouteBuilder.getInstance(streamingActor)
+                        .withSignalRenderingCache(
+                                SignalRenderingCache.of(renderedSignalsConfig, SSE_RENDERED_SIGNALS_CACHE_NAME)))
                 .thingsRoute(new ThingsRoute(proxyActor, actorSystem, gatewayConfig.getMessageConfig(),
                         gatewayConfig.getClaimMessageConfig(), httpConfig, headerTranslator))
                 .thingSearchRoute(new ThingSearchRoute(proxyActor, actorSystem, httpConfig, headerTranslator))
-                .websocketRoute(WebSocketRoute.getInstance(streamingActor, actorSystem.eventStream()))
+                .websocketRoute(WebSocketRoute.getInstance(streamingActor, actorSystem.eventStream())
+                        .withSignalRenderingCache(
+                                SignalRenderingCache.of(renderedSignalsConfig, WS_RENDERED_SIGNALS_CACHE_NAME)))
                 .supportedSchemaVersions(httpConfig.getSupportedSchemaVersions())
                 .protocolAdapterProvider(protocolAdapterProvider)
                 .headerTranslator(headerTranslator)
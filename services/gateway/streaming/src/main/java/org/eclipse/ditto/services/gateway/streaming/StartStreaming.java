@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.gateway.streaming;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -21,6 +22,7 @@ import java.util.Optional;
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 
 /**
@@ -32,6 +34,7 @@ public final class StartStreaming implements StreamControlMessage {
     private final String connectionCorrelationId;
     private final AuthorizationContext authorizationContext;
     private final List<String> namespaces;
+    private final List<ThingId> thingIds;
     @Nullable private final String filter;
 
     /**
@@ -47,10 +50,29 @@ public final class StartStreaming implements StreamControlMessage {
     public StartStreaming(final StreamingType streamingType, final String connectionCorrelationId,
             final AuthorizationContext authorizationContext, final List<String> namespaces,
             @Nullable final String filter) {
+        this(streamingType, connectionCorrelationId, authorizationContext, namespaces, Collections.emptyList(),
+                filter);
+    }
+
+    /**
+     * Constructs a new {@link StartStreaming} instance restricted to some things.
+     *
+     * @param streamingType the type of entity to start the streaming for.
+     * @param connectionCorrelationId the correlationId of the connection/session.
+     * @param authorizationContext the {@link AuthorizationContext} of the connection/session.
+     * @param namespaces the namespaces for which the filter should be applied - if empty, all namespaces are
+     * considered.
+     * @param thingIds the IDs of the things whose events should be streamed - if empty, all things are considered.
+     * @param filter the filter string (RQL) to apply for event filtering or {@code null} if none should be applied.
+     */
+    public StartStreaming(final StreamingType streamingType, final String connectionCorrelationId,
+            final AuthorizationContext authorizationContext, final List<String> namespaces,
+            final Collection<ThingId> thingIds, @Nullable final String filter) {
         this.streamingType = streamingType;
         this.connectionCorrelationId = connectionCorrelationId;
         this.authorizationContext = authorizationContext;
         this.namespaces = Collections.unmodifiableList(new ArrayList<>(namespaces));
+        this.thingIds = Collections.unmodifiableList(new ArrayList<>(thingIds));
         this.filter = filter;
     }
 
@@ -77,6 +99,14 @@ public final class StartStreaming implements StreamControlMessage {
         return namespaces;
     }
 
+    /**
+     * @return the List of IDs of the things whose events should be emitted to the stream - if empty, the events of
+     * all things are emitted.
+     */
+    public List<ThingId> getThingIds() {
+        return thingIds;
+    }
+
     /**
      * @return the optional RQL filter to apply for events before publishing to the stream
      */
@@ -93,12 +123,14 @@ public final class StartStreaming implements StreamControlMessage {
                 Objects.equals(connectionCorrelationId, that.connectionCorrelationId) &&
                 Objects.equals(authorizationContext, that.authorizationContext) &&
                 Objects.equals(namespaces, that.namespaces) &&
+                Objects.equals(thingIds, that.thingIds) &&
                 Objects.equals(filter, that.filter);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(streamingType, connectionCorrelationId, authorizationContext, namespaces, filter);
+        return Objects.hash(streamingType, connectionCorrelationId, authorizationContext, namespaces, thingIds,
+                filter);
     }
 
     @Override
@@ -108,6 +140,7 @@ public final class StartStreaming implements StreamControlMessage {
                 ", connectionCorrelationId=" + connectionCorrelationId +
                 ", authorizationContext=" + authorizationContext +
                 ", namespaces=" + namespaces +
+                ", thingIds=" + thingIds +
                 ", eventFilter=" + filter +
                 "]";
     }
@@ -22,6 +22,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -32,8 +34,9 @@ import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
 import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactory;
 import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
 import org.eclipse.ditto.model.query.things.ModelBasedThingsFieldExpressionFactory;
-import org.eclipse.ditto.model.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.model.query.things.ThingPredicateCompiler;
 import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.protocoladapter.TopicPath;
 import org.eclipse.ditto.services.gateway.streaming.CloseStreamExceptionally;
 import org.eclipse.ditto.services.gateway.streaming.InvalidJwtToken;
@@ -43,7 +46,9 @@ import org.eclipse.ditto.services.gateway.streaming.StopStreaming;
 import org.eclipse.ditto.services.gateway.streaming.StreamingAck;
 import org.eclipse.ditto.services.models.concierge.pubsub.DittoProtocolSub;
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
+import org.eclipse.ditto.services.models.things.ThingEventPubSubFactory;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.pubsub.config.PubSubConfig;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.base.WithId;
 import org.eclipse.ditto.signals.commands.base.CommandResponse;
@@ -75,12 +80,14 @@ final class StreamingSessionActor extends AbstractActor {
     private final String type;
     private final DittoProtocolSub dittoProtocolSub;
     private final ActorRef eventAndResponsePublisher;
+    private final PubSubConfig pubSubConfig;
     private final Set<StreamingType> outstandingSubscriptionAcks;
     private Cancellable sessionTerminationCancellable;
 
     private List<String> authorizationSubjects;
+    private List<String> twinEventTopics;
     private final Map<StreamingType, List<String>> namespacesForStreamingTypes;
-    private final Map<StreamingType, Criteria> eventFilterCriteriaForStreamingTypes;
+    private final Map<StreamingType, Predicate<Thing>> eventFilterPredicatesForStreamingTypes;
 
     @SuppressWarnings("unused")
     private StreamingSessionActor(final String connectionCorrelationId, final String type,
@@ -90,10 +97,12 @@ final class StreamingSessionActor extends AbstractActor {
         this.type = type;
         this.dittoProtocolSub = dittoProtocolSub;
         this.eventAndResponsePublisher = eventAndResponsePublisher;
+        pubSubConfig = PubSubConfig.of(getContext().getSystem());
         outstandingSubscriptionAcks = new HashSet<>();
         authorizationSubjects = Collections.emptyList();
+        twinEventTopics = Collections.emptyList();
         namespacesForStreamingTypes = new EnumMap<>(StreamingType.class);
-        eventFilterCriteriaForStreamingTypes = new EnumMap<>(StreamingType.class);
+        eventFilterPredicatesForStreamingTypes = new EnumMap<>(StreamingType.class);
 
         getContext().watch(eventAndResponsePublisher);
 
@@ -152,12 +161,14 @@ final class StreamingSessionActor extends AbstractActor {
                     LogUtil.enhanceLogWithCorrelationId(logger, connectionCorrelationId);
 
                     try {
-                        eventFilterCriteriaForStreamingTypes
+                        // compile the filter once per subscription instead of once per event:
+                        eventFilterPredicatesForStreamingTypes
                                 .put(startStreaming.getStreamingType(), startStreaming.getFilter()
                                         .map(f -> parseCriteria(f, DittoHeaders.newBuilder()
                                                 .correlationId(startStreaming.getConnectionCorrelationId())
                                                 .build())
                                         )
+                                        .map(ThingPredicateCompiler::compile)
                                         .orElse(null));
                     } catch (final DittoRuntimeException e) {
                         logger.info(
@@ -170,12 +181,17 @@ final class StreamingSessionActor extends AbstractActor {
                     logger.debug("Got 'StartStreaming' message in <{}> session, subscribing for <{}> in Cluster..",
                             type, startStreaming.getStreamingType().name());
 
+                    if (startStreaming.getStreamingType() == StreamingType.EVENTS) {
+                        updateTwinEventTopics(startStreaming);
+                    }
+
                     outstandingSubscriptionAcks.add(startStreaming.getStreamingType());
                     // In Cluster: Subscribe
                     final AcknowledgeSubscription subscribeAck =
                             new AcknowledgeSubscription(startStreaming.getStreamingType());
                     final Collection<StreamingType> currentStreamingTypes = namespacesForStreamingTypes.keySet();
-                    dittoProtocolSub.subscribe(currentStreamingTypes, authorizationSubjects, getSelf())
+                    dittoProtocolSub.subscribe(currentStreamingTypes, authorizationSubjects, twinEventTopics,
+                            getSelf())
                             .thenAccept(ack -> getSelf().tell(subscribeAck, getSelf()));
                 })
                 .match(StopStreaming.class, stopStreaming -> {
@@ -184,7 +200,7 @@ final class StreamingSessionActor extends AbstractActor {
                             type, stopStreaming.getStreamingType().name());
 
                     namespacesForStreamingTypes.remove(stopStreaming.getStreamingType());
-                    eventFilterCriteriaForStreamingTypes.remove(stopStreaming.getStreamingType());
+                    eventFilterPredicatesForStreamingTypes.remove(stopStreaming.getStreamingType());
 
                     // In Cluster: Unsubscribe
                     final AcknowledgeUnsubscription unsubscribeAck =
@@ -195,8 +211,9 @@ final class StreamingSessionActor extends AbstractActor {
                                 getSelf())
                                 .thenAccept(ack -> getSelf().tell(unsubscribeAck, getSelf()));
                     } else {
-                        dittoProtocolSub.removeTwinSubscriber(getSelf(), authorizationSubjects)
+                        dittoProtocolSub.removeTwinSubscriber(getSelf(), twinEventTopics)
                                 .thenAccept(ack -> getSelf().tell(unsubscribeAck, getSelf()));
+                        twinEventTopics = Collections.emptyList();
                     }
                 })
                 .match(RefreshSession.class, refreshSession -> {
@@ -305,6 +322,42 @@ final class StreamingSessionActor extends AbstractActor {
         }
     }
 
+    /**
+     * Subscribe to twin events by the narrowest topics the session asked for, such that the events of other things
+     * are not even sent to this instance. Topics of a previous subscription to twin events are unsubscribed.
+     * Without {@link PubSubConfig#isNarrowTwinEventTopics()}, twin events are subscribed by the authorization subjects.
+     */
+    private void updateTwinEventTopics(final StartStreaming startStreaming) {
+        final List<String> newTwinEventTopics = pubSubConfig.isNarrowTwinEventTopics()
+                ? toTwinEventTopics(startStreaming, authorizationSubjects, pubSubConfig.getMaxNarrowedThingIds())
+                : authorizationSubjects;
+        final List<String> staleTwinEventTopics = twinEventTopics.stream()
+                .filter(topic -> !newTwinEventTopics.contains(topic))
+                .collect(Collectors.toList());
+        if (!staleTwinEventTopics.isEmpty()) {
+            dittoProtocolSub.removeTwinSubscriber(getSelf(), staleTwinEventTopics);
+        }
+        twinEventTopics = newTwinEventTopics;
+    }
+
+    private static List<String> toTwinEventTopics(final StartStreaming startStreaming,
+            final List<String> authorizationSubjects, final int maxNarrowedThingIds) {
+
+        final List<String> namespaces = startStreaming.getNamespaces();
+        final List<ThingId> thingIds = startStreaming.getThingIds();
+        // too many thing IDs would bloat the distributed data; fall back to namespaces or subjects and filter here
+        if (!thingIds.isEmpty() && thingIds.size() <= maxNarrowedThingIds) {
+            final List<ThingId> thingIdsInNamespaces = thingIds.stream()
+                    .filter(thingId -> namespaces.isEmpty() || namespaces.contains(thingId.getNamespace()))
+                    .collect(Collectors.toList());
+            return ThingEventPubSubFactory.thingIdTopics(thingIdsInNamespaces, authorizationSubjects);
+        } else if (!namespaces.isEmpty()) {
+            return ThingEventPubSubFactory.namespaceTopics(namespaces, authorizationSubjects);
+        } else {
+            return authorizationSubjects;
+        }
+    }
+
     private boolean matchesNamespaces(final Signal<?> signal) {
         final StreamingType streamingType = determineStreamingType(signal);
 
@@ -362,11 +415,11 @@ final class StreamingSessionActor extends AbstractActor {
 
     private boolean doMatchFilter(final StreamingType streamingType, final Thing thing) {
 
-        final Optional<Criteria> criteria =
-                Optional.ofNullable(eventFilterCriteriaForStreamingTypes.get(streamingType));
+        final Optional<Predicate<Thing>> predicate =
+                Optional.ofNullable(eventFilterPredicatesForStreamingTypes.get(streamingType));
 
-        return criteria
-                .map(c -> ThingPredicateVisitor.apply(c).test(thing))
+        return predicate
+                .map(p -> p.test(thing))
                 .orElse(true); // let all events through if there was no criteria/filter set
     }
 
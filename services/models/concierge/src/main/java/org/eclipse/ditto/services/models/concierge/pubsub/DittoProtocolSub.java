@@ -33,8 +33,28 @@ public interface DittoProtocolSub {
      * @param subscriber who is subscribing.
      * @return future that completes or fails according to the acknowledgement.
      */
-    CompletionStage<Void> subscribe(Collection<StreamingType> types,
-            Collection<String> topics, ActorRef subscriber);
+    default CompletionStage<Void> subscribe(Collection<StreamingType> types,
+            Collection<String> topics, ActorRef subscriber) {
+
+        return subscribe(types, topics, topics, subscriber);
+    }
+
+    /**
+     * Subscribe for each streaming type the same collection of topics except for twin events, which are subscribed
+     * with their own topics. Twin events are published also to the intersections of their read subjects with their
+     * namespace and with their thing ID; subscribing to those narrows the twin events sent to the subscriber on the
+     * nodes of the publishers.
+     *
+     * @param types the streaming types.
+     * @param topics the topics of all streaming types except twin events.
+     * @param twinEventTopics the topics of twin events.
+     * @param subscriber who is subscribing.
+     * @return future that completes or fails according to the acknowledgement.
+     * @see org.eclipse.ditto.services.models.things.ThingEventPubSubFactory#namespaceTopics(Collection, Collection)
+     * @see org.eclipse.ditto.services.models.things.ThingEventPubSubFactory#thingIdTopics(Collection, Collection)
+     */
+    CompletionStage<Void> subscribe(Collection<StreamingType> types, Collection<String> topics,
+            Collection<String> twinEventTopics, ActorRef subscriber);
 
     /**
      * Remove a subscriber.
@@ -54,6 +54,7 @@ final class DittoProtocolSubImpl implements DittoProtocolSub {
     @Override
     public CompletionStage<Void> subscribe(final Collection<StreamingType> types,
             final Collection<String> topics,
+            final Collection<String> twinEventTopics,
             final ActorRef subscriber) {
         final CompletionStage<?> nop = CompletableFuture.completedFuture(null);
         return partitionByStreamingTypes(types,
@@ -61,7 +62,7 @@ final class DittoProtocolSubImpl implements DittoProtocolSub {
                         ? liveSignalSub.subscribeWithFilterAndAck(topics, subscriber, toFilter(liveTypes))
                         : nop,
                 hasTwinEvents -> hasTwinEvents
-                        ? twinEventSub.subscribeWithAck(topics, subscriber)
+                        ? twinEventSub.subscribeWithAck(twinEventTopics, subscriber)
                         : nop
         );
     }
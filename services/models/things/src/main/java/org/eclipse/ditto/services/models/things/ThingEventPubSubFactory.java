@@ -12,11 +12,20 @@
  */
 package org.eclipse.ditto.services.models.things;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
 
+import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
 import org.eclipse.ditto.services.utils.pubsub.AbstractPubSubFactory;
+import org.eclipse.ditto.services.utils.pubsub.config.PubSubConfig;
 import org.eclipse.ditto.services.utils.pubsub.extractors.ConstantTopics;
+import org.eclipse.ditto.services.utils.pubsub.extractors.EntityIdExtractor;
+import org.eclipse.ditto.services.utils.pubsub.extractors.IntersectionTopics;
+import org.eclipse.ditto.services.utils.pubsub.extractors.NamespaceExtractor;
 import org.eclipse.ditto.services.utils.pubsub.extractors.PubSubTopicExtractor;
 import org.eclipse.ditto.services.utils.pubsub.extractors.ReadSubjectExtractor;
 import org.eclipse.ditto.services.utils.pubsub.extractors.ShardIdExtractor;
@@ -26,6 +35,12 @@ import akka.actor.ActorContext;
 
 /**
  * Pub-sub factory for thing events.
+ * <p>
+ * If {@link PubSubConfig#isNarrowTwinEventTopics()} is enabled, thing events are published besides to their read
+ * subjects also to the intersections of their read subjects with their namespace and with their thing ID. Subscribers interested in few namespaces or things subscribe to the topics
+ * returned by {@link #namespaceTopics(Collection, Collection)} or {@link #thingIdTopics(Collection, Collection)}
+ * and receive only the matching events from the nodes of the publishers.
+ * </p>
  */
 public final class ThingEventPubSubFactory extends AbstractPubSubFactory<ThingEvent> {
 
@@ -46,7 +61,7 @@ public final class ThingEventPubSubFactory extends AbstractPubSubFactory<ThingEv
     public static ThingEventPubSubFactory of(final ActorContext context,
             final ShardRegionExtractor shardRegionExtractor) {
 
-        return new ThingEventPubSubFactory(context, toTopicExtractor(shardRegionExtractor));
+        return new ThingEventPubSubFactory(context, toTopicExtractor(shardRegionExtractor, isNarrowed(context)));
     }
 
     /**
@@ -56,7 +71,7 @@ public final class ThingEventPubSubFactory extends AbstractPubSubFactory<ThingEv
      * @return the thing event pub-sub factory.
      */
     public static ThingEventPubSubFactory readSubjectsOnly(final ActorContext context) {
-        return new ThingEventPubSubFactory(context, readSubjectOnlyExtractor());
+        return new ThingEventPubSubFactory(context, readSubjectOnlyExtractor(isNarrowed(context)));
     }
 
     /**
@@ -73,16 +88,69 @@ public final class ThingEventPubSubFactory extends AbstractPubSubFactory<ThingEv
         return new ThingEventPubSubFactory(context, topicExtractor);
     }
 
-    private static PubSubTopicExtractor<ThingEvent> readSubjectOnlyExtractor() {
-        return ReadSubjectExtractor.<ThingEvent>of().with(ConstantTopics.of(ThingEvent.TYPE_PREFIX));
+    /**
+     * Compute the topics to subscribe to for receiving the thing events of some namespaces which any of the given
+     * subjects may read.
+     *
+     * @param namespaces the namespaces.
+     * @param readSubjects the subjects of the subscriber.
+     * @return the topics.
+     */
+    public static List<String> namespaceTopics(final Collection<String> namespaces,
+            final Collection<String> readSubjects) {
+
+        return IntersectionTopics.combine(namespaces, readSubjects);
+    }
+
+    /**
+     * Compute the topics to subscribe to for receiving the thing events of some things which any of the given
+     * subjects may read.
+     *
+     * @param thingIds the IDs of the things.
+     * @param readSubjects the subjects of the subscriber.
+     * @return the topics.
+     */
+    public static List<String> thingIdTopics(final Collection<ThingId> thingIds,
+            final Collection<String> readSubjects) {
+
+        return IntersectionTopics.combine(
+                thingIds.stream().map(String::valueOf).collect(Collectors.toList()), readSubjects);
+    }
+
+    private static boolean isNarrowed(final ActorContext context) {
+        return PubSubConfig.of(context.system()).isNarrowTwinEventTopics();
+    }
+
+    private static PubSubTopicExtractor<ThingEvent> readSubjectOnlyExtractor(final boolean narrowed) {
+        return ReadSubjectExtractor.<ThingEvent>of().with(withNarrowedTopics(narrowed,
+                ConstantTopics.of(ThingEvent.TYPE_PREFIX)));
+    }
+
+    @SafeVarargs
+    private static List<PubSubTopicExtractor<ThingEvent>> withNarrowedTopics(final boolean narrowed,
+            final PubSubTopicExtractor<ThingEvent>... extractors) {
+
+        final List<PubSubTopicExtractor<ThingEvent>> result = new ArrayList<>(Arrays.asList(extractors));
+        if (narrowed) {
+            result.add(namespaceAndThingIdExtractor());
+        }
+        return result;
+    }
+
+    private static PubSubTopicExtractor<ThingEvent> namespaceAndThingIdExtractor() {
+        final PubSubTopicExtractor<ThingEvent> readSubjects = ReadSubjectExtractor.of();
+        return NamespaceExtractor.<ThingEvent>of().intersect(readSubjects)
+                .with(EntityIdExtractor.<ThingEvent>of().intersect(readSubjects));
     }
 
     private static PubSubTopicExtractor<ThingEvent> shardIdOnlyExtractor(final ShardRegionExtractor extractor) {
         return ShardIdExtractor.of(extractor);
     }
 
-    private static PubSubTopicExtractor<ThingEvent> toTopicExtractor(final ShardRegionExtractor shardRegionExtractor) {
-        return ReadSubjectExtractor.<ThingEvent>of().with(
-                Arrays.asList(ConstantTopics.of(ThingEvent.TYPE_PREFIX), shardIdOnlyExtractor(shardRegionExtractor)));
+    private static PubSubTopicExtractor<ThingEvent> toTopicExtractor(final ShardRegionExtractor shardRegionExtractor,
+            final boolean narrowed) {
+
+        return ReadSubjectExtractor.<ThingEvent>of().with(withNarrowedTopics(narrowed,
+                ConstantTopics.of(ThingEvent.TYPE_PREFIX), shardIdOnlyExtractor(shardRegionExtractor)));
     }
 }
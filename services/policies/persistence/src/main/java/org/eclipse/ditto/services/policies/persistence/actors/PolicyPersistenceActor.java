@@ -26,6 +26,7 @@ import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.EventBatchConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.services.utils.persistentactors.AbstractShardedPersistenceActor;
 import org.eclipse.ditto.services.utils.persistentactors.commands.CommandStrategy;
@@ -34,6 +35,7 @@ import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.results.Result;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.policies.exceptions.PolicyNotAccessibleException;
+import org.eclipse.ditto.signals.commands.policies.exceptions.PolicyUnavailableException;
 import org.eclipse.ditto.signals.events.policies.PolicyEvent;
 
 import akka.actor.ActorRef;
@@ -152,6 +154,11 @@ public final class PolicyPersistenceActor
         return policyConfig.getSnapshotConfig();
     }
 
+    @Override
+    protected EventBatchConfig getEventBatchConfig() {
+        return policyConfig.getEventBatchConfig();
+    }
+
     @Override
     protected boolean entityExistsAsDeleted() {
         return null != entity && entity.hasLifecycle(PolicyLifecycle.DELETED);
@@ -162,6 +169,11 @@ public final class PolicyPersistenceActor
         return PolicyNotAccessibleException.newBuilder(entityId);
     }
 
+    @Override
+    protected DittoRuntimeExceptionBuilder newUnavailableExceptionBuilder() {
+        return PolicyUnavailableException.newBuilder(entityId);
+    }
+
     @Override
     protected void publishEvent(final PolicyEvent event) {
         pubSubMediator.tell(DistPubSubAccess.publishViaGroup(PolicyEvent.TYPE_PREFIX, event), getSelf());
@@ -83,7 +83,7 @@ public abstract class AbstractPolicyMongoEventAdapter implements EventAdapter {
             final JsonObject jsonObject =
                     theEvent.toJson(schemaVersion, IS_REVISION.negate().and(FieldType.regularOrSpecial()));
             final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-            return dittoBsonJson.parse(jsonObject);
+            return dittoBsonJson.encode(jsonObject);
         } else {
             throw new IllegalArgumentException(
                     "Unable to toJournal a non-'PolicyEvent' object! Was: " + event.getClass());
@@ -93,7 +93,7 @@ public abstract class AbstractPolicyMongoEventAdapter implements EventAdapter {
     @Override
     public EventSeq fromJournal(final Object event, final String manifest) {
         if (event instanceof BsonValue) {
-            return EventSeq.single(tryToCreateEventFrom(DittoBsonJson.getInstance().serialize((BsonValue) event)));
+            return EventSeq.single(tryToCreateEventFrom(DittoBsonJson.getInstance().decode((BsonValue) event)));
         } else {
             throw new IllegalArgumentException(
                     "Unable to fromJournal a non-'BsonValue' object! Was: " + event.getClass());
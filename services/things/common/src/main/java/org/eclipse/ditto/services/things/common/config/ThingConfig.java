@@ -16,11 +16,13 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.base.config.supervision.WithSupervisorConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WithEventBatchConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithSnapshotConfig;
 
 /**
  * Provides configuration settings for thing entities.
  */
 @Immutable
-public interface ThingConfig extends WithSupervisorConfig, WithActivityCheckConfig, WithSnapshotConfig {
+public interface ThingConfig extends WithSupervisorConfig, WithActivityCheckConfig, WithSnapshotConfig,
+        WithEventBatchConfig {
 }
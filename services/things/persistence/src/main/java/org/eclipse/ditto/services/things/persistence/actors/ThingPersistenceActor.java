@@ -27,6 +27,7 @@ import org.eclipse.ditto.services.things.persistence.serializer.ThingMongoSnapsh
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.EventBatchConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.services.utils.persistentactors.AbstractShardedPersistenceActor;
 import org.eclipse.ditto.services.utils.persistentactors.commands.CommandStrategy;
@@ -36,6 +37,7 @@ import org.eclipse.ditto.services.utils.persistentactors.results.Result;
 import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingUnavailableException;
 import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 
@@ -154,6 +156,11 @@ public final class ThingPersistenceActor
         return thingConfig.getSnapshotConfig();
     }
 
+    @Override
+    protected EventBatchConfig getEventBatchConfig() {
+        return thingConfig.getEventBatchConfig();
+    }
+
     @Override
     protected boolean entityExistsAsDeleted() {
         return null != entity && entity.hasLifecycle(ThingLifecycle.DELETED);
@@ -164,6 +171,11 @@ public final class ThingPersistenceActor
         return ThingNotAccessibleException.newBuilder(entityId);
     }
 
+    @Override
+    protected DittoRuntimeExceptionBuilder newUnavailableExceptionBuilder() {
+        return ThingUnavailableException.newBuilder(entityId);
+    }
+
     @Override
     protected void recoveryCompleted(final RecoveryCompleted event) {
         if (entity != null) {
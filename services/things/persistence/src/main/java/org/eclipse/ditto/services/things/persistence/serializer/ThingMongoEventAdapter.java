@@ -145,7 +145,7 @@ public final class ThingMongoEventAdapter implements EventAdapter {
                             // remove the policy entries from thing event payload
                             .remove(POLICY_IN_THING_EVENT_PAYLOAD);
             final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-            return dittoBsonJson.parse(jsonObject);
+            return dittoBsonJson.encode(jsonObject);
         } else {
             throw new IllegalArgumentException("Unable to toJournal a non-'Event' object! Was: " + event.getClass());
         }
@@ -154,7 +154,7 @@ public final class ThingMongoEventAdapter implements EventAdapter {
     @Override
     public EventSeq fromJournal(final Object event, final String manifest) {
         if (event instanceof BsonValue) {
-            return EventSeq.single(tryToCreateEventFrom(DittoBsonJson.getInstance().serialize((BsonValue) event)));
+            return EventSeq.single(tryToCreateEventFrom(DittoBsonJson.getInstance().decode((BsonValue) event)));
         } else {
             throw new IllegalArgumentException(
                     "Unable to fromJournal a non-'BsonValue' object! Was: " + event.getClass());
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import akka.persistence.AtomicWrite;
+import akka.persistence.PersistentRepr;
+import akka.persistence.journal.japi.AsyncWriteJournal;
+import scala.collection.Iterator;
+import scala.concurrent.Future;
+
+/**
+ * In-memory implementation of {@link AsyncWriteJournal} that records how many events each write to the journal
+ * contained and rejects writes of configured persistence IDs.
+ */
+final class RecordingJournalPlugin extends AsyncWriteJournal {
+
+    private static final Map<String, List<PersistentRepr>> EVENTS = new ConcurrentHashMap<>();
+    private static final Map<String, List<Integer>> WRITE_SIZES = new ConcurrentHashMap<>();
+    private static final Set<String> REJECTED_PERSISTENCE_IDS = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param persistenceId the persistence ID.
+     * @return the number of events of each write to the journal for the persistence ID in the order of writing.
+     */
+    static List<Integer> getWriteSizes(final String persistenceId) {
+        return Collections.unmodifiableList(WRITE_SIZES.getOrDefault(persistenceId, Collections.emptyList()));
+    }
+
+    /**
+     * Rejects all subsequent writes of the persistence ID.
+     *
+     * @param persistenceId the persistence ID.
+     */
+    static void rejectWritesOf(final String persistenceId) {
+        REJECTED_PERSISTENCE_IDS.add(persistenceId);
+    }
+
+    @Override
+    public Future<Iterable<Optional<Exception>>> doAsyncWriteMessages(final Iterable<AtomicWrite> messages) {
+        final List<Optional<Exception>> results = new ArrayList<>();
+        final Map<String, Integer> writeSizes = new HashMap<>();
+        for (final AtomicWrite message : messages) {
+            final String persistenceId = message.persistenceId();
+            if (REJECTED_PERSISTENCE_IDS.contains(persistenceId)) {
+                results.add(Optional.of(new IllegalStateException("Rejected write of <" + persistenceId + ">.")));
+            } else {
+                final List<PersistentRepr> events =
+                        EVENTS.computeIfAbsent(persistenceId, id -> new CopyOnWriteArrayList<>());
+                final Iterator<PersistentRepr> payload = message.payload().iterator();
+                while (payload.hasNext()) {
+                    events.add(payload.next());
+                }
+                writeSizes.merge(persistenceId, message.size(), Integer::sum);
+                results.add(Optional.empty());
+            }
+        }
+        writeSizes.forEach((persistenceId, size) ->
+                WRITE_SIZES.computeIfAbsent(persistenceId, id -> new CopyOnWriteArrayList<>()).add(size));
+        return Future.successful(results);
+    }
+
+    @Override
+    public Future<Void> doAsyncDeleteMessagesTo(final String persistenceId, final long toSequenceNr) {
+        // keep the latest event so that the highest sequence number survives the deletion
+        final List<PersistentRepr> events = EVENTS.getOrDefault(persistenceId, Collections.emptyList());
+        final long highestSequenceNr = getHighestSequenceNr(persistenceId);
+        events.removeIf(event -> event.sequenceNr() <= toSequenceNr && event.sequenceNr() < highestSequenceNr);
+        return Future.successful(null);
+    }
+
+    @Override
+    public Future<Void> doAsyncReplayMessages(final String persistenceId, final long fromSequenceNr,
+            final long toSequenceNr, final long max, final Consumer<PersistentRepr> replayCallback) {
+
+        EVENTS.getOrDefault(persistenceId, Collections.emptyList())
+                .stream()
+                .filter(event -> event.sequenceNr() >= fromSequenceNr && event.sequenceNr() <= toSequenceNr)
+                .limit(max)
+                .forEach(replayCallback);
+        return Future.successful(null);
+    }
+
+    @Override
+    public Future<Long> doAsyncReadHighestSequenceNr(final String persistenceId, final long fromSequenceNr) {
+        return Future.successful(getHighestSequenceNr(persistenceId));
+    }
+
+    private static long getHighestSequenceNr(final String persistenceId) {
+        return EVENTS.getOrDefault(persistenceId, Collections.emptyList())
+                .stream()
+                .mapToLong(PersistentRepr::sequenceNr)
+                .max()
+                .orElse(0L);
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.entity.Revision;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingUnavailableException;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThingResponse;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributeResponse;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.slf4j.LoggerFactory;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.PoisonPill;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for the {@link ThingPersistenceActor} with batched event persistence enabled.
+ */
+public final class ThingPersistenceActorEventBatchTest extends PersistenceActorTestBase {
+
+    private static final int NUMBER_OF_MODIFICATIONS = 50;
+    private static final int MAX_BATCH_SIZE = 7;
+
+    @Rule
+    public final TestWatcher watchman = new TestedMethodLoggingWatcher(LoggerFactory.getLogger(getClass()));
+
+    @Before
+    public void setUp() {
+        setup(ConfigFactory.parseString("ditto.things.thing.event-batch { enabled = true, max-size = " +
+                MAX_BATCH_SIZE + " }\n" +
+                "akka-contrib-mongodb-persistence-things-journal.class = \"" +
+                RecordingJournalPlugin.class.getName() + "\""));
+    }
+
+    @Test
+    public void modificationsInQuickSuccessionAreAnsweredInOrderAndSurviveRestart() {
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+            final long initialRevision = 1L;
+            final JsonPointer attributePointer = JsonPointer.of("counter");
+
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+            underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            expectMsgClass(CreateThingResponse.class);
+
+            // send all modifications without waiting for responses, then retrieve the thing
+            for (int i = 0; i < NUMBER_OF_MODIFICATIONS; i++) {
+                underTest.tell(ModifyAttribute.of(thingId, attributePointer, JsonValue.of(i), dittoHeadersV2),
+                        getRef());
+            }
+            underTest.tell(retrieveRevisionAndAttributes(thingId), getRef());
+
+            for (int i = 0; i < NUMBER_OF_MODIFICATIONS; i++) {
+                expectMsgClass(ModifyAttributeResponse.class);
+            }
+            final Thing retrievedThing = expectMsgClass(RetrieveThingResponse.class).getThing();
+            assertThat(retrievedThing.getAttributes().flatMap(attributes -> attributes.getValue(attributePointer)))
+                    .contains(JsonValue.of(NUMBER_OF_MODIFICATIONS - 1));
+            assertThat(retrievedThing.getRevision().map(Revision::toLong))
+                    .contains(initialRevision + NUMBER_OF_MODIFICATIONS);
+
+            // the events of several modifications were written to the journal at once
+            final List<Integer> writeSizes =
+                    RecordingJournalPlugin.getWriteSizes(ThingPersistenceActor.PERSISTENCE_ID_PREFIX + thingId);
+            assertThat(writeSizes.stream().mapToLong(Integer::longValue).sum())
+                    .isEqualTo(initialRevision + NUMBER_OF_MODIFICATIONS);
+            assertThat(writeSizes).hasSizeLessThan(NUMBER_OF_MODIFICATIONS)
+                    .allSatisfy(writeSize -> assertThat(writeSize).isBetween(1, MAX_BATCH_SIZE))
+                    .anySatisfy(writeSize -> assertThat(writeSize).isGreaterThan(1));
+
+            // the recovered state equals the state before the restart
+            watch(underTest);
+            underTest.tell(PoisonPill.getInstance(), getRef());
+            expectTerminated(underTest);
+
+            final ActorRef recovered = createPersistenceActorFor(thingId);
+            recovered.tell(retrieveRevisionAndAttributes(thingId), getRef());
+            final Thing recoveredThing = expectMsgClass(RetrieveThingResponse.class).getThing();
+            assertThat(recoveredThing.getAttributes().flatMap(attributes -> attributes.getValue(attributePointer)))
+                    .contains(JsonValue.of(NUMBER_OF_MODIFICATIONS - 1));
+            assertThat(recoveredThing.getRevision().map(Revision::toLong))
+                    .contains(initialRevision + NUMBER_OF_MODIFICATIONS);
+        }};
+    }
+
+    @Test
+    public void modificationsWhoseEventsAreRejectedAreAnsweredWithError() {
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+            underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            expectMsgClass(CreateThingResponse.class);
+
+            RecordingJournalPlugin.rejectWritesOf(ThingPersistenceActor.PERSISTENCE_ID_PREFIX + thingId);
+            watch(underTest);
+            underTest.tell(ModifyAttribute.of(thingId, JsonPointer.of("counter"), JsonValue.of(1), dittoHeadersV2),
+                    getRef());
+
+            expectMsgClass(ThingUnavailableException.class);
+            expectTerminated(underTest);
+        }};
+    }
+
+    private RetrieveThing retrieveRevisionAndAttributes(final ThingId thingId) {
+        return RetrieveThing.getBuilder(thingId, dittoHeadersV2)
+                .withSelectedFields(JsonFactory.newFieldSelector(JsonPointer.of("_revision"),
+                        JsonPointer.of("attributes")))
+                .build();
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.serializer;
+
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingBuilder;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import akka.persistence.SnapshotMetadata;
+import akka.persistence.SnapshotOffer;
+
+/**
+ * Measures writing and recovering snapshots of Things with different numbers of features by
+ * {@link ThingMongoSnapshotAdapter}, which streams the JSON of a Thing to and from BSON, compared to converting the
+ * JSON via a tree of BSON values.
+ * The recovery benchmarks read documents as decoded by the MongoDB driver, not the raw documents written by the
+ * adapter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class ThingMongoSnapshotAdapterBenchmark {
+
+    private static final SnapshotMetadata SNAPSHOT_METADATA = new SnapshotMetadata("thing:benchmark:thing", 0, 0);
+    private static final int PROPERTIES_PER_FEATURE = 20;
+
+    @Param({"10", "100", "1000"})
+    public int featureCount;
+
+    private ThingMongoSnapshotAdapter underTest;
+    private Thing thing;
+    private BsonDocument snapshot;
+
+    @Setup
+    public void setUp() {
+        underTest = new ThingMongoSnapshotAdapter();
+        thing = createThing();
+        snapshot = DittoBsonJson.getInstance().parse(toJson(thing));
+    }
+
+    private Thing createThing() {
+        final ThingId thingId = ThingId.of("benchmark", "thing");
+        final ThingBuilder.FromScratch builder = ThingsModelFactory.newThingBuilder()
+                .setId(thingId)
+                .setPolicyId(thingId.toString())
+                .setRevision(42L)
+                .setAttributes(createProperties("attribute"));
+        for (int i = 0; i < featureCount; i++) {
+            builder.setFeature("feature" + i, ThingsModelFactory.newFeatureProperties(createProperties("property")));
+        }
+        return builder.build();
+    }
+
+    private static JsonObject createProperties(final String prefix) {
+        final JsonObjectBuilder builder = JsonObject.newBuilder();
+        for (int i = 0; i < PROPERTIES_PER_FEATURE; i++) {
+            builder.set(prefix + i, JsonObject.newBuilder()
+                    .set("value", i * 0.5)
+                    .set("unit", "m/s")
+                    .set("org.eclipse.ditto:timestamp", 1_577_836_800_000L + i)
+                    .build());
+        }
+        return builder.build();
+    }
+
+    private static JsonObject toJson(final Thing thing) {
+        return thing.toJson(thing.getImplementedSchemaVersion(), FieldType.regularOrSpecial());
+    }
+
+    @Benchmark
+    public Object writeSnapshot() {
+        return underTest.toSnapshotStore(thing);
+    }
+
+    @Benchmark
+    public Object writeSnapshotViaBsonTree() {
+        return DittoBsonJson.getInstance().parse(toJson(thing));
+    }
+
+    @Benchmark
+    public Thing recoverSnapshot() {
+        return underTest.fromSnapshotStore(new SnapshotOffer(SNAPSHOT_METADATA, snapshot));
+    }
+
+    @Benchmark
+    public Thing recoverSnapshotViaBsonTree() {
+        return ThingsModelFactory.newThing(DittoBsonJson.getInstance().serialize(snapshot));
+    }
+
+}
@@ -15,8 +15,11 @@ package org.eclipse.ditto.services.things.persistence.serializer;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import org.bson.BsonDocument;
+import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.things.TestConstants;
 import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -48,4 +51,26 @@ public final class ThingMongoSnapshotAdapterTest {
         assertThat(restoredThing).isEqualTo(thing);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void toSnapshotStoreFromSnapshotStoreRoundtripKeepsNullEntities() {
+        final Thing thing = ThingsModelFactory.newThingBuilder()
+                .setId(ThingId.of("org.eclipse.ditto", "null-entities"))
+                .setPolicyId(PolicyId.of("org.eclipse.ditto", "null-entities"))
+                .setRevision(1L)
+                .setAttributes(ThingsModelFactory.nullAttributes())
+                .setFeature(ThingsModelFactory.nullFeature("nullFeature"))
+                .setFeature("featureWithNullProperties", ThingsModelFactory.nullFeatureProperties())
+                .build();
+        final Thing thingWithNullFeatures = thing.setFeatures(ThingsModelFactory.nullFeatures());
+
+        final Object rawSnapshotEntity = underTest.toSnapshotStore(thing);
+        final Object rawSnapshotEntityWithNullFeatures = underTest.toSnapshotStore(thingWithNullFeatures);
+
+        assertThat(((BsonDocument) rawSnapshotEntity).isNull("attributes")).isTrue();
+        assertThat(underTest.fromSnapshotStore(new SnapshotOffer(SNAPSHOT_METADATA, rawSnapshotEntity)))
+                .isEqualTo(thing);
+        assertThat(underTest.fromSnapshotStore(new SnapshotOffer(SNAPSHOT_METADATA, rawSnapshotEntityWithNullFeatures)))
+                .isEqualTo(thingWithNullFeatures);
+    }
+
+}
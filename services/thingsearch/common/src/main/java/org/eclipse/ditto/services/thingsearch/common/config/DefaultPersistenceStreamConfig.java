@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.thingsearch.common.config;
 
+import java.time.Duration;
 import java.util.Objects;
 
 import javax.annotation.Nullable;
@@ -31,12 +32,20 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
     private static final String CONFIG_PATH = "persistence";
 
     private final int maxBulkSize;
+    private final int minBulkSize;
+    private final int maxParallelism;
+    private final Duration targetBulkWriteLatency;
     private final DefaultStreamStageConfig defaultStreamStageConfig;
 
     private DefaultPersistenceStreamConfig(final ConfigWithFallback persistenceStreamScopedConfig,
             final DefaultStreamStageConfig defaultStreamStageConfig) {
 
         maxBulkSize = persistenceStreamScopedConfig.getInt(PersistenceStreamConfigValue.MAX_BULK_SIZE.getConfigPath());
+        minBulkSize = persistenceStreamScopedConfig.getInt(PersistenceStreamConfigValue.MIN_BULK_SIZE.getConfigPath());
+        maxParallelism =
+                persistenceStreamScopedConfig.getInt(PersistenceStreamConfigValue.MAX_PARALLELISM.getConfigPath());
+        targetBulkWriteLatency = persistenceStreamScopedConfig.getDuration(
+                PersistenceStreamConfigValue.TARGET_BULK_WRITE_LATENCY.getConfigPath());
         this.defaultStreamStageConfig = defaultStreamStageConfig;
     }
 
@@ -58,6 +67,21 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         return maxBulkSize;
     }
 
+    @Override
+    public int getMinBulkSize() {
+        return minBulkSize;
+    }
+
+    @Override
+    public int getMaxParallelism() {
+        return maxParallelism;
+    }
+
+    @Override
+    public Duration getTargetBulkWriteLatency() {
+        return targetBulkWriteLatency;
+    }
+
     @Override
     public int getParallelism() {
         return defaultStreamStageConfig.getParallelism();
@@ -78,18 +102,25 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         }
         final DefaultPersistenceStreamConfig that = (DefaultPersistenceStreamConfig) o;
         return maxBulkSize == that.maxBulkSize &&
+                minBulkSize == that.minBulkSize &&
+                maxParallelism == that.maxParallelism &&
+                targetBulkWriteLatency.equals(that.targetBulkWriteLatency) &&
                 defaultStreamStageConfig.equals(that.defaultStreamStageConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(maxBulkSize, defaultStreamStageConfig);
+        return Objects.hash(maxBulkSize, minBulkSize, maxParallelism, targetBulkWriteLatency,
+                defaultStreamStageConfig);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "maxBulkSize=" + maxBulkSize +
+                ", minBulkSize=" + minBulkSize +
+                ", maxParallelism=" + maxParallelism +
+                ", targetBulkWriteLatency=" + targetBulkWriteLatency +
                 ", defaultStreamStageConfig=" + defaultStreamStageConfig +
                 "]";
     }
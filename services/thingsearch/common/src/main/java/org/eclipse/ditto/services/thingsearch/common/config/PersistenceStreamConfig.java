@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.thingsearch.common.config;
 
+import java.time.Duration;
+
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.utils.config.KnownConfigValue;
@@ -23,12 +25,36 @@ import org.eclipse.ditto.services.utils.config.KnownConfigValue;
 public interface PersistenceStreamConfig extends StreamStageConfig {
 
     /**
-     * Returns the amount of write operations to perform in one bulk.
+     * Returns the amount of write operations to perform in one bulk. The bulk size adapts to the latency of bulk
+     * writes; this is its upper bound.
      *
      * @return the max bulk size.
      */
     int getMaxBulkSize();
 
+    /**
+     * Returns the lower bound of the adaptive amount of write operations to perform in one bulk.
+     *
+     * @return the min bulk size.
+     */
+    int getMinBulkSize();
+
+    /**
+     * Returns the upper bound of the adaptive number of bulk writes to run in parallel. The lower bound is
+     * {@link #getParallelism()}.
+     *
+     * @return the max parallelism.
+     */
+    int getMaxParallelism();
+
+    /**
+     * Returns the latency of a bulk write up to which bulk size and parallelism are increased. Slower bulk writes
+     * decrease them.
+     *
+     * @return the target latency of bulk writes.
+     */
+    Duration getTargetBulkWriteLatency();
+
     /**
      * An enumeration of known config path expressions and their associated default values for
      * {@code PersistenceStreamConfig}.
@@ -39,7 +65,22 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
         /**
          * The amount of write operations to perform in one bulk.
          */
-        MAX_BULK_SIZE("max-bulk-size", 250);
+        MAX_BULK_SIZE("max-bulk-size", 250),
+
+        /**
+         * The lower bound of the adaptive amount of write operations to perform in one bulk.
+         */
+        MIN_BULK_SIZE("min-bulk-size", 10),
+
+        /**
+         * The upper bound of the adaptive number of bulk writes to run in parallel.
+         */
+        MAX_PARALLELISM("max-parallelism", 4),
+
+        /**
+         * The latency of a bulk write up to which bulk size and parallelism are increased.
+         */
+        TARGET_BULK_WRITE_LATENCY("target-bulk-write-latency", Duration.ofMillis(500L));
 
         private final String configPath;
         private final Object defaultValue;
@@ -161,6 +161,11 @@ public final class PersistenceConstants {
      */
     public static final String FIELD_REVOKED = "r";
 
+    /**
+     * Field name of the feature ID of an internal entry whose key has the feature ID replaced by a wildcard.
+     */
+    public static final String FIELD_FEATURE_ID = "f";
+
     /**
      * Mark a document for deletion.
      */
@@ -49,6 +49,7 @@ import org.eclipse.ditto.signals.commands.base.exceptions.GatewayQueryTimeExceed
 import com.mongodb.MongoExecutionTimeoutException;
 import com.mongodb.ReadPreference;
 import com.mongodb.client.model.CountOptions;
+import com.mongodb.client.model.Filters;
 import com.mongodb.reactivestreams.client.AggregatePublisher;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
@@ -185,7 +186,7 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
         checkNotNull(query, "query");
 
-        final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds);
+        final Bson queryFilter = getMongoFilterAfterSortValues(query, authorizationSubjectIds);
         if (log.isDebugEnabled()) {
             log.debug("findAll with query filter <{}>.", queryFilter);
         }
@@ -251,6 +252,19 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         }
     }
 
+    /**
+     * Adds the range predicates of a keyset pagination to the filter of a query which continues after the last result
+     * of the previous page.
+     */
+    private static Bson getMongoFilterAfterSortValues(final Query query,
+            @Nullable final List<String> authorizationSubjectIds) {
+
+        final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds);
+        return ((MongoQuery) query).getSortValuesAfterAsBson()
+                .<Bson>map(sortValuesAfter -> Filters.and(queryFilter, sortValuesAfter))
+                .orElse(queryFilter);
+    }
+
     private static Bson getMongoSort(final Query query) {
         final MongoQuery mongoQuery = (MongoQuery) query;
         return mongoQuery.getSortOptionsAsBson();
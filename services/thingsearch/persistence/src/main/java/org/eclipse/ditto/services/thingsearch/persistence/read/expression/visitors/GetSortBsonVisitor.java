@@ -20,10 +20,16 @@ import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceCons
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_SORTING;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.SLASH;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
+
+import org.bson.BsonDocument;
+import org.bson.BsonNull;
+import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.json.JsonArray;
@@ -34,7 +40,9 @@ import org.eclipse.ditto.model.query.SortDirection;
 import org.eclipse.ditto.model.query.SortOption;
 import org.eclipse.ditto.model.query.expression.SortFieldExpression;
 import org.eclipse.ditto.model.query.expression.visitors.SortFieldExpressionVisitor;
+import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.JsonToBson;
 
+import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.Sorts;
 
 /**
@@ -87,6 +95,51 @@ public final class GetSortBsonVisitor implements SortFieldExpressionVisitor<Stri
         return builder.build();
     }
 
+    /**
+     * Create a filter for the documents after the position marked by values of the sort keys, e. g. the values of the
+     * last result of the previous page as computed by {@link #sortValuesAsArray(Document, List)}. The filter
+     * consists of range predicates on the sort keys themselves, so that paging through an index on the sort keys
+     * seeks to the position instead of skipping all documents before it:
+     * <pre>
+     * k1 &gt; v1 OR (k1 = v1 AND k2 &gt; v2) OR ... OR (k1 = v1 AND ... AND _id &gt; vId)
+     * </pre>
+     * As in the sort order of MongoDB, missing fields and {@code null} values are smaller than any other value.
+     *
+     * @param sortOptions sort options.
+     * @param sortValues values of the sort keys in the order of the sort options.
+     * @return filter for the documents after the position.
+     * @throws IllegalArgumentException if the number of sort values does not match the number of sort options.
+     */
+    public static Bson sortValuesAfter(final List<SortOption> sortOptions, final JsonArray sortValues) {
+        if (sortOptions.size() != sortValues.getSize()) {
+            throw new IllegalArgumentException("Expect " + sortOptions.size() + " sort values, got: " + sortValues);
+        }
+        final List<Bson> disjunction = new ArrayList<>(sortOptions.size());
+        for (int i = 0; i < sortOptions.size(); ++i) {
+            final Bson greaterOnThisKey = greaterThan(sortOptions.get(i), sortValue(sortValues, i));
+            if (greaterOnThisKey != null) {
+                final List<Bson> conjunction = new ArrayList<>(i + 1);
+                for (int j = 0; j < i; ++j) {
+                    // {key: null} matches null values and missing fields alike
+                    conjunction.add(Filters.eq(path(sortOptions.get(j).getSortExpression()), sortValue(sortValues, j)));
+                }
+                conjunction.add(greaterOnThisKey);
+                disjunction.add(conjunction.size() == 1 ? greaterOnThisKey : Filters.and(conjunction));
+            }
+        }
+        if (disjunction.isEmpty()) {
+            // nothing comes after the position; {$nor: [{}]} matches no document
+            return Filters.nor(new BsonDocument());
+        } else if (disjunction.size() == 1) {
+            return disjunction.get(0);
+        } else {
+            // bound the first sort key at the top level to give the query planner a range to seek to
+            final Bson disjunctionBson = Filters.or(disjunction);
+            final Bson firstKeyBound = notLessThan(sortOptions.get(0), sortValue(sortValues, 0));
+            return firstKeyBound != null ? Filters.and(firstKeyBound, disjunctionBson) : disjunctionBson;
+        }
+    }
+
     /**
      * Translate a sort field expression into a path of the Bson document.
      *
@@ -140,6 +193,42 @@ public final class GetSortBsonVisitor implements SortFieldExpressionVisitor<Stri
         return Collections.singletonList(sort);
     }
 
+    private static BsonValue sortValue(final JsonArray sortValues, final int i) {
+        return sortValues.get(i).map(JsonToBson::convert).orElse(BsonNull.VALUE);
+    }
+
+    /**
+     * Filter for documents after the sort value on one sort key.
+     *
+     * @return the filter, or null if no document can be after the sort value.
+     */
+    @Nullable
+    private static Bson greaterThan(final SortOption sortOption, final BsonValue sortValue) {
+        final String path = path(sortOption.getSortExpression());
+        if (sortOption.getSortDirection() == SortDirection.ASC) {
+            // ASC null: any value is bigger than null
+            return sortValue.isNull() ? Filters.ne(path, null) : Filters.gt(path, sortValue);
+        } else {
+            // DESC null: nothing is smaller than null; DESC nonnull: null is smaller than any value
+            return sortValue.isNull() ? null : Filters.or(Filters.lt(path, sortValue), Filters.eq(path, null));
+        }
+    }
+
+    /**
+     * Range of one sort key containing the sort value and everything after it.
+     *
+     * @return the range, or null if it does not restrict the sort key.
+     */
+    @Nullable
+    private static Bson notLessThan(final SortOption sortOption, final BsonValue sortValue) {
+        final String path = path(sortOption.getSortExpression());
+        if (sortOption.getSortDirection() == SortDirection.ASC) {
+            return sortValue.isNull() ? null : Filters.gte(path, sortValue);
+        } else {
+            return sortValue.isNull() ? Filters.eq(path, null) : Filters.not(Filters.gt(path, sortValue));
+        }
+    }
+
     private static Function<String, Object> seekToPath(final Document document) {
         return path -> seekToPathImpl(document, path.split("\\."), 0);
     }
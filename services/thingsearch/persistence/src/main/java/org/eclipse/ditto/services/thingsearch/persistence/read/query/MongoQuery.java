@@ -18,10 +18,13 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.bson.conversions.Bson;
+import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.model.query.Query;
 import org.eclipse.ditto.model.query.SortDirection;
 import org.eclipse.ditto.model.query.SortOption;
@@ -41,6 +44,7 @@ public final class MongoQuery implements Query {
     private final List<SortOption> sortOptions;
     private final int limit;
     private final int skip;
+    @Nullable private final JsonArray sortValuesAfter;
 
     /**
      * Constructor.
@@ -55,10 +59,20 @@ public final class MongoQuery implements Query {
             final int limit,
             final int skip) {
 
+        this(criteria, sortOptions, limit, skip, null);
+    }
+
+    private MongoQuery(final Criteria criteria,
+            final List<SortOption> sortOptions,
+            final int limit,
+            final int skip,
+            @Nullable final JsonArray sortValuesAfter) {
+
         this.criteria = checkNotNull(criteria, "criterion");
         this.sortOptions = Collections.unmodifiableList(new ArrayList<>(sortOptions));
         this.limit = limit;
         this.skip = skip;
+        this.sortValuesAfter = sortValuesAfter;
     }
 
     @Override
@@ -83,7 +97,41 @@ public final class MongoQuery implements Query {
 
     @Override
     public Query withCritera(final Criteria criteria) {
-        return new MongoQuery(criteria, sortOptions, limit, skip);
+        return new MongoQuery(criteria, sortOptions, limit, skip, sortValuesAfter);
+    }
+
+    /**
+     * Continue this query after the position marked by values of the sort keys, e. g. after the last result of the
+     * previous page. Unlike skipping, this lets MongoDB seek to the position.
+     *
+     * @param sortValues values of the sort keys in the order of the sort options.
+     * @return a copy of this query which finds only results after the position.
+     * @throws NullPointerException if {@code sortValues} is {@code null}.
+     * @throws IllegalArgumentException if the number of sort values does not match the number of sort options.
+     */
+    public MongoQuery withSortValuesAfter(final JsonArray sortValues) {
+        checkNotNull(sortValues, "sortValues");
+        if (sortValues.getSize() != sortOptions.size()) {
+            throw new IllegalArgumentException("Expect " + sortOptions.size() + " sort values, got: " + sortValues);
+        }
+        return new MongoQuery(criteria, sortOptions, limit, skip, sortValues);
+    }
+
+    /**
+     * @return the values of the sort keys after which the results of this query start, if any.
+     */
+    public Optional<JsonArray> getSortValuesAfter() {
+        return Optional.ofNullable(sortValuesAfter);
+    }
+
+    /**
+     * Gets the range predicates on the sort keys for results after the position of
+     * {@link #withSortValuesAfter(JsonArray)} as {@link Bson}.
+     *
+     * @return the Bson, or an empty optional if this query does not continue after a position.
+     */
+    public Optional<Bson> getSortValuesAfterAsBson() {
+        return getSortValuesAfter().map(values -> GetSortBsonVisitor.sortValuesAfter(sortOptions, values));
     }
 
     /**
@@ -118,12 +166,13 @@ public final class MongoQuery implements Query {
         return limit == that.limit &&
                 skip == that.skip &&
                 Objects.equals(criteria, that.criteria) &&
-                Objects.equals(sortOptions, that.sortOptions);
+                Objects.equals(sortOptions, that.sortOptions) &&
+                Objects.equals(sortValuesAfter, that.sortValuesAfter);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(criteria, sortOptions, limit, skip);
+        return Objects.hash(criteria, sortOptions, limit, skip, sortValuesAfter);
     }
 
     @Override
@@ -133,6 +182,7 @@ public final class MongoQuery implements Query {
                 ", sortOptions=" + sortOptions +
                 ", limit=" + limit +
                 ", skip=" + skip +
+                ", sortValuesAfter=" + sortValuesAfter +
                 "]";
     }
 
@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.mapping;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.DOT;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_FEATURE_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_KEY;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_VALUE;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_SORTING;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.SLASH;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.bson.BsonArray;
+import org.bson.BsonBoolean;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.thingsearch.common.util.KeyEscapeUtil;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingUpdateModel;
+import org.eclipse.ditto.signals.events.things.AttributeCreated;
+import org.eclipse.ditto.signals.events.things.AttributeDeleted;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
+import org.eclipse.ditto.signals.events.things.FeaturePropertyCreated;
+import org.eclipse.ditto.signals.events.things.FeaturePropertyDeleted;
+import org.eclipse.ditto.signals.events.things.FeaturePropertyModified;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+
+/**
+ * Map events of a Thing with Enforcer to an incremental update of its search index entry.
+ * <p>
+ * Only events changing a single attribute or feature property are supported. An update is computed only if the
+ * changed locations are independent of each other; otherwise the search index entry has to be computed from the full
+ * Thing.
+ * </p>
+ */
+public final class EnforcedThingEventMapper {
+
+    private static final List<Class<?>> SUPPORTED_EVENT_TYPES = Arrays.asList(
+            AttributeCreated.class,
+            AttributeModified.class,
+            AttributeDeleted.class,
+            FeaturePropertyCreated.class,
+            FeaturePropertyModified.class,
+            FeaturePropertyDeleted.class
+    );
+
+    private static final JsonPointer REVISION_POINTER = Thing.JsonFields.REVISION.getPointer();
+    private static final JsonPointer MODIFIED_POINTER = Thing.JsonFields.MODIFIED.getPointer();
+    private static final JsonPointer FEATURES_POINTER = Thing.JsonFields.FEATURES.getPointer();
+    private static final String WILDCARD_FEATURES_REGEX = "^" + Pattern.quote(FEATURES_POINTER + "/*") + "(/|$)";
+
+    private static final String PULL = "$pull";
+    private static final String PUSH = "$push";
+    private static final String EACH = "$each";
+    private static final String SET = "$set";
+    private static final String UNSET = "$unset";
+    private static final String OR = "$or";
+    private static final String AND = "$and";
+    private static final String NOT = "$not";
+    private static final String ELEM_MATCH = "$elemMatch";
+    private static final String EXISTS = "$exists";
+    private static final String EXPR = "$expr";
+    private static final String GT = "$gt";
+    private static final String SIZE = "$size";
+    private static final String OBJECT_TO_ARRAY = "$objectToArray";
+
+    private EnforcedThingEventMapper() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Check whether an event can be part of an incremental update.
+     *
+     * @param event the event.
+     * @return whether the event is supported.
+     */
+    public static boolean isSupported(final ThingEvent<?> event) {
+        return SUPPORTED_EVENT_TYPES.stream().anyMatch(type -> type.isInstance(event));
+    }
+
+    /**
+     * Map the events of metadata into an incremental update of the search index entry of a Thing.
+     *
+     * @param metadata the metadata carrying consecutive events of the Thing.
+     * @param enforcer the policy enforcer of the Thing at the policy revision of the metadata.
+     * @param maxArraySize only arrays smaller than this are indexed.
+     * @return the update, or an empty optional if the search index entry has to be computed from the full Thing.
+     */
+    public static Optional<ThingUpdateModel> toUpdateModel(final Metadata metadata, final Enforcer enforcer,
+            final int maxArraySize) {
+
+        final List<ThingEvent> events = metadata.getEvents();
+        if (events.isEmpty() || !events.stream().allMatch(EnforcedThingEventMapper::isSupported)) {
+            return Optional.empty();
+        }
+        final ThingEvent<?> lastEvent = events.get(events.size() - 1);
+        final Optional<Instant> modified = lastEvent.getTimestamp();
+        if (!modified.isPresent() || lastEvent.getRevision() != metadata.getThingRevision()) {
+            return Optional.empty();
+        }
+
+        // later events override earlier events at the same location
+        final Map<JsonPointer, Optional<JsonValue>> changes = new LinkedHashMap<>();
+        for (final ThingEvent<?> event : events) {
+            changes.put(event.getResourcePath(), event.getEntity());
+        }
+        if (!areIndependent(changes.keySet())) {
+            return Optional.empty();
+        }
+
+        final String thingId = metadata.getThingId().toString();
+        final long revision = metadata.getThingRevision();
+        final JsonValue revisionValue = JsonValue.of(revision);
+        final JsonValue modifiedValue = JsonValue.of(modified.get().toString());
+
+        final BsonArray removals = new BsonArray();
+        final BsonArray additions = new BsonArray();
+        final BsonDocument sets = new BsonDocument().append(FIELD_REVISION, new BsonInt64(revision));
+        final BsonDocument unsets = new BsonDocument();
+        final Map<JsonPointer, Integer> deletionsPerParent = new HashMap<>();
+
+        removals.add(keyEquals(REVISION_POINTER));
+        removals.add(keyEquals(MODIFIED_POINTER));
+        additions.addAll(EnforcedThingFlattener.flattenValue(thingId, REVISION_POINTER, revisionValue, enforcer,
+                maxArraySize));
+        additions.addAll(EnforcedThingFlattener.flattenValue(thingId, MODIFIED_POINTER, modifiedValue, enforcer,
+                maxArraySize));
+        sets.append(sortingPath(REVISION_POINTER), JsonToBson.convert(revisionValue));
+        sets.append(sortingPath(MODIFIED_POINTER), JsonToBson.convert(modifiedValue));
+
+        changes.forEach((pointer, optionalValue) -> {
+            addRemovalsOfSubtree(removals, pointer);
+            if (optionalValue.isPresent()) {
+                final JsonValue value = optionalValue.get();
+                addRemovalsOfEmptyAncestors(removals, pointer);
+                additions.addAll(EnforcedThingFlattener.flattenValue(thingId, pointer, value, enforcer,
+                        maxArraySize));
+                sets.append(sortingPath(pointer),
+                        JsonToBson.convert(EnforcedThingMapper.pruneArrays(value, maxArraySize)));
+            } else {
+                deletionsPerParent.merge(pointer.cutLeaf(), 1, Integer::sum);
+                unsets.append(sortingPath(pointer), new BsonString(""));
+            }
+        });
+
+        final BsonDocument precondition = getPrecondition(changes.keySet(), deletionsPerParent);
+        final BsonDocument removeUpdate = new BsonDocument().append(PULL,
+                new BsonDocument().append(FIELD_INTERNAL, new BsonDocument().append(OR, removals)));
+        final BsonDocument addUpdate = new BsonDocument()
+                .append(PUSH, new BsonDocument().append(FIELD_INTERNAL, new BsonDocument().append(EACH, additions)))
+                .append(SET, sets);
+        if (!unsets.isEmpty()) {
+            addUpdate.append(UNSET, unsets);
+        }
+
+        return Optional.of(ThingUpdateModel.of(metadata, precondition, removeUpdate, addUpdate));
+    }
+
+    /**
+     * Check that no changed location contains another and that no location addresses an array element in MongoDB.
+     */
+    private static boolean areIndependent(final Collection<JsonPointer> pointers) {
+        for (final JsonPointer pointer : pointers) {
+            for (final JsonKey key : pointer) {
+                if (key.toString().chars().allMatch(Character::isDigit)) {
+                    return false;
+                }
+            }
+            JsonPointer ancestor = pointer.cutLeaf();
+            while (!ancestor.isEmpty()) {
+                if (pointers.contains(ancestor)) {
+                    return false;
+                }
+                ancestor = ancestor.cutLeaf();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Precondition of the incremental update: Wildcard feature entries carry their feature ID and no deletion leaves
+     * an empty object behind, which would need a flattened entry of its own.
+     */
+    private static BsonDocument getPrecondition(final Collection<JsonPointer> pointers,
+            final Map<JsonPointer, Integer> deletionsPerParent) {
+
+        final BsonDocument precondition = new BsonDocument();
+        if (pointers.stream().anyMatch(EnforcedThingEventMapper::isInFeatures)) {
+            final BsonDocument wildcardEntryWithoutFeatureId = new BsonDocument()
+                    .append(FIELD_INTERNAL_KEY, new BsonRegularExpression(WILDCARD_FEATURES_REGEX))
+                    .append(FIELD_FEATURE_ID, new BsonDocument().append(EXISTS, BsonBoolean.FALSE));
+            precondition.append(FIELD_INTERNAL, new BsonDocument().append(NOT,
+                    new BsonDocument().append(ELEM_MATCH, wildcardEntryWithoutFeatureId)));
+        }
+        if (!deletionsPerParent.isEmpty()) {
+            final BsonArray parentsRemainNonempty = new BsonArray();
+            deletionsPerParent.forEach((parent, deletions) -> {
+                final BsonDocument parentSize = new BsonDocument().append(SIZE,
+                        new BsonDocument().append(OBJECT_TO_ARRAY, new BsonString("$" + sortingPath(parent))));
+                parentsRemainNonempty.add(new BsonDocument().append(GT,
+                        new BsonArray(Arrays.asList(parentSize, new BsonInt32(deletions)))));
+            });
+            precondition.append(EXPR, new BsonDocument().append(AND, parentsRemainNonempty));
+        }
+        return precondition;
+    }
+
+    private static void addRemovalsOfSubtree(final BsonArray removals, final JsonPointer pointer) {
+        removals.add(keyEquals(pointer));
+        removals.add(keyStartsWith(pointer));
+        getFeatureId(pointer).ifPresent(featureId ->
+                EnforcedThingFlattener.replaceFeatureIdByWildcard(pointer).ifPresent(wildcardPointer -> {
+                    removals.add(keyEquals(wildcardPointer).append(FIELD_FEATURE_ID, new BsonString(featureId)));
+                    removals.add(keyStartsWith(wildcardPointer).append(FIELD_FEATURE_ID, new BsonString(featureId)));
+                }));
+    }
+
+    private static void addRemovalsOfEmptyAncestors(final BsonArray removals, final JsonPointer pointer) {
+        final Optional<String> featureId = getFeatureId(pointer);
+        JsonPointer ancestor = pointer.cutLeaf();
+        while (!ancestor.isEmpty()) {
+            removals.add(keyEquals(ancestor).append(FIELD_INTERNAL_VALUE, new BsonDocument()));
+            if (featureId.isPresent()) {
+                final Optional<JsonPointer> wildcardAncestor =
+                        EnforcedThingFlattener.replaceFeatureIdByWildcard(ancestor);
+                if (wildcardAncestor.isPresent()) {
+                    removals.add(keyEquals(wildcardAncestor.get())
+                            .append(FIELD_INTERNAL_VALUE, new BsonDocument())
+                            .append(FIELD_FEATURE_ID, new BsonString(featureId.get())));
+                }
+            }
+            ancestor = ancestor.cutLeaf();
+        }
+    }
+
+    private static boolean isInFeatures(final JsonPointer pointer) {
+        return pointer.getRoot().equals(FEATURES_POINTER.getRoot());
+    }
+
+    private static Optional<String> getFeatureId(final JsonPointer pointer) {
+        return isInFeatures(pointer) ? pointer.get(1).map(JsonKey::toString) : Optional.empty();
+    }
+
+    private static BsonDocument keyEquals(final CharSequence key) {
+        return new BsonDocument().append(FIELD_INTERNAL_KEY, new BsonString(key.toString()));
+    }
+
+    private static BsonDocument keyStartsWith(final CharSequence key) {
+        final BsonValue regex = new BsonRegularExpression("^" + Pattern.quote(key + SLASH));
+        return new BsonDocument().append(FIELD_INTERNAL_KEY, regex);
+    }
+
+    private static String sortingPath(final JsonPointer pointer) {
+        final StringBuilder builder = new StringBuilder(FIELD_SORTING);
+        for (final JsonKey key : pointer) {
+            builder.append(DOT).append(KeyEscapeUtil.escape(key.toString()));
+        }
+        return builder.toString();
+    }
+
+}
@@ -14,6 +14,7 @@ package org.eclipse.ditto.services.thingsearch.persistence.write.mapping;
 
 import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
 import static org.eclipse.ditto.services.models.policies.Permission.READ;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_FEATURE_ID;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_KEY;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_VALUE;
@@ -69,6 +70,39 @@ final class EnforcedThingFlattener implements JsonObjectVisitor<Stream<Document>
         return bsonArray;
     }
 
+    /**
+     * Flatten a part of a Thing. The result contains the same entries as the result of {@link #flattenJson} with
+     * keys starting with the given pointer.
+     *
+     * @param thingId ID of the Thing.
+     * @param pointer location of the value in the Thing.
+     * @param value the value.
+     * @param enforcer the enforcer of the Thing.
+     * @param maxArraySize only arrays smaller than this are indexed.
+     * @return the flattened value.
+     */
+    static BsonArray flattenValue(final String thingId, final JsonPointer pointer, final JsonValue value,
+            final Enforcer enforcer, final int maxArraySize) {
+
+        final BsonArray bsonArray = new BsonArray();
+        new EnforcedThingFlattener(thingId, enforcer, maxArraySize).value(pointer, value)
+                .forEach(doc -> bsonArray.add(BsonUtil.toBsonDocument(doc)));
+        return bsonArray;
+    }
+
+    /**
+     * Compute the key of the entries with the feature ID of a key replaced by a wildcard.
+     *
+     * @param key the key of a flattened entry.
+     * @return the key with wildcard feature ID if the key points into a feature.
+     */
+    static Optional<JsonPointer> replaceFeatureIdByWildcard(final JsonPointer key) {
+        return key.getRoot()
+                .filter(FEATURES_KEY::equals)
+                .flatMap(features -> key.getSubPointer(2)) // skip 'features' and <featureId>
+                .map(WILDCARD_FEATURE_POINTER::append);
+    }
+
     @Override
     public Stream<Document> nullValue(final JsonPointer key) {
         return singleton(key, JsonValue.nullLiteral());
@@ -116,7 +150,9 @@ final class EnforcedThingFlattener implements JsonObjectVisitor<Stream<Document>
             final BsonArray revokes = toBsonArray(subjectIds.getRevoked());
             final Document document = assembleDocument(key, bsonValue, grants, revokes);
             return replaceFeatureIdByWildcard(key)
-                    .map(replacedKey -> Stream.of(document, assembleDocument(replacedKey, bsonValue, grants, revokes)))
+                    .map(replacedKey -> Stream.of(document,
+                            assembleDocument(replacedKey, bsonValue, grants, revokes)
+                                    .append(FIELD_FEATURE_ID, key.get(1).map(JsonKey::toString).orElse(""))))
                     .orElse(Stream.of(document));
         } else {
             // Impossible to restrict length of this key-value pair; do not index it.
@@ -138,13 +174,6 @@ final class EnforcedThingFlattener implements JsonObjectVisitor<Stream<Document>
                 .append(FIELD_REVOKED, revokes);
     }
 
-    private static Optional<CharSequence> replaceFeatureIdByWildcard(final JsonPointer key) {
-        return key.getRoot()
-                .filter(FEATURES_KEY::equals)
-                .flatMap(features -> key.getSubPointer(2)) // skip 'features' and <featureId>
-                .map(WILDCARD_FEATURE_POINTER::append);
-    }
-
     private static BsonArray toBsonArray(final Collection<String> strings) {
         final BsonArray bsonArray = new BsonArray();
         strings.forEach(string -> bsonArray.add(new BsonString(string)));
@@ -134,12 +134,12 @@ public final class EnforcedThingMapper {
     /**
      * Truncate large arrays from the sort field.
      *
-     * @param thing JSON representation of a thing.
+     * @param value JSON representation of a thing or a part of it.
      * @param maxArraySize how large arrays may be in the search index.
-     * @return thing with large arrays truncated.
+     * @return the value with large arrays truncated.
      */
-    private static JsonObject pruneArrays(final JsonObject thing, final long maxArraySize) {
-        return maxArraySize < 0 ? thing : new ArrayPruner(maxArraySize).eval(thing).asObject();
+    static JsonValue pruneArrays(final JsonValue value, final long maxArraySize) {
+        return maxArraySize < 0 ? value : new ArrayPruner(maxArraySize).eval(value);
     }
 
     private static final class ArrayPruner implements JsonInternalVisitor<JsonValue> {
@@ -14,6 +14,8 @@ package org.eclipse.ditto.services.thingsearch.persistence.write.model;
 
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 import javax.annotation.Nullable;
@@ -53,6 +55,16 @@ public abstract class AbstractWriteModel {
      */
     public abstract WriteModel<Document> toMongo();
 
+    /**
+     * Convert this description of a Thing search index change into MongoDB write models which have to be executed in
+     * the given order.
+     *
+     * @return MongoDB write models.
+     */
+    public List<WriteModel<Document>> toMongoWriteModels() {
+        return Collections.singletonList(toMongo());
+    }
+
     /**
      * @return Metadata of this write model.
      */
@@ -12,6 +12,9 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write.model;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -19,6 +22,7 @@ import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
 
 /**
  * Data class holding information about a "thingEntities" database record.
@@ -30,16 +34,19 @@ public final class Metadata {
     private final long thingRevision;
     @Nullable private final String policyId;
     private final long policyRevision;
+    private final List<ThingEvent> events;
 
     private Metadata(final ThingId thingId,
             final long thingRevision,
             @Nullable final String policyId,
-            final long policyRevision) {
+            final long policyRevision,
+            final List<ThingEvent> events) {
 
         this.thingId = thingId;
         this.thingRevision = thingRevision;
         this.policyId = policyId;
         this.policyRevision = policyRevision;
+        this.events = events;
     }
 
     /**
@@ -56,7 +63,28 @@ public final class Metadata {
             @Nullable final String policyId,
             final long policyRevision) {
 
-        return new Metadata(thingId, thingRevision, policyId, policyRevision);
+        return new Metadata(thingId, thingRevision, policyId, policyRevision, Collections.emptyList());
+    }
+
+    /**
+     * Create an Metadata object carrying the events which lead from the previous revision of the Thing in the search
+     * index to the given revision.
+     *
+     * @param thingId the Thing ID.
+     * @param thingRevision the Thing revision.
+     * @param policyId the Policy ID if the Thing has one.
+     * @param policyRevision the Policy revision if the Thing has a policy, or the Thing revision if it does not.
+     * @param events consecutive events of the Thing ending with the given revision.
+     * @return the new Metadata object.
+     */
+    public static Metadata of(final ThingId thingId,
+            final long thingRevision,
+            @Nullable final String policyId,
+            final long policyRevision,
+            final List<ThingEvent> events) {
+
+        return new Metadata(thingId, thingRevision, policyId, policyRevision,
+                Collections.unmodifiableList(new ArrayList<>(events)));
     }
 
     /**
@@ -105,6 +133,57 @@ public final class Metadata {
         return policyRevision;
     }
 
+    /**
+     * Returns the consecutive events ending with the revision of this metadata. If the list is empty, the search index
+     * entry of the Thing has to be computed from the full Thing.
+     *
+     * @return the events or an empty list.
+     */
+    public List<ThingEvent> getEvents() {
+        return events;
+    }
+
+    /**
+     * Returns the revision of the search index entry the events of this metadata apply to.
+     *
+     * @return the revision before the first event, or the Thing revision if there are no events.
+     */
+    public long getEventsBaseRevision() {
+        return events.isEmpty() ? thingRevision : events.get(0).getRevision() - 1L;
+    }
+
+    /**
+     * Combine this metadata with metadata of a later change of the same Thing. The events of both are kept if they are
+     * consecutive and refer to the same policy revision; otherwise the combined metadata requires a full update.
+     *
+     * @param later metadata of the later change.
+     * @param maxEvents the maximum number of events to keep.
+     * @return the combined metadata.
+     */
+    public Metadata append(final Metadata later, final int maxEvents) {
+        final Metadata latest = later.thingRevision >= thingRevision ? later : this;
+        final boolean consecutive = !events.isEmpty() &&
+                !later.events.isEmpty() &&
+                later.getEventsBaseRevision() == thingRevision &&
+                Objects.equals(policyId, later.policyId) &&
+                policyRevision == later.policyRevision &&
+                events.size() + later.events.size() <= maxEvents;
+        if (consecutive) {
+            final List<ThingEvent> combinedEvents = new ArrayList<>(events);
+            combinedEvents.addAll(later.events);
+            return of(thingId, later.thingRevision, later.policyId, later.policyRevision, combinedEvents);
+        } else {
+            return of(thingId, latest.thingRevision, latest.policyId, latest.policyRevision);
+        }
+    }
+
+    /**
+     * @return a copy of this metadata without events.
+     */
+    public Metadata withoutEvents() {
+        return of(thingId, thingRevision, policyId, policyRevision);
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -117,12 +196,13 @@ public final class Metadata {
         return thingRevision == that.thingRevision &&
                 policyRevision == that.policyRevision &&
                 Objects.equals(thingId, that.thingId) &&
-                Objects.equals(policyId, that.policyId);
+                Objects.equals(policyId, that.policyId) &&
+                Objects.equals(events, that.events);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(thingId, thingRevision, policyId, policyRevision);
+        return Objects.hash(thingId, thingRevision, policyId, policyRevision, events);
     }
 
     @Override
@@ -132,6 +212,7 @@ public final class Metadata {
                 ", thingRevision=" + thingRevision +
                 ", policyId=" + policyId +
                 ", policyRevision=" + policyRevision +
+                ", eventCount=" + events.size() +
                 "]";
     }
 
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.model;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+
+/**
+ * Write model for an incremental update of the search index entry of a Thing derived from its events.
+ * <p>
+ * MongoDB does not permit removing and adding elements of the same array in one update. The update therefore consists
+ * of two steps: The first step removes the outdated flattened entries; the second step adds the new entries, updates
+ * the fields for sorting and sets the new revision. Both steps only apply to a search index entry having the revision
+ * before the events and the policy revision of the metadata and matching the precondition, which the first step does
+ * not change. The steps have to be written in order. If any step matches no document, the search index entry has to
+ * be computed from the full Thing.
+ * </p>
+ */
+@Immutable
+public final class ThingUpdateModel extends AbstractWriteModel {
+
+    private final BsonDocument precondition;
+    private final BsonDocument removeUpdate;
+    private final BsonDocument addUpdate;
+
+    private ThingUpdateModel(final Metadata metadata,
+            final BsonDocument precondition,
+            final BsonDocument removeUpdate,
+            final BsonDocument addUpdate) {
+
+        super(metadata);
+        this.precondition = precondition;
+        this.removeUpdate = removeUpdate;
+        this.addUpdate = addUpdate;
+    }
+
+    /**
+     * Create a Thing update model.
+     *
+     * @param metadata the metadata carrying the events of the update.
+     * @param precondition additional filter the search index entry has to match before each step.
+     * @param removeUpdate the update of the first step removing outdated entries.
+     * @param addUpdate the update of the second step adding new entries.
+     * @return the Thing update model.
+     */
+    public static ThingUpdateModel of(final Metadata metadata,
+            final BsonDocument precondition,
+            final BsonDocument removeUpdate,
+            final BsonDocument addUpdate) {
+
+        return new ThingUpdateModel(metadata, precondition, removeUpdate, addUpdate);
+    }
+
+    /**
+     * Returns the first step of this update. Use {@link #toMongoWriteModels()} to get all steps.
+     *
+     * @return MongoDB write model of the first step.
+     */
+    @Override
+    public WriteModel<Document> toMongo() {
+        return new UpdateOneModel<>(getFilterOfBaseRevisionAndPrecondition(), removeUpdate);
+    }
+
+    @Override
+    public List<WriteModel<Document>> toMongoWriteModels() {
+        return Arrays.asList(toMongo(), new UpdateOneModel<>(getFilterOfBaseRevisionAndPrecondition(), addUpdate));
+    }
+
+    /**
+     * @return the additional filter the search index entry has to match before each step.
+     */
+    public BsonDocument getPrecondition() {
+        return precondition;
+    }
+
+    /**
+     * @return the update of the first step.
+     */
+    public BsonDocument getRemoveUpdate() {
+        return removeUpdate;
+    }
+
+    /**
+     * @return the update of the second step.
+     */
+    public BsonDocument getAddUpdate() {
+        return addUpdate;
+    }
+
+    private Bson getFilterOfBaseRevisionAndPrecondition() {
+        final Metadata metadata = getMetadata();
+        return Filters.and(getFilter(),
+                Filters.eq(FIELD_REVISION, metadata.getEventsBaseRevision()),
+                Filters.eq(FIELD_POLICY_REVISION, metadata.getPolicyRevision()),
+                precondition);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+        final ThingUpdateModel that = (ThingUpdateModel) o;
+        return precondition.equals(that.precondition) &&
+                removeUpdate.equals(that.removeUpdate) &&
+                addUpdate.equals(that.addUpdate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), precondition, removeUpdate, addUpdate);
+    }
+
+}
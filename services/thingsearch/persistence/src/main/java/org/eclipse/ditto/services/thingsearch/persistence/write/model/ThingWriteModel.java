@@ -12,19 +12,26 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write.model;
 
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
+
 import java.util.Objects;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 import org.bson.Document;
+import org.bson.conversions.Bson;
 
+import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.model.WriteModel;
 
 /**
- * Write model for an entire Thing.
+ * Write model for an entire Thing. It only replaces a search index entry of an older revision of the Thing or of the
+ * same revision with an older or the same revision of the Policy; bulks of write models are written in parallel and
+ * may complete out of order. An upsert of an outdated write model fails with a duplicate key error instead.
  */
 @NotThreadSafe
 public final class ThingWriteModel extends AbstractWriteModel {
@@ -49,7 +56,7 @@ public final class ThingWriteModel extends AbstractWriteModel {
 
     @Override
     public WriteModel<Document> toMongo() {
-        return new ReplaceOneModel<>(getFilter(), thingDocument, upsert());
+        return new ReplaceOneModel<>(getFilterOfOlderRevisions(), thingDocument, upsert());
     }
 
     /**
@@ -59,6 +66,14 @@ public final class ThingWriteModel extends AbstractWriteModel {
         return thingDocument;
     }
 
+    private Bson getFilterOfOlderRevisions() {
+        final Metadata metadata = getMetadata();
+        return Filters.and(getFilter(), Filters.or(
+                Filters.lt(FIELD_REVISION, metadata.getThingRevision()),
+                Filters.and(Filters.eq(FIELD_REVISION, metadata.getThingRevision()),
+                        Filters.lte(FIELD_POLICY_REVISION, metadata.getPolicyRevision()))));
+    }
+
     private static UpdateOptions upsert() {
         return new UpdateOptions().upsert(true);
     }
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.services.thingsearch.common.config.PersistenceStreamConfig;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+
+import akka.Done;
+
+/**
+ * Adapts bulk size and parallelism of the writes into the search index to the observed latency of bulk writes by
+ * additive increase and multiplicative decrease (AIMD):
+ * <ul>
+ * <li>A bulk write within the target latency increases the bulk size by a constant step. Once the bulk size reached
+ * its upper bound, the parallelism increases by one.</li>
+ * <li>A slower or failed bulk write halves the parallelism. Once the parallelism is at its lower bound, the bulk size
+ * is halved instead.</li>
+ * </ul>
+ * The controller also limits the number of bulk writes in flight to the current parallelism and reports bulk size,
+ * parallelism and the lag of the search index behind the events of the Things as gauges.
+ */
+@ThreadSafe
+final class BulkWriteController {
+
+    private static final String GAUGE_BULK_SIZE = "things_search_updater_bulk_size";
+    private static final String GAUGE_PARALLELISM = "things_search_updater_bulk_write_parallelism";
+    private static final String GAUGE_INDEX_LAG = "things_search_updater_index_lag_ms";
+
+    private final int minBulkSize;
+    private final int maxBulkSize;
+    private final int minParallelism;
+    private final int maxParallelism;
+    private final int bulkSizeStep;
+    private final Duration targetLatency;
+
+    private final Gauge bulkSizeGauge;
+    private final Gauge parallelismGauge;
+    private final Gauge indexLagGauge;
+
+    // guarded by "this"
+    private int bulkSize;
+    private int parallelism;
+    private int inFlight;
+    private final Queue<CompletableFuture<Done>> waitingForPermit;
+
+    private BulkWriteController(final int minBulkSize, final int maxBulkSize, final int minParallelism,
+            final int maxParallelism, final Duration targetLatency) {
+
+        this.minBulkSize = Math.max(1, Math.min(minBulkSize, maxBulkSize));
+        this.maxBulkSize = Math.max(1, maxBulkSize);
+        this.minParallelism = Math.max(1, Math.min(minParallelism, maxParallelism));
+        this.maxParallelism = Math.max(1, maxParallelism);
+        bulkSizeStep = this.minBulkSize;
+        this.targetLatency = targetLatency;
+
+        bulkSizeGauge = DittoMetrics.gauge(GAUGE_BULK_SIZE);
+        parallelismGauge = DittoMetrics.gauge(GAUGE_PARALLELISM);
+        indexLagGauge = DittoMetrics.gauge(GAUGE_INDEX_LAG);
+
+        // start like a non-adaptive stream: maximum bulk size, minimum parallelism
+        bulkSize = this.maxBulkSize;
+        parallelism = this.minParallelism;
+        inFlight = 0;
+        waitingForPermit = new ArrayDeque<>();
+        reportSettings();
+    }
+
+    /**
+     * Create a controller adapting bulk size and parallelism within the bounds of the persistence stream config.
+     *
+     * @param config the persistence stream config.
+     * @return the controller.
+     */
+    static BulkWriteController of(final PersistenceStreamConfig config) {
+        return new BulkWriteController(config.getMinBulkSize(), config.getMaxBulkSize(), config.getParallelism(),
+                config.getMaxParallelism(), config.getTargetBulkWriteLatency());
+    }
+
+    /**
+     * Create a controller which keeps bulk size and parallelism fixed.
+     *
+     * @param parallelism the number of bulk writes to run in parallel.
+     * @param bulkSize the amount of write operations to perform in one bulk.
+     * @return the controller.
+     */
+    static BulkWriteController fixed(final int parallelism, final int bulkSize) {
+        return new BulkWriteController(bulkSize, bulkSize, parallelism, parallelism, Duration.ZERO);
+    }
+
+    /**
+     * @return the upper bound of the bulk size.
+     */
+    int getMaxBulkSize() {
+        return maxBulkSize;
+    }
+
+    /**
+     * @return the upper bound of the parallelism.
+     */
+    int getMaxParallelism() {
+        return maxParallelism;
+    }
+
+    /**
+     * @return the current bulk size.
+     */
+    synchronized int getBulkSize() {
+        return bulkSize;
+    }
+
+    /**
+     * @return the current parallelism.
+     */
+    synchronized int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Wait for a permit to start a bulk write. Each permit must be released by {@link #release()}.
+     *
+     * @return future completed when the bulk write may start.
+     */
+    CompletionStage<Done> acquire() {
+        synchronized (this) {
+            if (inFlight < parallelism) {
+                ++inFlight;
+                return CompletableFuture.completedFuture(Done.getInstance());
+            }
+            final CompletableFuture<Done> permit = new CompletableFuture<>();
+            waitingForPermit.add(permit);
+            return permit;
+        }
+    }
+
+    /**
+     * Release the permit of a finished bulk write.
+     */
+    void release() {
+        final List<CompletableFuture<Done>> grantedPermits;
+        synchronized (this) {
+            --inFlight;
+            grantedPermits = grantPermits();
+        }
+        grantedPermits.forEach(permit -> permit.complete(Done.getInstance()));
+    }
+
+    /**
+     * Adapt bulk size and parallelism to a completed bulk write.
+     *
+     * @param latency how long the bulk write took.
+     */
+    void onBulkWriteCompleted(final Duration latency) {
+        if (latency.compareTo(targetLatency) <= 0) {
+            increase();
+        } else {
+            decrease();
+        }
+    }
+
+    /**
+     * Adapt bulk size and parallelism to a failed bulk write.
+     */
+    void onBulkWriteFailed() {
+        decrease();
+    }
+
+    /**
+     * Report how long ago the oldest event of a written bulk happened.
+     *
+     * @param indexLag the lag of the search index behind the event.
+     */
+    void reportIndexLag(final Duration indexLag) {
+        indexLagGauge.set(indexLag.toMillis());
+    }
+
+    private void increase() {
+        final List<CompletableFuture<Done>> grantedPermits;
+        synchronized (this) {
+            if (bulkSize < maxBulkSize) {
+                bulkSize = Math.min(maxBulkSize, bulkSize + bulkSizeStep);
+            } else if (parallelism < maxParallelism) {
+                ++parallelism;
+            }
+            reportSettings();
+            grantedPermits = grantPermits();
+        }
+        grantedPermits.forEach(permit -> permit.complete(Done.getInstance()));
+    }
+
+    private synchronized void decrease() {
+        if (parallelism > minParallelism) {
+            parallelism = Math.max(minParallelism, parallelism / 2);
+        } else {
+            bulkSize = Math.max(minBulkSize, bulkSize / 2);
+        }
+        reportSettings();
+    }
+
+    // call only when holding the lock of "this"
+    private List<CompletableFuture<Done>> grantPermits() {
+        final List<CompletableFuture<Done>> grantedPermits = new ArrayList<>();
+        while (inFlight < parallelism && !waitingForPermit.isEmpty()) {
+            ++inFlight;
+            grantedPermits.add(waitingForPermit.poll());
+        }
+        return grantedPermits;
+    }
+
+    // call only when holding the lock of "this"
+    private void reportSettings() {
+        bulkSizeGauge.set((long) bulkSize);
+        parallelismGauge.set((long) parallelism);
+    }
+
+}
@@ -42,10 +42,14 @@ public final class ChangeQueueActor extends AbstractActor {
 
     private static final Duration ASK_SELF_TIMEOUT = Duration.ofSeconds(5L);
 
+    /**
+     * Maximum number of events kept per Thing. Beyond that, indexing the full Thing is cheaper.
+     */
+    private static final int MAX_EVENTS_PER_THING = 100;
+
     /**
      * Caching changes of 1 Thing per key.
-     * Change type values according to caching strategy;
-     * for example, replace AtomicReference by a concurrent queue if changes are to be computed from events directly.
+     * Changes of the same Thing are combined; their events are kept as long as they are consecutive.
      */
     private Map<ThingId, Metadata> cache = new HashMap<>();
 
@@ -74,7 +78,8 @@ public final class ChangeQueueActor extends AbstractActor {
      * @param metadata a description of the change.
      */
     private void enqueue(final Metadata metadata) {
-        cache.put(metadata.getThingId(), metadata);
+        cache.merge(metadata.getThingId(), metadata,
+                (previous, later) -> previous.append(later, MAX_EVENTS_PER_THING));
     }
 
     /**
@@ -13,8 +13,10 @@
 package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -34,10 +36,12 @@ import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamCacheConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.EnforcedThingEventMapper;
 import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.EnforcedThingMapper;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingDeleteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingUpdateModel;
 import org.eclipse.ditto.services.utils.cache.Cache;
 import org.eclipse.ditto.services.utils.cache.CacheFactory;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
@@ -124,16 +128,67 @@ final class EnforcementFlow {
      */
     public Flow<Map<ThingId, Metadata>, Source<AbstractWriteModel, NotUsed>, NotUsed> create(final int parallelism) {
         return Flow.<Map<ThingId, Metadata>>create().map(changeMap -> {
-            log.info("Updating search index of <{}> things", changeMap.size());
-            final Set<ThingId> thingIds = changeMap.keySet();
-            return sudoRetrieveThingJsons(parallelism, thingIds).flatMapConcat(responseMap ->
-                    Source.fromIterator(changeMap.values()::iterator).flatMapMerge(parallelism, metadataRef ->
-                            computeWriteModel(metadataRef, responseMap.get(metadataRef.getThingId())))
-            );
+            final Map<ThingId, Metadata> fullUpdates = new HashMap<>();
+            final List<Metadata> incrementalUpdates = new ArrayList<>();
+            changeMap.forEach((thingId, metadata) -> {
+                if (isIncrementalUpdateCandidate(metadata)) {
+                    incrementalUpdates.add(metadata);
+                } else {
+                    fullUpdates.put(thingId, metadata);
+                }
+            });
+            log.info("Updating search index of <{}> things, <{}> of them from events", changeMap.size(),
+                    incrementalUpdates.size());
+
+            final Source<AbstractWriteModel, NotUsed> incrementalWriteModels = Source.from(incrementalUpdates)
+                    .flatMapMerge(parallelism, this::computeIncrementalWriteModel);
+            final Set<ThingId> thingIds = fullUpdates.keySet();
+            final Source<AbstractWriteModel, NotUsed> fullWriteModels =
+                    sudoRetrieveThingJsons(parallelism, thingIds).flatMapConcat(responseMap ->
+                            Source.fromIterator(fullUpdates.values()::iterator).flatMapMerge(parallelism, metadataRef ->
+                                    computeWriteModel(metadataRef, responseMap.get(metadataRef.getThingId())))
+                    );
+            return incrementalWriteModels.concat(fullWriteModels);
         });
 
     }
 
+    /**
+     * Events are only translated into incremental updates for Things with policy; the enforcer of a Thing with ACL is
+     * part of the Thing itself.
+     */
+    private static boolean isIncrementalUpdateCandidate(final Metadata metadata) {
+        return !metadata.getEvents().isEmpty() && metadata.getPolicyId().filter(id -> !id.isEmpty()).isPresent();
+    }
+
+    /**
+     * Compute an incremental update from the events of the metadata with the cached enforcer. Fall back to retrieving
+     * the Thing if the events cannot be translated or the cached enforcer has a different policy revision.
+     *
+     * @param metadata metadata carrying events.
+     * @return source of the write model.
+     */
+    private Source<AbstractWriteModel, NotUsed> computeIncrementalWriteModel(final Metadata metadata) {
+        final PolicyId policyId = PolicyId.of(metadata.getPolicyIdInPersistence());
+        return readCachedEnforcer(metadata, getPolicyEntityId(policyId), 0).flatMapConcat(entry -> {
+            if (entry.exists() && entry.getRevision() == metadata.getPolicyRevision()) {
+                final Optional<ThingUpdateModel> updateModel =
+                        EnforcedThingEventMapper.toUpdateModel(metadata, entry.getValueOrThrow(), maxArraySize);
+                if (updateModel.isPresent()) {
+                    return Source.<AbstractWriteModel>single(updateModel.get());
+                }
+            }
+            return retrieveThingAndComputeWriteModel(metadata);
+        });
+    }
+
+    private Source<AbstractWriteModel, NotUsed> retrieveThingAndComputeWriteModel(final Metadata metadata) {
+        return sudoRetrieveThing(metadata.getThingId())
+                .map(Optional::of)
+                .orElse(Source.single(Optional.<SudoRetrieveThingResponse>empty()))
+                .flatMapConcat(response -> computeWriteModel(metadata, response.orElse(null)));
+    }
+
     private Source<Map<ThingId, SudoRetrieveThingResponse>, NotUsed> sudoRetrieveThingJsons(
             final int parallelism, final Collection<ThingId> thingIds) {
 
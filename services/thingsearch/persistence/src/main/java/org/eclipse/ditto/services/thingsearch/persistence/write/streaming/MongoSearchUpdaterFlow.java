@@ -12,25 +12,50 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.THINGS_COLLECTION_NAME;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
 import org.bson.Document;
+import org.eclipse.ditto.services.thingsearch.common.config.PersistenceStreamConfig;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.mongodb.ErrorCategory;
 import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
 import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.WriteModel;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 
+import akka.Done;
 import akka.NotUsed;
+import akka.actor.ActorRef;
 import akka.japi.Pair;
 import akka.japi.pf.PFBuilder;
 import akka.stream.Attributes;
@@ -47,6 +72,8 @@ import akka.stream.javadsl.Zip;
 import kamon.Kamon;
 
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingUpdateModel;
 
 /**
  * Flow mapping write models to write results via the search persistence.
@@ -60,24 +87,39 @@ final class MongoSearchUpdaterFlow {
     private Logger log = LoggerFactory.getLogger(MongoSearchUpdaterFlow.class);
 
     private final MongoCollection<Document> collection;
+    @Nullable private final ActorRef changeQueueActor;
 
-    private MongoSearchUpdaterFlow(final MongoCollection<Document> collection) {
+    private MongoSearchUpdaterFlow(final MongoCollection<Document> collection,
+            @Nullable final ActorRef changeQueueActor) {
         this.collection = collection;
+        this.changeQueueActor = changeQueueActor;
     }
 
     /**
-     * Create a MongoSearchUpdaterFlow object.
+     * Create a MongoSearchUpdaterFlow object which does not retry incremental updates.
      *
      * @param database the MongoDB database.
      * @return the MongoSearchUpdaterFlow object.
      */
     public static MongoSearchUpdaterFlow of(final MongoDatabase database) {
-        return new MongoSearchUpdaterFlow(database.getCollection(THINGS_COLLECTION_NAME));
+        return new MongoSearchUpdaterFlow(database.getCollection(THINGS_COLLECTION_NAME), null);
+    }
+
+    /**
+     * Create a MongoSearchUpdaterFlow object.
+     *
+     * @param database the MongoDB database.
+     * @param changeQueueActor the change queue actor to enqueue full updates of Things whose incremental updates
+     * may not have been applied.
+     * @return the MongoSearchUpdaterFlow object.
+     */
+    public static MongoSearchUpdaterFlow of(final MongoDatabase database, final ActorRef changeQueueActor) {
+        return new MongoSearchUpdaterFlow(database.getCollection(THINGS_COLLECTION_NAME), changeQueueActor);
     }
 
 
     /**
-     * Create a new flow through the search persistence.
+     * Create a new flow through the search persistence with fixed bulk size and parallelism.
      * No logging or recovery is attempted.
      *
      * @param parallelism How many write operations may run in parallel for this sink.
@@ -89,46 +131,266 @@ final class MongoSearchUpdaterFlow {
             final int maxBulkSize,
             final Duration writeInterval) {
 
-        final Flow<Source<AbstractWriteModel, NotUsed>, List<WriteModel<Document>>, NotUsed> batchFlow =
+        return start(BulkWriteController.fixed(parallelism, maxBulkSize), writeInterval);
+    }
+
+    /**
+     * Create a new flow through the search persistence which adapts bulk size and parallelism to the latency of bulk
+     * writes within the bounds of the persistence stream config.
+     * No logging or recovery is attempted.
+     *
+     * @param persistenceConfig the persistence stream config.
+     * @param writeInterval Delay between bulk operation requests. MongoDB backpressure is insufficient.
+     * @return the sink.
+     */
+    public Flow<Source<AbstractWriteModel, NotUsed>, BulkWriteResult, NotUsed> start(
+            final PersistenceStreamConfig persistenceConfig,
+            final Duration writeInterval) {
+
+        return start(BulkWriteController.of(persistenceConfig), writeInterval);
+    }
+
+    private Flow<Source<AbstractWriteModel, NotUsed>, BulkWriteResult, NotUsed> start(
+            final BulkWriteController controller,
+            final Duration writeInterval) {
+
+        final int maxBulkSize = controller.getMaxBulkSize();
+        final int maxParallelism = controller.getMaxParallelism();
+
+        // group write models before converting them so that all steps of an incremental update end up in one bulk;
+        // while the writes are backpressured, coalesce the write models of consecutive groups per Thing
+        final Flow<Source<AbstractWriteModel, NotUsed>, List<AbstractWriteModel>, NotUsed> batchFlow =
                 Flow.<Source<AbstractWriteModel, NotUsed>>create()
-                        .flatMapConcat(source -> source.map(AbstractWriteModel::toMongo).grouped(maxBulkSize));
+                        .flatMapConcat(source -> source.grouped(maxBulkSize))
+                        .batchWeighted(maxBulkSize, writeModels -> (long) writeModels.size(), WriteModelBatch::of,
+                                WriteModelBatch::addAll)
+                        .mapConcat(batch -> batch.toBulks(controller.getBulkSize()));
 
-        final Flow<List<WriteModel<Document>>, List<WriteModel<Document>>, NotUsed> throttleFlow;
+        final Flow<List<AbstractWriteModel>, List<AbstractWriteModel>, NotUsed> throttleFlow;
         if (Duration.ZERO.minus(writeInterval).isNegative()) {
-            throttleFlow = Flow.<List<WriteModel<Document>>>create()
+            throttleFlow = Flow.<List<AbstractWriteModel>>create()
                     .delay(writeInterval, DelayOverflowStrategy.backpressure());
         } else {
             throttleFlow = Flow.create();
         }
 
-        final Flow<List<WriteModel<Document>>, BulkWriteResult, NotUsed> writeFlow =
-                throttleFlow.flatMapMerge(parallelism, this::executeBulkWrite)
-                        // never initiate more than "parallelism" writes against the persistence
-                        .withAttributes(Attributes.inputBuffer(parallelism, parallelism));
+        final Flow<List<AbstractWriteModel>, BulkWriteResult, NotUsed> writeFlow =
+                throttleFlow.flatMapMerge(maxParallelism,
+                        writeModels -> executeBulkWriteWithPermit(writeModels, controller))
+                        // never initiate more than "maxParallelism" writes against the persistence;
+                        // the controller limits them further to the current parallelism
+                        .withAttributes(Attributes.inputBuffer(maxParallelism, maxParallelism));
 
-        final Flow<List<WriteModel<Document>>, StartedTimer, NotUsed> startTimerFlow = createStartTimerFlow();
+        final Flow<List<AbstractWriteModel>, StartedTimer, NotUsed> startTimerFlow = createStartTimerFlow();
         final Flow<Pair<BulkWriteResult, StartedTimer>, BulkWriteResult, NotUsed> stopTimerFlow = createStopTimerFlow();
 
         return Flow.fromGraph(assembleFlows(batchFlow, writeFlow, startTimerFlow, stopTimerFlow));
     }
 
-    private Source<BulkWriteResult, NotUsed> executeBulkWrite(final List<WriteModel<Document>> writeModel) {
-        return Source.fromPublisher(collection.bulkWrite(writeModel, new BulkWriteOptions().ordered(false)))
-                .recoverWithRetries(1, new PFBuilder<Throwable, Source<BulkWriteResult, NotUsed>>()
-                        .match(MongoBulkWriteException.class, bulkWriteException -> {
-                            log.info("Got MongoBulkWriteException; may ignore if all are duplicate key errors:",
-                                    bulkWriteException);
-                            return Source.single(bulkWriteException.getWriteResult());
+    private Source<BulkWriteResult, NotUsed> executeBulkWriteWithPermit(
+            final List<AbstractWriteModel> abstractWriteModels, final BulkWriteController controller) {
+
+        final CompletionStage<Done> permit = controller.acquire();
+        return Source.fromCompletionStage(permit)
+                .flatMapConcat(granted -> executeBulkWrite(abstractWriteModels, controller))
+                .watchTermination((notUsed, done) -> {
+                    // release the permit only once it was granted, even if the stream terminated while waiting for it
+                    done.whenComplete((result, error) -> permit.thenRun(controller::release));
+                    return notUsed;
+                });
+    }
+
+    private Source<BulkWriteResult, NotUsed> executeBulkWrite(final List<AbstractWriteModel> abstractWriteModels,
+            final BulkWriteController controller) {
+
+        // the steps of incremental updates depend on each other and are written in order after all other writes
+        final List<WriteModel<Document>> unorderedWrites = new ArrayList<>();
+        final List<WriteModel<Document>> orderedWrites = new ArrayList<>();
+        final List<AbstractWriteModel> incrementalUpdatesOfOrderedWrites = new ArrayList<>();
+        for (final AbstractWriteModel abstractWriteModel : abstractWriteModels) {
+            final List<WriteModel<Document>> writes = abstractWriteModel.toMongoWriteModels();
+            if (abstractWriteModel instanceof ThingUpdateModel) {
+                orderedWrites.addAll(writes);
+                writes.forEach(write -> incrementalUpdatesOfOrderedWrites.add(abstractWriteModel));
+            } else {
+                unorderedWrites.addAll(writes);
+            }
+        }
+        final long startNanos = System.nanoTime();
+        return bulkWrite(unorderedWrites, false, controller)
+                .map(Pair::first)
+                .concat(bulkWrite(orderedWrites, true, controller)
+                        .flatMapConcat(resultAndErrors -> retryUnmatchedIncrementalUpdates(
+                                incrementalUpdatesOfOrderedWrites, resultAndErrors.first(), resultAndErrors.second())))
+                .reduce(MongoSearchUpdaterFlow::combineResults)
+                .map(result -> {
+                    controller.onBulkWriteCompleted(Duration.ofNanos(System.nanoTime() - startNanos));
+                    reportIndexLag(abstractWriteModels, controller);
+                    return result;
+                });
+    }
+
+    private Source<Pair<BulkWriteResult, List<BulkWriteError>>, NotUsed> bulkWrite(
+            final List<WriteModel<Document>> writeModels, final boolean ordered,
+            final BulkWriteController controller) {
+
+        if (writeModels.isEmpty()) {
+            return Source.empty();
+        }
+        return Source.fromPublisher(collection.bulkWrite(writeModels, new BulkWriteOptions().ordered(ordered)))
+                .map(result -> Pair.create(result, Collections.<BulkWriteError>emptyList()))
+                .recoverWithRetries(1,
+                        new PFBuilder<Throwable, Source<Pair<BulkWriteResult, List<BulkWriteError>>, NotUsed>>()
+                                .match(MongoBulkWriteException.class, bulkWriteException -> {
+                                    logWriteErrors(bulkWriteException);
+                                    return Source.single(Pair.create(bulkWriteException.getWriteResult(),
+                                            bulkWriteException.getWriteErrors()));
+                                })
+                                .matchAny(error -> {
+                                    log.error("Unexpected error", error);
+                                    controller.onBulkWriteFailed();
+                                    return Source.failed(error);
+                                })
+                                .build());
+    }
+
+    private void logWriteErrors(final MongoBulkWriteException bulkWriteException) {
+        // outdated full replaces fail as duplicate key upserts; they are expected and need no retry
+        final boolean onlyDuplicateKeyErrors = bulkWriteException.getWriteErrors()
+                .stream()
+                .allMatch(MongoSearchUpdaterFlow::isDuplicateKeyError);
+        if (onlyDuplicateKeyErrors) {
+            log.debug("Got MongoBulkWriteException with duplicate key errors only:", bulkWriteException);
+        } else {
+            log.info("Got MongoBulkWriteException:", bulkWriteException);
+        }
+    }
+
+    private static boolean isDuplicateKeyError(final BulkWriteError writeError) {
+        return ErrorCategory.DUPLICATE_KEY == writeError.getCategory();
+    }
+
+    private static BulkWriteResult combineResults(final BulkWriteResult first, final BulkWriteResult second) {
+        if (!first.wasAcknowledged() || !second.wasAcknowledged()) {
+            return BulkWriteResult.unacknowledged();
+        }
+        final List<BulkWriteUpsert> upserts = new ArrayList<>(first.getUpserts());
+        upserts.addAll(second.getUpserts());
+        return BulkWriteResult.acknowledged(first.getInsertedCount() + second.getInsertedCount(),
+                first.getMatchedCount() + second.getMatchedCount(),
+                first.getDeletedCount() + second.getDeletedCount(),
+                first.getModifiedCount() + second.getModifiedCount(),
+                upserts);
+    }
+
+    /**
+     * Report the time since the oldest event written by a bulk. Only write models caused by Thing events carry
+     * timestamps; bulks without them are not reported.
+     *
+     * @param abstractWriteModels the write models of the bulk.
+     * @param controller the controller to report the index lag to.
+     */
+    private static void reportIndexLag(final List<AbstractWriteModel> abstractWriteModels,
+            final BulkWriteController controller) {
+
+        abstractWriteModels.stream()
+                .flatMap(abstractWriteModel -> abstractWriteModel.getMetadata().getEvents().stream())
+                .map(ThingEvent::getTimestamp)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .min(Comparator.naturalOrder())
+                .ifPresent(oldestEvent -> controller.reportIndexLag(Duration.between(oldestEvent, Instant.now())));
+    }
+
+    /**
+     * Enqueue full updates of the Things whose incremental updates were not applied. Only the ordered bulk of
+     * incremental updates is considered, so duplicate key errors of outdated full replaces in the unordered bulk never
+     * cause retries. The ordered bulk stops at its first write error; the incremental update of the failed write and
+     * all incremental updates after it are retried. The result of a bulk write does not tell which of the executed
+     * writes matched no document; if not all of them matched, the revisions of the search index entries are looked up
+     * and only the incremental updates whose entry has an older revision or does not exist are retried.
+     *
+     * @param incrementalUpdatesOfWrites the incremental update of each write of the ordered bulk by index.
+     * @param result the result of the ordered bulk.
+     * @param writeErrors the write errors of the ordered bulk.
+     * @return source of the result once the retries are enqueued.
+     */
+    private Source<BulkWriteResult, NotUsed> retryUnmatchedIncrementalUpdates(
+            final List<AbstractWriteModel> incrementalUpdatesOfWrites, final BulkWriteResult result,
+            final List<BulkWriteError> writeErrors) {
+
+        if (changeQueueActor == null || !result.wasAcknowledged()) {
+            return Source.single(result);
+        }
+        final int numberOfWrites = incrementalUpdatesOfWrites.size();
+        final int executedWrites = writeErrors.stream()
+                .mapToInt(BulkWriteError::getIndex)
+                .min()
+                .orElse(numberOfWrites);
+        final Set<AbstractWriteModel> notExecuted =
+                new LinkedHashSet<>(incrementalUpdatesOfWrites.subList(executedWrites, numberOfWrites));
+        final Set<AbstractWriteModel> executed =
+                new LinkedHashSet<>(incrementalUpdatesOfWrites.subList(0, executedWrites));
+        executed.removeAll(notExecuted);
+        final Source<AbstractWriteModel, NotUsed> unmatched = result.getMatchedCount() < executedWrites
+                ? findNotAppliedIncrementalUpdates(executed)
+                : Source.empty();
+
+        return Source.from(notExecuted)
+                .concat(unmatched)
+                .fold(0, (count, incrementalUpdate) -> {
+                    changeQueueActor.tell(incrementalUpdate.getMetadata().withoutEvents(), ActorRef.noSender());
+                    return count + 1;
+                })
+                .map(retries -> {
+                    if (retries > 0) {
+                        log.info("Only <{}> of <{}> incremental writes matched; retrying <{}> incremental updates " +
+                                "as full updates", result.getMatchedCount(), numberOfWrites, retries);
+                    }
+                    return result;
+                });
+    }
+
+    /**
+     * Find the incremental updates whose search index entries do not exist or have a revision older than the revision
+     * of the update. All incremental updates are considered not applied if the lookup fails.
+     *
+     * @param incrementalUpdates the incremental updates.
+     * @return source of the incremental updates which were not applied.
+     */
+    private Source<AbstractWriteModel, NotUsed> findNotAppliedIncrementalUpdates(
+            final Set<AbstractWriteModel> incrementalUpdates) {
+
+        final Set<String> thingIds = incrementalUpdates.stream()
+                .map(incrementalUpdate -> incrementalUpdate.getMetadata().getThingId().toString())
+                .collect(Collectors.toSet());
+        final BsonDocument projection = new BsonDocument()
+                .append(FIELD_ID, new BsonInt32(1))
+                .append(FIELD_REVISION, new BsonInt32(1));
+        return Source.fromPublisher(collection.find(Filters.in(FIELD_ID, thingIds)).projection(projection))
+                .<Map<String, Long>>fold(new HashMap<>(), (revisions, doc) -> {
+                    final Object revision = doc.get(FIELD_REVISION);
+                    revisions.put(doc.getString(FIELD_ID), revision instanceof Number
+                            ? ((Number) revision).longValue()
+                            : 0L);
+                    return revisions;
+                })
+                .mapConcat(revisions -> incrementalUpdates.stream()
+                        .filter(incrementalUpdate -> {
+                            final Metadata metadata = incrementalUpdate.getMetadata();
+                            final Long revision = revisions.get(metadata.getThingId().toString());
+                            return null == revision || revision < metadata.getThingRevision();
                         })
+                        .collect(Collectors.toList()))
+                .recoverWithRetries(1, new PFBuilder<Throwable, Source<AbstractWriteModel, NotUsed>>()
                         .matchAny(error -> {
-                            log.error("Unexpected error", error);
-                            return Source.failed(error);
+                            log.error("Failed to look up revisions of unmatched incremental updates", error);
+                            return Source.from(incrementalUpdates);
                         })
                         .build());
-
     }
 
-    private static Flow<List<WriteModel<Document>>, StartedTimer, NotUsed> createStartTimerFlow() {
+    private static Flow<List<AbstractWriteModel>, StartedTimer, NotUsed> createStartTimerFlow() {
         return Flow.fromFunction(writeModels -> {
             Kamon.histogram(COUNT_THING_BULK_UPDATES_PER_BULK).record(writeModels.size());
             return DittoMetrics.expiringTimer(TRACE_THING_BULK_UPDATE).tag(UPDATE_TYPE_TAG, "bulkUpdate").build();
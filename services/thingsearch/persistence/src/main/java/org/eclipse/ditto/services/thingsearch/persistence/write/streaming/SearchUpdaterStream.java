@@ -105,7 +105,7 @@ public final class SearchUpdaterStream {
                 EnforcementFlow.of(streamConfig, thingsShard, policiesShard, messageDispatcher,
                         deleteEvent);
 
-        final MongoSearchUpdaterFlow mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database);
+        final MongoSearchUpdaterFlow mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database, changeQueueActor);
 
         return new SearchUpdaterStream(searchConfig, enforcementFlow, mongoSearchUpdaterFlow, changeQueueActor,
                 blockedNamespaces);
@@ -147,11 +147,9 @@ public final class SearchUpdaterStream {
         final StreamConfig streamConfig = searchConfig.getStreamConfig();
         final PersistenceStreamConfig persistenceConfig = streamConfig.getPersistenceConfig();
 
-        final int parallelism = persistenceConfig.getParallelism();
-        final int maxBulkSize = persistenceConfig.getMaxBulkSize();
         final Duration writeInterval = streamConfig.getWriteInterval();
         final Sink<Source<AbstractWriteModel, NotUsed>, NotUsed> sink =
-                mongoSearchUpdaterFlow.start(parallelism, maxBulkSize, writeInterval)
+                mongoSearchUpdaterFlow.start(persistenceConfig, writeInterval)
                         .map(SearchUpdaterStream::logResult)
                         .log("SearchUpdaterStream/BulkWriteResult")
                         .withAttributes(Attributes.logLevels(
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingUpdateModel;
+
+/**
+ * Write models accumulated while the bulk writes are backpressured, of which only the latest write model of each Thing
+ * is written. An incremental update depends on the search index entry written by the previous write model of its
+ * Thing; it is kept in the generation after the previous write model instead. Generations are written in separate
+ * bulks.
+ */
+@NotThreadSafe
+final class WriteModelBatch {
+
+    private final List<Map<ThingId, AbstractWriteModel>> generations;
+    private int size;
+
+    private WriteModelBatch() {
+        generations = new ArrayList<>();
+        generations.add(new LinkedHashMap<>());
+        size = 0;
+    }
+
+    /**
+     * Create a batch from write models.
+     *
+     * @param writeModels the write models.
+     * @return the batch.
+     */
+    static WriteModelBatch of(final List<AbstractWriteModel> writeModels) {
+        return new WriteModelBatch().addAll(writeModels);
+    }
+
+    /**
+     * Add write models to this batch. A write model replaces the write model of the same Thing with a lower or the same
+     * revision unless it is an incremental update.
+     *
+     * @param writeModels the write models to add.
+     * @return this batch.
+     */
+    WriteModelBatch addAll(final List<AbstractWriteModel> writeModels) {
+        writeModels.forEach(this::add);
+        return this;
+    }
+
+    /**
+     * @return the number of write models in this batch.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Split this batch into bulks. Write models of different generations never share a bulk.
+     *
+     * @param bulkSize the maximum number of write models per bulk.
+     * @return the bulks in the order they are to be written.
+     */
+    List<List<AbstractWriteModel>> toBulks(final int bulkSize) {
+        final List<List<AbstractWriteModel>> bulks = new ArrayList<>();
+        for (final Map<ThingId, AbstractWriteModel> generation : generations) {
+            final List<AbstractWriteModel> writeModels = new ArrayList<>(generation.values());
+            for (int i = 0; i < writeModels.size(); i += bulkSize) {
+                bulks.add(writeModels.subList(i, Math.min(writeModels.size(), i + bulkSize)));
+            }
+        }
+        return bulks;
+    }
+
+    private void add(final AbstractWriteModel writeModel) {
+        final ThingId thingId = writeModel.getMetadata().getThingId();
+        int lastGeneration = -1;
+        for (int i = 0; i < generations.size(); ++i) {
+            if (generations.get(i).containsKey(thingId)) {
+                lastGeneration = i;
+            }
+        }
+        if (lastGeneration < 0) {
+            generations.get(0).put(thingId, writeModel);
+            ++size;
+        } else if (writeModel instanceof ThingUpdateModel) {
+            final int nextGeneration = lastGeneration + 1;
+            if (nextGeneration == generations.size()) {
+                generations.add(new LinkedHashMap<>());
+            }
+            generations.get(nextGeneration).put(thingId, writeModel);
+            ++size;
+        } else {
+            final Map<ThingId, AbstractWriteModel> generation = generations.get(lastGeneration);
+            final AbstractWriteModel previous = generation.get(thingId);
+            if (writeModel.getMetadata().getThingRevision() >= previous.getMetadata().getThingRevision()) {
+                generation.put(thingId, writeModel);
+            }
+        }
+    }
+
+}
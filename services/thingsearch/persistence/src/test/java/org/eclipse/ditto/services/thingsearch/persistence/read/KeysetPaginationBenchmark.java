@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.model.query.SortDirection;
+import org.eclipse.ditto.model.query.SortOption;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
+import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactoryImpl;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
+import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
+import org.eclipse.ditto.services.thingsearch.persistence.read.query.MongoQuery;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
+import org.eclipse.ditto.services.utils.test.mongo.MongoDbResource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorSystem;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Compares retrieving a page of search results by skipping all results of the previous pages with retrieving it by
+ * seeking to the sort values of the last result of the previous page. The latency of the latter should be the same for
+ * the first and the 10,000th page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class KeysetPaginationBenchmark {
+
+    private static final String NAMESPACE = "org.eclipse.ditto";
+    private static final int PAGE_SIZE = 10;
+    private static final int PAGES = 10_000;
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    @Param({"1", "10000"})
+    public int page;
+
+    private MongoDbResource mongoResource;
+    private DittoMongoClient mongoClient;
+    private ActorSystem actorSystem;
+    private ActorMaterializer materializer;
+    private MongoThingsSearchPersistence persistence;
+
+    private MongoQuery skipQuery;
+    private MongoQuery keysetQuery;
+
+    @Setup
+    public void setUp() {
+        mongoResource = new MongoDbResource("localhost");
+        mongoResource.start();
+        mongoClient = MongoClientWrapper.getBuilder()
+                .connectionString("mongodb://" + mongoResource.getBindIp() + ":" + mongoResource.getPort() +
+                        "/keysetPaginationBenchmark")
+                .connectionPoolMaxSize(100)
+                .connectionPoolMaxWaitTime(Duration.ofSeconds(30))
+                .build();
+        actorSystem = ActorSystem.create("KeysetPaginationBenchmark", ConfigFactory.load("test"));
+        materializer = ActorMaterializer.create(actorSystem);
+        persistence = new MongoThingsSearchPersistence(mongoClient, actorSystem);
+        persistence.initializeIndices().toCompletableFuture().join();
+        insertThings(PAGES * PAGE_SIZE + PAGE_SIZE);
+
+        final List<SortOption> sortByThingId = Collections.singletonList(
+                new SortOption(new ThingsFieldExpressionFactoryImpl().sortByThingId(), SortDirection.ASC));
+        final int skip = (page - 1) * PAGE_SIZE;
+        skipQuery = new MongoQuery(new CriteriaFactoryImpl().any(), sortByThingId, PAGE_SIZE, skip);
+        final MongoQuery firstPageQuery = new MongoQuery(new CriteriaFactoryImpl().any(), sortByThingId, PAGE_SIZE, 0);
+        keysetQuery = page == 1
+                ? firstPageQuery
+                : firstPageQuery.withSortValuesAfter(JsonFactory.newArrayBuilder()
+                        .add(thingId(skip - 1).toString())
+                        .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        TestKit.shutdownActorSystem(actorSystem);
+        mongoClient.close();
+        mongoResource.stop();
+    }
+
+    @Benchmark
+    public ResultList<ThingId> skipPreviousPages() {
+        return findAll(skipQuery);
+    }
+
+    @Benchmark
+    public ResultList<ThingId> seekAfterPreviousPage() {
+        return findAll(keysetQuery);
+    }
+
+    private ResultList<ThingId> findAll(final MongoQuery query) {
+        return persistence.findAll(query, null, null)
+                .runWith(Sink.head(), materializer)
+                .toCompletableFuture()
+                .join();
+    }
+
+    private void insertThings(final int count) {
+        final MongoCollection<Document> collection = mongoClient.getDefaultDatabase()
+                .getCollection(PersistenceConstants.THINGS_COLLECTION_NAME);
+        for (int start = 0; start < count; start += INSERT_BATCH_SIZE) {
+            final List<Document> documents = new ArrayList<>(INSERT_BATCH_SIZE);
+            for (int i = start; i < Math.min(count, start + INSERT_BATCH_SIZE); i++) {
+                documents.add(new Document(PersistenceConstants.FIELD_ID, thingId(i).toString())
+                        .append(PersistenceConstants.FIELD_NAMESPACE, NAMESPACE));
+            }
+            Source.fromPublisher(collection.insertMany(documents))
+                    .runWith(Sink.ignore(), materializer)
+                    .toCompletableFuture()
+                    .join();
+        }
+    }
+
+    private static ThingId thingId(final int i) {
+        return ThingId.of(NAMESPACE, String.format("thing-%07d", i));
+    }
+
+}
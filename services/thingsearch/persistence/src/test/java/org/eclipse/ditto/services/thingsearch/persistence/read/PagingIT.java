@@ -22,6 +22,8 @@ import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.query.Query;
 import org.eclipse.ditto.model.query.QueryBuilder;
@@ -34,6 +36,7 @@ import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.base.config.limits.DefaultLimitsConfig;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
 import org.eclipse.ditto.services.thingsearch.persistence.TestConstants;
+import org.eclipse.ditto.services.thingsearch.persistence.read.query.MongoQuery;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
 import org.junit.Before;
 import org.junit.BeforeClass;
@@ -54,6 +57,8 @@ public final class PagingIT extends AbstractReadPersistenceITBase {
     private static final ThingId THING_ID4 = TestConstants.thingId(TestConstants.Thing.NAMESPACE, "thingId4");
     private static final ThingId THING_ID5 = TestConstants.thingId(TestConstants.Thing.NAMESPACE, "thingId5");
     private static final ThingId THING_ID6 = TestConstants.thingId(TestConstants.Thing.NAMESPACE, "thingId6");
+    private static final String ATTRIBUTE_KEY = "pagingOrder";
+    private static final JsonPointer ATTRIBUTE_POINTER = JsonPointer.of(ATTRIBUTE_KEY);
     private static final List<ThingId> THING_IDS = Arrays.asList(THING_ID1, THING_ID2, THING_ID3, THING_ID4, THING_ID5,
             THING_ID6);
 
@@ -185,6 +190,63 @@ public final class PagingIT extends AbstractReadPersistenceITBase {
         assertPaging(result, expectedList, limit);
     }
 
+    @Test
+    public void pageAfterSortValuesOfPreviousPage() {
+        // prepare
+        insertThings(THING_IDS);
+
+        final ResultList<ThingId> firstPage = executeVersionedQueryWithChangeOptions(query -> query.limit(KNOWN_LIMIT));
+        final ResultList<ThingId> secondPage =
+                executeVersionedQueryAfter(firstPage, query -> query.limit(KNOWN_LIMIT));
+
+        // verify
+        assertPaging(firstPage, Arrays.asList(THING_ID1, THING_ID2), KNOWN_LIMIT);
+        assertPaging(secondPage, Arrays.asList(THING_ID3, THING_ID4), KNOWN_LIMIT);
+    }
+
+    @Test
+    public void lastPageAfterSortValuesOfPreviousPage() {
+        // prepare
+        insertThings(THING_IDS);
+
+        final ResultList<ThingId> firstPage =
+                executeVersionedQueryWithChangeOptions(query -> query.limit(THING_IDS.size() - 1));
+        final ResultList<ThingId> lastPage = executeVersionedQueryAfter(firstPage, query -> query.limit(KNOWN_LIMIT));
+
+        // verify
+        assertPaging(lastPage, Collections.singletonList(THING_ID6), ResultList.NO_NEXT_PAGE);
+    }
+
+    @Test
+    public void pageAfterSortValuesOfAttribute() {
+        // prepare
+        final List<Thing> things = createThings(THING_IDS);
+        final List<Thing> thingsWithAttribute = new ArrayList<>(things.size());
+        for (int i = 0; i < things.size(); i++) {
+            // two things per attribute value in reverse order of their IDs
+            final Thing thing = things.get(i);
+            thingsWithAttribute.add(thing.setAttribute(ATTRIBUTE_POINTER, JsonValue.of((things.size() - i - 1) / 2)));
+        }
+        shuffleAndPersist(thingsWithAttribute);
+        final List<SortOption> sortOptions = Arrays.asList(
+                new SortOption(eft.sortByAttribute(ATTRIBUTE_KEY), SortDirection.ASC),
+                new SortOption(eft.sortByThingId(), SortDirection.ASC));
+
+        final ResultList<ThingId> firstPage = findAll(qbf.newBuilder(cf.any())
+                .sort(sortOptions)
+                .limit(3)
+                .build());
+        final ResultList<ThingId> secondPage = findAll(((MongoQuery) qbf.newBuilder(cf.any())
+                .sort(sortOptions)
+                .limit(3)
+                .build())
+                .withSortValuesAfter(firstPage.lastResultSortValues().orElseThrow(AssertionError::new)));
+
+        // verify
+        assertPaging(firstPage, Arrays.asList(THING_ID5, THING_ID6, THING_ID3), 3);
+        assertPaging(secondPage, Arrays.asList(THING_ID4, THING_ID1, THING_ID2), ResultList.NO_NEXT_PAGE);
+    }
+
     private static void assertPaging(final ResultList<ThingId> actualResult, final List<ThingId> expectedList,
             final long expectedNextPageOffset) {
 
@@ -212,4 +274,15 @@ public final class PagingIT extends AbstractReadPersistenceITBase {
         return findAll(query);
     }
 
+    private ResultList<ThingId> executeVersionedQueryAfter(final ResultList<ThingId> previousPage,
+            final Function<QueryBuilder, QueryBuilder> queryChanger) {
+
+        final MongoQuery query = (MongoQuery) queryChanger.apply(qbf.newBuilder(cf.any())
+                .sort(Collections.singletonList(new SortOption(eft.sortByThingId(), SortDirection.ASC))))
+                .build();
+
+        return findAll(query.withSortValuesAfter(
+                previousPage.lastResultSortValues().orElseThrow(AssertionError::new)));
+    }
+
 }
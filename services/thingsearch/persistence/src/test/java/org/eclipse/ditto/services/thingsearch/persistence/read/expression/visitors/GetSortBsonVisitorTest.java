@@ -12,13 +12,24 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
+import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.model.query.SortDirection;
 import org.eclipse.ditto.model.query.SortOption;
 import org.eclipse.ditto.model.query.expression.AttributeExpressionImpl;
 import org.eclipse.ditto.model.query.expression.SortFieldExpression;
+import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactoryImpl;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
 import org.junit.Test;
 
 /**
@@ -26,6 +37,9 @@ import org.junit.Test;
  */
 public final class GetSortBsonVisitorTest {
 
+    private static final SortOption THING_ID_ASC =
+            new SortOption(new ThingsFieldExpressionFactoryImpl().sortByThingId(), SortDirection.ASC);
+
     @Test
     public void handlesNullValues() {
         final SortFieldExpression expression = new AttributeExpressionImpl("a/b/c/d/e/f/g");
@@ -33,4 +47,58 @@ public final class GetSortBsonVisitorTest {
 
         GetSortBsonVisitor.sortValuesAsArray(new Document(), Collections.singletonList(sortOption));
     }
+
+    @Test
+    public void sortValuesAfterThingId() {
+        final Bson filter = GetSortBsonVisitor.sortValuesAfter(Collections.singletonList(THING_ID_ASC),
+                JsonFactory.newArrayBuilder().add("ns:thing").build());
+
+        assertBson(filter, "{\"_id\": {\"$gt\": \"ns:thing\"}}");
+    }
+
+    @Test
+    public void sortValuesAfterAttributeAndThingId() {
+        final SortOption attributeAsc = new SortOption(new AttributeExpressionImpl("x"), SortDirection.ASC);
+        final Bson filter = GetSortBsonVisitor.sortValuesAfter(Arrays.asList(attributeAsc, THING_ID_ASC),
+                JsonFactory.newArrayBuilder().add(5).add("ns:thing").build());
+
+        assertBson(filter, "{\"s.attributes.x\": {\"$gte\": 5}, \"$or\": [" +
+                "{\"s.attributes.x\": {\"$gt\": 5}}, " +
+                "{\"s.attributes.x\": 5, \"_id\": {\"$gt\": \"ns:thing\"}}" +
+                "]}");
+    }
+
+    @Test
+    public void sortValuesAfterNullValues() {
+        final SortOption attributeAsc = new SortOption(new AttributeExpressionImpl("x"), SortDirection.ASC);
+        final SortOption attributeDesc = new SortOption(new AttributeExpressionImpl("y"), SortDirection.DESC);
+        final JsonArray sortValues = JsonFactory.newArrayBuilder()
+                .add(JsonFactory.nullLiteral())
+                .add(JsonFactory.nullLiteral())
+                .add("ns:thing")
+                .build();
+
+        final Bson filter =
+                GetSortBsonVisitor.sortValuesAfter(Arrays.asList(attributeAsc, attributeDesc, THING_ID_ASC),
+                        sortValues);
+
+        // nothing is after null in descending order, thus the filter has no branch for the second sort key
+        assertBson(filter, "{\"$or\": [" +
+                "{\"s.attributes.x\": {\"$ne\": null}}, " +
+                "{\"s.attributes.x\": null, \"s.attributes.y\": null, \"_id\": {\"$gt\": \"ns:thing\"}}" +
+                "]}");
+    }
+
+    @Test
+    public void sortValuesAfterRejectsMismatchingSortValues() {
+        final List<SortOption> sortOptions = Collections.singletonList(THING_ID_ASC);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> GetSortBsonVisitor.sortValuesAfter(sortOptions, JsonArray.empty()));
+    }
+
+    private static void assertBson(final Bson actual, final String expectedJson) {
+        assertThat(BsonUtil.toBsonDocument(actual)).isEqualTo(BsonDocument.parse(expectedJson));
+    }
+
 }
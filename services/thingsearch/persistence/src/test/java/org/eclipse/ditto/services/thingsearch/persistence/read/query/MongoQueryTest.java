@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.thingsearch.persistence.read.query;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.DOT;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_SORTING;
 import static org.mockito.Mockito.mock;
@@ -26,6 +27,8 @@ import java.util.List;
 
 import org.bson.BsonDocument;
 import org.bson.conversions.Bson;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.model.query.SortDirection;
 import org.eclipse.ditto.model.query.SortOption;
 import org.eclipse.ditto.model.query.criteria.Criteria;
@@ -88,7 +91,7 @@ public final class MongoQueryTest {
     @Test
     public void immutability() {
         assertInstancesOf(MongoQuery.class, areImmutable(),
-                provided(Criteria.class, SortOption.class).isAlsoImmutable());
+                provided(Criteria.class, SortOption.class, JsonArray.class).isAlsoImmutable());
     }
 
     @Test
@@ -119,6 +122,30 @@ public final class MongoQueryTest {
         assertBson(knownSortOptionsExpectedBson, query.getSortOptionsAsBson());
     }
 
+    @Test
+    public void sortValuesAfterAreKeptWhenReplacingCriteria() {
+        final JsonArray sortValues = JsonFactory.newArrayBuilder().add("ns:thing").add(4711).build();
+        final MongoQuery query = new MongoQuery(KNOWN_CRIT, knownSortOptions, defaultPageSizeFromConfig,
+                MongoQueryBuilder.DEFAULT_SKIP)
+                .withSortValuesAfter(sortValues);
+
+        final MongoQuery queryWithOtherCriteria = (MongoQuery) query.withCritera(mock(Criteria.class));
+
+        assertThat(query.getSortValuesAfter()).contains(sortValues);
+        assertThat(queryWithOtherCriteria.getSortValuesAfter()).contains(sortValues);
+        assertThat(queryWithOtherCriteria.getSortValuesAfterAsBson()).isPresent();
+    }
+
+    @Test
+    public void sortValuesAfterMustMatchSortOptions() {
+        final MongoQuery query = new MongoQuery(KNOWN_CRIT, knownSortOptions, defaultPageSizeFromConfig,
+                MongoQueryBuilder.DEFAULT_SKIP);
+
+        assertThat(query.getSortValuesAfterAsBson()).isEmpty();
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> query.withSortValuesAfter(JsonFactory.newArrayBuilder().add("ns:thing").build()));
+    }
+
     private static void assertBson(final Bson expected, final Bson actual) {
         final BsonDocument expectedDoc =
                 org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil.toBsonDocument(expected);
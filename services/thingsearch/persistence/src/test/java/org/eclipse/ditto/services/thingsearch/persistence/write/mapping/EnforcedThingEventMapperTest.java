@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingUpdateModel;
+import org.eclipse.ditto.signals.events.things.AttributeDeleted;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
+import org.eclipse.ditto.signals.events.things.FeaturePropertyModified;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+import org.eclipse.ditto.signals.events.things.ThingModified;
+import org.junit.Test;
+
+/**
+ * Tests {@link EnforcedThingEventMapper}.
+ */
+public final class EnforcedThingEventMapperTest {
+
+    private static final ThingId THING_ID = ThingId.of("hello:world");
+    private static final Instant TIMESTAMP = Instant.parse("2019-01-02T03:04:05.006Z");
+
+    private static final Enforcer ENFORCER = PolicyEnforcers.defaultEvaluator(
+            PoliciesModelFactory.newPolicyBuilder(PolicyId.of("hello", "world"))
+                    .forLabel("grant-root")
+                    .setSubject("g:0", SubjectType.GENERATED)
+                    .setGrantedPermissions(THING, "/", Permission.READ)
+                    .build());
+
+    @Test
+    public void modifiedFeaturePropertyIsReplaced() {
+        final ThingEvent event = FeaturePropertyModified.of(THING_ID, "f1", JsonPointer.of("x"), JsonValue.of(5), 8L,
+                TIMESTAMP, DittoHeaders.empty());
+
+        final ThingUpdateModel result = toUpdateModel(8L, event).orElseThrow(AssertionError::new);
+
+        assertThat(result.getMetadata().getEventsBaseRevision()).isEqualTo(7L);
+        assertThat(getRemovals(result)).contains(
+                BsonDocument.parse("{ \"k\": \"/_revision\" }"),
+                BsonDocument.parse("{ \"k\": \"/_modified\" }"),
+                BsonDocument.parse("{ \"k\": \"/features/f1/properties/x\" }"),
+                BsonDocument.parse("{ \"k\": \"/features/*/properties/x\", \"f\": \"f1\" }"),
+                BsonDocument.parse("{ \"k\": \"/features/f1/properties\", \"v\": {} }"),
+                BsonDocument.parse("{ \"k\": \"/features/*/properties\", \"v\": {}, \"f\": \"f1\" }"));
+        assertThat(result.getPrecondition().containsKey("d")).isTrue();
+        assertThat(result.getAddUpdate()).isEqualTo(BsonDocument.parse("{\n" +
+                "  \"$push\": { \"d\": { \"$each\": [\n" +
+                "    { \"k\": \"/_revision\", \"v\": 8, \"g\": [ \"g:0\" ], \"r\": [] },\n" +
+                "    { \"k\": \"/_modified\", \"v\": \"2019-01-02T03:04:05.006Z\", \"g\": [ \"g:0\" ], \"r\": [] },\n" +
+                "    { \"k\": \"/features/f1/properties/x\", \"v\": 5, \"g\": [ \"g:0\" ], \"r\": [] },\n" +
+                "    { \"k\": \"/features/*/properties/x\", \"v\": 5, \"g\": [ \"g:0\" ], \"r\": [], \"f\": \"f1\" }\n" +
+                "  ] } },\n" +
+                "  \"$set\": {\n" +
+                "    \"_revision\": { \"$numberLong\": \"8\" },\n" +
+                "    \"s._revision\": 8,\n" +
+                "    \"s._modified\": \"2019-01-02T03:04:05.006Z\",\n" +
+                "    \"s.features.f1.properties.x\": 5\n" +
+                "  }\n" +
+                "}"));
+    }
+
+    @Test
+    public void deletedAttributeIsRemoved() {
+        final ThingEvent event = AttributeDeleted.of(THING_ID, JsonPointer.of("a/b.c"), 3L, TIMESTAMP,
+                DittoHeaders.empty());
+
+        final ThingUpdateModel result = toUpdateModel(3L, event).orElseThrow(AssertionError::new);
+
+        assertThat(getRemovals(result)).contains(BsonDocument.parse("{ \"k\": \"/attributes/a/b.c\" }"));
+        assertThat(result.getAddUpdate().getDocument("$unset"))
+                .isEqualTo(BsonDocument.parse("{ \"s.attributes.a.b~2c\": \"\" }"));
+        assertThat(result.getPrecondition().containsKey("$expr")).isTrue();
+        assertThat(result.getPrecondition().containsKey("d")).isFalse();
+    }
+
+    @Test
+    public void laterEventsOverrideEarlierEvents() {
+        final JsonPointer pointer = JsonPointer.of("counter");
+        final ThingEvent first = AttributeModified.of(THING_ID, pointer, JsonValue.of(1), 4L, TIMESTAMP,
+                DittoHeaders.empty());
+        final ThingEvent second = AttributeModified.of(THING_ID, pointer, JsonValue.of(2), 5L, TIMESTAMP,
+                DittoHeaders.empty());
+
+        final ThingUpdateModel result = toUpdateModel(5L, first, second).orElseThrow(AssertionError::new);
+
+        assertThat(result.getMetadata().getEventsBaseRevision()).isEqualTo(3L);
+        assertThat(result.getAddUpdate().getDocument("$set").get("s.attributes.counter"))
+                .isEqualTo(BsonDocument.parse("{ \"v\": 2 }").get("v"));
+    }
+
+    @Test
+    public void unsupportedEventRequiresFullUpdate() {
+        final Thing thing = ThingsModelFactory.newThingBuilder().setId(THING_ID).build();
+        final ThingEvent event = ThingModified.of(thing, 2L, TIMESTAMP, DittoHeaders.empty());
+
+        assertThat(toUpdateModel(2L, event)).isEmpty();
+    }
+
+    @Test
+    public void eventWithoutTimestampRequiresFullUpdate() {
+        final ThingEvent event = AttributeModified.of(THING_ID, JsonPointer.of("a"), JsonValue.of(1), 2L,
+                DittoHeaders.empty());
+
+        assertThat(toUpdateModel(2L, event)).isEmpty();
+    }
+
+    @Test
+    public void nestedChangesRequireFullUpdate() {
+        final ThingEvent first = AttributeModified.of(THING_ID, JsonPointer.of("a"), JsonValue.of(1), 2L,
+                TIMESTAMP, DittoHeaders.empty());
+        final ThingEvent second = AttributeModified.of(THING_ID, JsonPointer.of("a/b"), JsonValue.of(1), 3L,
+                TIMESTAMP, DittoHeaders.empty());
+
+        assertThat(toUpdateModel(3L, first, second)).isEmpty();
+    }
+
+    @Test
+    public void arrayIndexRequiresFullUpdate() {
+        final ThingEvent event = AttributeModified.of(THING_ID, JsonPointer.of("a/0"), JsonValue.of(1), 2L,
+                TIMESTAMP, DittoHeaders.empty());
+
+        assertThat(toUpdateModel(2L, event)).isEmpty();
+    }
+
+    private static Optional<ThingUpdateModel> toUpdateModel(final long revision, final ThingEvent... events) {
+        final Metadata metadata = Metadata.of(THING_ID, revision, THING_ID.toString(), 1L, Arrays.asList(events));
+        return EnforcedThingEventMapper.toUpdateModel(metadata, ENFORCER, -1);
+    }
+
+    private static List<BsonValue> getRemovals(final ThingUpdateModel updateModel) {
+        return Collections.unmodifiableList(updateModel.getRemoveUpdate()
+                .getDocument("$pull")
+                .getDocument("d")
+                .getArray("$or"));
+    }
+
+}
@@ -250,7 +250,8 @@ public final class EnforcedThingFlattenerTest {
                 "    \"k\": \"/features/*/definition\",\n" +
                 "    \"v\": \"ns:def1:v0\",\n" +
                 "    \"g\": [],\n" +
-                "    \"r\": []\n" +
+                "    \"r\": [],\n" +
+                "    \"f\": \"f1\"\n" +
                 "  },\n" +
                 "  {\n" +
                 "    \"k\": \"/features/f1/definition\",\n" +
@@ -262,7 +263,8 @@ public final class EnforcedThingFlattenerTest {
                 "    \"k\": \"/features/*/definition\",\n" +
                 "    \"v\": \"ns:def1:v2\",\n" +
                 "    \"g\": [],\n" +
-                "    \"r\": []\n" +
+                "    \"r\": [],\n" +
+                "    \"f\": \"f1\"\n" +
                 "  },\n" +
                 "  {\n" +
                 "    \"k\": \"/features/f2/properties/x\",\n" +
@@ -274,7 +276,8 @@ public final class EnforcedThingFlattenerTest {
                 "    \"k\": \"/features/*/properties/x\",\n" +
                 "    \"v\": 5,\n" +
                 "    \"g\": [],\n" +
-                "    \"r\": []\n" +
+                "    \"r\": [],\n" +
+                "    \"f\": \"f2\"\n" +
                 "  }\n" +
                 "]");
 
@@ -89,13 +89,14 @@ public final class EnforcedThingMapperTest {
                 "    { \"k\": \"/features/hi/definition\"," +
                 "      \"v\": \"earth:v0:1\", \"g\": [ \"g:0\" ], \"r\": [] },\n" +
                 "    { \"k\": \"/features/*/definition\"," +
-                "      \"v\": \"earth:v0:1\", \"g\": [ \"g:0\" ], \"r\": [] },\n" +
+                "      \"v\": \"earth:v0:1\", \"g\": [ \"g:0\" ], \"r\": [], \"f\": \"hi\" },\n" +
                 "    { \"k\": \"/features/hi/definition\"," +
                 "      \"v\": \"mars:v0:2\", \"g\": [ \"g:0\" ], \"r\": [] },\n" +
                 "    { \"k\": \"/features/*/definition\"," +
-                "      \"v\": \"mars:v0:2\", \"g\": [ \"g:0\" ], \"r\": [] },\n" +
+                "      \"v\": \"mars:v0:2\", \"g\": [ \"g:0\" ], \"r\": [], \"f\": \"hi\" },\n" +
                 "    { \"k\": \"/features/hi/properties/there\", \"v\": true, \"g\": [ \"g:0\", \"g:1\" ], \"r\": [] },\n" +
-                "    { \"k\": \"/features/*/properties/there\", \"v\": true, \"g\": [ \"g:0\", \"g:1\" ], \"r\": [] },\n" +
+                "    { \"k\": \"/features/*/properties/there\", \"v\": true, \"g\": [ \"g:0\", \"g:1\" ], \"r\": [],\n" +
+                "      \"f\": \"hi\" },\n" +
                 "    { \"k\": \"/attributes/hello\", \"v\": \"world\", \"g\": [ \"g:0\" ], \"r\": [] }\n" +
                 "  ]\n" +
                 "}");
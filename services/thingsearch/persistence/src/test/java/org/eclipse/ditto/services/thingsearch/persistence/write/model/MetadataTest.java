@@ -12,11 +12,21 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write.model;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
 import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
 import org.junit.Test;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
@@ -26,11 +36,15 @@ import nl.jqno.equalsverifier.EqualsVerifier;
  */
 public final class MetadataTest {
 
+    private static final ThingId THING_ID = ThingId.of("thing:id");
+    private static final String POLICY_ID = "policy:id";
+
     @Test
     public void assertImmutability() {
         assertInstancesOf(Metadata.class,
                 areImmutable(),
-                provided(ThingId.class).isAlsoImmutable());
+                provided(ThingId.class, ThingEvent.class).isAlsoImmutable(),
+                assumingFields("events").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
     }
 
     @Test
@@ -40,4 +54,54 @@ public final class MetadataTest {
                 .verify();
     }
 
-}
\ No newline at end of file
+    @Test
+    public void appendConsecutiveEvents() {
+        final Metadata first = metadataWithEvent(2L, 5L);
+        final Metadata second = metadataWithEvent(3L, 5L);
+
+        final Metadata result = first.append(second, 10);
+
+        assertThat(result).isEqualTo(Metadata.of(THING_ID, 3L, POLICY_ID, 5L,
+                Arrays.asList(event(2L), event(3L))));
+        assertThat(result.getEventsBaseRevision()).isEqualTo(1L);
+    }
+
+    @Test
+    public void appendDropsEventsAfterRevisionGap() {
+        final Metadata result = metadataWithEvent(2L, 5L).append(metadataWithEvent(4L, 5L), 10);
+
+        assertThat(result).isEqualTo(Metadata.of(THING_ID, 4L, POLICY_ID, 5L));
+    }
+
+    @Test
+    public void appendDropsEventsAfterPolicyChange() {
+        final Metadata result = metadataWithEvent(2L, 5L).append(metadataWithEvent(3L, 6L), 10);
+
+        assertThat(result).isEqualTo(Metadata.of(THING_ID, 3L, POLICY_ID, 6L));
+    }
+
+    @Test
+    public void appendDropsEventsBeyondMaximum() {
+        final Metadata result = metadataWithEvent(2L, 5L).append(metadataWithEvent(3L, 5L), 1);
+
+        assertThat(result).isEqualTo(Metadata.of(THING_ID, 3L, POLICY_ID, 5L));
+    }
+
+    @Test
+    public void appendOlderChangeKeepsLatestRevision() {
+        final Metadata result = metadataWithEvent(3L, 5L).append(Metadata.of(THING_ID, 2L, POLICY_ID, 5L), 10);
+
+        assertThat(result).isEqualTo(Metadata.of(THING_ID, 3L, POLICY_ID, 5L));
+    }
+
+    private static Metadata metadataWithEvent(final long thingRevision, final long policyRevision) {
+        return Metadata.of(THING_ID, thingRevision, POLICY_ID, policyRevision,
+                Collections.singletonList(event(thingRevision)));
+    }
+
+    private static AttributeModified event(final long revision) {
+        return AttributeModified.of(THING_ID, JsonPointer.of("counter"), JsonValue.of(revision), revision,
+                DittoHeaders.empty());
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultPersistenceStreamConfig;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.Done;
+
+/**
+ * Tests {@link BulkWriteController}.
+ */
+public final class BulkWriteControllerTest {
+
+    @Test
+    public void controllerIncreasesBulkSizeBeforeParallelismAndDecreasesParallelismFirst() {
+        final BulkWriteController underTest = BulkWriteController.of(DefaultPersistenceStreamConfig.of(
+                ConfigFactory.parseString("persistence {\n" +
+                        "  parallelism = 1\n" +
+                        "  max-parallelism = 2\n" +
+                        "  min-bulk-size = 10\n" +
+                        "  max-bulk-size = 20\n" +
+                        "  target-bulk-write-latency = 500ms\n" +
+                        "}")));
+        assertThat(underTest.getBulkSize()).isEqualTo(20);
+        assertThat(underTest.getParallelism()).isEqualTo(1);
+
+        underTest.onBulkWriteCompleted(Duration.ofMillis(100L));
+        assertThat(underTest.getBulkSize()).isEqualTo(20);
+        assertThat(underTest.getParallelism()).isEqualTo(2);
+
+        underTest.onBulkWriteCompleted(Duration.ofSeconds(1L));
+        assertThat(underTest.getBulkSize()).isEqualTo(20);
+        assertThat(underTest.getParallelism()).isEqualTo(1);
+
+        underTest.onBulkWriteFailed();
+        assertThat(underTest.getBulkSize()).isEqualTo(10);
+        underTest.onBulkWriteFailed();
+        assertThat(underTest.getBulkSize()).isEqualTo(10);
+
+        underTest.onBulkWriteCompleted(Duration.ofMillis(100L));
+        assertThat(underTest.getBulkSize()).isEqualTo(20);
+        assertThat(underTest.getParallelism()).isEqualTo(1);
+    }
+
+    @Test
+    public void controllerGrantsPermitsUpToParallelism() {
+        final BulkWriteController underTest = BulkWriteController.fixed(1, 10);
+
+        assertThat(underTest.acquire().toCompletableFuture()).isDone();
+        final CompletableFuture<Done> secondPermit = underTest.acquire().toCompletableFuture();
+        assertThat(secondPermit).isNotDone();
+
+        underTest.release();
+        assertThat(secondPermit).isDone();
+    }
+
+}
@@ -15,6 +15,9 @@ package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -22,8 +25,15 @@ import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 
+import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingUpdateModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -32,17 +42,22 @@ import org.reactivestreams.Publisher;
 
 import com.mongodb.MongoBulkWriteException;
 import com.mongodb.MongoException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.DeleteOneModel;
 import com.mongodb.client.model.WriteModel;
+import com.mongodb.reactivestreams.client.FindPublisher;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 
 import akka.NotUsed;
+import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.stream.ActorMaterializer;
 import akka.stream.OverflowStrategy;
+import akka.stream.javadsl.AsPublisher;
 import akka.stream.javadsl.RestartSink;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
@@ -53,6 +68,8 @@ import akka.testkit.javadsl.TestKit;
  */
 public final class MongoSearchUpdaterFlowTest {
 
+    private static final long REVISION = 5L;
+
     @Nullable
     private ActorSystem actorSystem;
 
@@ -82,6 +99,104 @@ public final class MongoSearchUpdaterFlowTest {
         testStreamRestart(new FakeMongoExceptionSupplier());
     }
 
+    @Test
+    public void duplicateKeyErrorsOfFullUpdatesDoNotCauseRetries() {
+        new TestKit(actorSystem) {{
+            final AbstractWriteModel fullUpdate = ThingWriteModel.of(metadata("thing0"), new Document());
+            final MongoBulkWriteException duplicateKeyError = new MongoBulkWriteException(
+                    BulkWriteResult.acknowledged(0, 0, 0, 0, Collections.emptyList()),
+                    Collections.singletonList(new BulkWriteError(11000, "duplicate key", new BsonDocument(), 0)),
+                    null, new ServerAddress());
+            final BulkWriteResult orderedResult = BulkWriteResult.acknowledged(0, 4, 0, 4, Collections.emptyList());
+
+            runBulkWrite(getRef(), Arrays.asList(fullUpdate, incrementalUpdate("thing1"), incrementalUpdate("thing2")),
+                    s -> s.onError(duplicateKeyError), bulkWriteResultPublisher(orderedResult),
+                    Collections.emptyList());
+
+            expectNoMessage();
+        }};
+    }
+
+    @Test
+    public void incrementalUpdatesFromTheFirstWriteErrorOnAreRetried() {
+        new TestKit(actorSystem) {{
+            final MongoBulkWriteException writeError = new MongoBulkWriteException(
+                    BulkWriteResult.acknowledged(0, 2, 0, 2, Collections.emptyList()),
+                    Collections.singletonList(new BulkWriteError(2, "bad value", new BsonDocument(), 2)),
+                    null, new ServerAddress());
+
+            runBulkWrite(getRef(), Arrays.asList(incrementalUpdate("thing1"), incrementalUpdate("thing2")),
+                    bulkWriteResultPublisher(BulkWriteResult.unacknowledged()), s -> s.onError(writeError),
+                    Collections.emptyList());
+
+            assertThat(expectMsgClass(Metadata.class).getThingId()).isEqualTo(ThingId.of("thing:thing2"));
+            expectNoMessage();
+        }};
+    }
+
+    @Test
+    public void onlyIncrementalUpdatesOfOutdatedEntriesAreRetriedIfWritesDidNotMatch() {
+        new TestKit(actorSystem) {{
+            final BulkWriteResult orderedResult = BulkWriteResult.acknowledged(0, 2, 0, 2, Collections.emptyList());
+            final Document appliedEntry = new Document(PersistenceConstants.FIELD_ID, "thing:thing1")
+                    .append(PersistenceConstants.FIELD_REVISION, REVISION);
+            final Document outdatedEntry = new Document(PersistenceConstants.FIELD_ID, "thing:thing2")
+                    .append(PersistenceConstants.FIELD_REVISION, REVISION - 1L);
+
+            runBulkWrite(getRef(), Arrays.asList(incrementalUpdate("thing1"), incrementalUpdate("thing2"),
+                    incrementalUpdate("thing3")),
+                    bulkWriteResultPublisher(BulkWriteResult.unacknowledged()), bulkWriteResultPublisher(orderedResult),
+                    Arrays.asList(appliedEntry, outdatedEntry));
+
+            assertThat(Arrays.asList(expectMsgClass(Metadata.class).getThingId(),
+                    expectMsgClass(Metadata.class).getThingId()))
+                    .containsExactlyInAnyOrder(ThingId.of("thing:thing2"), ThingId.of("thing:thing3"));
+            expectNoMessage();
+        }};
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runBulkWrite(final ActorRef changeQueueActor, final List<AbstractWriteModel> writeModels,
+            final Publisher<BulkWriteResult> unorderedBulk, final Publisher<BulkWriteResult> orderedBulk,
+            final List<Document> searchIndexEntries) {
+
+        final ActorMaterializer materializer = ActorMaterializer.create(actorSystem);
+        final MongoDatabase db = Mockito.mock(MongoDatabase.class);
+        final MongoCollection<Document> collection = Mockito.mock(MongoCollection.class);
+        final FindPublisher<Document> findPublisher = Mockito.mock(FindPublisher.class);
+        final Publisher<Document> entries = Source.from(searchIndexEntries)
+                .runWith(Sink.asPublisher(AsPublisher.WITHOUT_FANOUT), materializer);
+        Mockito.when(db.getCollection(Mockito.any())).thenReturn(collection);
+        Mockito.when(collection.bulkWrite(Mockito.any(), Mockito.any(BulkWriteOptions.class)))
+                .thenAnswer(invocation -> invocation.<BulkWriteOptions>getArgument(1).isOrdered()
+                        ? orderedBulk
+                        : unorderedBulk);
+        Mockito.when(collection.find(Mockito.any(Bson.class))).thenReturn(findPublisher);
+        Mockito.when(findPublisher.projection(Mockito.any())).thenReturn(findPublisher);
+        Mockito.doAnswer(invocation -> {
+            entries.subscribe(invocation.getArgument(0));
+            return null;
+        }).when(findPublisher).subscribe(Mockito.any());
+
+        Source.single(Source.from(writeModels))
+                .via(MongoSearchUpdaterFlow.of(db, changeQueueActor).start(1, 10, Duration.ZERO))
+                .runWith(Sink.head(), materializer)
+                .toCompletableFuture()
+                .join();
+    }
+
+    private static AbstractWriteModel incrementalUpdate(final String name) {
+        return ThingUpdateModel.of(metadata(name), new BsonDocument(), new BsonDocument(), new BsonDocument());
+    }
+
+    private static Metadata metadata(final String name) {
+        return Metadata.of(ThingId.of("thing", name), REVISION, null, REVISION);
+    }
+
+    private Publisher<BulkWriteResult> bulkWriteResultPublisher(final BulkWriteResult result) {
+        return s -> Source.single(result).runWith(Sink.fromSubscriber(s), ActorMaterializer.create(actorSystem));
+    }
+
     @SuppressWarnings("unchecked")
     private void testStreamRestart(final Supplier<Throwable> errorSupplier) throws Exception {
 
@@ -113,7 +228,8 @@ public final class MongoSearchUpdaterFlowTest {
 
             final AbstractWriteModel abstractWriteModel = Mockito.mock(AbstractWriteModel.class);
             final WriteModel<Document> mongoWriteModel = new DeleteOneModel<>(new Document());
-            Mockito.when(abstractWriteModel.toMongo()).thenReturn(mongoWriteModel);
+            Mockito.when(abstractWriteModel.toMongoWriteModels())
+                    .thenReturn(Collections.singletonList(mongoWriteModel));
             Source.repeat(Source.single(abstractWriteModel))
                     .take(numberOfChanges)
                     .buffer(1, OverflowStrategy.backpressure())
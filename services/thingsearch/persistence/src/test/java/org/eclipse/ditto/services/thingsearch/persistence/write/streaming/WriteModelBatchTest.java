@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingDeleteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingUpdateModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
+import org.junit.Test;
+
+/**
+ * Tests {@link WriteModelBatch}.
+ */
+public final class WriteModelBatchTest {
+
+    private static final ThingId THING_1 = ThingId.of("thing:1");
+    private static final ThingId THING_2 = ThingId.of("thing:2");
+
+    @Test
+    public void laterWriteModelReplacesEarlierOne() {
+        final AbstractWriteModel write1 = ThingWriteModel.of(metadata(THING_1, 1L), new Document());
+        final AbstractWriteModel write2 = ThingWriteModel.of(metadata(THING_2, 1L), new Document());
+        final AbstractWriteModel delete1 = ThingDeleteModel.of(metadata(THING_1, 2L));
+
+        final WriteModelBatch underTest = WriteModelBatch.of(Arrays.asList(write1, write2))
+                .addAll(Collections.singletonList(delete1));
+
+        assertThat(underTest.size()).isEqualTo(2);
+        assertThat(underTest.toBulks(10)).containsExactly(Arrays.asList(delete1, write2));
+    }
+
+    @Test
+    public void outdatedWriteModelIsDropped() {
+        final AbstractWriteModel write2 = ThingWriteModel.of(metadata(THING_1, 2L), new Document());
+        final AbstractWriteModel write1 = ThingWriteModel.of(metadata(THING_1, 1L), new Document());
+
+        final WriteModelBatch underTest = WriteModelBatch.of(Arrays.asList(write2, write1));
+
+        assertThat(underTest.toBulks(10)).containsExactly(Collections.singletonList(write2));
+    }
+
+    @Test
+    public void incrementalUpdateIsWrittenAfterPreviousWriteModelOfSameThing() {
+        final AbstractWriteModel write1 = ThingWriteModel.of(metadata(THING_1, 1L), new Document());
+        final AbstractWriteModel update1 = incrementalUpdate(THING_1, 2L);
+        final AbstractWriteModel update2 = incrementalUpdate(THING_2, 2L);
+
+        final WriteModelBatch underTest = WriteModelBatch.of(Arrays.asList(write1, update1, update2));
+
+        assertThat(underTest.size()).isEqualTo(3);
+        assertThat(underTest.toBulks(10)).containsExactly(
+                Arrays.asList(write1, update2),
+                Collections.singletonList(update1));
+    }
+
+    @Test
+    public void splitGenerationsIntoBulksOfGivenSize() {
+        final AbstractWriteModel write1 = ThingWriteModel.of(metadata(THING_1, 1L), new Document());
+        final AbstractWriteModel write2 = ThingWriteModel.of(metadata(THING_2, 1L), new Document());
+
+        final WriteModelBatch underTest = WriteModelBatch.of(Arrays.asList(write1, write2));
+
+        assertThat(underTest.toBulks(1)).containsExactly(
+                Collections.singletonList(write1),
+                Collections.singletonList(write2));
+    }
+
+    private static Metadata metadata(final ThingId thingId, final long revision) {
+        return Metadata.of(thingId, revision, null, revision);
+    }
+
+    private static AbstractWriteModel incrementalUpdate(final ThingId thingId, final long revision) {
+        return ThingUpdateModel.of(metadata(thingId, revision), new BsonDocument(), new BsonDocument(),
+                new BsonDocument());
+    }
+
+}
@@ -61,6 +61,7 @@ import org.eclipse.ditto.model.thingsearch.SortOption;
 import org.eclipse.ditto.model.thingsearch.SortOptionEntry;
 import org.eclipse.ditto.model.thingsearchparser.RqlOptionParser;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
+import org.eclipse.ditto.services.thingsearch.persistence.read.query.MongoQuery;
 import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.JsonToBson;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.signals.commands.thingsearch.exceptions.InvalidOptionException;
@@ -273,6 +274,10 @@ final class ThingsSearchCursor {
      * @return a new query object starting at the location of this cursor.
      */
     private Query adjustQuery(final Query query, final CriteriaFactory cf) {
+        if (query instanceof MongoQuery) {
+            // seek to the position of this cursor by range predicates on the sort keys of the search index
+            return withSortValuesAfter((MongoQuery) query, values);
+        }
         return query.withCritera(cf.and(Arrays.asList(query.getCriteria(),
                 getNextPageFilter(query.getSortOptions(), values, cf))));
     }
@@ -639,6 +644,21 @@ final class ThingsSearchCursor {
         }
     }
 
+    /**
+     * Let a query start after a cursor's position.
+     *
+     * @param query the query.
+     * @param previousValues values of the fields in the sort options of a cursor marking its position.
+     * @return the query starting after the cursor's position.
+     */
+    private static Query withSortValuesAfter(final MongoQuery query, final JsonArray previousValues) {
+        if (query.getSortOptions().size() != previousValues.getSize()) {
+            // this should not happen.
+            throw invalidCursorBuilder().build();
+        }
+        return query.withSortValuesAfter(previousValues);
+    }
+
     /**
      * Filter out results before a cursor's position.
      *
@@ -17,6 +17,7 @@ import java.net.URLDecoder;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.util.Collections;
 import java.util.Objects;
 
 import org.eclipse.ditto.model.things.ThingId;
@@ -26,6 +27,7 @@ import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.models.streaming.IdentifiableStreamingMessage;
 import org.eclipse.ditto.services.models.things.ThingTag;
 import org.eclipse.ditto.services.thingsearch.common.config.DittoSearchConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.EnforcedThingEventMapper;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.akka.streaming.StreamAck;
@@ -52,7 +54,7 @@ final class ThingUpdater extends AbstractActor {
     private final ShutdownBehaviour shutdownBehaviour;
     private final ActorRef changeQueueActor;
 
-    // state of Thing and Policy
+    // state of Thing and Policy; thingRevision is the revision of the last change pushed into the queue
     private long thingRevision = -1L;
     private String policyId = "";
     private long policyRevision = -1L;
@@ -116,6 +118,16 @@ final class ThingUpdater extends AbstractActor {
         changeQueueActor.tell(exportMetadata(), getSelf());
     }
 
+    /**
+     * Push metadata of this updater together with the event leading to it so that the search index entry may be
+     * updated incrementally.
+     */
+    private void enqueueMetadataWithEvent(final ThingEvent thingEvent) {
+        final Metadata metadata =
+                Metadata.of(thingId, thingRevision, policyId, policyRevision, Collections.singletonList(thingEvent));
+        changeQueueActor.tell(metadata, getSelf());
+    }
+
     private void processThingTag(final ThingTag thingTag) {
         log.debug("Received new Thing Tag for thing <{}> with revision <{}>: <{}>.",
                 thingId, thingRevision, thingTag.asIdentifierString());
@@ -165,8 +177,14 @@ final class ThingUpdater extends AbstractActor {
                     thingEvent.getRevision(), thingRevision);
         } else {
             log.debug("Applying thing event <{}>.", thingEvent);
+            // the event can be applied to the search index entry only if it immediately follows the last change
+            final boolean isConsecutive = thingRevision > 0 && thingEvent.getRevision() == thingRevision + 1;
             thingRevision = thingEvent.getRevision();
-            enqueueMetadata();
+            if (isConsecutive && EnforcedThingEventMapper.isSupported(thingEvent)) {
+                enqueueMetadataWithEvent(thingEvent);
+            } else {
+                enqueueMetadata();
+            }
         }
     }
 
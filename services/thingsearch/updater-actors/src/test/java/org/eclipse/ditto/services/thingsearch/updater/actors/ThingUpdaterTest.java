@@ -12,6 +12,10 @@
  */
 package org.eclipse.ditto.services.thingsearch.updater.actors;
 
+import java.util.Collections;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.policies.PolicyId;
@@ -30,6 +34,7 @@ import org.eclipse.ditto.services.utils.akka.streaming.StreamAck;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.signals.commands.common.Shutdown;
 import org.eclipse.ditto.signals.commands.common.ShutdownReasonFactory;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
 import org.eclipse.ditto.signals.events.things.ThingCreated;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 import org.eclipse.ditto.signals.events.things.ThingModified;
@@ -165,6 +170,37 @@ public final class ThingUpdaterTest {
         };
     }
 
+    @Test
+    public void consecutiveEventsAreEnqueuedWithMetadata() {
+        final long revision = 7L;
+        final Thing currentThing = ThingsModelFactory.newThingBuilder()
+                .setId(THING_ID)
+                .setRevision(revision)
+                .setPermissions(ACL)
+                .build();
+        final JsonPointer attributePointer = JsonPointer.of("counter");
+        final ThingEvent consecutiveEvent =
+                AttributeModified.of(THING_ID, attributePointer, JsonValue.of(1), revision + 1L, DittoHeaders.empty());
+        final ThingEvent eventAfterGap =
+                AttributeModified.of(THING_ID, attributePointer, JsonValue.of(2), revision + 3L, DittoHeaders.empty());
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createThingUpdaterActor();
+
+                underTest.tell(ThingModified.of(currentThing, revision, DittoHeaders.empty()), ActorRef.noSender());
+                changeQueueTestProbe.expectMsg(Metadata.of(THING_ID, revision, "", -1L));
+
+                underTest.tell(consecutiveEvent, ActorRef.noSender());
+                changeQueueTestProbe.expectMsg(Metadata.of(THING_ID, revision + 1L, "", -1L,
+                        Collections.singletonList(consecutiveEvent)));
+
+                underTest.tell(eventAfterGap, ActorRef.noSender());
+                changeQueueTestProbe.expectMsg(Metadata.of(THING_ID, revision + 3L, "", -1L));
+            }
+        };
+    }
+
     @Test
     public void policyReferenceTagTriggersPolicyUpdate() {
         final long newPolicyRevision = REVISION + 2L;
@@ -12,14 +12,20 @@
  */
 package org.eclipse.ditto.services.utils.akka.controlflow;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.exceptions.TooManyRequestsException;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
 import org.eclipse.ditto.signals.base.WithId;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
 
@@ -27,6 +33,7 @@ import akka.NotUsed;
 import akka.actor.AbstractActor;
 import akka.actor.ActorSystem;
 import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.Pair;
 import akka.japi.function.Function;
 import akka.japi.pf.ReceiveBuilder;
 import akka.stream.ActorMaterializer;
@@ -35,10 +42,13 @@ import akka.stream.Attributes;
 import akka.stream.FlowShape;
 import akka.stream.OverflowStrategy;
 import akka.stream.QueueOfferResult;
+import akka.stream.SourceShape;
 import akka.stream.Supervision;
+import akka.stream.UniformFanInShape;
 import akka.stream.javadsl.Flow;
 import akka.stream.javadsl.GraphDSL;
 import akka.stream.javadsl.Merge;
+import akka.stream.javadsl.MergePrioritized;
 import akka.stream.javadsl.Partition;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
@@ -59,18 +69,13 @@ public abstract class AbstractGraphActor<T> extends AbstractActor {
      */
     public static final String DITTO_INTERNAL_SPECIAL_ENFORCEMENT_LANE = "ditto-internal-special-enforcement-lane";
 
-    protected final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+    private static final Object SPECIAL_LANE_KEY = new Object();
 
-    private final Counter receiveCounter = DittoMetrics.counter("graph_actor_receive")
-            .tag("class", getClass().getSimpleName());
-
-    private final Counter enqueueSuccessCounter = DittoMetrics.counter("graph_actor_enqueue_success")
-            .tag("class", getClass().getSimpleName());
+    private static final String DEFAULT_PRIORITY_CLASS = "default";
 
-    private final Counter enqueueDroppedCounter = DittoMetrics.counter("graph_actor_enqueue_dropped")
-            .tag("class", getClass().getSimpleName());
+    protected final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
-    private final Counter enqueueFailureCounter = DittoMetrics.counter("graph_actor_enqueue_failure")
+    private final Counter receiveCounter = DittoMetrics.counter("graph_actor_receive")
             .tag("class", getClass().getSimpleName());
 
     private final Counter dequeueCounter = DittoMetrics.counter("graph_actor_dequeue")
@@ -120,6 +125,49 @@ public abstract class AbstractGraphActor<T> extends AbstractActor {
      */
     protected abstract int getParallelism();
 
+    /**
+     * Returns the priority classes of messages. Each class has its own queue; messages of a class are dropped if its
+     * queue is full. While messages of several classes are waiting, each class is dequeued with a probability
+     * proportional to its weight. A message belongs to the first class it matches; messages matching no class are
+     * queued in a default class with weight 1 and buffer size {@link #getBufferSize()}.
+     * <p>
+     * Messages are processed in order per ID only within their class: a message may overtake a message of another
+     * class even if both have the same ID, e.g. a query of a thing may be processed before a preceding modification
+     * of the same thing if queries are in a class of higher weight. Only messages whose relative order does not
+     * matter, e.g. live messages or messages of the special enforcement lane, should therefore be separated into
+     * classes of their own.
+     * </p>
+     *
+     * @return the priority classes; empty by default.
+     */
+    protected List<PriorityClass> getPriorityClasses() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Creates the admission control of messages by their first authorization subject. Messages without
+     * authorization subject and messages for the special enforcement lane are always admitted. Rejected messages are
+     * answered by a {@link TooManyRequestsException}.
+     *
+     * @return the admission control; unlimited by default.
+     */
+    protected TokenBucketAdmission createAdmission() {
+        return TokenBucketAdmission.unlimited();
+    }
+
+    /**
+     * Whether to process messages by a {@link KeyedSerialExecutor} instead of partitioning them by the hash of their
+     * IDs into {@link #getParallelism()} lanes. Messages of the same ID are processed in order either way, but a slow
+     * message only delays the messages of its own ID instead of all messages in its lane. {@link #getParallelism()}
+     * then limits the number of IDs processed in parallel; the special enforcement lane has a slot of its own in
+     * addition, so that messages waiting for special lane messages cannot occupy all slots.
+     *
+     * @return whether to process messages key-ordered with work stealing; {@code false} by default.
+     */
+    protected boolean isKeyOrderedWorkStealing() {
+        return false;
+    }
+
     @Override
     public Receive createReceive() {
 
@@ -127,14 +175,7 @@ public abstract class AbstractGraphActor<T> extends AbstractActor {
         final ActorSystem actorSystem = getContext().getSystem();
         final ActorMaterializerSettings materializerSettings = ActorMaterializerSettings.create(actorSystem)
                 .withSupervisionStrategy((Function<Throwable, Supervision.Directive>) exc -> {
-                            if (exc instanceof DittoRuntimeException) {
-                                LogUtil.enhanceLogWithCorrelationId(log, (DittoRuntimeException) exc);
-                                log.warning("DittoRuntimeException in stream of {}: [{}] {}",
-                                        graphActorClassName, exc.getClass().getSimpleName(), exc.getMessage());
-                            } else {
-                                log.error(exc, "Exception in stream of {}: {}",
-                                        graphActorClassName, exc.getMessage());
-                            }
+                            logStreamError(exc);
                             return Supervision.resume(); // in any case, resume!
                         }
                 );
@@ -145,15 +186,32 @@ public abstract class AbstractGraphActor<T> extends AbstractActor {
                 Attributes.logLevels(Attributes.logLevelDebug(), Attributes.logLevelError(),
                         Attributes.logLevelError());
 
-        final SourceQueueWithComplete<T> sourceQueue = Source.<T>queue(getBufferSize(), OverflowStrategy.dropNew())
-                .map(this::incrementDequeueCounter)
+        final List<PriorityClass> priorityClasses = new ArrayList<>(getPriorityClasses());
+        priorityClasses.add(PriorityClass.of(DEFAULT_PRIORITY_CLASS, 1, getBufferSize(), message -> true));
+        final List<Lane<T>> lanes = new ArrayList<>(priorityClasses.size());
+        final List<Source<Queued<T>, NotUsed>> queuedMessages = new ArrayList<>(priorityClasses.size());
+        for (final PriorityClass priorityClass : priorityClasses) {
+            final Pair<SourceQueueWithComplete<Queued<T>>, Source<Queued<T>, NotUsed>> queueAndSource =
+                    Source.<Queued<T>>queue(priorityClass.getBufferSize(), OverflowStrategy.dropNew())
+                            .preMaterialize(materializer);
+            lanes.add(new Lane<>(priorityClass, queueAndSource.first(), graphActorClassName));
+            queuedMessages.add(queueAndSource.second());
+        }
+        final TokenBucketAdmission admission = createAdmission();
+
+        mergeByWeight(queuedMessages, priorityClasses)
+                .map(this::dequeue)
                 .log("graph-actor-stream-1-dequeued", log)
                 .withAttributes(streamLogLevels)
                 .via(Flow.fromFunction(this::beforeProcessMessage))
                 .log("graph-actor-stream-2-preprocessed", log)
                 .withAttributes(streamLogLevels)
-                // partition by the message's ID in order to maintain order per ID
-                .via(partitionById(processMessageFlow(), getParallelism()))
+                // partition by the message's ID in order to maintain order per ID within each priority class
+                .via(isKeyOrderedWorkStealing()
+                        ? KeyedSerialExecutor.of(processMessageFlow(), AbstractGraphActor::orderingKey,
+                        SPECIAL_LANE_KEY, getParallelism(), getBufferSize(), this::logStreamError,
+                        graphActorClassName)
+                        : partitionById(processMessageFlow(), getParallelism()))
                 .log("graph-actor-stream-3-partitioned", log)
                 .withAttributes(streamLogLevels)
                 .to(processedMessageSink())
@@ -175,7 +233,7 @@ public abstract class AbstractGraphActor<T> extends AbstractActor {
                         log.debug("Received WithDittoHeaders: <{}>", withDittoHeaders);
                     }
                     incrementReceiveCounter();
-                    sourceQueue.offer(mapMessage(withDittoHeaders)).handle(this::incrementEnqueueCounters);
+                    enqueue(withDittoHeaders, lanes, admission);
                 })
                 .match(Throwable.class, unknownThrowable -> {
                     log.warning("Received unknown Throwable: <{}>", unknownThrowable);
@@ -189,29 +247,105 @@ public abstract class AbstractGraphActor<T> extends AbstractActor {
                 .build();
     }
 
+    private void logStreamError(final Throwable exc) {
+        final String graphActorClassName = getClass().getSimpleName();
+        if (exc instanceof DittoRuntimeException) {
+            LogUtil.enhanceLogWithCorrelationId(log, (DittoRuntimeException) exc);
+            log.warning("DittoRuntimeException in stream of {}: [{}] {}",
+                    graphActorClassName, exc.getClass().getSimpleName(), exc.getMessage());
+        } else {
+            log.error(exc, "Exception in stream of {}: {}", graphActorClassName, exc.getMessage());
+        }
+    }
+
     private void incrementReceiveCounter() {
         receiveCounter.increment();
     }
 
-    private Void incrementEnqueueCounters(final QueueOfferResult result, final Throwable error) {
+    private void enqueue(final WithDittoHeaders withDittoHeaders, final List<Lane<T>> lanes,
+            final TokenBucketAdmission admission) {
+
+        final Lane<T> lane = lanes.stream()
+                .filter(l -> l.priorityClass.matches(withDittoHeaders))
+                .findFirst()
+                .orElseGet(() -> lanes.get(lanes.size() - 1));
+
+        if (!isAdmitted(withDittoHeaders, admission)) {
+            lane.admissionRejectedCounter.increment();
+            log.info("Rejecting <{}> of priority class <{}>: too many messages of its authorization subject",
+                    withDittoHeaders.getClass().getSimpleName(), lane.priorityClass.getName());
+            getSender().tell(TooManyRequestsException.newBuilder()
+                    .message("Too many requests of the authorization subject, please try again later.")
+                    .dittoHeaders(withDittoHeaders.getDittoHeaders())
+                    .build(), getSelf());
+            return;
+        }
+
+        lane.queue.offer(new Queued<>(lane, mapMessage(withDittoHeaders), System.nanoTime()))
+                .handle((result, error) -> incrementEnqueueCounters(lane, result, error));
+    }
+
+    private static boolean isAdmitted(final WithDittoHeaders withDittoHeaders,
+            final TokenBucketAdmission admission) {
+
+        if (checkForSpecialLane(withDittoHeaders)) {
+            return true;
+        }
+        return withDittoHeaders.getDittoHeaders()
+                .getAuthorizationContext()
+                .getFirstAuthorizationSubject()
+                .map(subject -> admission.admit(subject.getId()))
+                .orElse(true);
+    }
+
+    private Void incrementEnqueueCounters(final Lane<T> lane, final QueueOfferResult result,
+            final Throwable error) {
+
         if  (QueueOfferResult.enqueued().equals(result)) {
-            enqueueSuccessCounter.increment();
+            lane.enqueueSuccessCounter.increment();
         } else if (QueueOfferResult.dropped().equals(result)) {
-            enqueueDroppedCounter.increment();
+            lane.enqueueDroppedCounter.increment();
         } else if (result instanceof QueueOfferResult.Failure) {
             final QueueOfferResult.Failure failure = (QueueOfferResult.Failure) result;
             log.error(failure.cause(), "enqueue failed");
-            enqueueFailureCounter.increment();
+            lane.enqueueFailureCounter.increment();
         } else {
             log.error(error, "enqueue failed without acknowledgement");
-            enqueueFailureCounter.increment();
+            lane.enqueueFailureCounter.increment();
         }
         return null;
     }
 
-    private <E> E incrementDequeueCounter(final E element) {
+    private T dequeue(final Queued<T> queued) {
         dequeueCounter.increment();
-        return element;
+        queued.lane.waitTimer.record(System.nanoTime() - queued.enqueuedNanos, TimeUnit.NANOSECONDS);
+        return queued.message;
+    }
+
+    /**
+     * Merges the queued messages of all priority classes. While messages of several classes are waiting, each class
+     * is dequeued with a probability proportional to its weight. The order of messages is only maintained within
+     * each class.
+     *
+     * @param queuedMessages the sources of the queued messages of each priority class.
+     * @param priorityClasses the priority classes in the same order.
+     * @param <E> the type of the queued messages.
+     * @return the source of all queued messages.
+     */
+    private static <E> Source<E, NotUsed> mergeByWeight(final List<Source<E, NotUsed>> queuedMessages,
+            final List<PriorityClass> priorityClasses) {
+
+        if (queuedMessages.size() == 1) {
+            return queuedMessages.get(0);
+        }
+        final int[] weights = priorityClasses.stream().mapToInt(PriorityClass::getWeight).toArray();
+        return Source.fromGraph(GraphDSL.create(builder -> {
+            final UniformFanInShape<E, E> merge = builder.add(MergePrioritized.<E>create(weights));
+            for (int i = 0; i < queuedMessages.size(); i++) {
+                builder.from(builder.add(queuedMessages.get(i)).out()).toInlet(merge.in(i));
+            }
+            return SourceShape.of(merge.out());
+        }));
     }
 
     /**
@@ -260,6 +394,30 @@ public abstract class AbstractGraphActor<T> extends AbstractActor {
                 }));
     }
 
+    /**
+     * Determines the key by which messages are ordered in a {@link KeyedSerialExecutor}, equivalent to the lanes of
+     * {@link #partitionById(Flow, int)}.
+     *
+     * @param msg the message.
+     * @param <T> the type of the message.
+     * @return the key of the message.
+     */
+    private static <T> Object orderingKey(final T msg) {
+        if (checkForSpecialLane(msg)) {
+            return SPECIAL_LANE_KEY;
+        } else if (msg instanceof WithId) {
+            final EntityId id = ((WithId) msg).getEntityId();
+            if (id.isDummy()) {
+                // e.g. the case for RetrieveThings command - messages without ID are not ordered
+                return new Object();
+            } else {
+                return id;
+            }
+        } else {
+            return SPECIAL_LANE_KEY;
+        }
+    }
+
     /**
      * Checks whether a special lane is required for the passed {@code msg}. This is for example required when during
      * an enforcement another call to the enforcer is done, the hash of the 2 messages might collide and block
@@ -282,4 +440,57 @@ public abstract class AbstractGraphActor<T> extends AbstractActor {
      */
     protected abstract void preEnhancement(final ReceiveBuilder receiveBuilder);
 
+    /**
+     * The queue of a priority class and its metrics.
+     */
+    private static final class Lane<T> {
+
+        private final PriorityClass priorityClass;
+        private final SourceQueueWithComplete<Queued<T>> queue;
+        private final Counter enqueueSuccessCounter;
+        private final Counter enqueueDroppedCounter;
+        private final Counter enqueueFailureCounter;
+        private final Counter admissionRejectedCounter;
+        private final PreparedTimer waitTimer;
+
+        private Lane(final PriorityClass priorityClass, final SourceQueueWithComplete<Queued<T>> queue,
+                final String graphActorClassName) {
+
+            this.priorityClass = priorityClass;
+            this.queue = queue;
+            final String priorityClassName = priorityClass.getName();
+            enqueueSuccessCounter = DittoMetrics.counter("graph_actor_enqueue_success")
+                    .tag("class", graphActorClassName)
+                    .tag("priority_class", priorityClassName);
+            enqueueDroppedCounter = DittoMetrics.counter("graph_actor_enqueue_dropped")
+                    .tag("class", graphActorClassName)
+                    .tag("priority_class", priorityClassName);
+            enqueueFailureCounter = DittoMetrics.counter("graph_actor_enqueue_failure")
+                    .tag("class", graphActorClassName)
+                    .tag("priority_class", priorityClassName);
+            admissionRejectedCounter = DittoMetrics.counter("graph_actor_admission_rejected")
+                    .tag("class", graphActorClassName)
+                    .tag("priority_class", priorityClassName);
+            waitTimer = DittoMetrics.timer("graph_actor_queue_wait")
+                    .tag("class", graphActorClassName)
+                    .tag("priority_class", priorityClassName);
+        }
+    }
+
+    /**
+     * A message waiting in the queue of a priority class.
+     */
+    private static final class Queued<T> {
+
+        private final Lane<T> lane;
+        private final T message;
+        private final long enqueuedNanos;
+
+        private Queued(final Lane<T> lane, final T message, final long enqueuedNanos) {
+            this.lane = lane;
+            this.message = message;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+
 }
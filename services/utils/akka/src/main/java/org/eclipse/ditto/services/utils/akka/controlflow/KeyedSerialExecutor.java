@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.akka.controlflow;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
+
+import akka.NotUsed;
+import akka.japi.pf.PFBuilder;
+import akka.stream.Attributes;
+import akka.stream.FanInShape2;
+import akka.stream.FanOutShape2;
+import akka.stream.FlowShape;
+import akka.stream.Inlet;
+import akka.stream.Outlet;
+import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.GraphDSL;
+import akka.stream.javadsl.Source;
+import akka.stream.stage.AbstractInHandler;
+import akka.stream.stage.AbstractOutHandler;
+import akka.stream.stage.GraphStage;
+import akka.stream.stage.GraphStageLogic;
+import scala.util.Either;
+import scala.util.Left;
+import scala.util.Right;
+
+/**
+ * A stream processor running a flow for messages of different keys in parallel and for messages of the same key one
+ * after another in the order of their arrival.
+ * <pre>
+ * {@code
+ *                    +-----------+  ready message   +--------------------+  output of flow
+ *  input +---------->+ Scheduler +----------------->+ flow per message   +-------------------> output
+ *                    +-----+-----+                  | (at most maxKeys   |
+ *                          ^                        |  in parallel)      |
+ *                          |                        +---------+----------+
+ *                          |         key of finished message  |
+ *                          +----------------------------------+
+ * }
+ * </pre>
+ * Unlike partitioning messages by the hash of their keys into a fixed number of lanes, a slow message only delays the
+ * later messages of its own key; messages of all other keys run on any free slot.
+ * An optional reserved key has a slot of its own in addition to the {@code maxKeysInFlight} slots, so that its
+ * messages are processed even while all other slots are occupied by messages waiting for them.
+ * The following metrics are reported with the tag {@code class}:
+ * <ul>
+ * <li>{@code keyed_serial_executor_key_queue_depth}: how many messages of the same key a message waits for.</li>
+ * <li>{@code keyed_serial_executor_head_of_line_wait}: how long a message waits for the messages of the same key
+ * and for a free slot.</li>
+ * <li>{@code keyed_serial_executor_keys_in_flight}: how many keys are processed at the moment.</li>
+ * </ul>
+ */
+public final class KeyedSerialExecutor {
+
+    private KeyedSerialExecutor() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Create a flow running {@code flow} in parallel for messages of different keys.
+     * The flow is materialized once per message; it may emit any number of elements for each message. A failure of
+     * the flow is passed to {@code errorHandler}, drops the message and does not stop the processing of the later
+     * messages of its key.
+     *
+     * @param flow the flow to run for each message.
+     * @param keyFunction computes the key of each message; messages with equal keys are processed sequentially.
+     * @param reservedKey the key with a slot of its own, or {@code null} if no key has a reserved slot.
+     * @param maxKeysInFlight how many keys other than the reserved key are processed at most in parallel.
+     * @param bufferSize how many messages wait at most for their keys or a free slot before backpressure.
+     * @param errorHandler receives the failures of the flow, e.g. to log them.
+     * @param metricsTag value of the tag {@code class} of the metrics.
+     * @param <T> type of messages.
+     * @return the flow.
+     */
+    public static <T> Flow<T, T, NotUsed> of(final Flow<T, T, NotUsed> flow, final Function<T, Object> keyFunction,
+            @Nullable final Object reservedKey, final int maxKeysInFlight, final int bufferSize,
+            final Consumer<Throwable> errorHandler, final String metricsTag) {
+
+        final int maxSlots = Math.max(1, maxKeysInFlight) + (null != reservedKey ? 1 : 0);
+        final Flow<Task<T>, Either<Object, T>, NotUsed> runTasks = Flow.<Task<T>>create()
+                .flatMapMerge(maxSlots, task -> Source.single(task.message)
+                        .via(flow)
+                        .<Either<Object, T>>map(Right::new)
+                        .recoverWithRetries(1, new PFBuilder<Throwable, Source<Either<Object, T>, NotUsed>>()
+                                .matchAny(error -> {
+                                    errorHandler.accept(error);
+                                    return Source.empty();
+                                })
+                                .build())
+                        .concat(Source.<Either<Object, T>>single(new Left<>(task.key))));
+
+        return Flow.fromGraph(GraphDSL.create(builder -> {
+            final FanInShape2<T, Object, Task<T>> scheduler =
+                    builder.add(new Scheduler<>(keyFunction, reservedKey, maxKeysInFlight, bufferSize, metricsTag));
+            final FlowShape<Task<T>, Either<Object, T>> runner = builder.add(runTasks);
+            final FanOutShape2<Either<Object, T>, T, Object> outputOrFinishedKey =
+                    builder.add(Filter.multiplexByEither(Function.identity()));
+
+            builder.from(scheduler.out()).toInlet(runner.in());
+            builder.from(runner.out()).toInlet(outputOrFinishedKey.in());
+            builder.from(outputOrFinishedKey.out1()).toInlet(scheduler.in1());
+
+            return FlowShape.of(scheduler.in0(), outputOrFinishedKey.out0());
+        }));
+    }
+
+    private static final class Task<T> {
+
+        private final Object key;
+        private final T message;
+        private final long enqueuedNanos;
+
+        private Task(final Object key, final T message, final long enqueuedNanos) {
+            this.key = key;
+            this.message = message;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+
+    /**
+     * Emits for each key at most one message at a time and for at most {@code maxKeysInFlight} keys other than the
+     * reserved key.
+     */
+    private static final class Scheduler<T> extends GraphStage<FanInShape2<T, Object, Task<T>>> {
+
+        private final Inlet<T> messages = Inlet.create("messages");
+        private final Inlet<Object> finishedKeys = Inlet.create("finishedKeys");
+        private final Outlet<Task<T>> readyTasks = Outlet.create("readyTasks");
+        private final FanInShape2<T, Object, Task<T>> shape = new FanInShape2<>(messages, finishedKeys, readyTasks);
+
+        private final Function<T, Object> keyFunction;
+        @Nullable private final Object reservedKey;
+        private final int maxKeysInFlight;
+        private final int bufferSize;
+        private final String metricsTag;
+
+        private Scheduler(final Function<T, Object> keyFunction, @Nullable final Object reservedKey,
+                final int maxKeysInFlight, final int bufferSize, final String metricsTag) {
+
+            this.keyFunction = keyFunction;
+            this.reservedKey = reservedKey;
+            this.maxKeysInFlight = Math.max(1, maxKeysInFlight);
+            this.bufferSize = Math.max(1, bufferSize);
+            this.metricsTag = metricsTag;
+        }
+
+        @Override
+        public FanInShape2<T, Object, Task<T>> shape() {
+            return shape;
+        }
+
+        @Override
+        public GraphStageLogic createLogic(final Attributes inheritedAttributes) {
+            return new SchedulerLogic();
+        }
+
+        private final class SchedulerLogic extends GraphStageLogic {
+
+            private final Histogram keyQueueDepth = DittoMetrics.histogram("keyed_serial_executor_key_queue_depth")
+                    .tag("class", metricsTag);
+            private final PreparedTimer headOfLineWait = DittoMetrics.timer("keyed_serial_executor_head_of_line_wait")
+                    .tag("class", metricsTag);
+            private final Gauge keysInFlightGauge = DittoMetrics.gauge("keyed_serial_executor_keys_in_flight")
+                    .tag("class", metricsTag);
+
+            // waiting tasks of each key which is either in flight or ready
+            private final Map<Object, Queue<Task<T>>> tasksByKey = new HashMap<>();
+
+            // keys not in flight with waiting tasks in the order they became ready, except the reserved key
+            private final Queue<Object> readyKeys = new ArrayDeque<>();
+
+            private boolean reservedKeyReady = false;
+            private boolean reservedKeyInFlight = false;
+            private int waitingTasks = 0;
+            private int keysInFlight = 0;
+
+            private SchedulerLogic() {
+                super(shape);
+
+                setHandler(messages, new AbstractInHandler() {
+                    @Override
+                    public void onPush() {
+                        enqueue(grab(messages));
+                        dispatch();
+                        considerPullMessages();
+                    }
+
+                    @Override
+                    public void onUpstreamFinish() {
+                        considerComplete();
+                    }
+                });
+
+                setHandler(finishedKeys, new AbstractInHandler() {
+                    @Override
+                    public void onPush() {
+                        finish(grab(finishedKeys));
+                        pull(finishedKeys);
+                        dispatch();
+                        considerPullMessages();
+                    }
+                });
+
+                setHandler(readyTasks, new AbstractOutHandler() {
+                    @Override
+                    public void onPull() {
+                        dispatch();
+                        considerPullMessages();
+                    }
+                });
+            }
+
+            @Override
+            public void preStart() {
+                keysInFlightGauge.set(0L);
+                pull(finishedKeys);
+                pull(messages);
+            }
+
+            private void enqueue(final T message) {
+                final Object key = keyFunction.apply(message);
+                final Task<T> task = new Task<>(key, message, System.nanoTime());
+                final Queue<Task<T>> tasks = tasksByKey.get(key);
+                if (null == tasks) {
+                    final Queue<Task<T>> newTasks = new ArrayDeque<>();
+                    newTasks.add(task);
+                    tasksByKey.put(key, newTasks);
+                    markReady(key);
+                    keyQueueDepth.record(0L);
+                } else {
+                    keyQueueDepth.record((long) tasks.size());
+                    tasks.add(task);
+                }
+                ++waitingTasks;
+            }
+
+            private void finish(final Object key) {
+                if (isReserved(key)) {
+                    reservedKeyInFlight = false;
+                } else {
+                    --keysInFlight;
+                }
+                updateKeysInFlightGauge();
+                final Queue<Task<T>> tasks = tasksByKey.get(key);
+                if (null == tasks || tasks.isEmpty()) {
+                    tasksByKey.remove(key);
+                } else {
+                    markReady(key);
+                }
+            }
+
+            private void markReady(final Object key) {
+                if (isReserved(key)) {
+                    reservedKeyReady = true;
+                } else {
+                    readyKeys.add(key);
+                }
+            }
+
+            private boolean isReserved(final Object key) {
+                return null != reservedKey && Objects.equals(reservedKey, key);
+            }
+
+            private void dispatch() {
+                if (isAvailable(readyTasks)) {
+                    if (reservedKeyReady) {
+                        reservedKeyReady = false;
+                        reservedKeyInFlight = true;
+                        pushTask(tasksByKey.get(reservedKey).poll());
+                    } else if (keysInFlight < maxKeysInFlight && !readyKeys.isEmpty()) {
+                        ++keysInFlight;
+                        pushTask(tasksByKey.get(readyKeys.poll()).poll());
+                    }
+                }
+                considerComplete();
+            }
+
+            private void pushTask(final Task<T> task) {
+                --waitingTasks;
+                updateKeysInFlightGauge();
+                headOfLineWait.record(System.nanoTime() - task.enqueuedNanos, TimeUnit.NANOSECONDS);
+                push(readyTasks, task);
+            }
+
+            private void updateKeysInFlightGauge() {
+                keysInFlightGauge.set((long) keysInFlight + (reservedKeyInFlight ? 1L : 0L));
+            }
+
+            private void considerPullMessages() {
+                if (waitingTasks < bufferSize && !hasBeenPulled(messages) && !isClosed(messages)) {
+                    pull(messages);
+                }
+            }
+
+            private void considerComplete() {
+                // keep the inlet of finished keys open until the flow completes
+                if (isClosed(messages) && waitingTasks == 0 && !isClosed(readyTasks)) {
+                    complete(readyTasks);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.akka.controlflow;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.function.Predicate;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+
+/**
+ * A class of messages of an {@link AbstractGraphActor} with its own queue. When messages of several classes are
+ * waiting, each class is dequeued with a probability proportional to its weight. Messages of different classes may
+ * overtake each other, even if they have the same ID.
+ */
+@Immutable
+public final class PriorityClass {
+
+    private final String name;
+    private final int weight;
+    private final int bufferSize;
+    private final Predicate<WithDittoHeaders> predicate;
+
+    private PriorityClass(final String name, final int weight, final int bufferSize,
+            final Predicate<WithDittoHeaders> predicate) {
+
+        this.name = name;
+        this.weight = weight;
+        this.bufferSize = bufferSize;
+        this.predicate = predicate;
+    }
+
+    /**
+     * Create a priority class.
+     *
+     * @param name the name of the class which is used for metrics.
+     * @param weight the weight of the class; must be positive.
+     * @param bufferSize how many messages of the class may wait in its queue; must be positive.
+     * @param predicate which messages belong to the class.
+     * @return the priority class.
+     * @throws NullPointerException if {@code name} or {@code predicate} is {@code null}.
+     * @throws IllegalArgumentException if {@code weight} or {@code bufferSize} is not positive.
+     */
+    public static PriorityClass of(final String name, final int weight, final int bufferSize,
+            final Predicate<WithDittoHeaders> predicate) {
+
+        checkNotNull(name, "name");
+        checkNotNull(predicate, "predicate");
+        if (weight <= 0) {
+            throw new IllegalArgumentException("The weight of priority class <" + name + "> must be positive!");
+        }
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("The buffer size of priority class <" + name + "> must be positive!");
+        }
+        return new PriorityClass(name, weight, bufferSize, predicate);
+    }
+
+    /**
+     * @return the name of the class.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the weight of the class.
+     */
+    public int getWeight() {
+        return weight;
+    }
+
+    /**
+     * @return how many messages of the class may wait in its queue.
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Test whether a message belongs to this class.
+     *
+     * @param message the message as received by the actor.
+     * @return whether the message belongs to this class.
+     */
+    public boolean matches(final WithDittoHeaders message) {
+        return predicate.test(message);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "name=" + name +
+                ", weight=" + weight +
+                ", bufferSize=" + bufferSize +
+                "]";
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.akka.controlflow;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Admission control of messages by a token bucket per subject: each subject may send {@code burst} messages at once
+ * and {@code tokensPerSecond} messages per second in the long run.
+ * Only the buckets of the most recently active subjects are kept; a subject whose bucket was evicted starts with a
+ * full bucket again.
+ */
+@NotThreadSafe
+public final class TokenBucketAdmission {
+
+    private static final int MAX_SUBJECTS = 10_000;
+
+    private final double tokensPerNano;
+    private final double burst;
+    @Nullable private final Map<String, Bucket> buckets;
+
+    private TokenBucketAdmission(final double tokensPerNano, final double burst,
+            @Nullable final Map<String, Bucket> buckets) {
+
+        this.tokensPerNano = tokensPerNano;
+        this.burst = burst;
+        this.buckets = buckets;
+    }
+
+    /**
+     * Create admission control by a token bucket per subject.
+     *
+     * @param tokensPerSecond how many messages per second each subject may send in the long run; admission is
+     * unlimited if not positive.
+     * @param burst how many messages each subject may send at once; at least 1.
+     * @return the admission control.
+     */
+    public static TokenBucketAdmission of(final double tokensPerSecond, final int burst) {
+        if (tokensPerSecond <= 0.0) {
+            return unlimited();
+        }
+        final Map<String, Bucket> buckets = new LinkedHashMap<String, Bucket>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Bucket> eldest) {
+                return size() > MAX_SUBJECTS;
+            }
+        };
+        return new TokenBucketAdmission(tokensPerSecond / TimeUnit.SECONDS.toNanos(1L), Math.max(1, burst), buckets);
+    }
+
+    /**
+     * @return admission control which admits every message.
+     */
+    public static TokenBucketAdmission unlimited() {
+        return new TokenBucketAdmission(0.0, 0.0, null);
+    }
+
+    /**
+     * Take a token from the bucket of a subject.
+     *
+     * @param subject the subject.
+     * @return whether the bucket had a token, i.e. whether the message of the subject is admitted.
+     */
+    public boolean admit(final String subject) {
+        return admit(subject, System.nanoTime());
+    }
+
+    boolean admit(final String subject, final long nowNanos) {
+        if (null == buckets) {
+            return true;
+        }
+        final Bucket bucket = buckets.computeIfAbsent(subject, s -> new Bucket(burst, nowNanos));
+        return bucket.take(nowNanos);
+    }
+
+    private final class Bucket {
+
+        private double tokens;
+        private long lastRefillNanos;
+
+        private Bucket(final double tokens, final long lastRefillNanos) {
+            this.tokens = tokens;
+            this.lastRefillNanos = lastRefillNanos;
+        }
+
+        private boolean take(final long nowNanos) {
+            tokens = Math.min(burst, tokens + (nowNanos - lastRefillNanos) * tokensPerNano);
+            lastRefillNanos = nowNanos;
+            if (tokens >= 1.0) {
+                tokens -= 1.0;
+                return true;
+            } else {
+                return false;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.akka.controlflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.model.base.exceptions.TooManyRequestsException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.NotUsed;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.japi.pf.ReceiveBuilder;
+import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.Sink;
+import akka.testkit.javadsl.TestKit;
+import scala.concurrent.duration.Duration;
+
+/**
+ * Tests the priority classes and the admission control of {@link AbstractGraphActor}.
+ */
+public final class AbstractGraphActorTest {
+
+    private static final String SMALL_CLASS_HEADER = "small-class";
+    private static final int MESSAGES_PER_CLASS = 100;
+
+    private ActorSystem system;
+    private CompletableFuture<Void> blocker;
+    private CountDownLatch blocked;
+
+    @Before
+    public void init() {
+        system = ActorSystem.create();
+        blocker = new CompletableFuture<>();
+        blocked = new CountDownLatch(1);
+    }
+
+    @After
+    public void stop() {
+        blocker.complete(null);
+        if (system != null) {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    @Test
+    public void messagesOfAFullPriorityClassAreDroppedWhileOtherClassesAreProcessed() throws Exception {
+        new TestKit(system) {{
+            final PriorityClass smallClass = PriorityClass.of("small", 1, 1,
+                    message -> message.getDittoHeaders().containsKey(SMALL_CLASS_HEADER));
+            final TestKit processed = new TestKit(system);
+            final ActorRef underTest = system.actorOf(TestGraphActor.props(processed.getRef(),
+                    Collections.singletonList(smallClass), TokenBucketAdmission.unlimited(), blocker, blocked));
+
+            underTest.tell(new Message("blocking", DittoHeaders.empty()), getRef());
+            assertThat(blocked.await(10L, TimeUnit.SECONDS)).isTrue();
+
+            final DittoHeaders smallClassHeaders = DittoHeaders.newBuilder().putHeader(SMALL_CLASS_HEADER, "").build();
+            for (int i = 0; i < MESSAGES_PER_CLASS; i++) {
+                underTest.tell(new Message("small", smallClassHeaders), getRef());
+                underTest.tell(new Message("default", DittoHeaders.empty()), getRef());
+            }
+            // all messages are enqueued once the actor answers
+            underTest.tell(TestGraphActor.PING, getRef());
+            expectMsg(TestGraphActor.PING);
+            blocker.complete(null);
+
+            int smallMessages = 0;
+            int defaultMessages = 0;
+            Object next;
+            while (null != (next = processed.receiveOne(Duration.create(1L, TimeUnit.SECONDS)))) {
+                final String name = ((Message) next).name;
+                if ("small".equals(name)) {
+                    smallMessages++;
+                } else if ("default".equals(name)) {
+                    defaultMessages++;
+                }
+            }
+            assertThat(defaultMessages).isEqualTo(MESSAGES_PER_CLASS);
+            assertThat(smallMessages).isPositive().isLessThan(MESSAGES_PER_CLASS);
+        }};
+    }
+
+    @Test
+    public void messagesAboveTheAdmissionBurstAreRejected() {
+        new TestKit(system) {{
+            final TestKit processed = new TestKit(system);
+            final ActorRef underTest = system.actorOf(TestGraphActor.props(processed.getRef(),
+                    Collections.emptyList(), TokenBucketAdmission.of(0.001, 2), blocker, blocked));
+            final DittoHeaders aliceHeaders = DittoHeaders.newBuilder().authorizationSubjects("alice").build();
+
+            underTest.tell(new Message("first", aliceHeaders), getRef());
+            underTest.tell(new Message("second", aliceHeaders), getRef());
+            underTest.tell(new Message("rejected", aliceHeaders), getRef());
+            assertThat(processed.expectMsgClass(Message.class).name).isEqualTo("first");
+            assertThat(processed.expectMsgClass(Message.class).name).isEqualTo("second");
+            expectMsgClass(TooManyRequestsException.class);
+
+            // messages of other subjects, without subject and of the special lane are admitted
+            underTest.tell(new Message("bob", DittoHeaders.newBuilder().authorizationSubjects("bob").build()),
+                    getRef());
+            processed.expectMsgClass(Message.class);
+            underTest.tell(new Message("anonymous", DittoHeaders.empty()), getRef());
+            processed.expectMsgClass(Message.class);
+            underTest.tell(new Message("special-lane", aliceHeaders.toBuilder()
+                    .putHeader(AbstractGraphActor.DITTO_INTERNAL_SPECIAL_ENFORCEMENT_LANE, "")
+                    .build()), getRef());
+            assertThat(processed.expectMsgClass(Message.class).name).isEqualTo("special-lane");
+            processed.expectNoMessage();
+            expectNoMessage();
+        }};
+    }
+
+    /**
+     * Graph actor sending the processed messages to a receiver. Processing of the message named "blocking" does not
+     * complete before the blocker is completed.
+     */
+    private static final class TestGraphActor extends AbstractGraphActor<Message> {
+
+        private static final String PING = "ping";
+
+        private final ActorRef receiver;
+        private final List<PriorityClass> priorityClasses;
+        private final TokenBucketAdmission admission;
+        private final CompletableFuture<Void> blocker;
+        private final CountDownLatch blocked;
+
+        @SuppressWarnings("unused")
+        private TestGraphActor(final ActorRef receiver, final List<PriorityClass> priorityClasses,
+                final TokenBucketAdmission admission, final CompletableFuture<Void> blocker,
+                final CountDownLatch blocked) {
+
+            this.receiver = receiver;
+            this.priorityClasses = priorityClasses;
+            this.admission = admission;
+            this.blocker = blocker;
+            this.blocked = blocked;
+        }
+
+        private static Props props(final ActorRef receiver, final List<PriorityClass> priorityClasses,
+                final TokenBucketAdmission admission, final CompletableFuture<Void> blocker,
+                final CountDownLatch blocked) {
+
+            return Props.create(TestGraphActor.class, receiver, priorityClasses, admission, blocker, blocked);
+        }
+
+        @Override
+        protected Message mapMessage(final WithDittoHeaders message) {
+            return (Message) message;
+        }
+
+        @Override
+        protected Flow<Message, Message, NotUsed> processMessageFlow() {
+            return Flow.<Message>create().mapAsync(1, message -> {
+                if ("blocking".equals(message.name)) {
+                    blocked.countDown();
+                    return blocker.thenApply(done -> message);
+                }
+                return CompletableFuture.completedFuture(message);
+            });
+        }
+
+        @Override
+        protected Sink<Message, ?> processedMessageSink() {
+            return Sink.foreach(message -> receiver.tell(message, ActorRef.noSender()));
+        }
+
+        @Override
+        protected int getBufferSize() {
+            return 1000;
+        }
+
+        @Override
+        protected int getParallelism() {
+            return 1;
+        }
+
+        @Override
+        protected List<PriorityClass> getPriorityClasses() {
+            return priorityClasses;
+        }
+
+        @Override
+        protected TokenBucketAdmission createAdmission() {
+            return admission;
+        }
+
+        @Override
+        protected void preEnhancement(final ReceiveBuilder receiveBuilder) {
+            receiveBuilder.matchEquals(PING, ping -> getSender().tell(PING, getSelf()));
+        }
+
+    }
+
+    private static final class Message implements WithDittoHeaders<Message> {
+
+        private final String name;
+        private final DittoHeaders dittoHeaders;
+
+        private Message(final String name, final DittoHeaders dittoHeaders) {
+            this.name = name;
+            this.dittoHeaders = dittoHeaders;
+        }
+
+        @Override
+        public DittoHeaders getDittoHeaders() {
+            return dittoHeaders;
+        }
+
+        @Override
+        public Message setDittoHeaders(final DittoHeaders dittoHeaders) {
+            return new Message(name, dittoHeaders);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [name=" + name + ", dittoHeaders=" + dittoHeaders + "]";
+        }
+
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.akka.controlflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.NotUsed;
+import akka.actor.ActorSystem;
+import akka.japi.Pair;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.Keep;
+import akka.stream.testkit.TestPublisher;
+import akka.stream.testkit.TestSubscriber;
+import akka.stream.testkit.javadsl.TestSink;
+import akka.stream.testkit.javadsl.TestSource;
+import akka.testkit.javadsl.TestKit;
+import scala.concurrent.duration.FiniteDuration;
+
+/**
+ * Tests {@link org.eclipse.ditto.services.utils.akka.controlflow.KeyedSerialExecutor}.
+ * Messages are strings whose first character is their key; the key {@code 'z'} has a reserved slot.
+ */
+public final class KeyedSerialExecutorTest {
+
+    private ActorSystem system;
+    private CompletableFuture<String> blocker;
+    private List<Throwable> errors;
+    private TestPublisher.Probe<String> source;
+    private TestSubscriber.Probe<String> sink;
+
+    @Before
+    public void init() {
+        system = ActorSystem.create();
+        blocker = new CompletableFuture<>();
+        errors = new CopyOnWriteArrayList<>();
+        final Flow<String, String, NotUsed> flow = Flow.<String>create()
+                .map(message -> {
+                    if (message.endsWith("!")) {
+                        throw new IllegalStateException(message);
+                    }
+                    return message;
+                })
+                .mapAsync(1, message -> message.endsWith("?")
+                        ? blocker
+                        : CompletableFuture.completedFuture(message));
+
+        final Pair<TestPublisher.Probe<String>, TestSubscriber.Probe<String>> probes =
+                TestSource.<String>probe(system)
+                        .via(KeyedSerialExecutor.of(flow, message -> message.charAt(0), 'z', 4, 16,
+                                errors::add, "test"))
+                        .toMat(TestSink.probe(system), Keep.both())
+                        .run(ActorMaterializer.create(system));
+        source = probes.first();
+        sink = probes.second();
+    }
+
+    @After
+    public void stop() {
+        if (system != null) {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    @Test
+    public void slowMessageDelaysOnlyMessagesOfItsKey() {
+        sink.request(5);
+        source.sendNext("a1?").sendNext("a2").sendNext("b1").sendNext("a3").sendNext("b2");
+
+        sink.expectNext("b1", "b2");
+        sink.expectNoMessage(FiniteDuration.apply(200L, TimeUnit.MILLISECONDS));
+
+        blocker.complete("a1");
+        sink.expectNext("a1", "a2", "a3");
+    }
+
+    @Test
+    public void failedMessageDoesNotBlockItsKey() {
+        sink.request(2);
+        source.sendNext("a1!").sendNext("a2");
+
+        sink.expectNext("a2");
+        assertThat(errors).hasSize(1);
+        assertThat(errors.get(0)).isInstanceOf(IllegalStateException.class).hasMessage("a1!");
+    }
+
+    @Test
+    public void reservedKeyIsProcessedWhileAllOtherSlotsAreOccupied() {
+        sink.request(6);
+        source.sendNext("a1?").sendNext("b1?").sendNext("c1?").sendNext("d1?").sendNext("e1").sendNext("z1");
+
+        sink.expectNext("z1");
+        sink.expectNoMessage(FiniteDuration.apply(200L, TimeUnit.MILLISECONDS));
+
+        blocker.complete("x");
+        sink.expectNextN(5L);
+    }
+
+    @Test
+    public void completeAfterAllMessagesAreProcessed() {
+        sink.request(3);
+        source.sendNext("a1?").sendNext("a2").sendComplete();
+        sink.expectNoMessage(FiniteDuration.apply(200L, TimeUnit.MILLISECONDS));
+
+        blocker.complete("a1");
+        sink.expectNext("a1", "a2");
+        sink.expectComplete();
+    }
+
+}
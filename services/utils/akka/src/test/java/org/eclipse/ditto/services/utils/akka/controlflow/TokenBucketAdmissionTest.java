@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.akka.controlflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link TokenBucketAdmission}.
+ */
+public final class TokenBucketAdmissionTest {
+
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1L);
+
+    @Test
+    public void admitBurstThenRejectUntilRefilled() {
+        final TokenBucketAdmission underTest = TokenBucketAdmission.of(2.0, 3);
+
+        assertThat(underTest.admit("alice", 0L)).isTrue();
+        assertThat(underTest.admit("alice", 0L)).isTrue();
+        assertThat(underTest.admit("alice", 0L)).isTrue();
+        assertThat(underTest.admit("alice", 0L)).isFalse();
+
+        // 2 tokens per second: one token after half a second
+        assertThat(underTest.admit("alice", ONE_SECOND / 2)).isTrue();
+        assertThat(underTest.admit("alice", ONE_SECOND / 2)).isFalse();
+    }
+
+    @Test
+    public void subjectsHaveSeparateBuckets() {
+        final TokenBucketAdmission underTest = TokenBucketAdmission.of(1.0, 1);
+
+        assertThat(underTest.admit("alice", 0L)).isTrue();
+        assertThat(underTest.admit("alice", 0L)).isFalse();
+        assertThat(underTest.admit("bob", 0L)).isTrue();
+    }
+
+    @Test
+    public void refillDoesNotExceedBurst() {
+        final TokenBucketAdmission underTest = TokenBucketAdmission.of(100.0, 2);
+
+        assertThat(underTest.admit("alice", 0L)).isTrue();
+        assertThat(underTest.admit("alice", 10 * ONE_SECOND)).isTrue();
+        assertThat(underTest.admit("alice", 10 * ONE_SECOND)).isTrue();
+        assertThat(underTest.admit("alice", 10 * ONE_SECOND)).isFalse();
+    }
+
+    @Test
+    public void nonPositiveRateAdmitsEverything() {
+        final TokenBucketAdmission underTest = TokenBucketAdmission.of(0.0, 1);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(underTest.admit("alice", 0L)).isTrue();
+        }
+    }
+
+}
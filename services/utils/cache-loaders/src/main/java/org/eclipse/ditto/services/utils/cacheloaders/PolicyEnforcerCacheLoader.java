@@ -54,12 +54,30 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<EntityI
      * @param policiesShardRegionProxy the shard-region-proxy.
      */
     public PolicyEnforcerCacheLoader(final Duration askTimeout, final ActorRef policiesShardRegionProxy) {
+        this(askTimeout, policiesShardRegionProxy, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param askTimeout the ask-timeout for communicating with the shard-region-proxy.
+     * @param policiesShardRegionProxy the shard-region-proxy.
+     * @param decisionCacheSize how many decisions each loaded policy-enforcer remembers. Zero disables remembering
+     * decisions.
+     * @throws IllegalArgumentException if {@code decisionCacheSize} is negative.
+     */
+    public PolicyEnforcerCacheLoader(final Duration askTimeout, final ActorRef policiesShardRegionProxy,
+            final int decisionCacheSize) {
+
         requireNonNull(askTimeout);
         requireNonNull(policiesShardRegionProxy);
+        if (decisionCacheSize < 0) {
+            throw new IllegalArgumentException("The decision cache size must not be negative!");
+        }
 
         final Function<EntityId, Command> commandCreator = PolicyCommandFactory::sudoRetrievePolicy;
         final Function<Object, Entry<Enforcer>> responseTransformer =
-                PolicyEnforcerCacheLoader::handleSudoRetrievePolicyResponse;
+                response -> handleSudoRetrievePolicyResponse(response, decisionCacheSize);
 
         delegate = ActorAskCacheLoader.forShard(askTimeout, PolicyCommand.RESOURCE_TYPE, policiesShardRegionProxy,
                 commandCreator, responseTransformer);
@@ -71,13 +89,18 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<EntityI
         return delegate.asyncLoad(key, executor);
     }
 
-    private static Entry<Enforcer> handleSudoRetrievePolicyResponse(final Object response) {
+    private static Entry<Enforcer> handleSudoRetrievePolicyResponse(final Object response,
+            final int decisionCacheSize) {
+
         if (response instanceof SudoRetrievePolicyResponse) {
             final SudoRetrievePolicyResponse sudoRetrievePolicyResponse = (SudoRetrievePolicyResponse) response;
             final Policy policy = sudoRetrievePolicyResponse.getPolicy();
             final long revision = policy.getRevision().map(PolicyRevision::toLong)
                     .orElseThrow(badPolicyResponse("no revision"));
-            return Entry.of(revision, PolicyEnforcers.defaultEvaluator(policy));
+            final Enforcer enforcer = PolicyEnforcers.defaultEvaluator(policy);
+            return Entry.of(revision, 0 < decisionCacheSize
+                    ? PolicyEnforcers.withDecisionCache(enforcer, decisionCacheSize)
+                    : enforcer);
         } else if (response instanceof PolicyNotAccessibleException) {
             return Entry.nonexistent();
         } else {
@@ -29,6 +29,7 @@ import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonFieldDefinition;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonParseException;
 import org.eclipse.ditto.json.JsonRuntimeException;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
@@ -143,14 +144,15 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
             }
 
             jsonObjectBuilder.set(JSON_PAYLOAD, jsonValue);
-            final String jsonStr = jsonObjectBuilder.build().toString();
+            final JsonObject jsonObject = jsonObjectBuilder.build();
 
             try {
-                buf.put(UTF8_CHARSET.encode(jsonStr));
-                LOG.trace("toBinary jsonStr about to send 'out': {}", jsonStr);
+                serializeIntoByteBuffer(jsonObject, buf);
+                LOG.trace("toBinary JSON object about to send 'out': {}", jsonObject);
                 outCounter.increment();
             } catch (final BufferOverflowException e) {
-                LOG.warn("Could not put bytes of JSON string <{}> into ByteBuffer due to BufferOverflow", jsonStr, e);
+                LOG.warn("Could not put bytes of JSON object <{}> into ByteBuffer due to BufferOverflow", jsonObject,
+                        e);
                 throw e;
             }
         } else {
@@ -161,6 +163,37 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         }
     }
 
+    /**
+     * Writes the given JSON object into the given buffer. This implementation writes the UTF-8 encoded JSON string
+     * without creating it as String first.
+     * Subclasses may override this method together with {@link #deserializeFromByteBuffer(ByteBuffer)} in order to
+     * use another representation of the same JSON structure on the wire.
+     *
+     * @param jsonObject the JSON object of the Jsonifiable and its DittoHeaders.
+     * @param byteBuffer the buffer to write to.
+     * @throws BufferOverflowException if the buffer is too small for the serialized JSON object.
+     */
+    protected void serializeIntoByteBuffer(final JsonObject jsonObject, final ByteBuffer byteBuffer) {
+        jsonObject.writeTo(byteBuffer);
+    }
+
+    /**
+     * Reads a JSON object written by {@link #serializeIntoByteBuffer(JsonObject, ByteBuffer)} from the given buffer.
+     *
+     * @param byteBuffer the buffer to read from.
+     * @return the JSON object of the Jsonifiable and its DittoHeaders.
+     * @throws JsonRuntimeException if the buffer does not contain a valid JSON object.
+     */
+    protected JsonObject deserializeFromByteBuffer(final ByteBuffer byteBuffer) {
+        final JsonValue jsonValue = JsonFactory.readFrom(byteBuffer);
+        if (!jsonValue.isObject()) {
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format("<{0}> is not a valid JSON object!", jsonValue))
+                    .build();
+        }
+        return jsonValue.asObject();
+    }
+
     @Override
     public byte[] toBinary(final Object object) {
         final ByteBuffer buf = byteBufferPool.acquire();
@@ -194,10 +227,8 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
 
     @Override
     public Object fromBinary(final ByteBuffer buf, final String manifest) {
-        final String json = UTF8_CHARSET.decode(buf).toString();
         try {
-            final Jsonifiable jsonifiable = tryToCreateKnownJsonifiableFrom(manifest, json);
-            LOG.trace("fromBinary json which got 'in': {}", json);
+            final Jsonifiable jsonifiable = tryToCreateKnownJsonifiableFrom(manifest, buf);
             inCounter.increment();
             return jsonifiable;
         } catch (final NotSerializableException e) {
@@ -210,18 +241,28 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         return fromBinary(ByteBuffer.wrap(bytes), manifest);
     }
 
-    private Jsonifiable tryToCreateKnownJsonifiableFrom(final String manifest, final String json)
+    private Jsonifiable tryToCreateKnownJsonifiableFrom(final String manifest, final ByteBuffer buf)
             throws NotSerializableException {
+
+        final JsonObject jsonObject;
         try {
-            return createJsonifiableFrom(manifest, json);
+            jsonObject = deserializeFromByteBuffer(buf);
+            LOG.trace("fromBinary JSON object which got 'in': {}", jsonObject);
+        } catch (final JsonRuntimeException e) {
+            LOG.error("Got <{}> during fromBinary(byte[],String) deserialization for manifest <{}>",
+                    e.getClass().getSimpleName(), manifest, e);
+            throw new NotSerializableException(manifest);
+        }
+        try {
+            return createJsonifiableFrom(manifest, jsonObject);
         } catch (final DittoRuntimeException | JsonRuntimeException e) {
             LOG.error("Got <{}> during fromBinary(byte[],String) deserialization for manifest <{}> and JSON: '{}'",
-                    e.getClass().getSimpleName(), manifest, json, e);
+                    e.getClass().getSimpleName(), manifest, jsonObject, e);
             throw new NotSerializableException(manifest);
         }
     }
 
-    private Jsonifiable createJsonifiableFrom(final String manifest, final String json)
+    private Jsonifiable createJsonifiableFrom(final String manifest, final JsonObject jsonObject)
             throws NotSerializableException {
 
         final Optional<MappingStrategy> mappingStrategy = this.mappingStrategies.getMappingStrategyFor(manifest);
@@ -231,8 +272,6 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
             throw new NotSerializableException(manifest);
         }
 
-        final JsonObject jsonObject = JsonFactory.newObject(json);
-
         final JsonObject payload = getPayload(jsonObject);
 
         final DittoHeadersBuilder dittoHeadersBuilder = jsonObject.getValue(JSON_DITTO_HEADERS)
@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Writes and reads {@link JsonValue}s as CBOR (RFC 7049) directly from and to {@link ByteBuffer}s without an
+ * intermediate JSON string.
+ * Only the subset of CBOR which is required to represent JSON is supported: definite length maps with text keys,
+ * definite length arrays, text strings, integers, double precision floats, booleans and null.
+ * Numbers are written with the same type they would have when parsed from their JSON string representation, i. e.
+ * integral numbers as integers and decimal numbers as doubles.
+ */
+@Immutable
+final class CborJsonValueCodec {
+
+    private static final int MAJOR_TYPE_UNSIGNED_INTEGER = 0;
+    private static final int MAJOR_TYPE_NEGATIVE_INTEGER = 1;
+    private static final int MAJOR_TYPE_TEXT_STRING = 3;
+    private static final int MAJOR_TYPE_ARRAY = 4;
+    private static final int MAJOR_TYPE_MAP = 5;
+    private static final int MAJOR_TYPE_SIMPLE_AND_FLOAT = 7;
+
+    private static final int ONE_BYTE_ARGUMENT = 24;
+    private static final int TWO_BYTES_ARGUMENT = 25;
+    private static final int FOUR_BYTES_ARGUMENT = 26;
+    private static final int EIGHT_BYTES_ARGUMENT = 27;
+
+    private static final int SIMPLE_FALSE = 20;
+    private static final int SIMPLE_TRUE = 21;
+    private static final int SIMPLE_NULL = 22;
+
+    private CborJsonValueCodec() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Writes the CBOR representation of the given JSON value into the given buffer.
+     *
+     * @param jsonValue the JSON value to write.
+     * @param byteBuffer the buffer to write to.
+     * @throws BufferOverflowException if the buffer is too small.
+     */
+    static void writeValue(final JsonValue jsonValue, final ByteBuffer byteBuffer) {
+        if (jsonValue.isNull()) {
+            writeHead(MAJOR_TYPE_SIMPLE_AND_FLOAT, SIMPLE_NULL, byteBuffer);
+        } else if (jsonValue.isBoolean()) {
+            writeHead(MAJOR_TYPE_SIMPLE_AND_FLOAT, jsonValue.asBoolean() ? SIMPLE_TRUE : SIMPLE_FALSE, byteBuffer);
+        } else if (jsonValue.isNumber()) {
+            writeNumber(jsonValue, byteBuffer);
+        } else if (jsonValue.isString()) {
+            writeString(jsonValue.asString(), byteBuffer);
+        } else if (jsonValue.isArray()) {
+            writeHead(MAJOR_TYPE_ARRAY, jsonValue.asArray().getSize(), byteBuffer);
+            for (final JsonValue element : jsonValue.asArray()) {
+                writeValue(element, byteBuffer);
+            }
+        } else if (jsonValue.isObject()) {
+            final JsonObject jsonObject = jsonValue.asObject();
+            writeHead(MAJOR_TYPE_MAP, jsonObject.getSize(), byteBuffer);
+            for (final JsonField field : jsonObject) {
+                writeString(field.getKeyName(), byteBuffer);
+                writeValue(field.getValue(), byteBuffer);
+            }
+        } else {
+            throw new IllegalArgumentException(
+                    MessageFormat.format("JSON value <{0}> has an unknown type!", jsonValue));
+        }
+    }
+
+    /**
+     * Reads the next JSON value from the CBOR representation in the given buffer.
+     *
+     * @param byteBuffer the buffer to read from.
+     * @return the JSON value.
+     * @throws JsonParseException if the buffer does not contain a supported CBOR data item.
+     */
+    static JsonValue readValue(final ByteBuffer byteBuffer) {
+        try {
+            return doReadValue(byteBuffer);
+        } catch (final BufferUnderflowException e) {
+            throw JsonParseException.newBuilder()
+                    .message("Unexpected end of CBOR data.")
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    private static void writeNumber(final JsonValue number, final ByteBuffer byteBuffer) {
+        if (isIntegral(number)) {
+            final long value = number.asLong();
+            if (value >= 0) {
+                writeHead(MAJOR_TYPE_UNSIGNED_INTEGER, value, byteBuffer);
+            } else {
+                writeHead(MAJOR_TYPE_NEGATIVE_INTEGER, -1L - value, byteBuffer);
+            }
+        } else {
+            byteBuffer.put((byte) (MAJOR_TYPE_SIMPLE_AND_FLOAT << 5 | EIGHT_BYTES_ARGUMENT));
+            byteBuffer.putDouble(number.asDouble());
+        }
+    }
+
+    private static boolean isIntegral(final JsonValue number) {
+        if (!number.isLong()) {
+            return false;
+        }
+        // doubles with an integral value report to be longs; their string representation tells them apart.
+        final String numberString = number.toString();
+        for (int i = 0; i < numberString.length(); i++) {
+            final char c = numberString.charAt(i);
+            if ('.' == c || 'e' == c || 'E' == c) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeString(final String string, final ByteBuffer byteBuffer) {
+        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeHead(MAJOR_TYPE_TEXT_STRING, bytes.length, byteBuffer);
+        byteBuffer.put(bytes);
+    }
+
+    private static void writeHead(final int majorType, final long argument, final ByteBuffer byteBuffer) {
+        final int initialByte = majorType << 5;
+        if (argument < ONE_BYTE_ARGUMENT) {
+            byteBuffer.put((byte) (initialByte | (int) argument));
+        } else if (argument <= 0xFFL) {
+            byteBuffer.put((byte) (initialByte | ONE_BYTE_ARGUMENT));
+            byteBuffer.put((byte) argument);
+        } else if (argument <= 0xFFFFL) {
+            byteBuffer.put((byte) (initialByte | TWO_BYTES_ARGUMENT));
+            byteBuffer.putShort((short) argument);
+        } else if (argument <= 0xFFFFFFFFL) {
+            byteBuffer.put((byte) (initialByte | FOUR_BYTES_ARGUMENT));
+            byteBuffer.putInt((int) argument);
+        } else {
+            byteBuffer.put((byte) (initialByte | EIGHT_BYTES_ARGUMENT));
+            byteBuffer.putLong(argument);
+        }
+    }
+
+    private static JsonValue doReadValue(final ByteBuffer byteBuffer) {
+        final int initialByte = byteBuffer.get() & 0xFF;
+        final int majorType = initialByte >>> 5;
+        final int additionalInformation = initialByte & 0x1F;
+        switch (majorType) {
+            case MAJOR_TYPE_UNSIGNED_INTEGER:
+                return toJsonNumber(readArgument(additionalInformation, byteBuffer));
+            case MAJOR_TYPE_NEGATIVE_INTEGER:
+                return toJsonNumber(-1L - readArgument(additionalInformation, byteBuffer));
+            case MAJOR_TYPE_TEXT_STRING:
+                return JsonValue.of(readString(additionalInformation, byteBuffer));
+            case MAJOR_TYPE_ARRAY:
+                return readArray(readLength(additionalInformation, byteBuffer), byteBuffer);
+            case MAJOR_TYPE_MAP:
+                return readObject(readLength(additionalInformation, byteBuffer), byteBuffer);
+            case MAJOR_TYPE_SIMPLE_AND_FLOAT:
+                return readSimpleOrFloat(additionalInformation, byteBuffer);
+            default:
+                throw unsupported(initialByte);
+        }
+    }
+
+    private static JsonValue toJsonNumber(final long value) {
+        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            return JsonValue.of((int) value);
+        }
+        return JsonValue.of(value);
+    }
+
+    private static String readString(final int additionalInformation, final ByteBuffer byteBuffer) {
+        final int length = readLength(additionalInformation, byteBuffer);
+        final String result;
+        if (byteBuffer.hasArray()) {
+            final int offset = byteBuffer.arrayOffset() + byteBuffer.position();
+            result = new String(byteBuffer.array(), offset, length, StandardCharsets.UTF_8);
+            byteBuffer.position(byteBuffer.position() + length);
+        } else {
+            final byte[] bytes = new byte[length];
+            byteBuffer.get(bytes);
+            result = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return result;
+    }
+
+    private static JsonValue readArray(final int size, final ByteBuffer byteBuffer) {
+        final JsonArrayBuilder arrayBuilder = JsonFactory.newArrayBuilder();
+        for (int i = 0; i < size; i++) {
+            arrayBuilder.add(doReadValue(byteBuffer));
+        }
+        return arrayBuilder.build();
+    }
+
+    private static JsonValue readObject(final int size, final ByteBuffer byteBuffer) {
+        final Map<JsonKey, JsonValue> fields = new LinkedHashMap<>(size * 4 / 3 + 1);
+        for (int i = 0; i < size; i++) {
+            final int keyInitialByte = byteBuffer.get() & 0xFF;
+            if (keyInitialByte >>> 5 != MAJOR_TYPE_TEXT_STRING) {
+                throw unsupported(keyInitialByte);
+            }
+            final JsonKey key = JsonKey.of(readString(keyInitialByte & 0x1F, byteBuffer));
+            fields.put(key, doReadValue(byteBuffer));
+        }
+        return JsonFactory.newObject(fields);
+    }
+
+    private static JsonValue readSimpleOrFloat(final int additionalInformation, final ByteBuffer byteBuffer) {
+        switch (additionalInformation) {
+            case SIMPLE_FALSE:
+                return JsonValue.of(false);
+            case SIMPLE_TRUE:
+                return JsonValue.of(true);
+            case SIMPLE_NULL:
+                return JsonValue.nullLiteral();
+            case FOUR_BYTES_ARGUMENT:
+                return JsonValue.of((double) byteBuffer.getFloat());
+            case EIGHT_BYTES_ARGUMENT:
+                return JsonValue.of(byteBuffer.getDouble());
+            default:
+                throw unsupported(MAJOR_TYPE_SIMPLE_AND_FLOAT << 5 | additionalInformation);
+        }
+    }
+
+    private static int readLength(final int additionalInformation, final ByteBuffer byteBuffer) {
+        final long length = readArgument(additionalInformation, byteBuffer);
+        if (length < 0 || length > byteBuffer.remaining()) {
+            // every element occupies at least one byte
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format("CBOR length <{0}> exceeds the remaining <{1}> bytes.", length,
+                            byteBuffer.remaining()))
+                    .build();
+        }
+        return (int) length;
+    }
+
+    private static long readArgument(final int additionalInformation, final ByteBuffer byteBuffer) {
+        if (additionalInformation < ONE_BYTE_ARGUMENT) {
+            return additionalInformation;
+        }
+        switch (additionalInformation) {
+            case ONE_BYTE_ARGUMENT:
+                return byteBuffer.get() & 0xFFL;
+            case TWO_BYTES_ARGUMENT:
+                return byteBuffer.getShort() & 0xFFFFL;
+            case FOUR_BYTES_ARGUMENT:
+                return byteBuffer.getInt() & 0xFFFFFFFFL;
+            case EIGHT_BYTES_ARGUMENT:
+                return byteBuffer.getLong();
+            default:
+                throw JsonParseException.newBuilder()
+                        .message(MessageFormat.format(
+                                "Indefinite length or reserved CBOR argument <{0}> is not supported.",
+                                additionalInformation))
+                        .build();
+        }
+    }
+
+    private static JsonParseException unsupported(final int initialByte) {
+        return JsonParseException.newBuilder()
+                .message(MessageFormat.format("CBOR data item with initial byte <{0}> is not supported.",
+                        Integer.toHexString(initialByte)))
+                .build();
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.nio.ByteBuffer;
+import java.text.MessageFormat;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+
+import akka.actor.ExtendedActorSystem;
+
+/**
+ * Serializer for Commands and Events of Eclipse Ditto which writes the same JSON structure as
+ * {@link JsonifiableSerializer} in the binary CBOR format without rendering a JSON string.
+ * Both serializers have their own identifier and may be configured at the same time: a message is always
+ * deserialized by the serializer it was serialized with, which allows rolling upgrades from one to the other.
+ */
+@NotThreadSafe
+public final class CborJsonifiableSerializer extends AbstractJsonifiableWithDittoHeadersSerializer {
+
+    private static final int UNIQUE_IDENTIFIER = 860307219;
+
+    /**
+     * Constructs a new {@code CborJsonifiableSerializer} object.
+     */
+    public CborJsonifiableSerializer(final ExtendedActorSystem actorSystem) {
+        super(UNIQUE_IDENTIFIER, actorSystem, ManifestProvider.getInstance());
+    }
+
+    @Override
+    protected void serializeIntoByteBuffer(final JsonObject jsonObject, final ByteBuffer byteBuffer) {
+        CborJsonValueCodec.writeValue(jsonObject, byteBuffer);
+    }
+
+    @Override
+    protected JsonObject deserializeFromByteBuffer(final ByteBuffer byteBuffer) {
+        final JsonValue jsonValue = CborJsonValueCodec.readValue(byteBuffer);
+        if (!jsonValue.isObject()) {
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format("CBOR data <{0}> is not a JSON object.", jsonValue))
+                    .build();
+        }
+        return jsonValue.asObject();
+    }
+
+}
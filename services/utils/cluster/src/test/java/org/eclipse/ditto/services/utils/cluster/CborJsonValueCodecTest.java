@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.ByteBuffer;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CborJsonValueCodec}.
+ */
+public final class CborJsonValueCodecTest {
+
+    private static final JsonObject JSON_OBJECT = JsonFactory.newObject("{\n" +
+            "  \"string\": \"hello\",\n" +
+            "  \"unicode\": \"\\u00e4\\u00f6\\u00fc \\u20ac \\ud83d\\ude00\",\n" +
+            "  \"empty\": \"\",\n" +
+            "  \"int\": 23,\n" +
+            "  \"byte\": 255,\n" +
+            "  \"short\": 65535,\n" +
+            "  \"negative\": -4711,\n" +
+            "  \"long\": 9223372036854775807,\n" +
+            "  \"minLong\": -9223372036854775808,\n" +
+            "  \"double\": 3.14159,\n" +
+            "  \"integralDouble\": 5.0,\n" +
+            "  \"exponent\": 1.5E300,\n" +
+            "  \"true\": true,\n" +
+            "  \"false\": false,\n" +
+            "  \"null\": null,\n" +
+            "  \"array\": [1, \"two\", [3.0], {}],\n" +
+            "  \"object\": { \"nested\": { \"deeper\": [] } }\n" +
+            "}");
+
+    @Test
+    public void roundTripPreservesJsonStructureAndNumberTypes() {
+        final JsonValue result = roundTrip(JSON_OBJECT);
+
+        assertThat(result).isEqualTo(JSON_OBJECT);
+        assertThat(result.toString()).isEqualTo(JSON_OBJECT.toString());
+    }
+
+    @Test
+    public void cborIsSmallerThanJsonString() {
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        CborJsonValueCodec.writeValue(JSON_OBJECT, buffer);
+
+        assertThat(buffer.position()).isLessThan(JSON_OBJECT.toString().length());
+    }
+
+    @Test
+    public void directBuffersAreSupported() {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+        CborJsonValueCodec.writeValue(JSON_OBJECT, buffer);
+        buffer.flip();
+
+        assertThat(CborJsonValueCodec.readValue(buffer)).isEqualTo(JSON_OBJECT);
+    }
+
+    @Test
+    public void truncatedDataIsRejected() {
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        CborJsonValueCodec.writeValue(JSON_OBJECT, buffer);
+        buffer.flip();
+        buffer.limit(buffer.limit() / 2);
+
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> CborJsonValueCodec.readValue(buffer));
+    }
+
+    @Test
+    public void unsupportedDataItemIsRejected() {
+        // 0x40 is an empty byte string which has no JSON representation
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{0x40});
+
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> CborJsonValueCodec.readValue(buffer));
+    }
+
+    private static JsonValue roundTrip(final JsonValue jsonValue) {
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        CborJsonValueCodec.writeValue(jsonValue, buffer);
+        buffer.flip();
+        final JsonValue result = CborJsonValueCodec.readValue(buffer);
+        assertThat(buffer.hasRemaining()).isFalse();
+        return result;
+    }
+
+}
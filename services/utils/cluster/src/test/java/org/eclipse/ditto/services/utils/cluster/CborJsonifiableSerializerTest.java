@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.NotSerializableException;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributeResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+
+/**
+ * Unit test for {@link CborJsonifiableSerializer}.
+ */
+public final class CborJsonifiableSerializerTest {
+
+    private static final DittoHeaders DITTO_HEADERS = DittoHeaders.newBuilder()
+            .authorizationSubjects("authSubject")
+            .correlationId("correlationId")
+            .schemaVersion(JsonSchemaVersion.LATEST)
+            .build();
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto.test", "myThing");
+
+    private static final Thing THING = Thing.newBuilder()
+            .setId(THING_ID)
+            .setAttribute(JsonPointer.of("manufacturer"), JsonValue.of("ACME"))
+            .setAttribute(JsonPointer.of("temperature"), JsonValue.of(21.0))
+            .setAttribute(JsonPointer.of("serial"), JsonValue.of(1234567890123L))
+            .setFeatureProperty("lamp", JsonPointer.of("on"), JsonValue.of(true))
+            .build();
+
+    private ActorSystem actorSystem;
+    private CborJsonifiableSerializer underTest;
+    private JsonifiableSerializer jsonSerializer;
+
+    @Before
+    public void setUp() {
+        final String mappingStrategy = JsonifiableSerializerTest.ThingCommandsStrategy.class.getName();
+        actorSystem = ActorSystem.create("test", ConfigFactory.empty()
+                .withValue("ditto.mapping-strategy.implementation", ConfigValueFactory.fromAnyRef(mappingStrategy)));
+        underTest = new CborJsonifiableSerializer((ExtendedActorSystem) actorSystem);
+        jsonSerializer = new JsonifiableSerializer((ExtendedActorSystem) actorSystem);
+    }
+
+    @After
+    public void tearDown() {
+        if (null != actorSystem) {
+            actorSystem.terminate();
+        }
+    }
+
+    @Test
+    public void identifierDiffersFromJsonSerializer() {
+        assertThat(underTest.identifier()).isNotEqualTo(jsonSerializer.identifier());
+    }
+
+    @Test
+    public void thingCommandSerializationWorksAsExpected() {
+        final CreateThing createThing = CreateThing.of(THING, null, DITTO_HEADERS);
+
+        final Object deserialized = roundTrip(createThing);
+
+        assertThat(deserialized)
+                .isInstanceOf(CreateThing.class)
+                .isEqualTo(createThing);
+        assertThat(((CreateThing) deserialized).getThing().toJsonString()).isEqualTo(THING.toJsonString());
+    }
+
+    @Test
+    public void thingCommandResponseSerializationWorksAsExpected() {
+        final ModifyAttributeResponse response =
+                ModifyAttributeResponse.modified(THING_ID, JsonPointer.of("manufacturer"), DITTO_HEADERS);
+
+        assertThat(roundTrip(response)).isEqualTo(response);
+    }
+
+    @Test
+    public void dittoRuntimeExceptionSerializationWorksAsExpected() {
+        final ThingNotAccessibleException exception = ThingNotAccessibleException.newBuilder(THING_ID)
+                .dittoHeaders(DITTO_HEADERS)
+                .build();
+
+        assertThat(roundTrip(exception)).isEqualTo(exception);
+    }
+
+    @Test
+    public void serializedFormIsSmallerThanJson() {
+        final CreateThing createThing = CreateThing.of(THING, null, DITTO_HEADERS);
+
+        assertThat(underTest.toBinary(createThing).length)
+                .isLessThan(jsonSerializer.toBinary(createThing).length);
+    }
+
+    @Test
+    public void jsonBytesAreNotSerializable() {
+        final CreateThing createThing = CreateThing.of(THING, null, DITTO_HEADERS);
+        final byte[] jsonBytes = jsonSerializer.toBinary(createThing);
+
+        assertThat(underTest.fromBinary(jsonBytes, underTest.manifest(createThing)))
+                .isInstanceOf(NotSerializableException.class);
+    }
+
+    private Object roundTrip(final Object object) {
+        final byte[] serialized = underTest.toBinary(object);
+        return underTest.fromBinary(serialized, underTest.manifest(object));
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonParsableCommand;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.base.AbstractAnnotationBasedJsonParsableFactory;
+import org.eclipse.ditto.signals.base.AbstractGlobalJsonParsableRegistry;
+import org.eclipse.ditto.signals.base.GlobalErrorRegistry;
+import org.eclipse.ditto.signals.base.JsonParsableRegistry;
+import org.eclipse.ditto.signals.commands.base.Command;
+import org.eclipse.ditto.signals.commands.base.GlobalCommandRegistry;
+import org.eclipse.ditto.signals.commands.base.GlobalCommandResponseRegistry;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyFeatureProperty;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyFeaturePropertyResponse;
+import org.eclipse.ditto.signals.events.base.GlobalEventRegistry;
+import org.eclipse.ditto.signals.events.things.FeaturePropertyModified;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the global registries which deserialize signals on each cluster hop: parsing a command, a command
+ * response, an event and an error, and building a registry from all classes annotated with
+ * {@link JsonParsableCommand} as done at service startup.
+ */
+public class GlobalJsonParsableRegistryBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ParseState {
+
+        @Param({"ModifyFeatureProperty", "ModifyFeaturePropertyResponse", "FeaturePropertyModified",
+                "ThingNotAccessibleException"})
+        public String signalType;
+
+        private JsonParsableRegistry<?> registry;
+        private JsonObject signalJson;
+        private DittoHeaders dittoHeaders;
+
+        @Setup
+        public void setUp() {
+            final ThingId thingId = ThingId.of("org.eclipse.ditto", "sensor-4711");
+            final JsonPointer propertyPointer = JsonPointer.of("value");
+            dittoHeaders = DittoHeaders.newBuilder()
+                    .correlationId("8c7a5e6b-3b0c-4f5e-a1d9-3c2b1a0f9e8d")
+                    .build();
+            final Jsonifiable<?> signal;
+            switch (signalType) {
+                case "ModifyFeatureProperty":
+                    registry = GlobalCommandRegistry.getInstance();
+                    signal = ModifyFeatureProperty.of(thingId, "temperature", propertyPointer, JsonValue.of(23.5),
+                            dittoHeaders);
+                    break;
+                case "ModifyFeaturePropertyResponse":
+                    registry = GlobalCommandResponseRegistry.getInstance();
+                    signal = ModifyFeaturePropertyResponse.modified(thingId, "temperature", propertyPointer,
+                            dittoHeaders);
+                    break;
+                case "FeaturePropertyModified":
+                    registry = GlobalEventRegistry.getInstance();
+                    signal = FeaturePropertyModified.of(thingId, "temperature", propertyPointer, JsonValue.of(23.5),
+                            42L, dittoHeaders);
+                    break;
+                case "ThingNotAccessibleException":
+                    registry = GlobalErrorRegistry.getInstance();
+                    signal = ThingNotAccessibleException.newBuilder(thingId).dittoHeaders(dittoHeaders).build();
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown signal type: " + signalType);
+            }
+            signalJson = (JsonObject) signal.toJson();
+        }
+
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+    public Object parse(final ParseState state) {
+        return state.registry.parse(state.signalJson, state.dittoHeaders);
+    }
+
+    /**
+     * Builds a registry of all commands on the class path once per iteration. The first iteration of each fork
+     * corresponds to the startup of a service.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 10)
+    public JsonParsableRegistry<Command> createCommandRegistry() {
+        return new CommandRegistry();
+    }
+
+    private static final class CommandRegistry
+            extends AbstractGlobalJsonParsableRegistry<Command, JsonParsableCommand> {
+
+        private CommandRegistry() {
+            super(Command.class, JsonParsableCommand.class, new CommandParsingStrategyFactory());
+        }
+
+        @Override
+        protected String resolveType(final JsonObject jsonObject) {
+            return jsonObject.getValueOrThrow(Command.JsonFields.TYPE);
+        }
+
+    }
+
+    private static final class CommandParsingStrategyFactory
+            extends AbstractAnnotationBasedJsonParsableFactory<Command, JsonParsableCommand> {
+
+        @Override
+        protected String getV1FallbackKeyFor(final JsonParsableCommand annotation) {
+            return annotation.name();
+        }
+
+        @Override
+        protected String getKeyFor(final JsonParsableCommand annotation) {
+            return annotation.typePrefix() + annotation.name();
+        }
+
+        @Override
+        protected String getMethodNameFor(final JsonParsableCommand annotation) {
+            return annotation.method();
+        }
+
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyFeatureProperty;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+
+/**
+ * Compares throughput and serialized size of {@link JsonifiableSerializer} and {@link CborJsonifiableSerializer}
+ * for typical signals. The serialized sizes are printed during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class JsonifiableSerializerBenchmark {
+
+    @Param({"CreateThing", "ModifyFeatureProperty", "RetrieveThingResponse", "ThingNotAccessibleException"})
+    public String signalType;
+
+    private ActorSystem actorSystem;
+    private JsonifiableSerializer jsonSerializer;
+    private CborJsonifiableSerializer cborSerializer;
+    private Object signal;
+    private String manifest;
+    private byte[] jsonBytes;
+    private byte[] cborBytes;
+
+    @Setup
+    public void setUp() {
+        final String mappingStrategy = JsonifiableSerializerTest.ThingCommandsStrategy.class.getName();
+        actorSystem = ActorSystem.create("benchmark", ConfigFactory.empty()
+                .withValue("ditto.mapping-strategy.implementation", ConfigValueFactory.fromAnyRef(mappingStrategy)));
+        jsonSerializer = new JsonifiableSerializer((ExtendedActorSystem) actorSystem);
+        cborSerializer = new CborJsonifiableSerializer((ExtendedActorSystem) actorSystem);
+
+        signal = createSignal(signalType);
+        manifest = jsonSerializer.manifest(signal);
+        jsonBytes = jsonSerializer.toBinary(signal);
+        cborBytes = cborSerializer.toBinary(signal);
+        System.out.printf("%n%s: JSON %d bytes, CBOR %d bytes%n", signalType, jsonBytes.length, cborBytes.length);
+    }
+
+    @TearDown
+    public void tearDown() {
+        actorSystem.terminate();
+    }
+
+    @Benchmark
+    public byte[] serializeJson() {
+        return jsonSerializer.toBinary(signal);
+    }
+
+    @Benchmark
+    public byte[] serializeCbor() {
+        return cborSerializer.toBinary(signal);
+    }
+
+    @Benchmark
+    public Object deserializeJson() {
+        return jsonSerializer.fromBinary(jsonBytes, manifest);
+    }
+
+    @Benchmark
+    public Object deserializeCbor() {
+        return cborSerializer.fromBinary(cborBytes, manifest);
+    }
+
+    private static Object createSignal(final String signalType) {
+        final ThingId thingId = ThingId.of("org.eclipse.ditto", "sensor-4711");
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .correlationId("8c7a5e6b-3b0c-4f5e-a1d9-3c2b1a0f9e8d")
+                .authorizationSubjects("integration:my-solution:my-connection", "nginx:ditto")
+                .readSubjects(Arrays.asList("integration:my-solution:my-connection", "nginx:ditto"))
+                .schemaVersion(JsonSchemaVersion.V_2)
+                .build();
+        final Thing thing = Thing.newBuilder()
+                .setId(thingId)
+                .setRevision(42L)
+                .setAttribute(JsonPointer.of("manufacturer"), JsonValue.of("ACME"))
+                .setAttribute(JsonPointer.of("location"), JsonFactory.newObject("{\"lat\":52.52,\"lon\":13.405}"))
+                .setAttribute(JsonPointer.of("serial"), JsonValue.of(1234567890123L))
+                .setFeatureProperty("temperature", JsonPointer.of("value"), JsonValue.of(23.25))
+                .setFeatureProperty("temperature", JsonPointer.of("unit"), JsonValue.of("Celsius"))
+                .setFeatureProperty("lamp", JsonPointer.of("on"), JsonValue.of(true))
+                .setFeatureProperty("lamp", JsonPointer.of("history"),
+                        JsonFactory.newArray("[12, 17, 19, 23, 42, 1337, 4711]"))
+                .build();
+        switch (signalType) {
+            case "CreateThing":
+                return CreateThing.of(thing, null, dittoHeaders);
+            case "ModifyFeatureProperty":
+                return ModifyFeatureProperty.of(thingId, "temperature", JsonPointer.of("value"), JsonValue.of(23.5),
+                        dittoHeaders);
+            case "RetrieveThingResponse":
+                return RetrieveThingResponse.of(thingId, thing.toJson(), dittoHeaders);
+            case "ThingNotAccessibleException":
+                return ThingNotAccessibleException.newBuilder(thingId).dittoHeaders(dittoHeaders).build();
+            default:
+                throw new IllegalArgumentException("Unknown signal type: " + signalType);
+        }
+    }
+
+}
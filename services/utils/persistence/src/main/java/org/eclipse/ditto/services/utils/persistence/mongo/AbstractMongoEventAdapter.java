@@ -67,7 +67,7 @@ public abstract class AbstractMongoEventAdapter<T extends Event> implements Even
             final JsonSchemaVersion schemaVersion = theEvent.getImplementedSchemaVersion();
             final JsonObject jsonObject =
                     theEvent.toJson(schemaVersion, IS_REVISION.negate().and(FieldType.regularOrSpecial()));
-            return DittoBsonJson.getInstance().parse(jsonObject);
+            return DittoBsonJson.getInstance().encode(jsonObject);
         } else {
             throw new IllegalArgumentException("Unable to toJournal a non-'Event' object! Was: " + event.getClass());
         }
@@ -76,7 +76,7 @@ public abstract class AbstractMongoEventAdapter<T extends Event> implements Even
     @Override
     public EventSeq fromJournal(final Object event, final String manifest) {
         if (event instanceof BsonValue) {
-            return EventSeq.single(tryParseEvent(DittoBsonJson.getInstance().serialize((BsonValue) event)));
+            return EventSeq.single(tryParseEvent(DittoBsonJson.getInstance().decode((BsonValue) event)));
         } else {
             throw new IllegalArgumentException(
                     "Unable to fromJournal a non-'BsonValue' object! Was: " + event.getClass());
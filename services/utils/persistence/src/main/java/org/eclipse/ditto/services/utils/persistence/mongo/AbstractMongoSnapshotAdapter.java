@@ -55,7 +55,7 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
         onSnapshotStoreConversion(snapshotEntity, json);
 
         final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-        return dittoBsonJson.parse(json);
+        return dittoBsonJson.encode(json);
     }
 
     /**
@@ -125,7 +125,7 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
     private static JsonObject convertToJson(final BsonValue bsonValue) {
         checkNotNull(bsonValue, "BsonValue to be converted");
         final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-        final JsonObject jsonObject = dittoBsonJson.serialize(bsonValue).asObject();
+        final JsonObject jsonObject = dittoBsonJson.decode(bsonValue).asObject();
         return DittoJsonException.wrapJsonRuntimeException(() -> jsonObject);
     }
 
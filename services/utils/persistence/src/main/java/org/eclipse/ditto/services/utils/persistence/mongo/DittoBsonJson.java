@@ -20,6 +20,8 @@ import java.util.function.Function;
 import org.bson.BsonArray;
 import org.bson.BsonDocument;
 import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
@@ -28,6 +30,8 @@ import org.eclipse.ditto.json.JsonValue;
  * This is a specialized MongoDB BSON converter which additionally takes care that in JSON keys dots "." and dollar
  * signs "$" are replaced with their unicode representations in the {@link #parse(JsonObject)} {@link #parse(JsonArray)}
  * function and vice versa in the {@link #serialize(BsonValue)} function.
+ * The functions {@link #encode(JsonObject)} and {@link #decode(BsonDocument)} apply the same replacements while
+ * streaming JSON objects to and from BSON without building a tree of BSON values in between.
  */
 public final class DittoBsonJson {
 
@@ -37,6 +41,7 @@ public final class DittoBsonJson {
     private final Function<JsonArray, BsonArray> jsonArrayToBsonArrayMapper;
     private final Function<BsonDocument, JsonObject> bsonDocumentToJsonObjectMapper;
     private final Function<BsonArray, JsonArray> bsonArrayToJsonObjectMapper;
+    private final JsonObjectBsonCodec jsonObjectBsonCodec;
 
     /*
      * Inhibit instantiation of this utility class.
@@ -44,12 +49,14 @@ public final class DittoBsonJson {
     private DittoBsonJson(final Function<JsonObject, BsonDocument> jsonObjectToBsonDocumentMapper,
             final Function<JsonArray, BsonArray> jsonArrayToBsonArrayMapper,
             final Function<BsonDocument, JsonObject> bsonDocumentToJsonObjectMapper,
-            final Function<BsonArray, JsonArray> bsonArrayToJsonObjectMapper) {
+            final Function<BsonArray, JsonArray> bsonArrayToJsonObjectMapper,
+            final JsonObjectBsonCodec jsonObjectBsonCodec) {
 
         this.jsonObjectToBsonDocumentMapper = jsonObjectToBsonDocumentMapper;
         this.jsonArrayToBsonArrayMapper = jsonArrayToBsonArrayMapper;
         this.bsonDocumentToJsonObjectMapper = bsonDocumentToJsonObjectMapper;
         this.bsonArrayToJsonObjectMapper = bsonArrayToJsonObjectMapper;
+        this.jsonObjectBsonCodec = jsonObjectBsonCodec;
     }
 
     /**
@@ -69,7 +76,8 @@ public final class DittoBsonJson {
                 JsonValueToDbEntityMapper.forJsonObject(jsonToMongoDbKeyNameReviser),
                 JsonValueToDbEntityMapper.forJsonArray(jsonToMongoDbKeyNameReviser),
                 BsonDocumentToJsonObjectMapper.getInstance(jsonKeyNameReviser),
-                BsonArrayToJsonObjectMapper.getInstance(jsonKeyNameReviser));
+                BsonArrayToJsonObjectMapper.getInstance(jsonKeyNameReviser),
+                JsonObjectBsonCodec.getInstance(jsonToMongoDbKeyNameReviser, jsonKeyNameReviser));
     }
 
     /**
@@ -139,5 +147,50 @@ public final class DittoBsonJson {
         return jsonArrayToBsonArrayMapper.apply(jsonArray);
     }
 
-}
+    /**
+     * Encodes the specified {@link JsonObject} into a {@link BsonDocument} which is backed by its encoded bytes,
+     * applying replacement of "special" characters {@code "$"} and {@code "."}. In contrast to
+     * {@link #parse(JsonObject)}, the JSON object is streamed to BSON without building a tree of BSON values.
+     *
+     * @param jsonObject the JSON object to be encoded.
+     * @return the encoded JSON object as immutable BsonDocument.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     */
+    public BsonDocument encode(final JsonObject jsonObject) {
+        return jsonObjectBsonCodec.toRawBsonDocument(jsonObject);
+    }
+
+    /**
+     * Decodes the specified {@link BsonValue} to Json, applying replacement of "special" characters {@code "$"} and
+     * {@code "."}. Documents are streamed by {@link #decode(BsonDocument)}, arrays are serialized.
+     *
+     * @param bsonValue the BsonValue to be decoded.
+     * @return the BsonValue decoded as JsonValue.
+     * @throws NullPointerException if {@code bsonValue} is {@code null}.
+     * @throws IllegalArgumentException if {@code bsonValue} is not an instance of {@link BsonDocument} or {@link
+     * BsonArray}.
+     */
+    public JsonValue decode(final BsonValue bsonValue) {
+        checkNotNull(bsonValue, "BsonValue to be decoded");
+        if (bsonValue instanceof BsonDocument) {
+            return decode((BsonDocument) bsonValue);
+        } else {
+            return serialize(bsonValue);
+        }
+    }
+
+    /**
+     * Decodes the specified {@link BsonDocument} to Json, applying replacement of "special" characters {@code "$"}
+     * and {@code "."}. In contrast to {@link #serialize(BsonDocument)}, the document is read by a
+     * {@link org.bson.BsonReader}, which streams the bytes of a {@link RawBsonDocument}.
+     *
+     * @param bsonDocument the BsonDocument to be decoded.
+     * @return the BsonDocument decoded as JsonObject.
+     * @throws NullPointerException if {@code bsonDocument} is {@code null}.
+     */
+    public JsonObject decode(final BsonDocument bsonDocument) {
+        checkNotNull(bsonDocument, "BsonDocument to be decoded");
+        return jsonObjectBsonCodec.decode(bsonDocument.asBsonReader(), DecoderContext.builder().build());
+    }
 
+}
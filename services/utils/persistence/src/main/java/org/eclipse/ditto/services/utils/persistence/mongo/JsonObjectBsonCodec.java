@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.time.Instant;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * This codec streams a {@link JsonObject} to a {@link BsonWriter} and reads it back from a {@link BsonReader} without
+ * building an intermediate {@link org.bson.BsonDocument}. It maps values like {@link JsonValueToDbEntityMapper} and
+ * {@link AbstractBasicDBMapper} do; the keys of all JSON objects are revised by the configured functions when writing
+ * and when reading.
+ */
+@Immutable
+final class JsonObjectBsonCodec implements Codec<JsonObject> {
+
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    private final Function<String, String> bsonKeyNameReviser;
+    private final Function<String, String> jsonKeyNameReviser;
+
+    private JsonObjectBsonCodec(final Function<String, String> bsonKeyNameReviser,
+            final Function<String, String> jsonKeyNameReviser) {
+
+        this.bsonKeyNameReviser = checkNotNull(bsonKeyNameReviser, "BSON key name reviser");
+        this.jsonKeyNameReviser = checkNotNull(jsonKeyNameReviser, "JSON key name reviser");
+    }
+
+    /**
+     * Returns an instance of {@code JsonObjectBsonCodec}.
+     *
+     * @param bsonKeyNameReviser is used to revise the key names of JSON objects when writing them as BSON.
+     * @param jsonKeyNameReviser is used to revise the key names of BSON documents when reading them as JSON.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    static JsonObjectBsonCodec getInstance(final Function<String, String> bsonKeyNameReviser,
+            final Function<String, String> jsonKeyNameReviser) {
+
+        return new JsonObjectBsonCodec(bsonKeyNameReviser, jsonKeyNameReviser);
+    }
+
+    /**
+     * Writes the specified JSON object into a {@link RawBsonDocument} which is backed by the encoded bytes.
+     *
+     * @param jsonObject the JSON object to be written.
+     * @return the raw BSON document.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     */
+    RawBsonDocument toRawBsonDocument(final JsonObject jsonObject) {
+        checkNotNull(jsonObject, "JSON object to be written");
+        final BasicOutputBuffer buffer = new BasicOutputBuffer(INITIAL_BUFFER_SIZE);
+        try (final BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            writeObject(writer, jsonObject);
+        }
+        return new RawBsonDocument(buffer.getInternalBuffer(), 0, buffer.getPosition());
+    }
+
+    @Override
+    public void encode(final BsonWriter writer, final JsonObject jsonObject, final EncoderContext encoderContext) {
+        writeObject(writer, checkNotNull(jsonObject, "JSON object to be written"));
+    }
+
+    @Override
+    public JsonObject decode(final BsonReader reader, final DecoderContext decoderContext) {
+        return readObject(reader);
+    }
+
+    @Override
+    public Class<JsonObject> getEncoderClass() {
+        return JsonObject.class;
+    }
+
+    private void writeObject(final BsonWriter writer, final JsonObject jsonObject) {
+        writer.writeStartDocument();
+        jsonObject.forEach(jsonField -> {
+            writer.writeName(bsonKeyNameReviser.apply(jsonField.getKeyName()));
+            writeValue(writer, jsonField.getValue());
+        });
+        writer.writeEndDocument();
+    }
+
+    private void writeArray(final BsonWriter writer, final JsonArray jsonArray) {
+        writer.writeStartArray();
+        jsonArray.forEach(jsonValue -> writeValue(writer, jsonValue));
+        writer.writeEndArray();
+    }
+
+    private void writeValue(final BsonWriter writer, final JsonValue jsonValue) {
+        // check for null first: null objects and null arrays are objects and arrays as well
+        if (jsonValue.isNull()) {
+            writer.writeNull();
+        } else if (jsonValue.isString()) {
+            writer.writeString(jsonValue.asString());
+        } else if (jsonValue.isNumber()) {
+            writeNumber(writer, jsonValue);
+        } else if (jsonValue.isObject()) {
+            writeObject(writer, jsonValue.asObject());
+        } else if (jsonValue.isArray()) {
+            writeArray(writer, jsonValue.asArray());
+        } else if (jsonValue.isBoolean()) {
+            writer.writeBoolean(jsonValue.asBoolean());
+        } else {
+            writer.writeNull();
+        }
+    }
+
+    private static void writeNumber(final BsonWriter writer, final JsonValue jsonNumberValue) {
+        if (jsonNumberValue.isInt()) {
+            writer.writeInt32(jsonNumberValue.asInt());
+        } else if (jsonNumberValue.isLong()) {
+            writer.writeInt64(jsonNumberValue.asLong());
+        } else {
+            writer.writeDouble(jsonNumberValue.asDouble());
+        }
+    }
+
+    private JsonObject readObject(final BsonReader reader) {
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            final String keyName = jsonKeyNameReviser.apply(reader.readName());
+            builder.set(JsonFactory.newField(JsonFactory.newKey(keyName), readValue(reader)));
+        }
+        reader.readEndDocument();
+        return builder.build();
+    }
+
+    private JsonArray readArray(final BsonReader reader) {
+        final JsonArrayBuilder builder = JsonFactory.newArrayBuilder();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            builder.add(readValue(reader));
+        }
+        reader.readEndArray();
+        return builder.build();
+    }
+
+    private JsonValue readValue(final BsonReader reader) {
+        final JsonValue result;
+        switch (reader.getCurrentBsonType()) {
+            case STRING:
+                result = JsonFactory.newValue(reader.readString());
+                break;
+            case INT32:
+                result = JsonFactory.newValue(reader.readInt32());
+                break;
+            case INT64:
+                result = JsonFactory.newValue(reader.readInt64());
+                break;
+            case DOUBLE:
+                result = JsonFactory.newValue(reader.readDouble());
+                break;
+            case DOCUMENT:
+                result = readObject(reader);
+                break;
+            case ARRAY:
+                result = readArray(reader);
+                break;
+            case BOOLEAN:
+                result = JsonFactory.newValue(reader.readBoolean());
+                break;
+            case TIMESTAMP:
+                result = JsonFactory.newValue(Instant.ofEpochSecond(reader.readTimestamp().getTime()).toString());
+                break;
+            case NULL:
+                reader.readNull();
+                result = JsonFactory.nullLiteral();
+                break;
+            default:
+                reader.skipValue();
+                result = JsonFactory.nullLiteral();
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for batching the persistence of entity events.
+ */
+@Immutable
+public interface EventBatchConfig {
+
+    /**
+     * Indicates whether events of commands arriving while a write is in flight should be persisted together in
+     * one batch.
+     *
+     * @return {@code true} if event batching is enabled, {@code false} else.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the maximum number of events to persist in one batch.
+     *
+     * @return the maximum batch size.
+     */
+    int getMaxSize();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code EventBatchConfig}.
+     */
+    enum EventBatchConfigValue implements KnownConfigValue {
+
+        /**
+         * Determines whether event batching is enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The maximum number of events to persist in one batch.
+         */
+        MAX_SIZE("max-size", 100);
+
+        private final String path;
+        private final Object defaultValue;
+
+        EventBatchConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import org.bson.BsonDocument;
 import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 import org.json.JSONException;
 import org.junit.Before;
@@ -50,6 +51,17 @@ public final class DittoBsonJsonTest {
     private static final String JSON_NESTED_WITH_UNICODE_DOTS_INKEYS = "{ \"foo\": {" +
             "\"org．eclipse．ditto\": 42" +
             "}}";
+
+    private static final String JSON_WITH_ALL_TYPES = "{" +
+            "\"string\": \"foo\"," +
+            "\"int\": 42," +
+            "\"long\": 1234567890123," +
+            "\"double\": 23.5," +
+            "\"boolean\": true," +
+            "\"null\": null," +
+            "\"array\": [1, \"two\", {\"$three\": 3}, [4]]," +
+            "\"org.eclipse.ditto\": {\"$nested.key\": {}}" +
+            "}";
     
     private DittoBsonJson underTest;
 
@@ -146,4 +158,71 @@ public final class DittoBsonJsonTest {
         assertThat(parsed).isEqualTo(expected);
     }
 
+    @Test
+    public void encodeIsEqualToParse() {
+        final JsonObject jsonObject = JsonFactory.newObject(JSON_WITH_ALL_TYPES);
+
+        final BsonDocument encoded = underTest.encode(jsonObject);
+
+        assertThat(encoded).isEqualTo(underTest.parse(jsonObject));
+    }
+
+    @Test
+    public void encodeJsonNestedWithDotsInKeys() {
+        final BsonDocument expected = BsonDocument.parse(JSON_NESTED_WITH_UNICODE_DOTS_INKEYS);
+        final BsonDocument encoded = underTest.encode(JsonFactory.newObject(JSON_NESTED_WITH_DOTS_INKEYS));
+
+        assertThat(encoded).isEqualTo(expected);
+    }
+
+    @Test
+    public void decodeIsEqualToSerialize() {
+        final BsonDocument bsonDocument = underTest.parse(JsonFactory.newObject(JSON_WITH_ALL_TYPES));
+
+        final JsonObject decoded = underTest.decode(bsonDocument);
+
+        assertThat(decoded).isEqualTo(underTest.serialize(bsonDocument));
+    }
+
+    @Test
+    public void decodeJsonNestedWithUnicodeDotsInKeys() throws JSONException {
+        final BsonDocument parse = BsonDocument.parse(JSON_NESTED_WITH_UNICODE_DOTS_INKEYS);
+        final JsonValue decoded = underTest.decode(parse);
+
+        JSONAssert.assertEquals(JSON_NESTED_WITH_DOTS_INKEYS, decoded.toString(), true);
+    }
+
+    @Test
+    public void encodeAndDecodeRoundtrip() {
+        final JsonObject jsonObject = JsonFactory.newObject(JSON_WITH_ALL_TYPES);
+
+        assertThat(underTest.decode(underTest.encode(jsonObject))).isEqualTo(jsonObject);
+    }
+
+    @Test
+    public void encodeAndDecodeThingWithNullEntities() {
+        final JsonObject thingWithNullEntities = JsonFactory.newObjectBuilder()
+                .set("thingId", "org.eclipse.ditto:thing")
+                .set("attributes", JsonFactory.nullObject())
+                .set("features", JsonFactory.newObjectBuilder()
+                        .set("nullFeature", JsonFactory.nullObject())
+                        .set("featureWithNullProperties", JsonFactory.newObjectBuilder()
+                                .set("properties", JsonFactory.nullObject())
+                                .build())
+                        .build())
+                .set("nullArray", JsonFactory.nullArray())
+                .build();
+
+        final BsonDocument encoded = underTest.encode(thingWithNullEntities);
+        final JsonObject decoded = underTest.decode(encoded);
+
+        assertThat(encoded).isEqualTo(underTest.parse(thingWithNullEntities));
+        assertThat(encoded.isNull("attributes")).isTrue();
+        assertThat(decoded.getValue("attributes")).contains(JsonFactory.nullLiteral());
+        assertThat(decoded.getValue("features/nullFeature")).contains(JsonFactory.nullLiteral());
+        assertThat(decoded.getValue("features/featureWithNullProperties/properties"))
+                .contains(JsonFactory.nullLiteral());
+        assertThat(decoded.getValue("nullArray")).contains(JsonFactory.nullLiteral());
+    }
+
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultEventBatchConfig}.
+ */
+public final class DefaultEventBatchConfigTest {
+
+    private static Config eventBatchTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        eventBatchTestConf = ConfigFactory.load("event-batch-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultEventBatchConfig.class,
+                areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultEventBatchConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultEventBatchConfig underTest = DefaultEventBatchConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(EventBatchConfig.EventBatchConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(EventBatchConfig.EventBatchConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getMaxSize())
+                .as(EventBatchConfig.EventBatchConfigValue.MAX_SIZE.getConfigPath())
+                .isEqualTo(EventBatchConfig.EventBatchConfigValue.MAX_SIZE.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultEventBatchConfig underTest = DefaultEventBatchConfig.of(eventBatchTestConf);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(EventBatchConfig.EventBatchConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getMaxSize())
+                .as(EventBatchConfig.EventBatchConfigValue.MAX_SIZE.getConfigPath())
+                .isEqualTo(42);
+    }
+}
@@ -13,6 +13,10 @@
 package org.eclipse.ditto.services.utils.persistentactors;
 
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -27,6 +31,7 @@ import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.EventBatchConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.services.utils.persistentactors.commands.CommandStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
@@ -86,6 +91,16 @@ public abstract class AbstractShardedPersistenceActor<
 
     private long accessCounter = 0L;
 
+    /*
+     * State of event batching: events applied to the entity but not yet handed to the journal, replies waiting for
+     * the confirmation of events, the number of events applied to the entity but not yet confirmed by the journal
+     * and whether a batch is being written.
+     */
+    private final Deque<E> pendingEvents;
+    private final Deque<PendingReply> pendingReplies;
+    private long unconfirmedEvents;
+    private boolean batchInFlight;
+
     /**
      * Instantiate the actor.
      *
@@ -101,6 +116,11 @@ public abstract class AbstractShardedPersistenceActor<
         lastSnapshotRevision = 0L;
         confirmedSnapshotRevision = 0L;
 
+        pendingEvents = new ArrayDeque<>();
+        pendingReplies = new ArrayDeque<>();
+        unconfirmedEvents = 0L;
+        batchInFlight = false;
+
         handleEvents = ReceiveBuilder.create()
                 .match(getEventClass(), event -> entity = getEventStrategy().handle(event, entity, getRevisionNumber()))
                 .build();
@@ -152,6 +172,11 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected abstract SnapshotConfig getSnapshotConfig();
 
+    /**
+     * @return configuration for batching the persistence of events.
+     */
+    protected abstract EventBatchConfig getEventBatchConfig();
+
     /**
      * Check if the entity exists and is deleted. This is a sufficient condition to make a snapshot before stopping.
      *
@@ -164,6 +189,11 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected abstract DittoRuntimeExceptionBuilder newNotAccessibleExceptionBuilder();
 
+    /**
+     * @return An exception builder to respond to commands whose events could not be persisted.
+     */
+    protected abstract DittoRuntimeExceptionBuilder newUnavailableExceptionBuilder();
+
     /**
      * Publish an event.
      *
@@ -211,6 +241,7 @@ public abstract class AbstractShardedPersistenceActor<
     @Override
     public void postStop() throws Exception {
         log.debug("Stopping PersistenceActor for entity with ID <{}>.", entityId);
+        failPendingReplies();
         super.postStop();
     }
 
@@ -224,6 +255,17 @@ public abstract class AbstractShardedPersistenceActor<
         log.error(cause, "Recovery Failure for entity with ID <{}>", entityId);
     }
 
+    @Override
+    public void onPersistRejected(final Throwable cause, final Object event, final long seqNr) {
+        super.onPersistRejected(cause, event, seqNr);
+        if (unconfirmedEvents > 0) {
+            // the entity contains events which will never be persisted; restart to recover it from the journal
+            log.error("Stopping entity with ID <{}> due to <{}> unconfirmed events.", entityId, unconfirmedEvents);
+            failPendingReplies();
+            getContext().stop(getSelf());
+        }
+    }
+
     @Override
     public Receive createReceiveRecover() {
         // defines how state is updated during recovery
@@ -283,20 +325,15 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected void persistAndApplyEvent(final E event, final BiConsumer<E, S> handler) {
 
-        final E modifiedEvent;
-        if (null != entity) {
-            // set version of event to the version of the entity
-            final DittoHeaders newHeaders = event.getDittoHeaders().toBuilder()
-                    .schemaVersion(getEntitySchemaVersion(entity))
-                    .build();
-            modifiedEvent = (E) event.setDittoHeaders(newHeaders);
-        } else {
-            modifiedEvent = event;
-        }
+        final E modifiedEvent = setEntitySchemaVersion(event);
 
         if (modifiedEvent.getDittoHeaders().isDryRun()) {
             handler.accept(modifiedEvent, entity);
         } else {
+            // events of batched commands precede this event in the journal
+            while (!pendingEvents.isEmpty()) {
+                persistPendingEvents();
+            }
             persistEvent(modifiedEvent, persistedEvent -> {
                 // after the event was persisted, apply the event on the current actor state
                 applyEvent(persistedEvent);
@@ -391,7 +428,7 @@ public abstract class AbstractShardedPersistenceActor<
         try {
             result = strategy.apply(getStrategyContext(), entity, getNextRevisionNumber(), command);
         } catch (final DittoRuntimeException e) {
-            getSender().tell(e, getSelf());
+            replyAfterUnconfirmedEvents(getSender(), e);
             return;
         }
         result.accept(this);
@@ -401,29 +438,134 @@ public abstract class AbstractShardedPersistenceActor<
     public void onMutation(final Command command, final E event, final WithDittoHeaders response,
             final boolean becomeCreated, final boolean becomeDeleted) {
 
-        persistAndApplyEvent(event, (persistedEvent, resultingEntity) -> {
-            notifySender(response);
-            if (becomeDeleted) {
-                becomeDeletedHandler();
-            }
-            if (becomeCreated) {
-                becomeCreatedHandler();
-            }
-        });
+        if (getEventBatchConfig().isEnabled()) {
+            applyAndBatchEvent(event, response, becomeCreated, becomeDeleted);
+        } else {
+            persistAndApplyEvent(event, (persistedEvent, resultingEntity) -> {
+                notifySender(response);
+                if (becomeDeleted) {
+                    becomeDeletedHandler();
+                }
+                if (becomeCreated) {
+                    becomeCreatedHandler();
+                }
+            });
+        }
     }
 
     @Override
     public void onQuery(final Command command, final WithDittoHeaders response) {
-        notifySender(response);
+        replyAfterUnconfirmedEvents(getSender(), response);
     }
 
     @Override
     public void onError(final DittoRuntimeException error) {
-        notifySender(error);
+        replyAfterUnconfirmedEvents(getSender(), error);
     }
 
     private long getNextRevisionNumber() {
-        return getRevisionNumber() + 1;
+        return getRevisionNumber() + unconfirmedEvents + 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E setEntitySchemaVersion(final E event) {
+        if (null != entity) {
+            // set version of event to the version of the entity
+            final DittoHeaders newHeaders = event.getDittoHeaders().toBuilder()
+                    .schemaVersion(getEntitySchemaVersion(entity))
+                    .build();
+            return (E) event.setDittoHeaders(newHeaders);
+        } else {
+            return event;
+        }
+    }
+
+    /*
+     * Apply the event to the entity right away so that subsequent commands are handled against the resulting state,
+     * write it in the next batch and reply once it is confirmed by the journal.
+     */
+    private void applyAndBatchEvent(final E event, final WithDittoHeaders response, final boolean becomeCreated,
+            final boolean becomeDeleted) {
+
+        final E modifiedEvent = setEntitySchemaVersion(event);
+        if (!modifiedEvent.getDittoHeaders().isDryRun()) {
+            entity = getEventStrategy().handle(modifiedEvent, entity, getNextRevisionNumber());
+            pendingEvents.add(modifiedEvent);
+            ++unconfirmedEvents;
+        }
+        replyAfterUnconfirmedEvents(getSender(), response);
+        if (becomeDeleted) {
+            becomeDeletedHandler();
+        }
+        if (becomeCreated) {
+            becomeCreatedHandler();
+        }
+        if (!batchInFlight) {
+            persistPendingEvents();
+        }
+    }
+
+    private void persistPendingEvents() {
+        if (!pendingEvents.isEmpty()) {
+            final int maxSize = getEventBatchConfig().getMaxSize();
+            final List<E> batch = new ArrayList<>(Math.min(maxSize, pendingEvents.size()));
+            while (batch.size() < maxSize && !pendingEvents.isEmpty()) {
+                batch.add(pendingEvents.poll());
+            }
+            log.debug("Persisting batch of <{}> events.", batch.size());
+            batchInFlight = true;
+            persistAllAsync(batch, this::batchedEventPersisted);
+            deferAsync(Control.BATCH_PERSISTED, this::batchPersisted);
+        }
+    }
+
+    private void batchedEventPersisted(final E event) {
+        LogUtil.enhanceLogWithCorrelationId(log, event.getDittoHeaders().getCorrelationId());
+        log.info("Successfully persisted Event <{}>.", event.getType());
+        --unconfirmedEvents;
+        publishEvent(event);
+        sendRepliesUpTo(getRevisionNumber());
+    }
+
+    private void batchPersisted(final Control batchPersisted) {
+        batchInFlight = false;
+        if (snapshotThresholdPassed()) {
+            takeSnapshot("snapshot threshold is reached");
+        }
+        persistPendingEvents();
+    }
+
+    private void replyAfterUnconfirmedEvents(final ActorRef sender, final WithDittoHeaders message) {
+        if (0 == unconfirmedEvents) {
+            notifySender(sender, message);
+        } else {
+            // the reply was computed from unconfirmed state; send it once that state is persisted
+            pendingReplies.add(new PendingReply(sender, message, getRevisionNumber() + unconfirmedEvents));
+        }
+    }
+
+    private void sendRepliesUpTo(final long revision) {
+        while (!pendingReplies.isEmpty() && pendingReplies.peek().revision <= revision) {
+            final PendingReply pendingReply = pendingReplies.poll();
+            notifySender(pendingReply.sender, pendingReply.message);
+        }
+    }
+
+    /*
+     * Answer the replies waiting for events which will never be confirmed, e.g. because the journal rejected them or
+     * the actor stops.
+     */
+    private void failPendingReplies() {
+        if (!pendingReplies.isEmpty()) {
+            log.warning("Failing <{}> replies waiting for unconfirmed events of entity with ID <{}>.",
+                    pendingReplies.size(), entityId);
+        }
+        while (!pendingReplies.isEmpty()) {
+            final PendingReply pendingReply = pendingReplies.poll();
+            notifySender(pendingReply.sender, newUnavailableExceptionBuilder()
+                    .dittoHeaders(pendingReply.message.getDittoHeaders())
+                    .build());
+        }
     }
 
     private void persistEvent(final E event, final Consumer<E> handler) {
@@ -449,7 +591,11 @@ public abstract class AbstractShardedPersistenceActor<
 
     private void takeSnapshot(final String reason) {
         final long revision = getRevisionNumber();
-        if (entity != null && lastSnapshotRevision != revision) {
+        if (unconfirmedEvents > 0) {
+            // the entity is ahead of the journal; the snapshot will be taken after the current batch
+            log.debug("Not taking snapshot for entity <{}> with <{}> unconfirmed events even if {}.", entityId,
+                    unconfirmedEvents, reason);
+        } else if (entity != null && lastSnapshotRevision != revision) {
             log.debug("Taking snapshot for entity with ID <{}> and sequence number <{}> because {}.", entityId, revision,
                     reason);
 
@@ -561,8 +707,22 @@ public abstract class AbstractShardedPersistenceActor<
         }
     }
 
+    private static final class PendingReply {
+
+        private final ActorRef sender;
+        private final WithDittoHeaders message;
+        private final long revision;
+
+        private PendingReply(final ActorRef sender, final WithDittoHeaders message, final long revision) {
+            this.sender = sender;
+            this.message = message;
+            this.revision = revision;
+        }
+    }
+
     private enum Control {
-        TAKE_SNAPSHOT
+        TAKE_SNAPSHOT,
+        BATCH_PERSISTED
     }
 
 }
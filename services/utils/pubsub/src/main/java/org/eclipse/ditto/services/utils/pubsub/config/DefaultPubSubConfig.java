@@ -41,6 +41,8 @@ final class DefaultPubSubConfig implements PubSubConfig {
     private final Duration restartDelay;
     private final Duration updateInterval;
     private final double forceUpdateProbability;
+    private final boolean narrowTwinEventTopics;
+    private final int maxNarrowedThingIds;
 
     private DefaultPubSubConfig(final ConfigWithFallback config) {
         seed = config.getString(ConfigValue.SEED.getConfigPath());
@@ -48,6 +50,8 @@ final class DefaultPubSubConfig implements PubSubConfig {
         restartDelay = config.getDuration(ConfigValue.RESTART_DELAY.getConfigPath());
         updateInterval = config.getDuration(ConfigValue.UPDATE_INTERVAL.getConfigPath());
         forceUpdateProbability = config.getDouble(ConfigValue.FORCE_UPDATE_PROBABILITY.getConfigPath());
+        narrowTwinEventTopics = config.getBoolean(ConfigValue.NARROW_TWIN_EVENT_TOPICS.getConfigPath());
+        maxNarrowedThingIds = config.getInt(ConfigValue.MAX_NARROWED_THING_IDS.getConfigPath());
     }
 
     static PubSubConfig of(final Config config) {
@@ -79,15 +83,27 @@ final class DefaultPubSubConfig implements PubSubConfig {
         return forceUpdateProbability;
     }
 
+    @Override
+    public boolean isNarrowTwinEventTopics() {
+        return narrowTwinEventTopics;
+    }
+
+    @Override
+    public int getMaxNarrowedThingIds() {
+        return maxNarrowedThingIds;
+    }
+
     private String[] getFieldNames() {
         return new String[]{
-                "seed", "hashFamilySize", "restartDelay", "updateInterval", "forceUpdateProbability"
+                "seed", "hashFamilySize", "restartDelay", "updateInterval", "forceUpdateProbability",
+                "narrowTwinEventTopics", "maxNarrowedThingIds"
         };
     }
 
     private Object[] getFieldValues() {
         return new Object[]{
-                seed, hashFamilySize, restartDelay, updateInterval, forceUpdateProbability
+                seed, hashFamilySize, restartDelay, updateInterval, forceUpdateProbability,
+                narrowTwinEventTopics, maxNarrowedThingIds
         };
     }
 
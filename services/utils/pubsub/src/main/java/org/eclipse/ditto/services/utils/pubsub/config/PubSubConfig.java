@@ -55,6 +55,20 @@ public interface PubSubConfig {
      */
     double getForceUpdateProbability();
 
+    /**
+     * @return Whether thing events are published to and subscribed by the intersections of their read subjects with
+     * their namespace and with their thing ID. Must only be enabled after all members of the cluster support those
+     * topics, otherwise narrowed subscribers miss the events of older publishers.
+     */
+    boolean isNarrowTwinEventTopics();
+
+    /**
+     * @return How many thing IDs a subscriber narrows its subscription to at most. Each thing ID adds one topic per
+     * subject of the subscriber to the distributed data; subscribers interested in more thing IDs subscribe to
+     * broader topics and filter the events themselves.
+     */
+    int getMaxNarrowedThingIds();
+
     /**
      * Create a {@code PubSubConfig} object from a {@code Config} object at the key {@code pubsub}.
      *
@@ -113,7 +127,18 @@ public interface PubSubConfig {
          * from temporary disassociation, during which a remove member may remove our subscriber
          * from the distributed data when prompted by a cluster event MemberRemoved.
          */
-        FORCE_UPDATE_PROBABILITY("force-update-probability", 0.01);
+        FORCE_UPDATE_PROBABILITY("force-update-probability", 0.01),
+
+        /**
+         * Whether to publish and subscribe thing events by the intersections of their read subjects with their
+         * namespace and with their thing ID.
+         */
+        NARROW_TWIN_EVENT_TOPICS("narrow-twin-event-topics", false),
+
+        /**
+         * How many thing IDs a subscriber narrows its subscription to at most.
+         */
+        MAX_NARROWED_THING_IDS("max-narrowed-thing-ids", 10);
 
         private final String path;
         private final Object defaultValue;
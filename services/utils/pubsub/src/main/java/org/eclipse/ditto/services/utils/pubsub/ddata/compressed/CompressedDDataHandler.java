@@ -15,15 +15,17 @@ package org.eclipse.ditto.services.utils.pubsub.ddata.compressed;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
 
 import org.eclipse.ditto.services.utils.ddata.DistributedData;
 import org.eclipse.ditto.services.utils.ddata.DistributedDataConfig;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
 import org.eclipse.ditto.services.utils.pubsub.config.PubSubConfig;
 import org.eclipse.ditto.services.utils.pubsub.ddata.DDataReader;
 import org.eclipse.ditto.services.utils.pubsub.ddata.DDataWriter;
@@ -54,6 +56,11 @@ public final class CompressedDDataHandler extends DistributedData<ORMultiMap<Act
     private final List<Integer> seeds;
 
     private final Gauge ddataMetrics = DittoMetrics.gauge("pubsub-ddata-entries");
+    private final Gauge indexSizeMetrics = DittoMetrics.gauge("pubsub-ddata-index-size");
+    private final PreparedTimer indexUpdateTimer = DittoMetrics.timer("pubsub-ddata-index-update");
+
+    private final SubscriberIndex subscriberIndex = SubscriberIndex.empty();
+    @Nullable private ORMultiMap<ActorRef, ByteString> indexedVersion;
 
     private CompressedDDataHandler(final DistributedDataConfig config,
             final ActorRefFactory actorRefFactory,
@@ -98,12 +105,7 @@ public final class CompressedDDataHandler extends DistributedData<ORMultiMap<Act
             if (optional.isPresent()) {
                 final ORMultiMap<ActorRef, ByteString> mmap = optional.get();
                 ddataMetrics.set((long) mmap.size());
-                return JavaConverters.mapAsJavaMap(mmap.entries())
-                        .entrySet()
-                        .stream()
-                        .filter(entry -> topic.stream().anyMatch(entry.getValue()::contains))
-                        .map(Map.Entry::getKey)
-                        .collect(Collectors.toList());
+                return getSubscribersFromIndex(mmap, topic);
             } else {
                 ddataMetrics.set(0L);
                 return Collections.emptyList();
@@ -111,6 +113,21 @@ public final class CompressedDDataHandler extends DistributedData<ORMultiMap<Act
         });
     }
 
+    private synchronized Collection<ActorRef> getSubscribersFromIndex(final ORMultiMap<ActorRef, ByteString> mmap,
+            final Collection<ByteString> topic) {
+
+        // local reads return the same immutable instance until the next change, so the index is rebuilt only
+        // when a new version of the distributed data is observed.
+        if (mmap != indexedVersion) {
+            final long startNanos = System.nanoTime();
+            subscriberIndex.update(mmap.getEntries());
+            indexedVersion = mmap;
+            indexUpdateTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            indexSizeMetrics.set((long) subscriberIndex.topicCount());
+        }
+        return subscriberIndex.getSubscribers(topic);
+    }
+
     /**
      * Lossy-compress a topic into a ByteString consisting of hash codes from the family of hash functions.
      *
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.ddata.compressed;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import akka.actor.ActorRef;
+import akka.util.ByteString;
+
+/**
+ * Inverted index from compressed topic hashes to subscribers. The index is updated incrementally from snapshots of
+ * the distributed data so that looking up subscribers costs time proportional to the number of matching subscribers
+ * and not to the number of subscribers in the cluster.
+ */
+@NotThreadSafe
+final class SubscriberIndex {
+
+    private final Map<ActorRef, Set<ByteString>> subscriberToHashes;
+    private final Map<ByteString, Set<ActorRef>> hashToSubscribers;
+
+    private SubscriberIndex() {
+        subscriberToHashes = new HashMap<>();
+        hashToSubscribers = new HashMap<>();
+    }
+
+    /**
+     * @return an empty index.
+     */
+    static SubscriberIndex empty() {
+        return new SubscriberIndex();
+    }
+
+    /**
+     * Bring the index up to date with a snapshot of the distributed data. Only subscribers whose compressed topics
+     * changed since the last update are re-indexed.
+     *
+     * @param entries the current relation between subscribers and compressed topics.
+     * @return the number of subscribers whose entries were re-indexed.
+     */
+    int update(final Map<ActorRef, ? extends Set<ByteString>> entries) {
+        int changedSubscribers = 0;
+        final Iterator<Map.Entry<ActorRef, Set<ByteString>>> iterator = subscriberToHashes.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<ActorRef, Set<ByteString>> entry = iterator.next();
+            if (!entries.containsKey(entry.getKey())) {
+                unindex(entry.getKey(), entry.getValue());
+                iterator.remove();
+                ++changedSubscribers;
+            }
+        }
+        for (final Map.Entry<ActorRef, ? extends Set<ByteString>> entry : entries.entrySet()) {
+            final ActorRef subscriber = entry.getKey();
+            final Set<ByteString> previousHashes = subscriberToHashes.get(subscriber);
+            if (previousHashes == null || !previousHashes.equals(entry.getValue())) {
+                final Set<ByteString> currentHashes = new HashSet<>(entry.getValue());
+                if (previousHashes != null) {
+                    unindex(subscriber, previousHashes);
+                }
+                index(subscriber, currentHashes);
+                subscriberToHashes.put(subscriber, currentHashes);
+                ++changedSubscribers;
+            }
+        }
+        return changedSubscribers;
+    }
+
+    /**
+     * Look up subscribers of any of the given compressed topics.
+     *
+     * @param topicHashes the compressed topics.
+     * @return subscribers of any of the compressed topics without duplicates.
+     */
+    Collection<ActorRef> getSubscribers(final Collection<ByteString> topicHashes) {
+        final Set<ActorRef> result = new LinkedHashSet<>();
+        for (final ByteString topicHash : topicHashes) {
+            result.addAll(hashToSubscribers.getOrDefault(topicHash, Collections.emptySet()));
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of indexed subscribers.
+     */
+    int subscriberCount() {
+        return subscriberToHashes.size();
+    }
+
+    /**
+     * @return the number of distinct compressed topics in the index.
+     */
+    int topicCount() {
+        return hashToSubscribers.size();
+    }
+
+    private void index(final ActorRef subscriber, final Set<ByteString> hashes) {
+        for (final ByteString hash : hashes) {
+            hashToSubscribers.computeIfAbsent(hash, h -> new HashSet<>()).add(subscriber);
+        }
+    }
+
+    private void unindex(final ActorRef subscriber, final Set<ByteString> hashes) {
+        for (final ByteString hash : hashes) {
+            final Set<ActorRef> subscribers = hashToSubscribers.get(hash);
+            if (subscribers != null) {
+                subscribers.remove(subscriber);
+                if (subscribers.isEmpty()) {
+                    hashToSubscribers.remove(hash);
+                }
+            }
+        }
+    }
+}
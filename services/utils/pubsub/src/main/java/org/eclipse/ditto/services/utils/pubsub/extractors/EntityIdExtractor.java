@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.extractors;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.eclipse.ditto.signals.base.WithId;
+
+/**
+ * Extract entity IDs of messages as topics.
+ *
+ * @param <T> type of messages.
+ */
+public final class EntityIdExtractor<T extends WithId> implements PubSubTopicExtractor<T> {
+
+    private EntityIdExtractor() {}
+
+    /**
+     * Create an extractor of entity IDs as topics.
+     *
+     * @param <T> type of messages.
+     * @return an entity-ID extractor.
+     */
+    public static <T extends WithId> EntityIdExtractor<T> of() {
+        return new EntityIdExtractor<>();
+    }
+
+    @Override
+    public Collection<String> getTopics(final T message) {
+        return Collections.singletonList(String.valueOf(message.getEntityId()));
+    }
+}
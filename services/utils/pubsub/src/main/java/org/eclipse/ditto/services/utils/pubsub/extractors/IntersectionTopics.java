@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.extractors;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Extract the intersections of the topics of 2 extractors: for each pair of a topic of the first extractor and a
+ * topic of the second extractor, a compound topic is extracted. Subscribers of a compound topic only receive messages
+ * matching both topics, e.g. the events of one entity which a subject may read. Such messages are filtered on the
+ * node of the publisher instead of the node of the subscriber.
+ * <p>
+ * Compound topics never equal topics extracted by other extractors, because the separator of their parts is a control
+ * character.
+ * </p>
+ *
+ * @param <T> type of messages.
+ */
+public final class IntersectionTopics<T> implements PubSubTopicExtractor<T> {
+
+    private static final char SEPARATOR = '\u001F';
+
+    private final PubSubTopicExtractor<T> first;
+    private final PubSubTopicExtractor<T> second;
+
+    private IntersectionTopics(final PubSubTopicExtractor<T> first, final PubSubTopicExtractor<T> second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Create an extractor of the intersections of topics of 2 extractors.
+     *
+     * @param first the extractor of the first parts of the compound topics.
+     * @param second the extractor of the second parts of the compound topics.
+     * @param <T> type of messages.
+     * @return an extractor of compound topics.
+     */
+    public static <T> IntersectionTopics<T> of(final PubSubTopicExtractor<T> first,
+            final PubSubTopicExtractor<T> second) {
+
+        return new IntersectionTopics<>(first, second);
+    }
+
+    /**
+     * Compute the compound topics a subscriber should subscribe to in order to receive messages matching any of the
+     * first topics and any of the second topics.
+     *
+     * @param firstTopics the first parts of the compound topics.
+     * @param secondTopics the second parts of the compound topics.
+     * @return the compound topics.
+     */
+    public static List<String> combine(final Collection<String> firstTopics, final Collection<String> secondTopics) {
+        final List<String> result = new ArrayList<>(firstTopics.size() * secondTopics.size());
+        for (final String firstTopic : firstTopics) {
+            for (final String secondTopic : secondTopics) {
+                result.add(firstTopic + SEPARATOR + secondTopic);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Collection<String> getTopics(final T message) {
+        return combine(first.getTopics(message), second.getTopics(message));
+    }
+}
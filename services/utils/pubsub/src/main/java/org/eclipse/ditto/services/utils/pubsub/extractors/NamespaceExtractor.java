@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.extractors;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.entity.id.NamespacedEntityId;
+import org.eclipse.ditto.signals.base.WithId;
+
+/**
+ * Extract namespaces of the entity IDs of messages as topics. Messages about entities without namespace have no
+ * topics.
+ *
+ * @param <T> type of messages.
+ */
+public final class NamespaceExtractor<T extends WithId> implements PubSubTopicExtractor<T> {
+
+    private NamespaceExtractor() {}
+
+    /**
+     * Create an extractor of namespaces as topics.
+     *
+     * @param <T> type of messages.
+     * @return a namespace extractor.
+     */
+    public static <T extends WithId> NamespaceExtractor<T> of() {
+        return new NamespaceExtractor<>();
+    }
+
+    @Override
+    public Collection<String> getTopics(final T message) {
+        final EntityId entityId = message.getEntityId();
+        if (entityId instanceof NamespacedEntityId) {
+            return Collections.singletonList(((NamespacedEntityId) entityId).getNamespace());
+        } else {
+            return Collections.emptyList();
+        }
+    }
+}
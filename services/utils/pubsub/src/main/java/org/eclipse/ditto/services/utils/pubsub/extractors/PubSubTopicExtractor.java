@@ -58,4 +58,15 @@ public interface PubSubTopicExtractor<T> {
             return result;
         };
     }
+
+    /**
+     * Intersect 2 topic extractors.
+     *
+     * @param that the other topic extractor.
+     * @return a topic extractor that delivers one compound topic for each pair of topics extracted by this and that.
+     * @see IntersectionTopics
+     */
+    default PubSubTopicExtractor<T> intersect(final PubSubTopicExtractor<T> that) {
+        return IntersectionTopics.of(this, that);
+    }
 }
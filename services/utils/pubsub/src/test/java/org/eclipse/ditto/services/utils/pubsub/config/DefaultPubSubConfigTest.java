@@ -76,6 +76,14 @@ public final class DefaultPubSubConfigTest {
         softly.assertThat(underTest.getForceUpdateProbability())
                 .as(PubSubConfig.ConfigValue.FORCE_UPDATE_PROBABILITY.getConfigPath())
                 .isCloseTo(0.01, Percentage.withPercentage(1.0));
+
+        softly.assertThat(underTest.isNarrowTwinEventTopics())
+                .as(PubSubConfig.ConfigValue.NARROW_TWIN_EVENT_TOPICS.getConfigPath())
+                .isFalse();
+
+        softly.assertThat(underTest.getMaxNarrowedThingIds())
+                .as(PubSubConfig.ConfigValue.MAX_NARROWED_THING_IDS.getConfigPath())
+                .isEqualTo(10);
     }
 
     @Test
@@ -101,6 +109,14 @@ public final class DefaultPubSubConfigTest {
         softly.assertThat(underTest.getForceUpdateProbability())
                 .as(PubSubConfig.ConfigValue.FORCE_UPDATE_PROBABILITY.getConfigPath())
                 .isCloseTo(0.011, Percentage.withPercentage(1.0));
+
+        softly.assertThat(underTest.isNarrowTwinEventTopics())
+                .as(PubSubConfig.ConfigValue.NARROW_TWIN_EVENT_TOPICS.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getMaxNarrowedThingIds())
+                .as(PubSubConfig.ConfigValue.MAX_NARROWED_THING_IDS.getConfigPath())
+                .isEqualTo(11);
     }
 
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.ddata.compressed;
+
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+import akka.util.ByteString;
+
+/**
+ * Tests {@link org.eclipse.ditto.services.utils.pubsub.ddata.compressed.SubscriberIndex}.
+ */
+public final class SubscriberIndexTest {
+
+    private static ActorSystem system;
+    private static ActorRef actor1;
+    private static ActorRef actor2;
+    private static ActorRef actor3;
+
+    @BeforeClass
+    public static void startActorSystem() {
+        system = ActorSystem.create();
+        actor1 = TestProbe.apply(system).ref();
+        actor2 = TestProbe.apply(system).ref();
+        actor3 = TestProbe.apply(system).ref();
+    }
+
+    @AfterClass
+    public static void shutdownActorSystem() {
+        TestKit.shutdownActorSystem(system);
+    }
+
+    @Test
+    public void lookUpSubscribersOfAnyTopic() {
+        final SubscriberIndex underTest = SubscriberIndex.empty();
+        final Map<ActorRef, Set<ByteString>> entries = getVennDiagram();
+
+        assertThat(underTest.update(entries)).isEqualTo(3);
+
+        assertThat(underTest.getSubscribers(singleton(hash(1)))).containsExactlyInAnyOrder(actor1);
+        assertThat(underTest.getSubscribers(singleton(hash(5)))).containsExactlyInAnyOrder(actor1, actor2, actor3);
+        assertThat(underTest.getSubscribers(Arrays.asList(hash(1), hash(3)))).containsExactlyInAnyOrder(actor1,
+                actor2);
+        assertThat(underTest.getSubscribers(singleton(hash(8)))).isEmpty();
+        assertThat(underTest.subscriberCount()).isEqualTo(3);
+        assertThat(underTest.topicCount()).isEqualTo(7);
+    }
+
+    @Test
+    public void reindexOnlyChangedSubscribers() {
+        final SubscriberIndex underTest = SubscriberIndex.empty();
+        final Map<ActorRef, Set<ByteString>> entries = getVennDiagram();
+        underTest.update(entries);
+
+        // unchanged snapshot
+        assertThat(underTest.update(getVennDiagram())).isZero();
+
+        // one subscriber changed its topics, another one is removed
+        entries.put(actor1, hashes(1, 8));
+        entries.remove(actor3);
+        assertThat(underTest.update(entries)).isEqualTo(2);
+
+        assertThat(underTest.getSubscribers(singleton(hash(8)))).containsExactlyInAnyOrder(actor1);
+        assertThat(underTest.getSubscribers(singleton(hash(4)))).isEmpty();
+        assertThat(underTest.getSubscribers(singleton(hash(7)))).isEmpty();
+        assertThat(underTest.getSubscribers(singleton(hash(5)))).containsExactlyInAnyOrder(actor2);
+        assertThat(underTest.subscriberCount()).isEqualTo(2);
+        assertThat(underTest.topicCount()).isEqualTo(6);
+    }
+
+    private static Map<ActorRef, Set<ByteString>> getVennDiagram() {
+        final Map<ActorRef, Set<ByteString>> entries = new HashMap<>();
+        entries.put(actor1, hashes(1, 2, 4, 5));
+        entries.put(actor2, hashes(2, 3, 5, 6));
+        entries.put(actor3, hashes(4, 5, 6, 7));
+        return entries;
+    }
+
+    private static Set<ByteString> hashes(final int... topics) {
+        final Set<ByteString> result = new HashSet<>();
+        for (final int topic : topics) {
+            result.add(hash(topic));
+        }
+        return result;
+    }
+
+    private static ByteString hash(final int topic) {
+        return CompressedDDataHandler.hashCodesToByteString(Arrays.asList(topic, -topic));
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.extractors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link org.eclipse.ditto.services.utils.pubsub.extractors.IntersectionTopics}.
+ */
+public final class IntersectionTopicsTest {
+
+    private static final PubSubTopicExtractor<List<String>> FIRST_ELEMENT =
+            message -> Collections.singletonList(message.get(0));
+
+    private static final PubSubTopicExtractor<List<String>> OTHER_ELEMENTS =
+            message -> message.subList(1, message.size());
+
+    @Test
+    public void extractOneCompoundTopicPerPairOfTopics() {
+        final PubSubTopicExtractor<List<String>> underTest = FIRST_ELEMENT.intersect(OTHER_ELEMENTS);
+
+        assertThat(underTest.getTopics(Arrays.asList("ns:thing", "subject1", "subject2")))
+                .containsExactlyInAnyOrderElementsOf(IntersectionTopics.combine(
+                        Collections.singletonList("ns:thing"), Arrays.asList("subject1", "subject2")))
+                .hasSize(2);
+    }
+
+    @Test
+    public void compoundTopicsDifferFromTheirParts() {
+        final PubSubTopicExtractor<List<String>> underTest =
+                FIRST_ELEMENT.with(OTHER_ELEMENTS).with(FIRST_ELEMENT.intersect(OTHER_ELEMENTS));
+
+        assertThat(underTest.getTopics(Arrays.asList("ns:thing", "subject"))).hasSize(3);
+    }
+
+    @Test
+    public void noCompoundTopicsIfAnyExtractorHasNoTopics() {
+        final PubSubTopicExtractor<List<String>> underTest = FIRST_ELEMENT.intersect(OTHER_ELEMENTS);
+
+        assertThat(underTest.getTopics(Collections.singletonList("ns:thing"))).isEmpty();
+    }
+
+}
@@ -12,6 +12,12 @@
  */
 package org.eclipse.ditto.signals.base;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
@@ -24,6 +30,8 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 
 /**
  * Responsible for deserialization of a class of type T.
+ * The parse method of the class is looked up once and bound into a direct call of a {@link JsonParsable} via
+ * {@link LambdaMetafactory}, thus parsing does not involve reflection.
  *
  * @param <T> the type of the class that should be deserialized.
  */
@@ -34,7 +42,7 @@ final class AnnotationBasedJsonParsable<T> implements JsonParsable<T> {
 
     private final String key;
     private final String v1FallbackKey;
-    private final Method parseMethod;
+    private final JsonParsable<T> parseStrategy;
 
     /**
      * Creates a new instance.
@@ -51,7 +59,7 @@ final class AnnotationBasedJsonParsable<T> implements JsonParsable<T> {
         this.key = key;
         this.v1FallbackKey = v1FallbackKey;
         try {
-            this.parseMethod =
+            final Method parseMethod =
                     parsedClass.getMethod(parsingMethodName, JSON_OBJECT_PARAMETER, DITTO_HEADERS_PARAMETER);
             final Class<?> returnType = parseMethod.getReturnType();
             if (!parsedClass.isAssignableFrom(returnType)) {
@@ -59,11 +67,57 @@ final class AnnotationBasedJsonParsable<T> implements JsonParsable<T> {
                         String.format("Parse method is invalid. Return type <%s> of parse method must be assignable " +
                                 "to parsed class: <%s>.", returnType.getSimpleName(), parsedClass.getSimpleName()));
             }
+            this.parseStrategy = bindParseMethod(parseMethod);
         } catch (final NoSuchMethodException e) {
             throw new DeserializationStrategyNotFoundError(parsedClass, e);
         }
     }
 
+    @SuppressWarnings("unchecked") //suppressed because returned type is ensured in constructor
+    private static <T> JsonParsable<T> bindParseMethod(final Method parseMethod) {
+        final CallSite callSite;
+        try {
+            parseMethod.setAccessible(true);
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            final MethodHandle parseMethodHandle = lookup.unreflect(parseMethod);
+            callSite = LambdaMetafactory.metafactory(lookup,
+                    "parse",
+                    MethodType.methodType(JsonParsable.class),
+                    MethodType.methodType(Object.class, JSON_OBJECT_PARAMETER, DITTO_HEADERS_PARAMETER),
+                    parseMethodHandle,
+                    parseMethodHandle.type());
+        } catch (final IllegalAccessException | LambdaConversionException e) {
+            // the method cannot be bound, e.g. because JsonParsable is not visible to the class loader of the parsed
+            // class; fall back to reflection in that case.
+            return (jsonObject, dittoHeaders) -> (T) invokeReflectively(parseMethod, jsonObject, dittoHeaders);
+        }
+        try {
+            return (JsonParsable<T>) callSite.getTarget().invokeExact();
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            // the target of a non-capturing lambda call site only returns the lambda instance
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Object invokeReflectively(final Method parseMethod, final JsonObject jsonObject,
+            final DittoHeaders dittoHeaders) {
+        try {
+            return parseMethod.invoke(null, jsonObject, dittoHeaders);
+        } catch (final IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        } catch (final InvocationTargetException e) {
+            final Throwable targetException = e.getTargetException();
+            if (targetException instanceof RuntimeException) {
+                throw (RuntimeException) targetException;
+            } else if (targetException instanceof Error) {
+                throw (Error) targetException;
+            }
+            throw new IllegalStateException(targetException);
+        }
+    }
+
     /**
      * The API v2 key for this strategy.
      *
@@ -83,23 +137,16 @@ final class AnnotationBasedJsonParsable<T> implements JsonParsable<T> {
     }
 
 
-    @SuppressWarnings("unchecked") //suppressed because returned type is ensured in constructor
     @Override
     public T parse(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
         try {
-            return (T) parseMethod.invoke(null, jsonObject, dittoHeaders);
-        } catch (final ClassCastException | IllegalAccessException e) {
+            return parseStrategy.parse(jsonObject, dittoHeaders);
+        } catch (final DittoRuntimeException e) {
+            throw e;
+        } catch (final JsonRuntimeException e) {
+            throw new DittoJsonException(e, dittoHeaders);
+        } catch (final RuntimeException e) {
             throw buildDittoJsonException(e, jsonObject, dittoHeaders);
-        } catch (final InvocationTargetException e) {
-            final Throwable targetException = e.getTargetException();
-
-            if (targetException instanceof DittoRuntimeException) {
-                throw (DittoRuntimeException) targetException;
-            } else if (targetException instanceof JsonRuntimeException) {
-                throw new DittoJsonException((JsonRuntimeException) targetException, dittoHeaders);
-            }
-
-            throw buildDittoJsonException(targetException, jsonObject, dittoHeaders);
         }
     }
 